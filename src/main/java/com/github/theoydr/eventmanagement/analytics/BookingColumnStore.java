@@ -0,0 +1,308 @@
+package com.github.theoydr.eventmanagement.analytics;
+
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.repository.BookingFact;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An in-memory, column-oriented copy of the booking facts needed for reporting.
+ *
+ * Every booking occupies one slot in a set of primitive arrays (one array per attribute), ordered by booking id.
+ * Booking ids are allocated in blocks per instance, so bookings are not committed in id order: facts can be
+ * appended in any order, and facts that are loaded again update their booking's status.
+ * The event id column is dictionary-encoded into dense indexes so that group-by-event aggregations can accumulate
+ * into plain arrays. Aggregations are tight loops over these arrays without any per-row allocation.
+ *
+ * Booking times are stored as epoch seconds of the {@link LocalDateTime} interpreted in UTC; the same conversion is
+ * applied to query bounds, so the local-time semantics of the entity are preserved.
+ *
+ * Thread-safety: appends and status changes take the write lock, aggregations the read lock.
+ */
+public class BookingColumnStore {
+
+    private static final int INITIAL_CAPACITY = 1 << 14;
+    private static final byte CONFIRMED = (byte) BookingStatus.CONFIRMED.ordinal();
+    private static final byte CANCELLED = (byte) BookingStatus.CANCELLED.ordinal();
+    private static final int CATEGORY_COUNT = EventCategory.values().length;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Columns: one slot per booking, ordered by booking id.
+    private long[] bookingIds = new long[INITIAL_CAPACITY];
+    private int[] eventIndexes = new int[INITIAL_CAPACITY];
+    private byte[] categories = new byte[INITIAL_CAPACITY];
+    private int[] tickets = new int[INITIAL_CAPACITY];
+    private double[] prices = new double[INITIAL_CAPACITY];
+    private long[] bookedAt = new long[INITIAL_CAPACITY];
+    private byte[] statuses = new byte[INITIAL_CAPACITY];
+    private int size;
+
+    // Dictionary of the event id column.
+    private final Map<Long, Integer> eventIndexById = new HashMap<>();
+    private long[] eventIdByIndex = new long[1024];
+
+    // Cancellations that arrived before the cancelled booking was loaded.
+    private final Set<Long> pendingCancellations = new HashSet<>();
+
+    // Bookings made before this time have been read by a completed load.
+    private volatile LocalDateTime loadedUntil;
+
+    /**
+     * Totals of an aggregation; the i-th entry of every array belongs to {@code groupKeys[i]}.
+     */
+    public record GroupTotals(long[] groupKeys, long[] bookings, long[] tickets, double[] revenue) {}
+
+    /**
+     * Appends facts in any order. Facts that are already present update the status of their booking; a cancelled
+     * booking stays cancelled.
+     *
+     * @param facts The facts to append.
+     */
+    public void append(List<BookingFact> facts) {
+        lock.writeLock().lock();
+        try {
+            for (BookingFact fact : facts) {
+                long bookingId = fact.bookingId();
+                byte status = pendingCancellations.remove(bookingId) ? CANCELLED : (byte) fact.status().ordinal();
+                int slot = size == 0 || bookingId > bookingIds[size - 1]
+                        ? -(size + 1)
+                        : Arrays.binarySearch(bookingIds, 0, size, bookingId);
+                if (slot >= 0) {
+                    if (statuses[slot] != CANCELLED) {
+                        statuses[slot] = status;
+                    }
+                    continue;
+                }
+                int at = -slot - 1;
+                ensureCapacity(size + 1);
+                if (at < size) {
+                    shiftRight(at);
+                }
+                bookingIds[at] = bookingId;
+                eventIndexes[at] = eventIndexOf(fact.eventId());
+                categories[at] = (byte) fact.category().ordinal();
+                tickets[at] = fact.numberOfTickets();
+                prices[at] = fact.ticketPrice();
+                bookedAt[at] = toEpochSecond(fact.bookingDateTime());
+                statuses[at] = status;
+                size++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Marks a booking as cancelled. If the booking has not been loaded yet, the cancellation is
+     * remembered and applied when it is appended.
+     *
+     * @param bookingId The ID of the cancelled booking.
+     */
+    public void markCancelled(long bookingId) {
+        lock.writeLock().lock();
+        try {
+            int slot = Arrays.binarySearch(bookingIds, 0, size, bookingId);
+            if (slot >= 0) {
+                statuses[slot] = CANCELLED;
+            } else {
+                pendingCancellations.add(bookingId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return The highest booking id loaded so far, or 0 if the store is empty.
+     */
+    public long highWaterMark() {
+        lock.readLock().lock();
+        try {
+            return size == 0 ? 0 : bookingIds[size - 1];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The time before which every booking has been read by a completed load, or null before the first load.
+     */
+    public LocalDateTime loadedUntil() {
+        return loadedUntil;
+    }
+
+    public void markLoadedUntil(LocalDateTime loadedUntil) {
+        this.loadedUntil = loadedUntil;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sums CONFIRMED bookings, tickets and revenue per event category within {@code [from, to)}.
+     */
+    public GroupTotals totalsByCategory(LocalDateTime from, LocalDateTime to) {
+        long lower = toEpochSecond(from);
+        long upper = toEpochSecond(to);
+        long[] bookingTotals = new long[CATEGORY_COUNT];
+        long[] ticketTotals = new long[CATEGORY_COUNT];
+        double[] revenueTotals = new double[CATEGORY_COUNT];
+
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                long time = bookedAt[i];
+                if (statuses[i] != CONFIRMED || time < lower || time >= upper) {
+                    continue;
+                }
+                int group = categories[i];
+                int sold = tickets[i];
+                bookingTotals[group]++;
+                ticketTotals[group] += sold;
+                revenueTotals[group] += sold * prices[i];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        long[] keys = new long[CATEGORY_COUNT];
+        Arrays.setAll(keys, i -> i);
+        return new GroupTotals(keys, bookingTotals, ticketTotals, revenueTotals);
+    }
+
+    /**
+     * Sums CONFIRMED bookings, tickets and revenue per event within {@code [from, to)}.
+     * The group keys of the result are event ids.
+     */
+    public GroupTotals totalsByEvent(LocalDateTime from, LocalDateTime to) {
+        long lower = toEpochSecond(from);
+        long upper = toEpochSecond(to);
+
+        lock.readLock().lock();
+        try {
+            int groups = eventIndexById.size();
+            long[] bookingTotals = new long[groups];
+            long[] ticketTotals = new long[groups];
+            double[] revenueTotals = new double[groups];
+
+            for (int i = 0; i < size; i++) {
+                long time = bookedAt[i];
+                if (statuses[i] != CONFIRMED || time < lower || time >= upper) {
+                    continue;
+                }
+                int group = eventIndexes[i];
+                int sold = tickets[i];
+                bookingTotals[group]++;
+                ticketTotals[group] += sold;
+                revenueTotals[group] += sold * prices[i];
+            }
+            return new GroupTotals(Arrays.copyOf(eventIdByIndex, groups), bookingTotals, ticketTotals, revenueTotals);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Buckets CONFIRMED bookings made within {@code [from, to)} into consecutive buckets of {@code bucketSeconds}
+     * starting at {@code from}; the last bucket may be shorter. The group keys of the result are the bucket numbers.
+     *
+     * @param eventId Restricts the aggregation to a single event, or all events if null.
+     */
+    public GroupTotals totalsByTimeBucket(LocalDateTime from, LocalDateTime to, long bucketSeconds, Long eventId) {
+        long lower = toEpochSecond(from);
+        long upper = toEpochSecond(to);
+        int bucketCount = (int) ((upper - lower + bucketSeconds - 1) / bucketSeconds);
+        long[] keys = new long[bucketCount];
+        Arrays.setAll(keys, i -> i);
+        long[] bookingTotals = new long[bucketCount];
+        long[] ticketTotals = new long[bucketCount];
+        double[] revenueTotals = new double[bucketCount];
+
+        lock.readLock().lock();
+        try {
+            int eventFilter = -1;
+            if (eventId != null) {
+                Integer index = eventIndexById.get(eventId);
+                if (index == null) {
+                    return new GroupTotals(keys, bookingTotals, ticketTotals, revenueTotals);
+                }
+                eventFilter = index;
+            }
+
+            for (int i = 0; i < size; i++) {
+                long time = bookedAt[i];
+                if (statuses[i] != CONFIRMED || time < lower || time >= upper
+                        || (eventFilter >= 0 && eventIndexes[i] != eventFilter)) {
+                    continue;
+                }
+                int bucket = (int) ((time - lower) / bucketSeconds);
+                int sold = tickets[i];
+                bookingTotals[bucket]++;
+                ticketTotals[bucket] += sold;
+                revenueTotals[bucket] += sold * prices[i];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new GroupTotals(keys, bookingTotals, ticketTotals, revenueTotals);
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private int eventIndexOf(Long eventId) {
+        Integer index = eventIndexById.get(eventId);
+        if (index != null) {
+            return index;
+        }
+        int newIndex = eventIndexById.size();
+        if (newIndex == eventIdByIndex.length) {
+            eventIdByIndex = Arrays.copyOf(eventIdByIndex, newIndex * 2);
+        }
+        eventIdByIndex[newIndex] = eventId;
+        eventIndexById.put(eventId, newIndex);
+        return newIndex;
+    }
+
+    private void shiftRight(int from) {
+        int length = size - from;
+        System.arraycopy(bookingIds, from, bookingIds, from + 1, length);
+        System.arraycopy(eventIndexes, from, eventIndexes, from + 1, length);
+        System.arraycopy(categories, from, categories, from + 1, length);
+        System.arraycopy(tickets, from, tickets, from + 1, length);
+        System.arraycopy(prices, from, prices, from + 1, length);
+        System.arraycopy(bookedAt, from, bookedAt, from + 1, length);
+        System.arraycopy(statuses, from, statuses, from + 1, length);
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= bookingIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, bookingIds.length + (bookingIds.length >> 1));
+        bookingIds = Arrays.copyOf(bookingIds, capacity);
+        eventIndexes = Arrays.copyOf(eventIndexes, capacity);
+        categories = Arrays.copyOf(categories, capacity);
+        tickets = Arrays.copyOf(tickets, capacity);
+        prices = Arrays.copyOf(prices, capacity);
+        bookedAt = Arrays.copyOf(bookedAt, capacity);
+        statuses = Arrays.copyOf(statuses, capacity);
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.theoydr.eventmanagement.audit;
+
+/**
+ * The state changes recorded in the audit log. The code is what is stored on disk and must never change.
+ */
+public enum AuditAction {
+    BOOKING_CREATED(1),
+    BOOKING_CANCELLED(2),
+    EVENT_PUBLISHED(3),
+    EVENT_CANCELLED(4);
+
+    private static final AuditAction[] BY_CODE = new AuditAction[5];
+
+    static {
+        for (AuditAction action : values()) {
+            BY_CODE[action.code] = action;
+        }
+    }
+
+    private final byte code;
+
+    AuditAction(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte code() {
+        return code;
+    }
+
+    /**
+     * @return The action with the given code, or null if the code is unknown.
+     */
+    public static AuditAction fromCode(byte code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
@@ -0,0 +1,35 @@
+package com.github.theoydr.eventmanagement.audit;
+
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * Criteria for scanning the audit log. Null criteria match everything.
+ *
+ * @param from     Inclusive lower bound of the record time.
+ * @param to       Exclusive upper bound of the record time.
+ * @param actions  The actions to include; null or empty for all.
+ * @param entityId The booking or event id the record is about.
+ * @param eventId  The event concerned.
+ * @param userId   The user concerned.
+ */
+public record AuditFilter(
+        Instant from,
+        Instant to,
+        Set<AuditAction> actions,
+        Long entityId,
+        Long eventId,
+        Long userId
+) {
+
+    public static AuditFilter all() {
+        return new AuditFilter(null, null, null, null, null, null);
+    }
+
+    public boolean matches(AuditRecord record) {
+        return (actions == null || actions.isEmpty() || actions.contains(record.action()))
+                && (entityId == null || entityId == record.entityId())
+                && (eventId == null || eventId == record.eventId())
+                && (userId == null || userId == record.userId());
+    }
+}
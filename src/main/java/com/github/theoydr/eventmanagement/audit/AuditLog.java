@@ -0,0 +1,171 @@
+package com.github.theoydr.eventmanagement.audit;
+
+import com.github.theoydr.eventmanagement.domain.BookingChangedEvent;
+import com.github.theoydr.eventmanagement.domain.EventChangedEvent;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Records every committed booking creation/cancellation and event publish/cancel in the append-only audit log,
+ * instead of writing an audit row to the database per operation.
+ *
+ * Request threads only put an entry on a lock-free queue; a single writer thread drains it into the memory-mapped
+ * {@link AuditLogWriter} and forces the written pages to disk every sync interval. The writer parks while the queue
+ * is empty and is unparked by the next record. On shutdown, which comes after the web server has stopped, the queue
+ * is drained before the log is closed; records arriving after that are logged as lost. An entry is also lost if the
+ * process dies before the writer thread has taken it off the queue, or the machine dies within one sync interval.
+ */
+@Component
+public class AuditLog implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditLog.class);
+    /**
+     * Spring Boot stops the web server at {@code DEFAULT_PHASE - 2048}, after its graceful shutdown has let in-flight
+     * requests finish; lifecycles of a lower phase stop later.
+     */
+    static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final long syncIntervalNanos;
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+
+    private volatile boolean running;
+    private volatile boolean writerIdle;
+    private volatile Thread writerThread;
+
+    public AuditLog(@Value("${app.audit.directory:audit}") Path directory,
+                    @Value("${app.audit.segment-size:64MB}") DataSize segmentSize,
+                    @Value("${app.audit.sync-interval:PT1S}") Duration syncInterval) {
+        this.directory = directory;
+        this.segmentBytes = segmentSize.toBytes();
+        this.syncIntervalNanos = syncInterval.toNanos();
+    }
+
+    @TransactionalEventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        AuditAction action = event.status() == BookingStatus.CANCELLED ? AuditAction.BOOKING_CANCELLED : AuditAction.BOOKING_CREATED;
+        record(action, event.bookingId(), event.eventId(), event.userId(), event.numberOfTickets());
+    }
+
+    @TransactionalEventListener
+    public void onEventChanged(EventChangedEvent event) {
+        AuditAction action = event.status() == EventStatus.CANCELLED ? AuditAction.EVENT_CANCELLED : AuditAction.EVENT_PUBLISHED;
+        record(action, event.eventId(), event.eventId(), event.organizerId(), 0);
+    }
+
+    /**
+     * Queues a record for the writer thread. Never blocks.
+     */
+    public void record(AuditAction action, long entityId, long eventId, long userId, int tickets) {
+        Entry entry = new Entry(action, entityId, eventId, userId, tickets);
+        if (!running) {
+            log.warn("Audit log is stopped, lost record {}", entry);
+            return;
+        }
+        queue.offer(entry);
+        if (writerIdle) {
+            writerIdle = false;
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    @Override
+    public void start() {
+        AuditLogWriter writer;
+        try {
+            writer = new AuditLogWriter(directory, segmentBytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open the audit log in " + directory, e);
+        }
+        log.info("Audit log opened in {}, next sequence {}", directory.toAbsolutePath(), writer.nextSequence());
+        running = true;
+        writerThread = Thread.ofPlatform().name("audit-log-writer").start(() -> drain(writer));
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+        // Offered between the writer's last poll and its exit.
+        for (Entry entry; (entry = queue.poll()) != null; ) {
+            log.warn("Audit log is stopped, lost record {}", entry);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stop after the web server, so requests finishing during its graceful shutdown are still audited.
+        return PHASE;
+    }
+
+    private void drain(AuditLogWriter writer) {
+        long lastSync = System.nanoTime();
+        boolean dirty = false;
+        try (writer) {
+            while (running || !queue.isEmpty()) {
+                Entry entry = queue.poll();
+                if (entry != null) {
+                    try {
+                        writer.append(entry.action(), entry.entityId(), entry.eventId(), entry.userId(), entry.tickets());
+                        dirty = true;
+                    } catch (RuntimeException e) {
+                        log.error("Could not write audit record {}", entry, e);
+                    }
+                } else {
+                    awaitEntry(dirty ? syncIntervalNanos - (System.nanoTime() - lastSync) : Long.MAX_VALUE);
+                }
+                if (dirty && System.nanoTime() - lastSync >= syncIntervalNanos) {
+                    writer.force();
+                    lastSync = System.nanoTime();
+                    dirty = false;
+                }
+            }
+        }
+        log.info("Audit log closed, next sequence {}", writer.nextSequence());
+    }
+
+    /**
+     * Parks until a record is offered, the log is stopped or the timeout elapses.
+     * Setting {@code writerIdle} before re-checking the queue pairs with {@link #record}, which offers before reading
+     * it, so either the writer sees the entry or the recording thread unparks it.
+     */
+    private void awaitEntry(long timeoutNanos) {
+        writerIdle = true;
+        if (running && queue.isEmpty() && timeoutNanos > 0) {
+            LockSupport.parkNanos(this, timeoutNanos);
+        }
+        writerIdle = false;
+    }
+
+    private record Entry(AuditAction action, long entityId, long eventId, long userId, int tickets) {}
+}
@@ -0,0 +1,95 @@
+package com.github.theoydr.eventmanagement.audit;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Command line reader for audit log segments; runs without the application context:
+ * <pre>
+ *   java -cp target/classes com.github.theoydr.eventmanagement.audit.AuditLogCli \
+ *       [--dir audit] [--from 2026-01-01T00:00:00Z] [--to ...] [--action BOOKING_CANCELLED,EVENT_CANCELLED] \
+ *       [--entity id] [--event id] [--user id]
+ * </pre>
+ * Prints one tab-separated line per matching record (sequence, time, action, entity, event, user, tickets)
+ * and a summary on stderr. Exits with 2 if records failed their CRC check.
+ */
+public final class AuditLogCli {
+
+    private AuditLogCli() {}
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of("audit");
+        Instant from = null;
+        Instant to = null;
+        Set<AuditAction> actions = null;
+        Long entityId = null;
+        Long eventId = null;
+        Long userId = null;
+
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (option.equals("--help") || option.equals("-h")) {
+                usage(System.out);
+                return;
+            }
+            if (i + 1 >= args.length) {
+                fail("Missing value for " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "--dir" -> directory = Path.of(value);
+                case "--from" -> from = Instant.parse(value);
+                case "--to" -> to = Instant.parse(value);
+                case "--action" -> {
+                    actions = EnumSet.noneOf(AuditAction.class);
+                    for (String name : value.split(",")) {
+                        actions.add(AuditAction.valueOf(name.trim().toUpperCase()));
+                    }
+                }
+                case "--entity" -> entityId = Long.parseLong(value);
+                case "--event" -> eventId = Long.parseLong(value);
+                case "--user" -> userId = Long.parseLong(value);
+                default -> fail("Unknown option " + option);
+            }
+        }
+
+        AuditFilter filter = new AuditFilter(from, to, actions, entityId, eventId, userId);
+        BufferedWriter out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), 1 << 16);
+        AuditLogReader.ScanResult result = new AuditLogReader(directory).scan(filter, record -> {
+            try {
+                out.write(record.sequence() + "\t" + record.recordedAt() + "\t" + record.action() + "\t"
+                        + record.entityId() + "\t" + record.eventId() + "\t" + record.userId() + "\t" + record.tickets());
+                out.newLine();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        out.flush();
+
+        System.err.printf("%d matching of %d scanned records, %d invalid%n", result.matched(), result.scanned(), result.invalid());
+        if (result.invalid() > 0) {
+            System.exit(2);
+        }
+    }
+
+    private static void fail(String message) {
+        System.err.println(message);
+        usage(System.err);
+        System.exit(1);
+    }
+
+    private static void usage(PrintStream stream) {
+        stream.println("Usage: AuditLogCli [--dir <directory>] [--from <instant>] [--to <instant>] "
+                + "[--action <" + String.join("|", Arrays.stream(AuditAction.values()).map(Enum::name).toList()) + ">[,...]] "
+                + "[--entity <id>] [--event <id>] [--user <id>]");
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.theoydr.eventmanagement.audit;
+
+import java.io.IOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Scans audit log segments, verifying the CRC of every record it visits.
+ *
+ * Record times never decrease along the log and records have a fixed size, so the first record at or after
+ * {@link AuditFilter#from()} is found with a binary search in each segment, and the scan stops at the first record
+ * at or after {@link AuditFilter#to()}. Segments are mapped read-only, so scanning is safe while the application is
+ * writing; a record being written at the very end of the log is simply not returned yet.
+ */
+public final class AuditLogReader {
+
+    /**
+     * @param scanned Records visited (in the time range and valid).
+     * @param matched Records that matched the filter and were passed to the consumer.
+     * @param invalid Records that failed their CRC check and were skipped.
+     */
+    public record ScanResult(long scanned, long matched, long invalid) {}
+
+    private final Path directory;
+
+    public AuditLogReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Passes the matching records to the consumer in sequence order.
+     */
+    public ScanResult scan(AuditFilter filter, Consumer<AuditRecord> consumer) throws IOException {
+        long fromMicros = filter.from() != null ? AuditRecord.toMicros(filter.from()) : Long.MIN_VALUE;
+        long toMicros = filter.to() != null ? AuditRecord.toMicros(filter.to()) : Long.MAX_VALUE;
+        long scanned = 0;
+        long matched = 0;
+        long invalid = 0;
+
+        List<Path> segments = listSegments(directory);
+        for (int i = 0; i < segments.size(); i++) {
+            Path path = segments.get(i);
+            boolean lastSegment = i == segments.size() - 1;
+            try (Arena arena = Arena.ofConfined();
+                 FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MemorySegment segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size(), arena);
+                if (lastSegment && segment.byteSize() >= AuditSegmentFormat.HEADER_SIZE
+                        && segment.get(AuditSegmentFormat.INT, 0) == 0) {
+                    continue; // Being created right now.
+                }
+                AuditSegmentFormat.readHeader(segment, path);
+
+                long count = writtenSlots(segment);
+                for (long slot = firstSlotAtOrAfter(segment, count, fromMicros); slot < count; slot++) {
+                    AuditRecord record = AuditSegmentFormat.readRecord(segment, slot);
+                    if (record == null) {
+                        if (!(lastSegment && slot == count - 1)) {
+                            invalid++;
+                        }
+                        continue;
+                    }
+                    if (record.recordedAtMicros() >= toMicros) {
+                        return new ScanResult(scanned, matched, invalid);
+                    }
+                    scanned++;
+                    if (filter.matches(record)) {
+                        matched++;
+                        consumer.accept(record);
+                    }
+                }
+            }
+        }
+        return new ScanResult(scanned, matched, invalid);
+    }
+
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            // The zero-padded base sequence makes the name order the log order.
+            return files.filter(AuditSegmentFormat::isSegment).sorted().toList();
+        }
+    }
+
+    /**
+     * Records are written front to back into a zero-filled file, so the written slots form a prefix
+     * that ends at the first slot with sequence 0.
+     */
+    private static long writtenSlots(MemorySegment segment) {
+        long low = 0;
+        long high = AuditSegmentFormat.capacity(segment.byteSize());
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (AuditSegmentFormat.sequenceAt(segment, mid) != 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static long firstSlotAtOrAfter(MemorySegment segment, long count, long micros) {
+        long low = 0;
+        long high = count;
+        while (low < high) {
+            long mid = (low + high) >>> 1;
+            if (AuditSegmentFormat.recordedAtMicrosAt(segment, mid) < micros) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
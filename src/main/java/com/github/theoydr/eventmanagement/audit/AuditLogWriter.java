@@ -0,0 +1,198 @@
+package com.github.theoydr.eventmanagement.audit;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Appends records to memory-mapped audit log segments, rotating to a new segment when the current one is full.
+ *
+ * On open, the last segment is scanned to find the end of the valid records; a torn record left by a crash is
+ * overwritten by the next append. Records are visible to readers as soon as they are written, and survive a
+ * crash of the process; {@link #force()} makes them durable against an OS crash as well.
+ *
+ * The writer holds a lock on the directory until it is closed, so a second writer (of this or another process)
+ * fails to open instead of recovering the same tail and writing duplicate sequences.
+ *
+ * Not thread-safe: it is meant to be driven by a single writer thread.
+ */
+public final class AuditLogWriter implements AutoCloseable {
+
+    static final String LOCK_FILE = "audit.lock";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final FileChannel lockChannel;
+
+    private Arena arena;
+    private MemorySegment segment;
+    private long baseSequence;
+    private long capacity;
+    private long slot;
+    private long nextSequence;
+    private long lastRecordedAtMicros;
+
+    /**
+     * @param directory    Directory holding the segments; created if missing.
+     * @param segmentBytes Size of newly created segments; existing segments keep their size.
+     * @throws IOException If the directory cannot be created, or another writer holds it.
+     */
+    public AuditLogWriter(Path directory, long segmentBytes) throws IOException {
+        if (AuditSegmentFormat.capacity(segmentBytes) < 1) {
+            throw new IllegalArgumentException("Segment size " + segmentBytes + " cannot hold a single record");
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+        this.lockChannel = lock(directory);
+
+        try {
+            List<Path> segments = AuditLogReader.listSegments(directory);
+            if (segments.isEmpty()) {
+                openNewSegment(1);
+            } else {
+                recover(segments.getLast());
+            }
+        } catch (IOException | RuntimeException e) {
+            unmap();
+            lockChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Appends a record stamped with the current time (never earlier than the previous record).
+     *
+     * @return The written record.
+     */
+    public AuditRecord append(AuditAction action, long entityId, long eventId, long userId, int tickets) {
+        if (slot == capacity) {
+            rotate();
+        }
+        long recordedAt = Math.max(lastRecordedAtMicros, AuditRecord.toMicros(Instant.now()));
+        AuditRecord record = new AuditRecord(nextSequence, recordedAt, action, entityId, eventId, userId, tickets);
+        AuditSegmentFormat.writeRecord(segment, slot, record);
+        slot++;
+        nextSequence++;
+        lastRecordedAtMicros = recordedAt;
+        return record;
+    }
+
+    /**
+     * Flushes the written records of the current segment to the storage device.
+     */
+    public void force() {
+        segment.force();
+    }
+
+    /**
+     * @return The sequence the next record will get.
+     */
+    public long nextSequence() {
+        return nextSequence;
+    }
+
+    @Override
+    public void close() {
+        unmap();
+        try {
+            // Closing the channel releases the directory lock.
+            lockChannel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not release the audit log lock in " + directory, e);
+        }
+    }
+
+    private static FileChannel lock(Path directory) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = channel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null; // Held by another writer of this JVM.
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        if (lock == null) {
+            channel.close();
+            throw new IOException("The audit log in " + directory + " is already open by another writer");
+        }
+        return channel;
+    }
+
+    private void unmap() {
+        if (arena != null) {
+            segment.force();
+            arena.close();
+            arena = null;
+        }
+    }
+
+    private void recover(Path path) throws IOException {
+        map(path, Files.size(path), false);
+        if (segment.get(AuditSegmentFormat.INT, 0) == 0) {
+            // Crashed between creating the segment and writing its header.
+            AuditSegmentFormat.writeHeader(segment, AuditSegmentFormat.baseSequenceOf(path));
+        }
+        baseSequence = AuditSegmentFormat.readHeader(segment, path);
+        slot = 0;
+        AuditRecord last = null;
+        while (slot < capacity) {
+            AuditRecord record = AuditSegmentFormat.readRecord(segment, slot);
+            if (record == null || record.sequence() != baseSequence + slot) {
+                break;
+            }
+            last = record;
+            slot++;
+        }
+        nextSequence = baseSequence + slot;
+        lastRecordedAtMicros = last != null ? last.recordedAtMicros() : 0;
+        if (slot < capacity) {
+            // Clear a torn record so readers never see it.
+            segment.asSlice(AuditSegmentFormat.offset(slot), AuditSegmentFormat.RECORD_SIZE).fill((byte) 0);
+        }
+    }
+
+    private void rotate() {
+        unmap();
+        try {
+            openNewSegment(nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create audit log segment in " + directory, e);
+        }
+    }
+
+    private void openNewSegment(long base) throws IOException {
+        Path path = AuditSegmentFormat.segmentPath(directory, base);
+        map(path, segmentBytes, true);
+        AuditSegmentFormat.writeHeader(segment, base);
+        baseSequence = base;
+        slot = 0;
+        nextSequence = base;
+    }
+
+    private void map(Path path, long size, boolean create) throws IOException {
+        Arena newArena = Arena.ofShared();
+        try (FileChannel channel = create
+                ? FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // Mapping beyond the end of a new file extends it; the mapping outlives the channel.
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size, newArena);
+        } catch (IOException | RuntimeException e) {
+            newArena.close();
+            throw e;
+        }
+        arena = newArena;
+        capacity = AuditSegmentFormat.capacity(size);
+    }
+}
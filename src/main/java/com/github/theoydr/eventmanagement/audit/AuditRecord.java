@@ -0,0 +1,34 @@
+package com.github.theoydr.eventmanagement.audit;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * One entry of the audit log.
+ *
+ * @param sequence     Gap-free, strictly increasing number of the record, starting at 1.
+ * @param recordedAtMicros Epoch microseconds at which the record was written; never decreases along the log.
+ * @param action       What happened.
+ * @param entityId     The booking id for booking actions, the event id for event actions.
+ * @param eventId      The event concerned.
+ * @param userId       The booking user, or the organizer for event actions.
+ * @param tickets      The number of tickets of the booking; 0 for event actions.
+ */
+public record AuditRecord(
+        long sequence,
+        long recordedAtMicros,
+        AuditAction action,
+        long entityId,
+        long eventId,
+        long userId,
+        int tickets
+) {
+
+    public Instant recordedAt() {
+        return Instant.EPOCH.plus(recordedAtMicros, ChronoUnit.MICROS);
+    }
+
+    static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.theoydr.eventmanagement.audit;
+
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.util.zip.CRC32C;
+
+/**
+ * On-disk layout of audit log segments. All values are little-endian.
+ *
+ * A segment file is named {@code audit-<base sequence, 20 digits>.seg}, is preallocated to its full size and
+ * starts with a 16 byte header:
+ * <pre>
+ *   0  int   magic "EVAU"
+ *   4  short format version
+ *   6  short record size
+ *   8  long  sequence of the first record
+ * </pre>
+ * followed by fixed-size 56 byte records, so the n-th record of a segment lives at a computable offset:
+ * <pre>
+ *   0  int   CRC32C of bytes 4..55
+ *   4  byte  action code
+ *   5  3 bytes reserved (0)
+ *   8  long  sequence
+ *  16  long  recorded at, epoch microseconds
+ *  24  long  entity id
+ *  32  long  event id
+ *  40  long  user id
+ *  48  int   tickets
+ *  52  int   reserved (0)
+ * </pre>
+ * The unused tail of a segment is zero-filled; a slot with sequence 0 marks the end of the written records.
+ * A slot whose CRC does not match is a torn write and also ends the segment.
+ */
+final class AuditSegmentFormat {
+
+    static final int MAGIC = 0x55415645; // "EVAU" read as little-endian
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int RECORD_SIZE = 56;
+
+    static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfShort SHORT = ValueLayout.JAVA_SHORT.withOrder(ByteOrder.LITTLE_ENDIAN);
+    static final ValueLayout.OfLong LONG = ValueLayout.JAVA_LONG.withOrder(ByteOrder.LITTLE_ENDIAN);
+
+    private static final String PREFIX = "audit-";
+    private static final String SUFFIX = ".seg";
+
+    private AuditSegmentFormat() {}
+
+    static Path segmentPath(Path directory, long baseSequence) {
+        return directory.resolve(PREFIX + String.format("%020d", baseSequence) + SUFFIX);
+    }
+
+    static long baseSequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    static boolean isSegment(Path path) {
+        String name = path.getFileName().toString();
+        return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+    }
+
+    static long capacity(long segmentBytes) {
+        return (segmentBytes - HEADER_SIZE) / RECORD_SIZE;
+    }
+
+    static long offset(long slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    static void writeHeader(MemorySegment segment, long baseSequence) {
+        segment.set(INT, 0, MAGIC);
+        segment.set(SHORT, 4, VERSION);
+        segment.set(SHORT, 6, (short) RECORD_SIZE);
+        segment.set(LONG, 8, baseSequence);
+    }
+
+    /**
+     * @return The base sequence stored in the header.
+     * @throws IllegalStateException if the header is not a valid segment header.
+     */
+    static long readHeader(MemorySegment segment, Path path) {
+        if (segment.byteSize() < HEADER_SIZE
+                || segment.get(INT, 0) != MAGIC
+                || segment.get(SHORT, 4) != VERSION
+                || segment.get(SHORT, 6) != RECORD_SIZE) {
+            throw new IllegalStateException("Not an audit log segment (version " + VERSION + "): " + path);
+        }
+        return segment.get(LONG, 8);
+    }
+
+    static void writeRecord(MemorySegment segment, long slot, AuditRecord record) {
+        long offset = offset(slot);
+        segment.set(ValueLayout.JAVA_BYTE, offset + 4, record.action().code());
+        segment.set(LONG, offset + 8, record.sequence());
+        segment.set(LONG, offset + 16, record.recordedAtMicros());
+        segment.set(LONG, offset + 24, record.entityId());
+        segment.set(LONG, offset + 32, record.eventId());
+        segment.set(LONG, offset + 40, record.userId());
+        segment.set(INT, offset + 48, record.tickets());
+        // The CRC goes last: a record only becomes valid once all of its fields are in place.
+        segment.set(INT, offset, crc(segment, offset));
+    }
+
+    static long sequenceAt(MemorySegment segment, long slot) {
+        return segment.get(LONG, offset(slot) + 8);
+    }
+
+    static long recordedAtMicrosAt(MemorySegment segment, long slot) {
+        return segment.get(LONG, offset(slot) + 16);
+    }
+
+    /**
+     * @return The record in the slot, or null if the slot is empty, torn or otherwise invalid.
+     */
+    static AuditRecord readRecord(MemorySegment segment, long slot) {
+        long offset = offset(slot);
+        long sequence = segment.get(LONG, offset + 8);
+        if (sequence == 0 || segment.get(INT, offset) != crc(segment, offset)) {
+            return null;
+        }
+        AuditAction action = AuditAction.fromCode(segment.get(ValueLayout.JAVA_BYTE, offset + 4));
+        if (action == null) {
+            return null;
+        }
+        return new AuditRecord(
+                sequence,
+                segment.get(LONG, offset + 16),
+                action,
+                segment.get(LONG, offset + 24),
+                segment.get(LONG, offset + 32),
+                segment.get(LONG, offset + 40),
+                segment.get(INT, offset + 48));
+    }
+
+    private static int crc(MemorySegment segment, long offset) {
+        CRC32C crc = new CRC32C();
+        crc.update(segment.asSlice(offset + 4, RECORD_SIZE - 4).asByteBuffer());
+        return (int) crc.getValue();
+    }
+}
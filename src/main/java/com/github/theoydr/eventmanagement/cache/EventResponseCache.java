@@ -0,0 +1,255 @@
+package com.github.theoydr.eventmanagement.cache;
+
+import com.github.theoydr.eventmanagement.compression.ContentCoding;
+import com.github.theoydr.eventmanagement.domain.BookingChangedEvent;
+import com.github.theoydr.eventmanagement.dto.EventResponse;
+import com.github.theoydr.eventmanagement.enums.WireFormat;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Caches the serialized form of the hottest event reads, so that a hit writes ready-made bytes to the response
+ * without mapping or serializing anything: one entry per event for {@code GET /api/events/{id}} (including its stats)
+ * and one for the list of published events. Each entry holds the bytes of every {@link WireFormat} requested so far,
+ * and their compressed variants: a hot payload is compressed once per version instead of once per request.
+ *
+ * Every entry carries a version that is bumped when the entry is evicted. A response rendered from data read before
+ * an eviction is only stored if the version it started from is still current, so a slow reader can never put back
+ * what a concurrent change has just invalidated. Evictions for changes made in a transaction run after its commit.
+ *
+ * Entries also expire once they are older than the max age, counted from when their data was read, which bounds how
+ * long a render of stale data (e.g. from a lagging replica) can be served. Bookings do not evict the event they change:
+ * they only cut its entry's remaining life short to the booking delay, so that the bookings of a hot event within
+ * that delay cost a single render instead of emptying the cache on every one of them.
+ *
+ * JSON bytes are always compact, whatever the indentation settings of the application's mapper.
+ */
+@Component
+public class EventResponseCache {
+
+    private final ConcurrentMap<Long, Entry> events = new ConcurrentHashMap<>();
+    private final AtomicReference<Entry> publishedEvents = new AtomicReference<>(Entry.evicted(0));
+    // Bumped whenever the per-event map is cleared, which forgets the versions of the evicted entries.
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<WireFormat, ObjectWriter> writers = new EnumMap<>(WireFormat.class);
+    private final int maxEntries;
+    private final long maxAgeNanos;
+    private final long bookingDelayNanos;
+
+    public EventResponseCache(JsonMapper jsonMapper, CBORMapper cborMapper, SmileMapper smileMapper,
+                              @Value("${app.cache.responses.max-entries:10000}") int maxEntries,
+                              @Value("${app.cache.responses.max-age:PT10S}") Duration maxAge,
+                              @Value("${app.cache.responses.booking-delay:250ms}") Duration bookingDelay) {
+        writers.put(WireFormat.JSON, jsonMapper.writer().without(SerializationFeature.INDENT_OUTPUT));
+        writers.put(WireFormat.CBOR, cborMapper.writer());
+        writers.put(WireFormat.SMILE, smileMapper.writer());
+        this.maxEntries = maxEntries;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.bookingDelayNanos = bookingDelay.toNanos();
+    }
+
+    /**
+     * Returns the serialized response of an event, rendering it with the loader on a miss.
+     *
+     * @param eventId The ID of the event.
+     * @param format The encoding to return.
+     * @param loader Loads the response; empty if the event does not exist (which is not cached).
+     * @return The encoded body, or empty if the event does not exist.
+     */
+    public Optional<Body> event(Long eventId, WireFormat format, Supplier<Optional<EventResponse>> loader) {
+        long now = System.nanoTime();
+        long seenGeneration = generation.get();
+        Entry seen = events.get(eventId);
+        boolean fresh = seen != null && seen.isFresh(now);
+        if (fresh && seen.bytes(format, null) != null) {
+            return Optional.of(new Body(seen.bytes(format, null), coding -> compressEvent(eventId, seen, format, coding)));
+        }
+
+        Optional<byte[]> rendered = loader.get().map(writers.get(format)::writeValueAsBytes);
+        if (rendered.isEmpty()) {
+            return Optional.empty();
+        }
+        byte[] bytes = rendered.get();
+        if (events.size() >= maxEntries) {
+            generation.incrementAndGet();
+            events.clear();
+        }
+        // An expired entry starts over with this render, which read its data no earlier than now.
+        Entry base = fresh ? seen : Entry.rendered(seen == null ? 0 : seen.version, now + maxAgeNanos);
+        Entry stored = base.with(format, null, bytes);
+        boolean cached = generation.get() == seenGeneration
+                && (seen == null ? events.putIfAbsent(eventId, stored) == null : events.replace(eventId, seen, stored));
+        return Optional.of(new Body(bytes, coding -> cached ? compressEvent(eventId, stored, format, coding) : coding.encode(bytes)));
+    }
+
+    /**
+     * Returns the serialized list of published events, rendering it with the loader on a miss.
+     */
+    public Body publishedEvents(WireFormat format, Supplier<List<EventResponse>> loader) {
+        long now = System.nanoTime();
+        Entry seen = publishedEvents.get();
+        boolean fresh = seen.isFresh(now);
+        if (fresh && seen.bytes(format, null) != null) {
+            return new Body(seen.bytes(format, null), coding -> compressPublished(seen, format, coding));
+        }
+        byte[] bytes = writers.get(format).writeValueAsBytes(loader.get());
+        Entry stored = (fresh ? seen : Entry.rendered(seen.version, now + maxAgeNanos)).with(format, null, bytes);
+        boolean cached = publishedEvents.compareAndSet(seen, stored);
+        return new Body(bytes, coding -> cached ? compressPublished(stored, format, coding) : coding.encode(bytes));
+    }
+
+    /**
+     * Evicts an event and the published list, after the current transaction commits (or at once without one).
+     */
+    public void evictAfterCommit(Long eventId) {
+        evictAfterCommit(List.of(eventId));
+    }
+
+    /**
+     * Evicts the given events and the published list, after the current transaction commits (or at once without one).
+     */
+    public void evictAfterCommit(Collection<Long> eventIds) {
+        List<Long> ids = List.copyOf(eventIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(ids);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(ids);
+            }
+        });
+    }
+
+    /**
+     * Bookings change the stats of their event, which are part of the single-event response only. The entry stays
+     * servable for at most the booking delay; later bookings within it do not extend it. The version is bumped all
+     * the same, so that a render that read the stats before this booking is not stored.
+     */
+    @TransactionalEventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        long deadline = System.nanoTime() + bookingDelayNanos;
+        events.compute(event.eventId(), (id, entry) -> entry == null ? Entry.evicted(1) : entry.expiringBy(deadline));
+    }
+
+    private byte[] compressEvent(Long eventId, Entry base, WireFormat format, ContentCoding coding) {
+        Entry current = events.get(eventId);
+        if (current != null && current.version == base.version && current.bytes(format, coding) != null) {
+            return current.bytes(format, coding);
+        }
+        byte[] compressed = coding.encode(base.bytes(format, null));
+        // Only attach the variant to the version it was made from; the entry may have moved on meanwhile.
+        if (current != null && current.version == base.version && current.bytes(format, null) == base.bytes(format, null)) {
+            events.replace(eventId, current, current.with(format, coding, compressed));
+        }
+        return compressed;
+    }
+
+    private byte[] compressPublished(Entry base, WireFormat format, ContentCoding coding) {
+        Entry current = publishedEvents.get();
+        if (current.version == base.version && current.bytes(format, coding) != null) {
+            return current.bytes(format, coding);
+        }
+        byte[] compressed = coding.encode(base.bytes(format, null));
+        if (current.version == base.version && current.bytes(format, null) == base.bytes(format, null)) {
+            publishedEvents.compareAndSet(current, current.with(format, coding, compressed));
+        }
+        return compressed;
+    }
+
+    public int size() {
+        return events.size();
+    }
+
+    private void evict(Collection<Long> eventIds) {
+        eventIds.forEach(this::evictEvent);
+        publishedEvents.updateAndGet(entry -> Entry.evicted(entry.version + 1));
+    }
+
+    private void evictEvent(Long eventId) {
+        events.compute(eventId, (id, entry) -> Entry.evicted(entry == null ? 1 : entry.version + 1));
+    }
+
+    /**
+     * A cached response body: the uncompressed bytes, and the compressed variants on demand (cached with the entry).
+     */
+    public static final class Body {
+
+        private final byte[] bytes;
+        private final Function<ContentCoding, byte[]> compressor;
+
+        private Body(byte[] bytes, Function<ContentCoding, byte[]> compressor) {
+            this.bytes = bytes;
+            this.compressor = compressor;
+        }
+
+        public byte[] bytes() {
+            return bytes;
+        }
+
+        public byte[] compressed(ContentCoding coding) {
+            return compressor.apply(coding);
+        }
+    }
+
+    /**
+     * A versioned cache slot with the bytes rendered so far, one slot per format and coding (null for none), servable
+     * until its expiry ({@link System#nanoTime()} based).
+     */
+    private record Entry(long version, long expiresAt, byte[][] encoded) {
+
+        private static final int CODINGS = ContentCoding.values().length + 1;
+
+        static Entry evicted(long version) {
+            return rendered(version, System.nanoTime());
+        }
+
+        static Entry rendered(long version, long expiresAt) {
+            return new Entry(version, expiresAt, new byte[WireFormat.values().length * CODINGS][]);
+        }
+
+        boolean isFresh(long now) {
+            return now - expiresAt < 0;
+        }
+
+        Entry expiringBy(long deadline) {
+            return new Entry(version + 1, deadline - expiresAt < 0 ? deadline : expiresAt, encoded);
+        }
+
+        byte[] bytes(WireFormat format, ContentCoding coding) {
+            return encoded[slot(format, coding)];
+        }
+
+        Entry with(WireFormat format, ContentCoding coding, byte[] bytes) {
+            byte[][] copy = encoded.clone();
+            copy[slot(format, coding)] = bytes;
+            return new Entry(version, expiresAt, copy);
+        }
+
+        private static int slot(WireFormat format, ContentCoding coding) {
+            return format.ordinal() * CODINGS + (coding == null ? 0 : coding.ordinal() + 1);
+        }
+    }
+}
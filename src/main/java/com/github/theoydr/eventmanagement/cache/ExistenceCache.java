@@ -0,0 +1,74 @@
+package com.github.theoydr.eventmanagement.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongPredicate;
+
+/**
+ * A small, short-TTL cache of "does this resource exist?" answers.
+ * It lets read paths that only need a 404-or-continue decision (e.g. listing the bookings of a user)
+ * skip the database round trip when the same id was checked moments ago.
+ *
+ * Only positive answers are cached: users are never deleted, and events are only removed by the archiver
+ * long after they ended, so a cached "exists" is practically never wrong, while a cached "missing"
+ * would hide a freshly created resource.
+ */
+@Component
+public class ExistenceCache {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final ConcurrentMap<Key, Long> expiries = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+
+    public ExistenceCache(@Value("${app.cache.existence.ttl:PT5S}") Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Returns whether the resource exists, consulting the loader only on a cache miss or an expired entry.
+     *
+     * @param resourceType The resource type, e.g. "user" or "event".
+     * @param id The ID of the resource.
+     * @param loader The database check to run on a miss.
+     * @return true if the resource exists.
+     */
+    public boolean exists(String resourceType, long id, LongPredicate loader) {
+        Key key = new Key(resourceType, id);
+        long now = System.nanoTime();
+
+        Long expiry = expiries.get(key);
+        if (expiry != null && expiry - now > 0) {
+            return true;
+        }
+
+        boolean exists = loader.test(id);
+        if (exists) {
+            if (expiries.size() >= MAX_ENTRIES) {
+                evictExpired(now);
+            }
+            expiries.put(key, now + ttlNanos);
+        } else if (expiry != null) {
+            expiries.remove(key, expiry);
+        }
+        return exists;
+    }
+
+    public int size() {
+        return expiries.size();
+    }
+
+    private void evictExpired(long now) {
+        expiries.values().removeIf(expiry -> expiry - now <= 0);
+        if (expiries.size() >= MAX_ENTRIES) {
+            // Everything is still fresh: drop the lot rather than grow without bound.
+            expiries.clear();
+        }
+    }
+
+    private record Key(String resourceType, long id) {}
+}
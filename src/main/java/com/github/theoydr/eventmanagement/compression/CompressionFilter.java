@@ -0,0 +1,74 @@
+package com.github.theoydr.eventmanagement.compression;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Compresses response bodies according to the {@link CompressionPolicy}.
+ *
+ * The body is buffered, so the size is known before deciding, and then written once, compressed or not. Streaming
+ * and long-polling endpoints must therefore be listed in {@code app.compression.excluded-paths}. Responses that
+ * already carry a Content-Encoding (such as pre-compressed cache entries) are passed through unchanged.
+ */
+@Component
+public class CompressionFilter extends OncePerRequestFilter {
+
+    private final CompressionPolicy policy;
+
+    public CompressionFilter(CompressionPolicy policy) {
+        this.policy = policy;
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        // Async results are written during the async dispatch, which completes the buffered response.
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Optional<ContentCoding> coding = policy.select(request);
+        if (coding.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingResponseWrapper buffered = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (buffered == null) {
+            buffered = new ContentCachingResponseWrapper(response);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        filterChain.doFilter(request, buffered);
+
+        if (!isAsyncStarted(request)) {
+            complete(request, buffered, coding.get());
+        }
+    }
+
+    private void complete(HttpServletRequest request, ContentCachingResponseWrapper buffered, ContentCoding coding)
+            throws IOException {
+        HttpServletResponse raw = (HttpServletResponse) buffered.getResponse();
+        byte[] body = buffered.getContentAsByteArray();
+        if (raw.containsHeader(HttpHeaders.CONTENT_ENCODING) || raw.isCommitted()
+                || !policy.worthCompressing(request, buffered.getContentType(), body.length)) {
+            buffered.copyBodyToResponse();
+            return;
+        }
+
+        byte[] compressed = coding.encode(body);
+        raw.setHeader(HttpHeaders.CONTENT_ENCODING, coding.token());
+        raw.setContentLength(compressed.length);
+        raw.getOutputStream().write(compressed);
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.theoydr.eventmanagement.compression;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Decides whether and how a response is compressed.
+ *
+ * A response is compressed when the client accepts one of the configured codings, its path is not excluded,
+ * its content type is one of the compressible types and its body is at least the minimum size of the endpoint:
+ * the first matching {@code endpoint-min-sizes} entry ({@code pattern=size}, or {@code pattern=off}),
+ * otherwise {@code min-response-size}.
+ */
+@Component
+public class CompressionPolicy {
+
+    private static final long OFF = Long.MAX_VALUE;
+
+    private final boolean enabled;
+    private final List<ContentCoding> codings;
+    private final long defaultMinSize;
+    private final List<MediaType> mimeTypes;
+    private final List<PathPattern> excludedPaths;
+    private final Map<PathPattern, Long> endpointMinSizes = new LinkedHashMap<>();
+
+    public CompressionPolicy(@Value("${app.compression.enabled:true}") boolean enabled,
+                             @Value("${app.compression.codings:zstd,gzip}") List<String> codings,
+                             @Value("${app.compression.min-response-size:1KB}") DataSize minResponseSize,
+                             @Value("${app.compression.mime-types:application/json,application/cbor,application/x-jackson-smile}") List<String> mimeTypes,
+                             @Value("${app.compression.excluded-paths:}") List<String> excludedPaths,
+                             @Value("${app.compression.endpoint-min-sizes:}") List<String> endpointMinSizes) {
+        this.enabled = enabled;
+        this.codings = codings.stream()
+                .map(token -> ContentCoding.fromToken(token)
+                        .orElseThrow(() -> new IllegalArgumentException("Unsupported compression: " + token)))
+                .toList();
+        this.defaultMinSize = minResponseSize.toBytes();
+        this.mimeTypes = mimeTypes.stream().map(MediaType::parseMediaType).toList();
+        this.excludedPaths = excludedPaths.stream().filter(path -> !path.isBlank()).map(CompressionPolicy::parse).toList();
+        for (String entry : endpointMinSizes) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected pattern=size, got: " + entry);
+            }
+            String size = entry.substring(separator + 1).trim();
+            this.endpointMinSizes.put(parse(entry.substring(0, separator)),
+                    size.equalsIgnoreCase("off") ? OFF : DataSize.parse(size).toBytes());
+        }
+    }
+
+    /**
+     * Chooses the coding for a request, before the response is produced.
+     *
+     * @return The coding to use, or empty if the response of this request is never compressed.
+     */
+    public Optional<ContentCoding> select(HttpServletRequest request) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        PathContainer path = pathOf(request);
+        if (excludedPaths.stream().anyMatch(pattern -> pattern.matches(path)) || minSize(path) == OFF) {
+            return Optional.empty();
+        }
+        return ContentCoding.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING), codings);
+    }
+
+    /**
+     * @return Whether a response body of this type and size is worth compressing for the request's endpoint.
+     */
+    public boolean worthCompressing(HttpServletRequest request, String contentType, int length) {
+        if (contentType == null || length < minSize(pathOf(request))) {
+            return false;
+        }
+        MediaType mediaType = MediaType.parseMediaType(contentType);
+        return mimeTypes.stream().anyMatch(type -> type.includes(mediaType));
+    }
+
+    private long minSize(PathContainer path) {
+        for (Map.Entry<PathPattern, Long> entry : endpointMinSizes.entrySet()) {
+            if (entry.getKey().matches(path)) {
+                return entry.getValue();
+            }
+        }
+        return defaultMinSize;
+    }
+
+    private static PathContainer pathOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return PathContainer.parsePath(path);
+    }
+
+    private static PathPattern parse(String pattern) {
+        return PathPatternParser.defaultInstance.parse(pattern.trim());
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.theoydr.eventmanagement.compression;
+
+import com.github.luben.zstd.Zstd;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The response compressions the API can apply ({@code Content-Encoding}).
+ *
+ * Brotli ({@code br}) is not offered. Its usable Java encoders are native bindings too, like zstd-jni. The difference
+ * is packaging: zstd-jni ships the natives of every supported platform in a single jar, while the Brotli binding needs
+ * one extra artifact per platform. Brotli also adds nothing for on-the-fly compression: at levels fast enough for the
+ * request path, zstd compresses faster for a similar ratio, and clients without zstd still get gzip.
+ */
+public enum ContentCoding {
+    ZSTD("zstd") {
+        @Override
+        public byte[] encode(byte[] content) {
+            return Zstd.compress(content, ZSTD_LEVEL);
+        }
+    },
+    GZIP("gzip") {
+        @Override
+        public byte[] encode(byte[] content) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+            try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+                gzip.write(content);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return buffer.toByteArray();
+        }
+    };
+
+    // A fast level: responses are compressed on the request path (or once per cache version).
+    private static final int ZSTD_LEVEL = 3;
+
+    private final String token;
+
+    ContentCoding(String token) {
+        this.token = token;
+    }
+
+    /**
+     * @return The token used in the Accept-Encoding and Content-Encoding headers.
+     */
+    public String token() {
+        return token;
+    }
+
+    public abstract byte[] encode(byte[] content);
+
+    public static Optional<ContentCoding> fromToken(String token) {
+        String normalized = token.trim().toLowerCase(Locale.ROOT);
+        for (ContentCoding coding : values()) {
+            if (coding.token.equals(normalized)) {
+                return Optional.of(coding);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Picks the coding for an Accept-Encoding header. The highest quality value wins; among equally acceptable
+     * codings the first of {@code preferred} is chosen. {@code *} stands for every coding not listed explicitly.
+     *
+     * @param acceptEncoding The value of the Accept-Encoding header, or null.
+     * @param preferred The codings the server is willing to use, most preferred first.
+     * @return The coding to use, or empty to send the response uncompressed.
+     */
+    public static Optional<ContentCoding> negotiate(String acceptEncoding, List<ContentCoding> preferred) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return Optional.empty();
+        }
+        double[] quality = new double[values().length];
+        double wildcard = -1;
+        boolean[] listed = new boolean[values().length];
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokenAndParams = part.split(";");
+            String token = tokenAndParams[0].trim();
+            double q = parseQuality(tokenAndParams);
+            if (token.equals("*")) {
+                wildcard = q;
+            } else {
+                fromToken(token).ifPresent(coding -> {
+                    listed[coding.ordinal()] = true;
+                    quality[coding.ordinal()] = q;
+                });
+            }
+        }
+
+        ContentCoding best = null;
+        double bestQuality = 0;
+        for (ContentCoding coding : preferred) {
+            double q = listed[coding.ordinal()] ? quality[coding.ordinal()] : Math.max(wildcard, 0);
+            if (q > bestQuality) {
+                best = coding;
+                bestQuality = q;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static double parseQuality(String[] tokenAndParams) {
+        for (int i = 1; i < tokenAndParams.length; i++) {
+            String param = tokenAndParams[i].trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.theoydr.eventmanagement.config;
+
+import com.github.theoydr.eventmanagement.datasource.ConcurrencyLimitingDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Puts a {@link ConcurrencyLimitingDataSource} in front of the application DataSource; active only when
+ * {@code app.database.max-concurrency} is positive (see the {@code virtual-threads} profile).
+ *
+ * Only the {@code dataSource} bean is wrapped, so with read replicas the limit covers primary and replica
+ * connections together. Keep {@code max-concurrency} at or below the pool size: callers should wait on the
+ * semaphore, not inside the pool.
+ */
+@Configuration
+@ConditionalOnExpression("${app.database.max-concurrency:0} > 0")
+public class DatabaseConcurrencyConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseConcurrencyConfig.class);
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(
+            @Value("${app.database.max-concurrency}") int maxConcurrency,
+            @Value("${app.database.max-queued:10000}") int maxQueued,
+            @Value("${app.database.acquire-timeout:PT2S}") Duration acquireTimeout) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ConcurrencyLimitingDataSource)) {
+                    log.info("Limiting the database to {} concurrent connections ({} waiting at most, {} ms timeout)",
+                            maxConcurrency, maxQueued, acquireTimeout.toMillis());
+                    return new ConcurrencyLimitingDataSource(dataSource, maxConcurrency, maxQueued, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder databaseConcurrencyMetrics(DataSource dataSource) throws SQLException {
+        ConcurrencyLimitingDataSource limiter = dataSource.unwrap(ConcurrencyLimitingDataSource.class);
+        return registry -> {
+            Gauge.builder("db.concurrency.limit", limiter, ConcurrencyLimitingDataSource::getMaxConcurrency)
+                    .description("Maximum number of connections the application holds at once")
+                    .register(registry);
+            Gauge.builder("db.concurrency.active", limiter, ConcurrencyLimitingDataSource::getActive)
+                    .description("Connections currently held")
+                    .register(registry);
+            Gauge.builder("db.concurrency.waiting", limiter, ConcurrencyLimitingDataSource::getWaiting)
+                    .description("Callers waiting for a connection permit")
+                    .register(registry);
+            FunctionCounter.builder("db.concurrency.rejected", limiter, ConcurrencyLimitingDataSource::getRejected)
+                    .description("Connection requests rejected because the limit was reached")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,156 @@
+package com.github.theoydr.eventmanagement.config;
+
+import com.github.theoydr.eventmanagement.cache.EventResponseCache;
+import com.github.theoydr.eventmanagement.cache.ExistenceCache;
+import com.github.theoydr.eventmanagement.logging.RequestLogPipeline;
+import com.github.theoydr.eventmanagement.service.BookingIntentServiceImpl;
+import com.github.theoydr.eventmanagement.service.BookingService;
+import com.github.theoydr.eventmanagement.service.EventService;
+import com.github.theoydr.eventmanagement.service.GroupCommitBookingService;
+import com.github.theoydr.eventmanagement.service.UserService;
+import com.github.theoydr.eventmanagement.stream.EventAvailabilityStream;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Application metrics, exported with the JVM and HTTP metrics at {@code /actuator/prometheus}.
+ *
+ * Every method of the event, booking and user services is timed as {@code app.service}, tagged with the
+ * implementing class, the method and the exception thrown ({@code none} on success). The timers are added to the
+ * services' existing (transactional) proxies, outside the transaction, so they include the commit. Their SLO
+ * buckets and percentile histogram are configured under {@code management.metrics.distribution}: the histogram
+ * buckets are aggregated by Prometheus, which costs one bucket increment per call instead of the sliding-window
+ * bookkeeping of client-side percentiles.
+ *
+ * Booking rejections are counted by {@code BookingServiceImpl} ({@code app.bookings.rejected}, by reason).
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final List<Class<?>> TIMED_SERVICES = List.of(EventService.class, BookingService.class, UserService.class);
+
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor serviceTimingAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(new ServicePointcut(), new TimingInterceptor(meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public MeterBinder queueAndCacheMetrics(ExistenceCache existenceCache, EventResponseCache eventResponseCache,
+                                            BookingIntentServiceImpl bookingIntents,
+                                            ObjectProvider<GroupCommitBookingService> groupCommit,
+                                            EventAvailabilityStream availabilityStream, RequestLogPipeline requestLog) {
+        return registry -> {
+            Gauge.builder("app.cache.existence.size", existenceCache, ExistenceCache::size)
+                    .description("Entries in the user/event existence cache")
+                    .register(registry);
+            Gauge.builder("app.cache.responses.size", eventResponseCache, EventResponseCache::size)
+                    .description("Events with cached serialized responses")
+                    .register(registry);
+            Gauge.builder("app.bookings.intents.queued", bookingIntents, BookingIntentServiceImpl::queuedCount)
+                    .description("Asynchronous booking intents waiting for a worker")
+                    .register(registry);
+            groupCommit.ifAvailable(service -> Gauge.builder("app.bookings.group.commit.queued", service, GroupCommitBookingService::queuedCount)
+                    .description("Bookings waiting to join a group commit")
+                    .register(registry));
+            Gauge.builder("app.events.availability.subscribers", availabilityStream, EventAvailabilityStream::subscriberCount)
+                    .description("Open event availability streams")
+                    .register(registry);
+            Gauge.builder("app.requests.log.queued", requestLog, RequestLogPipeline::queuedCount)
+                    .description("Request log entries waiting for the writer thread")
+                    .register(registry);
+            FunctionCounter.builder("app.requests.log.dropped", requestLog, RequestLogPipeline::droppedCount)
+                    .description("Request log entries dropped because the queue was full")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Matches the methods of the timed service interfaces on the classes implementing them.
+     */
+    private static final class ServicePointcut extends StaticMethodMatcherPointcut {
+
+        @Override
+        public boolean matches(Method method, Class<?> targetClass) {
+            for (Class<?> service : TIMED_SERVICES) {
+                if (service.isAssignableFrom(targetClass)
+                        && ReflectionUtils.findMethod(service, method.getName(), method.getParameterTypes()) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Records the duration of each call. The registry is looked up on first use, as advisors are created before
+     * the registry is configured. Timers are reused: one per method for successful calls, and one per method and
+     * exception class for failed ones, as rejected bookings fail on the hot path of a sell-out.
+     */
+    static final class TimingInterceptor implements MethodInterceptor {
+
+        private final ObjectProvider<MeterRegistry> meterRegistry;
+        private final ConcurrentMap<Method, Timer> timers = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Method, ConcurrentMap<Class<?>, Timer>> failureTimers = new ConcurrentHashMap<>();
+
+        TimingInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            long start = System.nanoTime();
+            try {
+                Object result = invocation.proceed();
+                Timer timer = timers.get(invocation.getMethod());
+                if (timer == null) {
+                    timer = timers.computeIfAbsent(invocation.getMethod(), method -> timer(invocation, "none"));
+                }
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            } catch (Throwable e) {
+                ConcurrentMap<Class<?>, Timer> byException =
+                        failureTimers.computeIfAbsent(invocation.getMethod(), method -> new ConcurrentHashMap<>());
+                Timer timer = byException.get(e.getClass());
+                if (timer == null) {
+                    timer = byException.computeIfAbsent(e.getClass(), type -> timer(invocation, type.getSimpleName()));
+                }
+                timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        }
+
+        private Timer timer(MethodInvocation invocation, String exception) {
+            return Timer.builder("app.service")
+                    .description("Calls of the event, booking and user services")
+                    .tag("class", invocation.getThis() != null ? invocation.getThis().getClass().getSimpleName()
+                            : invocation.getMethod().getDeclaringClass().getSimpleName())
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry.getObject());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.github.theoydr.eventmanagement.config;
+
+import com.github.theoydr.eventmanagement.datasource.ReplicaDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceException;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes read-only transactions to read replicas; active only when {@code app.datasource.replica-urls} is set.
+ *
+ * The application DataSource is a {@link LazyConnectionDataSourceProxy}: the physical connection is only fetched
+ * on the first statement, after the transaction manager has marked the connection read-only. Read-write
+ * transactions then get a primary connection and read-only ones a connection from the {@link ReplicaDataSource}.
+ * Replicas share the primary's credentials unless {@code app.datasource.replica-username/-password} are set.
+ *
+ * The second-level cache must not be filled from a lagging replica: nothing refreshes it when the replica catches
+ * up. Read-only transactions therefore only read it and leave filling it to the read-write transactions on the
+ * primary. The event response cache is filled from replicas like any other read; its entries expire after
+ * {@code app.cache.responses.max-age}, which bounds how long a render of lagging data is served.
+ */
+@Configuration
+@ConditionalOnExpression("!'${app.datasource.replica-urls:}'.isBlank()")
+public class ReadReplicaConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadReplicaConfig.class);
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(@Value("${spring.datasource.url}") String url,
+                                              @Value("${spring.datasource.username:}") String username,
+                                              @Value("${spring.datasource.password:}") String password,
+                                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize) {
+        return pool("primary", url, username, password, poolSize);
+    }
+
+    @Bean
+    public ReplicaDataSource replicaDataSource(HikariDataSource primaryDataSource,
+                                               @Value("${app.datasource.replica-urls}") List<String> replicaUrls,
+                                               @Value("${app.datasource.replica-username:${spring.datasource.username:}}") String username,
+                                               @Value("${app.datasource.replica-password:${spring.datasource.password:}}") String password,
+                                               @Value("${app.datasource.replica-pool-size:10}") int poolSize,
+                                               @Value("${app.datasource.replica-validation-timeout:2}") int validationTimeoutSeconds) {
+        List<ReplicaDataSource.Replica> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            replicas.add(new ReplicaDataSource.Replica(name, pool(name, replicaUrls.get(i).trim(), username, password, poolSize)));
+        }
+        log.info("Routing read-only transactions to {} read replica(s)", replicas.size());
+        return new ReplicaDataSource(primaryDataSource, replicas, validationTimeoutSeconds);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaDataSource replicaDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+        return dataSource;
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManager.setJpaDialect(new ReplicaReadsJpaDialect());
+        return transactionManager;
+    }
+
+    private static HikariDataSource pool(String name, String url, String username, String password, int poolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(poolSize);
+        // Fail fast so that a dead replica is skipped instead of stalling the request.
+        dataSource.setConnectionTimeout(2_000);
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+
+    /**
+     * Puts read-only sessions in {@link CacheMode#GET}: they may run on a replica, so the entities and query
+     * results they load are not put into the second-level cache.
+     */
+    private static final class ReplicaReadsJpaDialect extends HibernateJpaDialect {
+
+        @Override
+        public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+                throws PersistenceException, SQLException, TransactionException {
+            Object transactionData = super.beginTransaction(entityManager, definition);
+            if (definition.isReadOnly()) {
+                entityManager.unwrap(Session.class).setCacheMode(CacheMode.GET);
+            }
+            return transactionData;
+        }
+    }
+}
@@ -1,30 +1,45 @@
 package com.github.theoydr.eventmanagement.config;
 
-import jakarta.servlet.http.HttpServletRequest;
+import com.github.theoydr.eventmanagement.logging.PathPrefixTrie;
+import com.github.theoydr.eventmanagement.logging.RequestLogPipeline;
+import com.github.theoydr.eventmanagement.logging.RequestLoggingFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.filter.CommonsRequestLoggingFilter;
 
-import java.util.Set;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Configuration for logging incoming HTTP requests.
- * This filter automatically logs the request URL, payload, client IP, etc.
- * It provides visibility into the raw traffic hitting the API.
+ * The filter logs the method, URL, status, client IP and duration of a sample of the requests, and optionally
+ * their payload. It provides visibility into the raw traffic hitting the API without slowing it down: entries
+ * are written by a background thread (see {@link RequestLogPipeline}).
+ *
+ * Sampling is configured per path prefix in {@code logging.api.sample-rates} ({@code prefix=rate}, the longest
+ * matching prefix wins); other paths use {@code logging.api.default-sample-rate}.
  */
 @Configuration
 public class RequestLoggingConfig {
 
     private static final Logger log = LoggerFactory.getLogger(RequestLoggingConfig.class);
 
+    // Paths we generally don't care about seeing in the logs every 30 seconds
+    private static final String DEFAULT_SAMPLE_RATES =
+            "/actuator/health=0,/actuator/prometheus=0,/favicon.ico=0,/v3/api-docs=0";
 
     @Bean
-    public CommonsRequestLoggingFilter logFilter(@Value("${logging.api.include-payload:false}") boolean includePayload) {
+    public RequestLoggingFilter logFilter(RequestLogPipeline pipeline,
+                                          @Value("${logging.api.include-payload:false}") boolean includePayload,
+                                          @Value("${logging.api.max-payload-length:10000}") int maxPayloadLength,
+                                          @Value("${logging.api.default-sample-rate:1.0}") double defaultSampleRate,
+                                          @Value("${logging.api.sample-rates:" + DEFAULT_SAMPLE_RATES + "}") List<String> sampleRates) {
 
-        NoiseFilteringRequestLoggingFilter filter = getRequestLoggingFilter(includePayload);
+        RequestLoggingFilter filter = new RequestLoggingFilter(
+                pipeline, parseSampleRates(sampleRates), defaultSampleRate, includePayload, maxPayloadLength);
 
         if (includePayload) {
             log.warn("!!! WARNING: HTTP REQUEST PAYLOAD LOGGING IS ENABLED !!!");
@@ -38,52 +53,22 @@ public class RequestLoggingConfig {
         return filter;
     }
 
-    private static NoiseFilteringRequestLoggingFilter getRequestLoggingFilter(boolean includePayload) {
-        NoiseFilteringRequestLoggingFilter filter = new NoiseFilteringRequestLoggingFilter();
-
-        // Include the query string (e.g., ?page=1&sort=desc)
-        filter.setIncludeQueryString(true);
-
-        // Do not log the payload (body).
-        // This avoids security risks (passwords/PII) and saves disk space/performance in production.
-        filter.setIncludePayload(includePayload);
-
-        // Set a max length just in case payload logging is enabled later via properties
-        filter.setMaxPayloadLength(10000);
-
-        // Include headers (like User-Agent) - keep false to reduce noise
-        filter.setIncludeHeaders(false);
-
-        filter.setIncludeClientInfo(true); // Log client IP address
-        return filter;
-    }
-
-
-    private static class NoiseFilteringRequestLoggingFilter extends CommonsRequestLoggingFilter {
-
-        // Paths we generally don't care about seeing in the logs every 30 seconds
-        private static final Set<String> NOISY_PATHS = Set.of(
-                "/actuator/health",
-                "/actuator/prometheus",
-                "/favicon.ico",
-                "/v3/api-docs"
-        );
-
-        @Override
-        protected boolean shouldLog(HttpServletRequest request) {
-            // Check the Blocklist: Is this a known noisy path?
-
-            String path = request.getRequestURI();
-
-
-            for (String prefix : NOISY_PATHS) {
-                if (path.startsWith(prefix)) {
-                    return false;
-                }
+    private static PathPrefixTrie<Double> parseSampleRates(List<String> entries) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String entry : entries) {
+            if (entry.isBlank()) {
+                continue;
             }
-
-            return super.shouldLog(request);
+            int separator = entry.lastIndexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected prefix=rate, got: " + entry);
+            }
+            double rate = Double.parseDouble(entry.substring(separator + 1).trim());
+            if (rate < 0 || rate > 1) {
+                throw new IllegalArgumentException("Sample rate must be between 0 and 1, got: " + entry);
+            }
+            rates.put(entry.substring(0, separator).trim(), rate);
         }
+        return PathPrefixTrie.of(rates);
     }
-
 }
@@ -0,0 +1,19 @@
+package com.github.theoydr.eventmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduled task execution for background maintenance jobs
+ * (e.g. reconciling the event_stats aggregate) and {@code @Async} methods.
+ *
+ * Both run on Spring Boot's auto-configured executors, which use virtual threads
+ * when {@code spring.threads.virtual.enabled} is set (see the {@code virtual-threads} profile).
+ * Otherwise the scheduled jobs share a pool of {@code spring.task.scheduling.pool.size} threads.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,138 @@
+package com.github.theoydr.eventmanagement.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import jdk.management.VirtualThreadSchedulerMXBean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Exposes how virtual threads behave when {@code spring.threads.virtual.enabled} is set.
+ *
+ * <ul>
+ *   <li>{@code jvm.threads.virtual.pinned}: a timer of the JFR {@code jdk.VirtualThreadPinned} events, i.e. virtual
+ *       threads that blocked while pinned to their carrier for longer than {@code app.threads.pinned-threshold}.
+ *       Since JDK 24, {@code synchronized} no longer pins; what remains are native frames and class initialisation.
+ *       The first pinning at each code location is logged with its stack.</li>
+ *   <li>{@code jvm.threads.virtual.submit.failed}: virtual threads that could not be scheduled or unparked.</li>
+ *   <li>{@code jvm.threads.virtual.carriers}, {@code .mounted}, {@code .queued} and
+ *       {@code .carrier.utilization} (mounted / parallelism) from the {@link VirtualThreadSchedulerMXBean}.</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnBooleanProperty("spring.threads.virtual.enabled")
+public class VirtualThreadDiagnostics implements MeterBinder, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadDiagnostics.class);
+    private static final String PINNED = "jdk.VirtualThreadPinned";
+    private static final String SUBMIT_FAILED = "jdk.VirtualThreadSubmitFailed";
+    private static final int LOGGED_FRAMES = 8;
+    private static final int MAX_LOGGED_LOCATIONS = 1_000;
+
+    private final Duration pinnedThreshold;
+    private final VirtualThreadSchedulerMXBean scheduler = ManagementFactory.getPlatformMXBean(VirtualThreadSchedulerMXBean.class);
+    private final Set<String> loggedLocations = ConcurrentHashMap.newKeySet();
+
+    private volatile Timer pinned;
+    private volatile Counter submitFailed;
+    private volatile RecordingStream recording;
+
+    public VirtualThreadDiagnostics(@Value("${app.threads.pinned-threshold:PT0.02S}") Duration pinnedThreshold) {
+        this.pinnedThreshold = pinnedThreshold;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("Virtual threads that blocked while pinned to their carrier thread")
+                .register(registry);
+        submitFailed = Counter.builder("jvm.threads.virtual.submit.failed")
+                .description("Virtual threads that could not be started or unparked")
+                .register(registry);
+        Gauge.builder("jvm.threads.virtual.carriers", scheduler, VirtualThreadSchedulerMXBean::getPoolSize)
+                .description("Platform threads in the virtual thread scheduler")
+                .register(registry);
+        Gauge.builder("jvm.threads.virtual.mounted", scheduler, VirtualThreadSchedulerMXBean::getMountedVirtualThreadCount)
+                .description("Virtual threads currently running on a carrier")
+                .register(registry);
+        Gauge.builder("jvm.threads.virtual.queued", scheduler, VirtualThreadSchedulerMXBean::getQueuedVirtualThreadCount)
+                .description("Virtual threads ready to run and waiting for a carrier")
+                .register(registry);
+        Gauge.builder("jvm.threads.virtual.carrier.utilization", scheduler,
+                        s -> (double) s.getMountedVirtualThreadCount() / s.getParallelism())
+                .description("Share of the scheduler's parallelism in use by mounted virtual threads")
+                .register(registry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED).withThreshold(pinnedThreshold).withStackTrace();
+        stream.enable(SUBMIT_FAILED);
+        stream.onEvent(PINNED, this::onPinned);
+        stream.onEvent(SUBMIT_FAILED, event -> {
+            if (submitFailed != null) {
+                submitFailed.increment();
+            }
+            log.warn("Virtual thread could not be submitted: {}", event.getString("exceptionMessage"));
+        });
+        stream.startAsync();
+        recording = stream;
+        log.info("Recording virtual thread pinning longer than {} ms", pinnedThreshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recording;
+        recording = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recording != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        if (pinned != null) {
+            pinned.record(event.getDuration());
+        }
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null || loggedLocations.size() >= MAX_LOGGED_LOCATIONS) {
+            return;
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(LOGGED_FRAMES)
+                .toList();
+        if (!frames.isEmpty() && loggedLocations.add(describe(frames.getFirst()))) {
+            log.warn("Virtual thread pinned for {} ms at:{}", event.getDuration().toMillis(), frames.stream()
+                    .map(frame -> "\n\tat " + describe(frame))
+                    .collect(Collectors.joining()));
+        }
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,49 @@
+package com.github.theoydr.eventmanagement.config;
+
+import com.github.theoydr.eventmanagement.serialization.ResponseSerializers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Binary encodings of the API, selected by content negotiation.
+ *
+ * Clients that send {@code Accept: application/cbor} or {@code Accept: application/x-jackson-smile} get the same
+ * documents as the JSON API in a compact binary form, and may send request bodies in the same encodings
+ * ({@code Content-Type}). JSON stays the default: the converters registered here replace Spring's defaults for
+ * these formats in place, after the JSON converter, so wildcard and missing Accept headers still produce JSON.
+ *
+ * All three mappers write the response records with the hand-written {@link ResponseSerializers}; Spring Boot
+ * registers the module bean with the JSON mapper itself.
+ */
+@Configuration
+public class WireFormatConfig {
+
+    @Bean
+    public ResponseSerializers responseSerializers() {
+        return new ResponseSerializers();
+    }
+
+    @Bean
+    public CBORMapper cborMapper(ResponseSerializers responseSerializers) {
+        return CBORMapper.builder().addModule(responseSerializers).build();
+    }
+
+    @Bean
+    public SmileMapper smileMapper(ResponseSerializers responseSerializers) {
+        return SmileMapper.builder().addModule(responseSerializers).build();
+    }
+
+    @Bean
+    public JacksonCborHttpMessageConverter cborHttpMessageConverter(CBORMapper cborMapper) {
+        return new JacksonCborHttpMessageConverter(cborMapper);
+    }
+
+    @Bean
+    public JacksonSmileHttpMessageConverter smileHttpMessageConverter(SmileMapper smileMapper) {
+        return new JacksonSmileHttpMessageConverter(smileMapper);
+    }
+}
@@ -66,6 +66,8 @@ public final class MessageKeys {
         public static final String ENDPOINT_NOT_FOUND = "{error.endpoint.notFound}";
         public static final String INVALID_FORMAT = "{error.validation.invalid.format}";
         public static final String OPERATION_NOT_ALLOWED = "error.operation.notAllowed";
+        public static final String SERVICE_UNAVAILABLE = "{error.service.unavailable}";
+        public static final String INVALID_REQUEST = "{error.request.invalid}";
 
     }
 }
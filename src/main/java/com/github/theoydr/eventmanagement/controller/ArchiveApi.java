@@ -0,0 +1,46 @@
+package com.github.theoydr.eventmanagement.controller;
+
+import com.github.theoydr.eventmanagement.dto.ArchivedBookingResponse;
+import com.github.theoydr.eventmanagement.dto.ArchivedEventResponse;
+import com.github.theoydr.eventmanagement.exception.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
+
+@Tag(name = "Archive API", description = "Read-only endpoints for past events and their bookings that were moved to the archive")
+public interface ArchiveApi {
+
+    @Operation(summary = "Get an archived event by its ID")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the archived event",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArchivedEventResponse.class))),
+            @ApiResponse(responseCode = "404", description = "No archived event with the given ID",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<ArchivedEventResponse> getArchivedEvent(@Parameter(description = "The ID of the archived event", required = true) @PathVariable Long id);
+
+    @Operation(summary = "Get the archived events of an organizer", description = "Most recent first.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the archived events")
+    List<ArchivedEventResponse> getArchivedEventsByOrganizer(@Parameter(description = "The ID of the organizer", required = true) @RequestParam Long organizerId);
+
+    @Operation(summary = "Get the bookings of an archived event")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the archived bookings"),
+            @ApiResponse(responseCode = "404", description = "No archived event with the given ID",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    List<ArchivedBookingResponse> getArchivedBookingsForEvent(@Parameter(description = "The ID of the archived event", required = true) @PathVariable Long id);
+
+    @Operation(summary = "Get the archived bookings of a user", description = "Most recent first.")
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the archived bookings")
+    List<ArchivedBookingResponse> getArchivedBookingsByUser(@Parameter(description = "The ID of the user", required = true) @PathVariable Long userId);
+}
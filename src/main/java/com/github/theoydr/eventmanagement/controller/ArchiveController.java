@@ -0,0 +1,57 @@
+package com.github.theoydr.eventmanagement.controller;
+
+import com.github.theoydr.eventmanagement.dto.ArchivedBookingResponse;
+import com.github.theoydr.eventmanagement.dto.ArchivedEventResponse;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.mapper.ArchiveMapper;
+import com.github.theoydr.eventmanagement.service.ArchiveService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/archive")
+public class ArchiveController implements ArchiveApi {
+
+    private final ArchiveService archiveService;
+    private final ArchiveMapper archiveMapper;
+
+    public ArchiveController(ArchiveService archiveService, ArchiveMapper archiveMapper) {
+        this.archiveService = archiveService;
+        this.archiveMapper = archiveMapper;
+    }
+
+    @Override
+    @GetMapping("/events/{id}")
+    public ResponseEntity<ArchivedEventResponse> getArchivedEvent(@PathVariable Long id) {
+        return archiveService.findArchivedEventById(id)
+                .map(archiveMapper::toResponse)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResourceNotFoundException("archived event", "id", id));
+    }
+
+    @Override
+    @GetMapping("/events")
+    public List<ArchivedEventResponse> getArchivedEventsByOrganizer(@RequestParam Long organizerId) {
+        return archiveService.findArchivedEventsByOrganizer(organizerId).stream()
+                .map(archiveMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    @GetMapping("/events/{id}/bookings")
+    public List<ArchivedBookingResponse> getArchivedBookingsForEvent(@PathVariable Long id) {
+        return archiveService.findArchivedBookingsForEvent(id).stream()
+                .map(archiveMapper::toResponse)
+                .toList();
+    }
+
+    @Override
+    @GetMapping("/users/{userId}/bookings")
+    public List<ArchivedBookingResponse> getArchivedBookingsByUser(@PathVariable Long userId) {
+        return archiveService.findArchivedBookingsByUser(userId).stream()
+                .map(archiveMapper::toResponse)
+                .toList();
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.theoydr.eventmanagement.controller;
 
+import com.github.theoydr.eventmanagement.dto.BookingIntentResponse;
 import com.github.theoydr.eventmanagement.dto.BookingRequest;
 import com.github.theoydr.eventmanagement.dto.BookingResponse;
 import com.github.theoydr.eventmanagement.exception.ApiErrorResponse;
@@ -13,10 +14,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.time.Duration;
 import java.util.List;
 
-@Tag(name = "Bookings API", description = "Endpoints for managing event bookings")
+@Tag(name = "Bookings API", description = "Endpoints for managing event bookings. Responses are JSON unless the Accept header asks for application/cbor or application/x-jackson-smile")
 public interface BookingApi {
 
     @Operation(summary = "Create a new booking", description = "Creates a booking for a user for a specific event.")
@@ -32,6 +36,38 @@ public interface BookingApi {
     })
     ResponseEntity<BookingResponse> createBooking(@Parameter(description = "Details for the new booking", required = true) @RequestBody BookingRequest bookingRequest);
 
+    @Operation(summary = "Submit a booking asynchronously",
+            description = "Selected with the request header 'Prefer: respond-async' (RFC 7240; other preferences such as "
+                    + "'wait=10' may be listed too, a Prefer header without respond-async books synchronously). Validates the request and queues it; "
+                    + "the booking rules are applied in the background. Poll the returned intent (see the Location header) "
+                    + "for the outcome: PENDING, then CONFIRMED with the booking ID or CANCELLED with the failure reason, or "
+                    + "marked retryable if it failed on a temporary outage.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Booking intent accepted",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingIntentResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input data provided (e.g., negative tickets)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "User or Event not found with the given IDs",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Too many bookings are waiting to be processed",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<?> submitBooking(@Parameter(description = "RFC 7240 preferences, e.g. 'respond-async, wait=10'", required = true) List<String> preferences,
+                                    @Parameter(description = "Details for the new booking", required = true) @RequestBody BookingRequest bookingRequest);
+
+    @Operation(summary = "Get the state of an asynchronously submitted booking",
+            description = "Returns immediately by default. With 'wait', a PENDING intent is held open (long polling) until it is "
+                    + "processed or the wait (at most 30 seconds) elapses.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The current state of the booking intent",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookingIntentResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Unknown booking intent, or its outcome has expired",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    DeferredResult<ResponseEntity<BookingIntentResponse>> getBookingIntent(
+            @Parameter(description = "The ID of the booking intent", required = true) @PathVariable String intentId,
+            @Parameter(description = "How long to wait for the outcome as an ISO-8601 duration, e.g. PT10S") @RequestParam(required = false) Duration wait);
+
     @Operation(summary = "Cancel a booking", description = "Changes the status of a booking to CANCELLED.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Booking cancelled successfully (No content)"),
@@ -1,29 +1,42 @@
 package com.github.theoydr.eventmanagement.controller;
 
+import com.github.theoydr.eventmanagement.domain.BookingIntent;
+import com.github.theoydr.eventmanagement.dto.BookingIntentResponse;
 import com.github.theoydr.eventmanagement.dto.BookingRequest;
 import com.github.theoydr.eventmanagement.dto.BookingResponse;
 import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
 import com.github.theoydr.eventmanagement.mapper.BookingMapper;
 import com.github.theoydr.eventmanagement.model.Booking;
+import com.github.theoydr.eventmanagement.service.BookingIntentService;
 import com.github.theoydr.eventmanagement.service.BookingService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/bookings")
 public class BookingController implements BookingApi {
 
+    private static final Duration MAX_WAIT = Duration.ofSeconds(30);
+
     private final BookingService bookingService;
     private final BookingMapper bookingMapper;
+    private final BookingIntentService bookingIntentService;
 
-    public BookingController(BookingService bookingService, BookingMapper bookingMapper) {
+    public BookingController(BookingService bookingService, BookingMapper bookingMapper, BookingIntentService bookingIntentService) {
         this.bookingService = bookingService;
         this.bookingMapper = bookingMapper;
+        this.bookingIntentService = bookingIntentService;
     }
 
     @PostMapping
@@ -36,6 +49,72 @@ public class BookingController implements BookingApi {
         return new ResponseEntity<>(bookingMapper.toResponse(newBooking), HttpStatus.CREATED);
     }
 
+    /**
+     * Selected by any {@code Prefer} header; requests that do not prefer {@code respond-async} are booked synchronously.
+     */
+    @PostMapping(headers = "Prefer")
+    public ResponseEntity<?> submitBooking(@RequestHeader("Prefer") List<String> preferences,
+                                           @Valid @RequestBody BookingRequest bookingRequest) {
+        if (!prefersRespondAsync(preferences)) {
+            return createBooking(bookingRequest);
+        }
+        BookingIntent intent = bookingIntentService.submit(
+                bookingRequest.userId(),
+                bookingRequest.eventId(),
+                bookingRequest.numberOfTickets()
+        );
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/bookings/intents/" + intent.id()))
+                .header("Preference-Applied", "respond-async")
+                .body(bookingMapper.toResponse(intent));
+    }
+
+    /**
+     * Parses RFC 7240 preferences, e.g. {@code respond-async, wait=10}; names are case-insensitive and may carry
+     * a value or parameters.
+     */
+    static boolean prefersRespondAsync(List<String> preferences) {
+        for (String header : preferences) {
+            for (String preference : header.split(",")) {
+                String name = preference.split("[=;]", 2)[0].trim();
+                if (name.toLowerCase(Locale.ROOT).equals("respond-async")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @GetMapping("/intents/{intentId}")
+    public DeferredResult<ResponseEntity<BookingIntentResponse>> getBookingIntent(@PathVariable String intentId,
+                                                                                  @RequestParam(required = false) Duration wait) {
+        BookingIntent current = bookingIntentService.findIntent(intentId)
+                .orElseThrow(() -> new ResourceNotFoundException("booking intent", "id", intentId));
+
+        if (!current.isPending() || wait == null || wait.isNegative() || wait.isZero()) {
+            DeferredResult<ResponseEntity<BookingIntentResponse>> result = new DeferredResult<>();
+            result.setResult(intentResponse(current));
+            return result;
+        }
+
+        Duration timeout = wait.compareTo(MAX_WAIT) > 0 ? MAX_WAIT : wait;
+        DeferredResult<ResponseEntity<BookingIntentResponse>> result = new DeferredResult<>(timeout.toMillis());
+        CompletableFuture<BookingIntent> outcome = bookingIntentService.awaitOutcome(intentId)
+                .orElseGet(() -> CompletableFuture.completedFuture(current));
+        // On timeout, answer with whatever the state is by then (normally still PENDING).
+        result.onTimeout(() -> result.setResult(intentResponse(bookingIntentService.findIntent(intentId).orElse(current))));
+        outcome.thenAccept(intent -> result.setResult(intentResponse(intent)));
+        return result;
+    }
+
+    private ResponseEntity<BookingIntentResponse> intentResponse(BookingIntent intent) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (intent.isPending()) {
+            response.header(HttpHeaders.RETRY_AFTER, "1");
+        }
+        return response.body(bookingMapper.toResponse(intent));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<BookingResponse> getBookingById(@PathVariable Long id) {
         Booking booking = bookingService.findBookingById(id)
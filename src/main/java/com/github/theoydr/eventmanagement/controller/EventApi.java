@@ -1,23 +1,31 @@
 package com.github.theoydr.eventmanagement.controller;
 
+import com.github.theoydr.eventmanagement.dto.EventAvailabilityResponse;
+import com.github.theoydr.eventmanagement.dto.EventImportUpdate;
 import com.github.theoydr.eventmanagement.dto.EventRequest;
 import com.github.theoydr.eventmanagement.dto.EventResponse;
 import com.github.theoydr.eventmanagement.exception.ApiErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
-@Tag(name = "Events API", description = "Endpoints for managing events")
+@Tag(name = "Events API", description = "Endpoints for managing events. Responses are JSON unless the Accept header asks for application/cbor or application/x-jackson-smile")
 public interface EventApi {
 
     @Operation(summary = "Create a new event", description = "Creates a new event with the provided details. The event will be in DRAFT status initially.")
@@ -42,7 +50,23 @@ public interface EventApi {
             @ApiResponse(responseCode = "404", description = "Event not found with the given ID",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
     })
-    ResponseEntity<EventResponse> getEventById(@Parameter(description = "The ID of the event to retrieve", required = true) @PathVariable Long id);
+    ResponseEntity<byte[]> getEventById(@Parameter(description = "The ID of the event to retrieve", required = true) @PathVariable Long id,
+                                        @Parameter(hidden = true) String accept,
+                                        @Parameter(hidden = true) HttpServletRequest request);
+
+    @Operation(summary = "Stream the availability of an event",
+            description = "Opens a Server-Sent Events stream. The first `availability` event carries the current seats and status; "
+                    + "further ones follow bookings, cancellations and status changes, at most a few per second. "
+                    + "The stream ends after the event is cancelled.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The stream was opened",
+                    content = @Content(mediaType = "text/event-stream", schema = @Schema(implementation = EventAvailabilityResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Event not found with the given ID",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "Too many open streams, in total or for this event; retry later",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    SseEmitter streamAvailability(@Parameter(description = "The ID of the event to follow", required = true) @PathVariable Long id);
 
     @Operation(summary = "Get all events", description = "Retrieves a list of all events.")
     @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of events")
@@ -83,8 +107,24 @@ public interface EventApi {
     ResponseEntity<EventResponse> publishEvent(@Parameter(description = "The ID of the event to publish", required = true) @PathVariable Long id,
                                                @Parameter(description = "The ID of the organizer publishing the event", required = true) @RequestParam Long organizerId);
 
+    @Operation(summary = "Import events in bulk",
+            description = "Imports many events at once as DRAFT events. The body is a JSON array (application/json), one JSON object "
+                    + "per line (application/x-ndjson) or CSV with a header row of EventRequest field names (text/csv). "
+                    + "Records are committed in batches; failed records are skipped. The response is a newline-delimited JSON "
+                    + "stream of ERROR lines (one per failed record), PROGRESS lines (one per committed batch) and a final SUMMARY line.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The import ran; see the streamed updates for the outcome of each record",
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = EventImportUpdate.class))),
+            @ApiResponse(responseCode = "415", description = "Unsupported content type",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<StreamingResponseBody> importEvents(@Parameter(hidden = true) MediaType contentType,
+                                                       @Parameter(hidden = true) InputStream body);
+
     @Operation(summary = "Get all published events", description = "Retrieves a list of all events with status PUBLISHED.")
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of published events")
-    List<EventResponse> getPublishedEvents();
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved the list of published events",
+            content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = EventResponse.class))))
+    ResponseEntity<byte[]> getPublishedEvents(@Parameter(hidden = true) String accept,
+                                              @Parameter(hidden = true) HttpServletRequest request);
 
 }
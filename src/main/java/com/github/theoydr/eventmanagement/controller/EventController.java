@@ -1,17 +1,36 @@
 package com.github.theoydr.eventmanagement.controller;
 
+import com.github.theoydr.eventmanagement.cache.EventResponseCache;
+import com.github.theoydr.eventmanagement.compression.ContentCoding;
+import com.github.theoydr.eventmanagement.compression.CompressionPolicy;
+import com.github.theoydr.eventmanagement.dto.EventImportUpdate;
 import com.github.theoydr.eventmanagement.dto.EventRequest;
 import com.github.theoydr.eventmanagement.dto.EventResponse;
+import com.github.theoydr.eventmanagement.enums.ImportFormat;
+import com.github.theoydr.eventmanagement.enums.WireFormat;
 import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
 import com.github.theoydr.eventmanagement.mapper.EventMapper;
 import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.service.EventImportService;
 import com.github.theoydr.eventmanagement.service.EventService;
+import com.github.theoydr.eventmanagement.stream.EventAvailabilityStream;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @RestController
@@ -20,10 +39,22 @@ public class EventController implements EventApi {
 
     private final EventService eventService;
     private final EventMapper eventMapper;
+    private final EventImportService eventImportService;
+    private final JsonMapper jsonMapper;
+    private final EventResponseCache eventResponseCache;
+    private final CompressionPolicy compressionPolicy;
+    private final EventAvailabilityStream availabilityStream;
 
-    public EventController(EventService eventService, EventMapper eventMapper) {
+    public EventController(EventService eventService, EventMapper eventMapper, EventImportService eventImportService,
+                           JsonMapper jsonMapper, EventResponseCache eventResponseCache, CompressionPolicy compressionPolicy,
+                           EventAvailabilityStream availabilityStream) {
         this.eventService = eventService;
         this.eventMapper = eventMapper;
+        this.eventImportService = eventImportService;
+        this.jsonMapper = jsonMapper;
+        this.eventResponseCache = eventResponseCache;
+        this.compressionPolicy = compressionPolicy;
+        this.availabilityStream = availabilityStream;
     }
 
     @Override
@@ -45,18 +76,31 @@ public class EventController implements EventApi {
 
     @Override
     @GetMapping("/published")
-    public List<EventResponse> getPublishedEvents() {
-        return eventService.findPublishedEvents().stream()
+    public ResponseEntity<byte[]> getPublishedEvents(@RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                     HttpServletRequest request) {
+        WireFormat format = WireFormat.negotiate(accept);
+        EventResponseCache.Body body = eventResponseCache.publishedEvents(format, () -> eventService.findPublishedEvents().stream()
                 .map(eventMapper::toResponse)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
+        return encoded(request, format, body);
     }
 
     @Override
     @GetMapping("/{id}")
-    public ResponseEntity<EventResponse> getEventById(@PathVariable Long id) {
-        Event event = eventService.findEventById(id)
+    public ResponseEntity<byte[]> getEventById(@PathVariable Long id,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                               HttpServletRequest request) {
+        WireFormat format = WireFormat.negotiate(accept);
+        EventResponseCache.Body body = eventResponseCache.event(id, format, () -> eventService.findEventById(id)
+                        .map(event -> eventMapper.toResponse(event, eventService.findEventStats(id).orElse(null))))
                 .orElseThrow(() -> new ResourceNotFoundException("event", "id", id));
-        return ResponseEntity.ok(eventMapper.toResponse(event));
+        return encoded(request, format, body);
+    }
+
+    @Override
+    @GetMapping(value = "/{id}/availability", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailability(@PathVariable Long id) {
+        return availabilityStream.subscribe(id);
     }
 
     @Override
@@ -79,4 +123,51 @@ public class EventController implements EventApi {
         Event publishedEvent = eventService.publishEvent(id, organizerId);
         return ResponseEntity.ok(eventMapper.toResponse(publishedEvent));
     }
+
+    @Override
+    @PostMapping(value = "/import",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importEvents(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                              InputStream body) {
+        ImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType) ? ImportFormat.NDJSON
+                : MediaType.APPLICATION_JSON.isCompatibleWith(contentType) ? ImportFormat.JSON
+                : ImportFormat.CSV;
+
+        StreamingResponseBody stream = output -> {
+            EventImportUpdate summary = eventImportService.importEvents(format, body, update -> writeLine(output, update));
+            writeLine(output, summary);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+    }
+
+    /**
+     * Sends a cached body, compressed from the cache when the request qualifies. The compression filter passes
+     * responses that already have a Content-Encoding through, and adds the Vary on Accept-Encoding.
+     */
+    private ResponseEntity<byte[]> encoded(HttpServletRequest request, WireFormat format, EventResponseCache.Body body) {
+        Optional<ContentCoding> coding = compressionPolicy.select(request)
+                .filter(c -> compressionPolicy.worthCompressing(request, format.mediaType().toString(), body.bytes().length));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (coding.isEmpty()) {
+            return response.body(body.bytes());
+        }
+        return response.header(HttpHeaders.CONTENT_ENCODING, coding.get().token())
+                .body(body.compressed(coding.get()));
+    }
+
+    private void writeLine(OutputStream output, EventImportUpdate update) {
+        try {
+            output.write(jsonMapper.writeValueAsBytes(update));
+            output.write('\n');
+            if (!"ERROR".equals(update.type())) {
+                // Push progress to the client as it happens; errors go out with the next progress line.
+                output.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package com.github.theoydr.eventmanagement.controller;
+
+import com.github.theoydr.eventmanagement.dto.EventLedgerResponse;
+import com.github.theoydr.eventmanagement.exception.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@Tag(name = "Ledger API", description = "Projections of the event-sourced booking ledger. Available when app.ledger.enabled is set; trails the database by a few seconds.")
+public interface LedgerApi {
+
+    @Operation(summary = "Get the ledger projection of an event",
+            description = "Tickets sold, attendees holding a confirmed booking and the waitlist of users turned away while the event was sold out.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved the projection",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = EventLedgerResponse.class))),
+            @ApiResponse(responseCode = "404", description = "The ledger has no entries for the event",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "The ledger is still being restored",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<EventLedgerResponse> getEventLedger(@Parameter(description = "The ID of the event", required = true) @PathVariable Long eventId);
+}
@@ -0,0 +1,25 @@
+package com.github.theoydr.eventmanagement.controller;
+
+import com.github.theoydr.eventmanagement.dto.EventLedgerResponse;
+import com.github.theoydr.eventmanagement.service.BookingLedgerService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/ledger")
+@ConditionalOnBooleanProperty("app.ledger.enabled")
+public class LedgerController implements LedgerApi {
+
+    private final BookingLedgerService ledgerService;
+
+    public LedgerController(BookingLedgerService ledgerService) {
+        this.ledgerService = ledgerService;
+    }
+
+    @Override
+    @GetMapping("/events/{eventId}")
+    public ResponseEntity<EventLedgerResponse> getEventLedger(@PathVariable Long eventId) {
+        return ResponseEntity.ok(ledgerService.getEventLedger(eventId));
+    }
+}
@@ -0,0 +1,31 @@
+package com.github.theoydr.eventmanagement.controller;
+
+import com.github.theoydr.eventmanagement.dto.OrganizerDashboardResponse;
+import com.github.theoydr.eventmanagement.exception.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@Tag(name = "Organizers API", description = "Endpoints for organizer overviews")
+public interface OrganizerApi {
+
+    @Operation(summary = "Get an organizer's dashboard",
+            description = "Retrieves the organizer's events with tickets sold, the revenue breakdown per event and the upcoming event starts.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully assembled the dashboard",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = OrganizerDashboardResponse.class))),
+            @ApiResponse(responseCode = "403", description = "Operation not allowed (e.g. role is not ORGANIZER)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Organizer not found with the given ID",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "The dashboard could not be assembled within its deadline",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<OrganizerDashboardResponse> getDashboard(@Parameter(description = "The ID of the organizer", required = true) @PathVariable Long organizerId);
+}
@@ -0,0 +1,23 @@
+package com.github.theoydr.eventmanagement.controller;
+
+import com.github.theoydr.eventmanagement.dto.OrganizerDashboardResponse;
+import com.github.theoydr.eventmanagement.service.OrganizerDashboardService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/organizers")
+public class OrganizerController implements OrganizerApi {
+
+    private final OrganizerDashboardService dashboardService;
+
+    public OrganizerController(OrganizerDashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+    }
+
+    @Override
+    @GetMapping("/{organizerId}/dashboard")
+    public ResponseEntity<OrganizerDashboardResponse> getDashboard(@PathVariable Long organizerId) {
+        return ResponseEntity.ok(dashboardService.getDashboard(organizerId));
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.theoydr.eventmanagement.controller;
+
+import com.github.theoydr.eventmanagement.dto.RevenueReportRow;
+import com.github.theoydr.eventmanagement.dto.SalesVelocityResponse;
+import com.github.theoydr.eventmanagement.enums.ReportGrouping;
+import com.github.theoydr.eventmanagement.exception.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Tag(name = "Reports API", description = "Endpoints for booking analytics. Reports trail the database by a few seconds.")
+public interface ReportApi {
+
+    @Operation(summary = "Get a revenue report",
+            description = "Aggregates the confirmed bookings made within [from, to) by event category or by event.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully computed the report",
+                    content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = RevenueReportRow.class)))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters (e.g. 'from' is not before 'to')",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "The analytics data is still loading",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<List<RevenueReportRow>> getRevenueReport(
+            @Parameter(description = "The attribute to group by") @RequestParam ReportGrouping groupBy,
+            @Parameter(description = "The inclusive start of the booking time range (ISO-8601)", required = true) @RequestParam LocalDateTime from,
+            @Parameter(description = "The exclusive end of the booking time range (ISO-8601)", required = true) @RequestParam LocalDateTime to);
+
+    @Operation(summary = "Get a sales velocity report",
+            description = "Buckets the confirmed bookings made within [from, to) by booking time, optionally for a single event.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully computed the report",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = SalesVelocityResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid parameters (e.g. too many buckets)",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class))),
+            @ApiResponse(responseCode = "503", description = "The analytics data is still loading",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<SalesVelocityResponse> getSalesVelocity(
+            @Parameter(description = "Restricts the report to a single event") @RequestParam Long eventId,
+            @Parameter(description = "The inclusive start of the booking time range (ISO-8601)", required = true) @RequestParam LocalDateTime from,
+            @Parameter(description = "The exclusive end of the booking time range (ISO-8601)", required = true) @RequestParam LocalDateTime to,
+            @Parameter(description = "The bucket width as an ISO-8601 duration, e.g. PT1H") @RequestParam Duration bucket);
+}
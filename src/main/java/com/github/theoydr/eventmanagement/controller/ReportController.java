@@ -0,0 +1,43 @@
+package com.github.theoydr.eventmanagement.controller;
+
+import com.github.theoydr.eventmanagement.dto.RevenueReportRow;
+import com.github.theoydr.eventmanagement.dto.SalesVelocityResponse;
+import com.github.theoydr.eventmanagement.enums.ReportGrouping;
+import com.github.theoydr.eventmanagement.service.BookingAnalyticsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/reports")
+public class ReportController implements ReportApi {
+
+    private final BookingAnalyticsService analyticsService;
+
+    public ReportController(BookingAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+    }
+
+    @Override
+    @GetMapping("/revenue")
+    public ResponseEntity<List<RevenueReportRow>> getRevenueReport(
+            @RequestParam(defaultValue = "CATEGORY") ReportGrouping groupBy,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(analyticsService.getRevenueReport(groupBy, from, to));
+    }
+
+    @Override
+    @GetMapping("/sales-velocity")
+    public ResponseEntity<SalesVelocityResponse> getSalesVelocity(
+            @RequestParam(required = false) Long eventId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "PT1H") Duration bucket) {
+        return ResponseEntity.ok(analyticsService.getSalesVelocity(eventId, from, to, bucket));
+    }
+}
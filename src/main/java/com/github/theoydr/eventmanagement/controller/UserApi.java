@@ -1,5 +1,6 @@
 package com.github.theoydr.eventmanagement.controller;
 
+import com.github.theoydr.eventmanagement.dto.UserImportResult;
 import com.github.theoydr.eventmanagement.dto.UserRegistrationRequest;
 import com.github.theoydr.eventmanagement.dto.UserResponse;
 import com.github.theoydr.eventmanagement.exception.ApiErrorResponse;
@@ -10,13 +11,16 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.List;
 
-@Tag(name = "Users API", description = "Endpoints for managing users")
+@Tag(name = "Users API", description = "Endpoints for managing users. Responses are JSON unless the Accept header asks for application/cbor or application/x-jackson-smile")
 public interface UserApi {
 
     @Operation(summary = "Register a new user", description = "Creates a new user account.")
@@ -32,6 +36,21 @@ public interface UserApi {
     })
     ResponseEntity<UserResponse> registerUser(@Parameter(description = "Details of the user to register", required = true) @RequestBody UserRegistrationRequest registrationRequest);
 
+    @Operation(summary = "Import users in bulk",
+            description = "Registers many users at once with the same rules as single registration. The body is a JSON array "
+                    + "(application/json), one JSON object per line (application/x-ndjson) or CSV with a header row of "
+                    + "UserRegistrationRequest field names (text/csv; the role column is optional). Records are committed in batches; "
+                    + "rejected records are skipped. The response is a newline-delimited JSON result file with one CREATED or "
+                    + "REJECTED line per record, in upload order, and a STOPPED line if the upload could not be read to the end.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "The import ran; see the result file for the outcome of each record",
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = UserImportResult.class))),
+            @ApiResponse(responseCode = "415", description = "Unsupported content type",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ApiErrorResponse.class)))
+    })
+    ResponseEntity<StreamingResponseBody> importUsers(@Parameter(hidden = true) MediaType contentType,
+                                                      @Parameter(hidden = true) InputStream body);
+
     @Operation(summary = "Get a user by their ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Successfully retrieved the user",
@@ -1,16 +1,27 @@
 package com.github.theoydr.eventmanagement.controller;
 
+import com.github.theoydr.eventmanagement.dto.UserImportResult;
 import com.github.theoydr.eventmanagement.dto.UserRegistrationRequest;
 import com.github.theoydr.eventmanagement.dto.UserResponse;
+import com.github.theoydr.eventmanagement.enums.ImportFormat;
 import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
 import com.github.theoydr.eventmanagement.mapper.UserMapper;
 import com.github.theoydr.eventmanagement.model.User;
+import com.github.theoydr.eventmanagement.service.UserImportService;
 import com.github.theoydr.eventmanagement.service.UserService;
 import jakarta.validation.Valid;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.json.JsonMapper;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -20,10 +31,14 @@ public class UserController implements UserApi {
 
     private final UserService userService;
     private final UserMapper userMapper;
+    private final UserImportService userImportService;
+    private final JsonMapper jsonMapper;
 
-    public UserController(UserService userService, UserMapper userMapper) {
+    public UserController(UserService userService, UserMapper userMapper, UserImportService userImportService, JsonMapper jsonMapper) {
         this.userService = userService;
         this.userMapper = userMapper;
+        this.userImportService = userImportService;
+        this.jsonMapper = jsonMapper;
     }
 
     @PostMapping("/register")
@@ -33,6 +48,34 @@ public class UserController implements UserApi {
         return new ResponseEntity<>(userResponse, HttpStatus.CREATED);
     }
 
+    @Override
+    @PostMapping(value = "/import",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"},
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> importUsers(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                             InputStream body) {
+        ImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType) ? ImportFormat.NDJSON
+                : MediaType.APPLICATION_JSON.isCompatibleWith(contentType) ? ImportFormat.JSON
+                : ImportFormat.CSV;
+
+        StreamingResponseBody stream = output -> userImportService.importUsers(format, body, results -> {
+            try {
+                for (UserImportResult result : results) {
+                    output.write(jsonMapper.writeValueAsBytes(result));
+                    output.write('\n');
+                }
+                output.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename("user-import-results.ndjson").build().toString())
+                .body(stream);
+    }
+
     @GetMapping
     public List<UserResponse> getAllUsers() {
         return userService.findAllUsers().stream()
@@ -0,0 +1,168 @@
+package com.github.theoydr.eventmanagement.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps the number of connections the application holds at once with a fair semaphore in front of the pool.
+ *
+ * With virtual threads there is no request thread pool left to bound the load, so any number of requests can reach
+ * the connection pool at the same time. The semaphore keeps them in a cheap FIFO queue instead, and sheds load early:
+ * a caller is rejected at once when {@code maxQueued} callers are already waiting, or after {@code acquireTimeout}.
+ * Rejections are {@link SQLTransientConnectionException}s, like a pool timeout.
+ *
+ * The permit is held from {@link #getConnection()} until the connection is closed.
+ *
+ * Nested acquisition is not supported: a thread that opens a second connection while holding one needs a second
+ * permit, and when every permit is held by threads doing so, all of them wait until {@code acquireTimeout} and fail.
+ * Work that needs its own transaction while another is still open (e.g. {@code REQUIRES_NEW} or
+ * {@code AFTER_COMPLETION} listeners) has to run on another thread.
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final int maxConcurrency;
+    private final int maxQueued;
+    private final Duration acquireTimeout;
+    private final Semaphore permits;
+    private final AtomicLong rejected = new AtomicLong();
+
+    public ConcurrencyLimitingDataSource(DataSource target, int maxConcurrency, int maxQueued, Duration acquireTimeout) {
+        super(target);
+        this.maxConcurrency = maxConcurrency;
+        this.maxQueued = maxQueued;
+        this.acquireTimeout = acquireTimeout;
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return limited(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return limited(() -> super.getConnection(username, password));
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getActive() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (permits.getQueueLength() >= maxQueued) {
+            rejected.incrementAndGet();
+            throw new SQLTransientConnectionException("Database concurrency limit reached: " + maxConcurrency
+                    + " connections in use and " + maxQueued + " callers already waiting");
+        }
+        try {
+            if (permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database permit", e);
+        }
+        rejected.incrementAndGet();
+        throw new SQLTransientConnectionException("Database concurrency limit reached: no connection became free within "
+                + acquireTimeout.toMillis() + " ms");
+    }
+
+    private Connection limited(ConnectionSource source) throws SQLException {
+        Connection connection;
+        try {
+            connection = source.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        return (Connection) Proxy.newProxyInstance(ConcurrencyLimitingDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new PermitReleasingHandler(connection));
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * Releases the permit exactly once, on the first {@code close()}.
+     */
+    private final class PermitReleasingHandler implements InvocationHandler {
+
+        private final Connection target;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private PermitReleasingHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "unwrap" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                }
+                case "isWrapperFor" -> {
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return true;
+                    }
+                }
+                case "close" -> {
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                    return null;
+                }
+                default -> {
+                }
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
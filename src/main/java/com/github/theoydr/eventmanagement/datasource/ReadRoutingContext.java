@@ -0,0 +1,37 @@
+package com.github.theoydr.eventmanagement.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Lets the current read-only transaction opt out of replica routing, e.g. to read data it has just written.
+ * The pin is bound to the transaction and released when it completes.
+ */
+public final class ReadRoutingContext {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private ReadRoutingContext() {}
+
+    /**
+     * Routes the rest of the current transaction to the primary. Has no effect outside a transaction,
+     * where all connections come from the primary anyway.
+     * It must be called before the transaction issues its first statement.
+     */
+    public static void pinToPrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isPinnedToPrimary()) {
+            return;
+        }
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                PINNED_TO_PRIMARY.remove();
+            }
+        });
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+}
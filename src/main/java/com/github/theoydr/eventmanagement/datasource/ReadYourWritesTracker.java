@@ -0,0 +1,72 @@
+package com.github.theoydr.eventmanagement.datasource;
+
+import com.github.theoydr.eventmanagement.domain.BookingChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Gives the booking flows read-your-writes consistency on top of lagging replicas.
+ *
+ * Every committed booking change records its user, event and booking. For the configured window afterwards,
+ * reads about any of them are pinned to the primary; once the window has passed the replicas are assumed to
+ * have caught up. A zero window disables the tracking.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final ConcurrentMap<Key, Long> lastWrites = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    public ReadYourWritesTracker(@Value("${app.datasource.read-your-writes-window:PT5S}") Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    @TransactionalEventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        recordWrite("booking", event.bookingId());
+        recordWrite("user", event.userId());
+        recordWrite("event", event.eventId());
+    }
+
+    /**
+     * Records that the given resource has just been written.
+     *
+     * @param resourceType The resource type, e.g. "user" or "event".
+     * @param id The ID of the resource.
+     */
+    public void recordWrite(String resourceType, long id) {
+        if (windowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (lastWrites.size() >= MAX_ENTRIES) {
+            lastWrites.values().removeIf(writtenAt -> now - writtenAt >= windowNanos);
+        }
+        lastWrites.put(new Key(resourceType, id), now);
+    }
+
+    /**
+     * Pins the current read-only transaction to the primary if the resource was written within the window.
+     *
+     * @param resourceType The resource type, e.g. "user" or "event".
+     * @param id The ID of the resource.
+     */
+    public void pinIfRecentlyWritten(String resourceType, long id) {
+        if (windowNanos <= 0) {
+            return;
+        }
+        Long writtenAt = lastWrites.get(new Key(resourceType, id));
+        if (writtenAt != null && System.nanoTime() - writtenAt < windowNanos) {
+            ReadRoutingContext.pinToPrimary();
+        }
+    }
+
+    private record Key(String resourceType, long id) {}
+}
@@ -0,0 +1,129 @@
+package com.github.theoydr.eventmanagement.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out connections for read-only transactions.
+ *
+ * Connections are taken round-robin from the healthy replicas. A replica that fails to hand out a connection
+ * is marked down and skipped until a later {@link #checkHealth() health check} succeeds again. When no replica
+ * is healthy, or the transaction is {@link ReadRoutingContext#pinToPrimary() pinned}, the primary is used.
+ */
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaDataSource(DataSource primary, List<Replica> replicas, int validationTimeoutSeconds) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (ReadRoutingContext.isPinnedToPrimary() || replicas.isEmpty()) {
+            return primary.getConnection();
+        }
+
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.isHealthy()) {
+                continue;
+            }
+            try {
+                return replica.dataSource().getConnection();
+            } catch (SQLException ex) {
+                markDown(replica, ex);
+            }
+        }
+
+        log.debug("No healthy read replica available, reading from the primary");
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Replica connections use the configured credentials");
+    }
+
+    /**
+     * Validates a connection of every replica and updates its health accordingly.
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource().getConnection()) {
+                healthy = connection.isValid(validationTimeoutSeconds);
+            } catch (SQLException ex) {
+                healthy = false;
+            }
+            if (healthy && !replica.isHealthy()) {
+                log.info("Read replica '{}' is healthy again", replica.name());
+            } else if (!healthy && replica.isHealthy()) {
+                log.warn("Read replica '{}' failed its health check and is taken out of rotation", replica.name());
+            }
+            replica.setHealthy(healthy);
+        }
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * Closes the replica pools. The primary is owned by the caller.
+     */
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void markDown(Replica replica, SQLException ex) {
+        if (replica.isHealthy()) {
+            log.warn("Read replica '{}' is taken out of rotation: {}", replica.name(), ex.getMessage());
+        }
+        replica.setHealthy(false);
+    }
+
+    /**
+     * A named replica and its last known health.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        public Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() { return name; }
+
+        public DataSource dataSource() { return dataSource; }
+
+        public boolean isHealthy() { return healthy; }
+
+        void setHealthy(boolean healthy) { this.healthy = healthy; }
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.theoydr.eventmanagement.datasource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically re-validates the read replicas so that failed ones come back into rotation.
+ * Does nothing when replica routing is not configured.
+ */
+@Component
+public class ReplicaHealthMonitor {
+
+    private final ObjectProvider<ReplicaDataSource> replicaDataSource;
+
+    public ReplicaHealthMonitor(ObjectProvider<ReplicaDataSource> replicaDataSource) {
+        this.replicaDataSource = replicaDataSource;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica-health-interval:PT5S}")
+    public void checkReplicas() {
+        replicaDataSource.ifAvailable(ReplicaDataSource::checkHealth);
+    }
+}
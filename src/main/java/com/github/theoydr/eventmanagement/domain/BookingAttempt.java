@@ -0,0 +1,39 @@
+package com.github.theoydr.eventmanagement.domain;
+
+import com.github.theoydr.eventmanagement.model.Booking;
+
+/**
+ * One booking request of a group that is validated and committed together.
+ */
+public record BookingAttempt(
+        Long userId,
+        Long eventId,
+        Integer numberOfTickets
+) {
+
+    /**
+     * The individual outcome of an attempt: either the created booking or the exception that
+     * {@code createBooking} would have thrown for it.
+     */
+    public record Result(Booking booking, RuntimeException failure) {
+
+        public static Result created(Booking booking) {
+            return new Result(booking, null);
+        }
+
+        public static Result failed(RuntimeException failure) {
+            return new Result(null, failure);
+        }
+
+        /**
+         * @return The created booking.
+         * @throws RuntimeException the failure of the attempt, as thrown by {@code createBooking}.
+         */
+        public Booking getOrThrow() {
+            if (failure != null) {
+                throw failure;
+            }
+            return booking;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.theoydr.eventmanagement.domain;
+
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+
+import java.time.Instant;
+
+/**
+ * Published whenever a booking is created or changes status.
+ * A {@link BookingStatus#CONFIRMED} status means the booking was created, {@link BookingStatus#CANCELLED} that it was cancelled.
+ *
+ * It is published inside the booking transaction: synchronous listeners take part in that transaction,
+ * while {@code @TransactionalEventListener}s only see it once the booking has been committed.
+ */
+public record BookingChangedEvent(
+        Long bookingId,
+        Long eventId,
+        Long userId,
+        int numberOfTickets,
+        BookingStatus status,
+        Instant occurredAt
+) {}
@@ -0,0 +1,53 @@
+package com.github.theoydr.eventmanagement.domain;
+
+import com.github.theoydr.eventmanagement.enums.BookingFailureReason;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+
+import java.time.Instant;
+
+/**
+ * A booking request accepted for asynchronous processing, and its outcome once processed.
+ *
+ * The outcome reuses the booking vocabulary: {@code PENDING} while queued, {@code CONFIRMED} with the
+ * {@code bookingId} once booked, or {@code CANCELLED} if the booking could not be made. A cancelled intent
+ * carries the {@link BookingFailureReason} when a booking rule rejected it, and always a {@code message}.
+ * It is {@code retryable} when it failed because the database was temporarily unavailable rather than
+ * rejected, so submitting it again may succeed.
+ */
+public record BookingIntent(
+        String id,
+        Long userId,
+        Long eventId,
+        int numberOfTickets,
+        BookingStatus status,
+        BookingFailureReason failureReason,
+        String message,
+        boolean retryable,
+        Long bookingId,
+        Instant submittedAt,
+        Instant completedAt
+) {
+
+    public static BookingIntent pending(String id, Long userId, Long eventId, int numberOfTickets, Instant submittedAt) {
+        return new BookingIntent(id, userId, eventId, numberOfTickets, BookingStatus.PENDING, null, null, false, null, submittedAt, null);
+    }
+
+    public BookingIntent confirmed(Long bookingId, Instant completedAt) {
+        return new BookingIntent(id, userId, eventId, numberOfTickets, BookingStatus.CONFIRMED, null, null, false, bookingId,
+                submittedAt, completedAt);
+    }
+
+    public BookingIntent rejected(BookingFailureReason reason, String message, Instant completedAt) {
+        return new BookingIntent(id, userId, eventId, numberOfTickets, BookingStatus.CANCELLED, reason, message, false, null,
+                submittedAt, completedAt);
+    }
+
+    public BookingIntent failed(String message, Instant completedAt) {
+        return new BookingIntent(id, userId, eventId, numberOfTickets, BookingStatus.CANCELLED, null, message, true, null,
+                submittedAt, completedAt);
+    }
+
+    public boolean isPending() {
+        return status == BookingStatus.PENDING;
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.theoydr.eventmanagement.domain;
+
+import com.github.theoydr.eventmanagement.enums.BookingFailureReason;
+
+import java.time.Instant;
+
+/**
+ * Published when a booking is turned away because the event does not have enough tickets left.
+ *
+ * A single booking's transaction is rolled back afterwards, while a group of bookings committed together
+ * ({@code BookingService#createBookings}) commits with the rejection inside it. Listeners should therefore use
+ * {@code @TransactionalEventListener(phase = AFTER_COMPLETION)} to see it in both cases.
+ */
+public record BookingRejectedEvent(
+        Long eventId,
+        Long userId,
+        int numberOfTickets,
+        BookingFailureReason reason,
+        Instant occurredAt
+) {}
@@ -0,0 +1,17 @@
+package com.github.theoydr.eventmanagement.domain;
+
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+
+import java.time.Instant;
+
+/**
+ * Published whenever an event is published or cancelled; {@code status} is the new status.
+ *
+ * Like {@link BookingChangedEvent} it is published inside the event's transaction.
+ */
+public record EventChangedEvent(
+        Long eventId,
+        Long organizerId,
+        EventStatus status,
+        Instant occurredAt
+) {}
@@ -0,0 +1,18 @@
+package com.github.theoydr.eventmanagement.dto;
+
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents an archived booking. Users are referenced by id only.
+ */
+public record ArchivedBookingResponse(
+        Long id,
+        Long eventId,
+        Long userId,
+        Integer numberOfTickets,
+        LocalDateTime bookingDateTime,
+        BookingStatus status,
+        LocalDateTime archivedAt
+) {}
@@ -0,0 +1,27 @@
+package com.github.theoydr.eventmanagement.dto;
+
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents an archived event with its final attendance counters.
+ */
+public record ArchivedEventResponse(
+        Long id,
+        String title,
+        String description,
+        String location,
+        LocalDateTime startDateTime,
+        LocalDateTime endDateTime,
+        Integer capacity,
+        Double ticketPrice,
+        EventCategory category,
+        EventStatus status,
+        Long organizerId,
+        Integer ticketsSold,
+        Integer bookingCount,
+        Integer cancellationCount,
+        LocalDateTime archivedAt
+) {}
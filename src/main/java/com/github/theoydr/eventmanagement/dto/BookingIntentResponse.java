@@ -0,0 +1,28 @@
+package com.github.theoydr.eventmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.github.theoydr.eventmanagement.enums.BookingFailureReason;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+
+import java.time.Instant;
+
+/**
+ * The state of an asynchronously submitted booking.
+ * {@code status} is PENDING until processed, then CONFIRMED (with {@code bookingId}) or CANCELLED
+ * (with {@code failureReason} if a booking rule rejected it, and {@code message}). A CANCELLED intent with
+ * {@code retryable} failed on a temporary outage and may succeed if submitted again.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record BookingIntentResponse(
+        String intentId,
+        Long userId,
+        Long eventId,
+        Integer numberOfTickets,
+        BookingStatus status,
+        BookingFailureReason failureReason,
+        String message,
+        boolean retryable,
+        Long bookingId,
+        Instant submittedAt,
+        Instant completedAt
+) {}
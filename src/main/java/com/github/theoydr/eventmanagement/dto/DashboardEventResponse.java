@@ -0,0 +1,19 @@
+package com.github.theoydr.eventmanagement.dto;
+
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents an event as shown on an organizer's dashboard, together with its sales.
+ */
+public record DashboardEventResponse(
+        Long id,
+        String title,
+        EventCategory category,
+        EventStatus status,
+        LocalDateTime startDateTime,
+        Integer capacity,
+        Integer ticketsSold
+) {}
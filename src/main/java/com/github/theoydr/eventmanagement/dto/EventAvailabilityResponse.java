@@ -0,0 +1,14 @@
+package com.github.theoydr.eventmanagement.dto;
+
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+
+/**
+ * The live availability of an event, as pushed to availability stream subscribers.
+ */
+public record EventAvailabilityResponse(
+        Long eventId,
+        EventStatus status,
+        Integer capacity,
+        Integer ticketsSold,
+        Integer remainingCapacity
+) {}
@@ -0,0 +1,36 @@
+package com.github.theoydr.eventmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of the newline-delimited JSON stream returned by an event import.
+ *
+ * <ul>
+ *   <li>{@code ERROR}: the record {@code row} was not imported, see {@code message}.</li>
+ *   <li>{@code PROGRESS}: sent after every committed batch with the running totals.</li>
+ *   <li>{@code SUMMARY}: the last line, with the final totals; {@code message} is set if the import was stopped early.</li>
+ * </ul>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record EventImportUpdate(
+        String type,
+        Long row,
+        String message,
+        Long processed,
+        Long imported,
+        Long failed,
+        Long durationMillis
+) {
+
+    public static EventImportUpdate error(long row, String message) {
+        return new EventImportUpdate("ERROR", row, message, null, null, null, null);
+    }
+
+    public static EventImportUpdate progress(long processed, long imported, long failed) {
+        return new EventImportUpdate("PROGRESS", null, null, processed, imported, failed, null);
+    }
+
+    public static EventImportUpdate summary(long processed, long imported, long failed, long durationMillis, String message) {
+        return new EventImportUpdate("SUMMARY", null, message, processed, imported, failed, durationMillis);
+    }
+}
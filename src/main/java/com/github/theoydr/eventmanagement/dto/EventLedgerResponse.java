@@ -0,0 +1,17 @@
+package com.github.theoydr.eventmanagement.dto;
+
+import java.util.List;
+
+/**
+ * The booking ledger projection of an event.
+ *
+ * @param asOfSequence The last ledger entry reflected in this response.
+ */
+public record EventLedgerResponse(
+        Long eventId,
+        int ticketsSold,
+        int cancellations,
+        List<Long> attendeeUserIds,
+        List<Long> waitlistUserIds,
+        long asOfSequence
+) {}
@@ -1,5 +1,6 @@
 package com.github.theoydr.eventmanagement.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.github.theoydr.eventmanagement.enums.EventCategory;
 import com.github.theoydr.eventmanagement.enums.EventStatus;
 
@@ -19,5 +20,7 @@ public record EventResponse(
         Double ticketPrice,
         EventCategory category,
         EventStatus status,
-        OrganizerResponse organizer
+        OrganizerResponse organizer,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        EventStatsResponse stats
 ) {}
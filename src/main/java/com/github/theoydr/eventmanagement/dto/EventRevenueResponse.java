@@ -0,0 +1,13 @@
+package com.github.theoydr.eventmanagement.dto;
+
+/**
+ * Represents the revenue breakdown of a single event.
+ * The potential revenue is capacity × ticket price; the earned revenue is tickets sold × ticket price.
+ */
+public record EventRevenueResponse(
+        Long eventId,
+        Integer capacity,
+        Double ticketPrice,
+        Double potentialRevenue,
+        Double earnedRevenue
+) {}
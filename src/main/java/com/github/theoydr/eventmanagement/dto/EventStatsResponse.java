@@ -0,0 +1,11 @@
+package com.github.theoydr.eventmanagement.dto;
+
+/**
+ * Represents the attendance figures of an event.
+ */
+public record EventStatsResponse(
+        Integer ticketsSold,
+        Integer remainingCapacity,
+        Integer bookingCount,
+        Integer cancellationCount
+) {}
@@ -0,0 +1,16 @@
+package com.github.theoydr.eventmanagement.dto;
+
+import java.util.List;
+
+/**
+ * Represents the aggregated dashboard of an organizer: their events with tickets sold,
+ * the revenue breakdown per event and the next upcoming event starts.
+ */
+public record OrganizerDashboardResponse(
+        Long organizerId,
+        List<DashboardEventResponse> events,
+        List<EventRevenueResponse> revenue,
+        Double totalPotentialRevenue,
+        Double totalEarnedRevenue,
+        List<DashboardEventResponse> upcoming
+) {}
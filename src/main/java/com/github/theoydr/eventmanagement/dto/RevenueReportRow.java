@@ -0,0 +1,12 @@
+package com.github.theoydr.eventmanagement.dto;
+
+/**
+ * Represents one group of a revenue report, e.g. a single category or a single event.
+ * Only CONFIRMED bookings are counted.
+ */
+public record RevenueReportRow(
+        String group,
+        Long bookings,
+        Long ticketsSold,
+        Double revenue
+) {}
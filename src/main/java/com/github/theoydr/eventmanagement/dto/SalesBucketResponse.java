@@ -0,0 +1,13 @@
+package com.github.theoydr.eventmanagement.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Represents the bookings made within one time bucket of a sales velocity report.
+ */
+public record SalesBucketResponse(
+        LocalDateTime bucketStart,
+        Long bookings,
+        Long ticketsSold,
+        Double revenue
+) {}
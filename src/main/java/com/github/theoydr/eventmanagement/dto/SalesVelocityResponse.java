@@ -0,0 +1,17 @@
+package com.github.theoydr.eventmanagement.dto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Represents the ticket sales over time, bucketed by booking time.
+ * The event id is null when the report covers all events.
+ */
+public record SalesVelocityResponse(
+        Long eventId,
+        LocalDateTime from,
+        LocalDateTime to,
+        Duration bucket,
+        List<SalesBucketResponse> buckets
+) {}
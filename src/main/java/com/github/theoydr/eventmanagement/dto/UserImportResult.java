@@ -0,0 +1,34 @@
+package com.github.theoydr.eventmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * One line of the newline-delimited JSON result file of a user import.
+ *
+ * <ul>
+ *   <li>{@code CREATED}: the record {@code row} was registered as user {@code userId}.</li>
+ *   <li>{@code REJECTED}: the record {@code row} was not registered, see {@code message}.</li>
+ *   <li>{@code STOPPED}: the last line if the upload could not be read to the end; later records were not processed.</li>
+ * </ul>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record UserImportResult(
+        String status,
+        Long row,
+        String email,
+        Long userId,
+        String message
+) {
+
+    public static UserImportResult created(long row, String email, long userId) {
+        return new UserImportResult("CREATED", row, email, userId, null);
+    }
+
+    public static UserImportResult rejected(long row, String email, String message) {
+        return new UserImportResult("REJECTED", row, email, null, message);
+    }
+
+    public static UserImportResult stopped(String message) {
+        return new UserImportResult("STOPPED", null, null, null, message);
+    }
+}
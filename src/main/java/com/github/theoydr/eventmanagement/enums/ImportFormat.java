@@ -0,0 +1,7 @@
+package com.github.theoydr.eventmanagement.enums;
+
+public enum ImportFormat {
+    JSON,    // A JSON array of objects
+    NDJSON,  // One JSON object per line
+    CSV      // A header row followed by one row per record
+}
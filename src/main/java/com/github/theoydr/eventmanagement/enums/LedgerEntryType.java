@@ -0,0 +1,7 @@
+package com.github.theoydr.eventmanagement.enums;
+
+public enum LedgerEntryType {
+    PLACED,
+    CANCELLED,
+    REJECTED
+}
@@ -0,0 +1,6 @@
+package com.github.theoydr.eventmanagement.enums;
+
+public enum ReportGrouping {
+    CATEGORY,
+    EVENT
+}
@@ -0,0 +1,52 @@
+package com.github.theoydr.eventmanagement.enums;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * The encodings the API can respond with. JSON is the default; CBOR and Smile are compact binary
+ * encodings of the same documents for high-volume internal consumers.
+ */
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Picks the format for an Accept header, honouring quality values. Wildcards, a missing or malformed header
+     * and headers that accept none of the formats all resolve to JSON.
+     *
+     * @param accept The value of the Accept header, or null.
+     * @return The format to respond with.
+     */
+    public static WireFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+        return accepted.stream()
+                .filter(mediaType -> mediaType.getQualityValue() > 0)
+                .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                .flatMap(mediaType -> List.of(values()).stream().filter(format -> mediaType.includes(format.mediaType)).limit(1))
+                .findFirst()
+                .orElse(JSON);
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.context.MessageSource;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -199,6 +200,42 @@ public class GlobalExceptionHandler {
     }
 
 
+    /**
+     * Handles requests that cannot be served right now (e.g. a deadline was exceeded or a queue is full).
+     *
+     * @param ex The ServiceUnavailableException that was thrown.
+     * @return A ResponseEntity with a 503 Service Unavailable status.
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ApiErrorResponse> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        return buildGeneralErrorResponse(ex.getArguments(), MessageKeys.Error.SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE, "Service unavailable");
+    }
+
+    /**
+     * Handles transactions that could not get a database connection in time (pool timeout or the
+     * database concurrency limit). The database is busy rather than broken, so the client may retry.
+     *
+     * @param ex The CannotCreateTransactionException that was thrown.
+     * @return A ResponseEntity with a 503 Service Unavailable status.
+     */
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ApiErrorResponse> handleCannotCreateTransactionException(CannotCreateTransactionException ex) {
+        log.warn("Could not open a transaction: {}", ex.getMostSpecificCause().getMessage());
+        return handleServiceUnavailableException(new ServiceUnavailableException("The database is busy, please retry"));
+    }
+
+    /**
+     * Handles well-formed requests whose parameters cannot be served as given (e.g. an empty report range).
+     *
+     * @param ex The InvalidRequestException that was thrown.
+     * @return A ResponseEntity with a 400 Bad Request status.
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ApiErrorResponse> handleInvalidRequestException(InvalidRequestException ex) {
+        return buildGeneralErrorResponse(ex.getArguments(), MessageKeys.Error.INVALID_REQUEST, HttpStatus.BAD_REQUEST, "Invalid request");
+    }
+
+
     /**
      * A centralized helper method to build error responses for general business exceptions.
      */
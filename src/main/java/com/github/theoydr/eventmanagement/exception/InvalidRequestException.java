@@ -0,0 +1,28 @@
+package com.github.theoydr.eventmanagement.exception;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when request parameters are well-formed but cannot be served as given,
+ * e.g. an empty time range or a report that would produce too many buckets.
+ *
+ * Responds with HTTP 400 Bad Request.
+ */
+public class InvalidRequestException extends RuntimeException implements StructuredError {
+
+    private final String reason;
+
+    public InvalidRequestException(String reason) {
+        super(reason);
+        this.reason = reason;
+    }
+
+    @Override
+    public Map<String, Object> getArguments() {
+        return Map.of("reason", reason);
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,28 @@
+package com.github.theoydr.eventmanagement.exception;
+
+import java.util.Map;
+
+/**
+ * Exception thrown when a request cannot be served right now, e.g. because a deadline
+ * was exceeded or a bounded resource is exhausted. The client may retry later.
+ *
+ * Responds with HTTP 503 Service Unavailable.
+ */
+public class ServiceUnavailableException extends RuntimeException implements StructuredError {
+
+    private final String reason;
+
+    public ServiceUnavailableException(String reason) {
+        super(reason);
+        this.reason = reason;
+    }
+
+    @Override
+    public Map<String, Object> getArguments() {
+        return Map.of("reason", reason);
+    }
+
+    public String getReason() {
+        return reason;
+    }
+}
@@ -0,0 +1,182 @@
+package com.github.theoydr.eventmanagement.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Streams requests from CSV (RFC 4180: comma separated, fields optionally enclosed in double quotes, quotes
+ * inside quoted fields doubled, quoted fields may span lines).
+ *
+ * The first row is a header naming the columns, in any order and case; extra columns are ignored and optional
+ * columns may be left out.
+ * Empty cells are read as null and left to validation. A cell that cannot be converted fails only its record.
+ */
+public class CsvImportReader<T> implements ImportReader<T> {
+
+    /**
+     * Converts the cells of one record into a request.
+     */
+    @FunctionalInterface
+    public interface RecordMapper<T> {
+        T map(CsvRecord record);
+    }
+
+    private final BufferedReader reader;
+    private final List<String> requiredColumns;
+    private final RecordMapper<T> mapper;
+    private Map<String, Integer> columnIndexes;
+    private long row;
+
+    /**
+     * @param requiredColumns The columns the header must contain.
+     */
+    public CsvImportReader(Reader reader, List<String> requiredColumns, RecordMapper<T> mapper) {
+        this.reader = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 1 << 16);
+        this.requiredColumns = requiredColumns;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public ImportRow<T> next() throws IOException {
+        if (columnIndexes == null) {
+            readHeader();
+        }
+        List<String> cells;
+        do {
+            cells = readRecord();
+            if (cells == null) {
+                return null;
+            }
+        } while (cells.size() == 1 && cells.getFirst().isEmpty()); // Blank line
+
+        row++;
+        try {
+            return ImportRow.parsed(row, mapper.map(new CsvRecord(cells)));
+        } catch (CellException e) {
+            return ImportRow.failed(row, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private void readHeader() throws IOException {
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IOException("The CSV upload is empty; expected a header row");
+        }
+        columnIndexes = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columnIndexes.putIfAbsent(header.get(i).strip().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = requiredColumns.stream()
+                .filter(column -> !columnIndexes.containsKey(column.toLowerCase(Locale.ROOT)))
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new IOException("The CSV header is missing the columns " + missing);
+        }
+    }
+
+    /**
+     * @return The cells of the next record, or null at the end of the input.
+     */
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> cells = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            cell.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        cell.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else {
+                    cell.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            // A quoted field continues on the next line.
+            line = reader.readLine();
+            if (line == null) {
+                throw new IOException("Unterminated quoted field in CSV record " + (row + 1));
+            }
+            cell.append('\n');
+        }
+        cells.add(cell.toString());
+        return cells;
+    }
+
+    /**
+     * The cells of one record, looked up by column name.
+     */
+    public final class CsvRecord {
+
+        private final List<String> cells;
+
+        private CsvRecord(List<String> cells) {
+            this.cells = cells;
+        }
+
+        /**
+         * @return The stripped cell of the column, or null if it is empty or missing from the header or this record.
+         */
+        public String get(String column) {
+            Integer index = columnIndexes.get(column.toLowerCase(Locale.ROOT));
+            if (index == null || index >= cells.size()) {
+                return null;
+            }
+            String value = cells.get(index).strip();
+            return value.isEmpty() ? null : value;
+        }
+
+        /**
+         * @return The converted cell of the column, or null if it is empty. A conversion failure fails the record.
+         */
+        public <V> V get(String column, Function<String, V> parser) {
+            String value = get(column);
+            if (value == null) {
+                return null;
+            }
+            try {
+                return parser.apply(value);
+            } catch (DateTimeParseException | IllegalArgumentException e) {
+                throw new CellException("Invalid value '" + value + "' for " + column);
+            }
+        }
+    }
+
+    private static final class CellException extends RuntimeException {
+        CellException(String message) {
+            super(message);
+        }
+    }
+}
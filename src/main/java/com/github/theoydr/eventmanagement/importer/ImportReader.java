@@ -0,0 +1,23 @@
+package com.github.theoydr.eventmanagement.importer;
+
+import java.io.IOException;
+
+/**
+ * Reads the records of an upload one at a time, so that an import never holds more than a batch of records in memory.
+ *
+ * A record that cannot be converted is returned as a failed {@link ImportRow}; malformed input that makes the rest of
+ * the upload unreadable (e.g. broken JSON syntax) is thrown.
+ *
+ * @param <T> The request type a record is converted to.
+ */
+public interface ImportReader<T> extends AutoCloseable {
+
+    /**
+     * @return The next record, or null at the end of the input.
+     * @throws IOException if the input cannot be read or is malformed beyond the current record.
+     */
+    ImportRow<T> next() throws IOException;
+
+    @Override
+    void close() throws IOException;
+}
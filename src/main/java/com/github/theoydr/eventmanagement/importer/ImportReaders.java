@@ -0,0 +1,58 @@
+package com.github.theoydr.eventmanagement.importer;
+
+import com.github.theoydr.eventmanagement.dto.EventRequest;
+import com.github.theoydr.eventmanagement.dto.UserRegistrationRequest;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.ImportFormat;
+import com.github.theoydr.eventmanagement.enums.UserRole;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Opens the {@link ImportReader} for an upload. CSV headers use the field names of the request records.
+ */
+public final class ImportReaders {
+
+    static final List<String> EVENT_COLUMNS = List.of(
+            "title", "description", "location", "startDateTime", "endDateTime", "capacity", "ticketPrice", "category", "organizerId");
+
+    // The role column is optional, as in a registration request.
+    static final List<String> USER_COLUMNS = List.of("username", "email", "password");
+
+    private ImportReaders() {}
+
+    public static ImportReader<EventRequest> events(ImportFormat format, JsonMapper jsonMapper, InputStream input) {
+        return switch (format) {
+            case JSON, NDJSON -> new JsonImportReader<>(jsonMapper, input, EventRequest.class);
+            case CSV -> new CsvImportReader<>(new InputStreamReader(input, StandardCharsets.UTF_8), EVENT_COLUMNS,
+                    record -> new EventRequest(
+                            record.get("title"),
+                            record.get("description"),
+                            record.get("location"),
+                            record.get("startDateTime", LocalDateTime::parse),
+                            record.get("endDateTime", LocalDateTime::parse),
+                            record.get("capacity", Integer::valueOf),
+                            record.get("ticketPrice", Double::valueOf),
+                            record.get("category", value -> EventCategory.valueOf(value.toUpperCase(Locale.ROOT))),
+                            record.get("organizerId", Long::valueOf)));
+        };
+    }
+
+    public static ImportReader<UserRegistrationRequest> users(ImportFormat format, JsonMapper jsonMapper, InputStream input) {
+        return switch (format) {
+            case JSON, NDJSON -> new JsonImportReader<>(jsonMapper, input, UserRegistrationRequest.class);
+            case CSV -> new CsvImportReader<>(new InputStreamReader(input, StandardCharsets.UTF_8), USER_COLUMNS,
+                    record -> new UserRegistrationRequest(
+                            record.get("username"),
+                            record.get("email"),
+                            record.get("password"),
+                            record.get("role", value -> UserRole.valueOf(value.toUpperCase(Locale.ROOT)))));
+        };
+    }
+}
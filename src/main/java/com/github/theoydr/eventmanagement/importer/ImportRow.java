@@ -0,0 +1,17 @@
+package com.github.theoydr.eventmanagement.importer;
+
+/**
+ * One record of an import: either the parsed request or the reason it could not be parsed.
+ *
+ * @param row The 1-based number of the record in the upload (header rows are not counted).
+ */
+public record ImportRow<T>(long row, T request, String error) {
+
+    public static <T> ImportRow<T> parsed(long row, T request) {
+        return new ImportRow<>(row, request, null);
+    }
+
+    public static <T> ImportRow<T> failed(long row, String error) {
+        return new ImportRow<>(row, null, error);
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.theoydr.eventmanagement.importer;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Streams requests from a JSON array ({@code [{...}, {...}]}) or from newline-delimited JSON objects.
+ *
+ * Each record is first read as a tree and then converted, so a record with a bad value (e.g. an unknown category)
+ * fails on its own while the parser stays positioned at the next record.
+ */
+public class JsonImportReader<T> implements ImportReader<T> {
+
+    private final JsonMapper jsonMapper;
+    private final JsonParser parser;
+    private final Class<T> type;
+    private boolean started;
+    private boolean array;
+    private long row;
+
+    public JsonImportReader(JsonMapper jsonMapper, InputStream input, Class<T> type) {
+        this.jsonMapper = jsonMapper;
+        this.parser = jsonMapper.createParser(input);
+        this.type = type;
+    }
+
+    @Override
+    public ImportRow<T> next() throws IOException {
+        JsonToken token;
+        try {
+            token = parser.nextToken();
+            if (!started) {
+                started = true;
+                array = token == JsonToken.START_ARRAY;
+                if (array) {
+                    token = parser.nextToken();
+                }
+            }
+            if (token == null || (array && token == JsonToken.END_ARRAY)) {
+                return null;
+            }
+            row++;
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                return ImportRow.failed(row, "Expected a JSON object but found " + token);
+            }
+        } catch (JacksonException e) {
+            throw new IOException("Malformed JSON after record " + row + ": " + e.getOriginalMessage(), e);
+        }
+
+        JsonNode node;
+        try {
+            node = jsonMapper.readTree(parser);
+        } catch (JacksonException e) {
+            throw new IOException("Malformed JSON in record " + row + ": " + e.getOriginalMessage(), e);
+        }
+        try {
+            return ImportRow.parsed(row, jsonMapper.treeToValue(node, type));
+        } catch (JacksonException e) {
+            return ImportRow.failed(row, e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        parser.close();
+    }
+}
@@ -0,0 +1,231 @@
+package com.github.theoydr.eventmanagement.ledger;
+
+import com.github.theoydr.eventmanagement.enums.LedgerEntryType;
+import com.github.theoydr.eventmanagement.repository.LedgerFact;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory projections of the booking ledger, one per event: tickets sold, the attendees holding a confirmed
+ * booking and the waitlist of users that were turned away because the event was sold out.
+ *
+ * The projections are a pure function of the ledger entries applied in sequence order, so they can be rebuilt by
+ * replaying the ledger, or restored from a snapshot and brought up to date by replaying only the entries after it.
+ * Projections of events that are no longer needed (e.g. archived) can be evicted; they only come back if entries of
+ * the event are replayed again.
+ *
+ * Thread-safety: applying entries takes the write lock, reading a projection the read lock.
+ */
+public class BookingLedger {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, EventState> events = new HashMap<>();
+    private long lastSequence;
+
+    /**
+     * A read-only copy of the projection of one event.
+     *
+     * @param attendeeUserIds Users holding a confirmed booking, in booking order.
+     * @param waitlistUserIds Users turned away while the event was sold out and without a booking since, in order of arrival.
+     */
+    public record EventProjection(
+            long eventId,
+            int ticketsSold,
+            int cancellations,
+            List<Long> attendeeUserIds,
+            List<Long> waitlistUserIds,
+            long asOfSequence
+    ) {}
+
+    /**
+     * Applies entries in ascending sequence order. Entries at or below the last applied sequence are skipped.
+     */
+    public void apply(List<LedgerFact> facts) {
+        lock.writeLock().lock();
+        try {
+            for (LedgerFact fact : facts) {
+                apply(fact.seq(), fact.entryType(), fact.eventId(),
+                        fact.bookingId() != null ? fact.bookingId() : 0, fact.userId(), fact.tickets());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Applies a single entry. The caller must hold the write lock or own the ledger exclusively (e.g. while replaying
+     * into a ledger that is not published yet).
+     */
+    void apply(long seq, LedgerEntryType type, long eventId, long bookingId, long userId, int tickets) {
+        if (seq <= lastSequence) {
+            return;
+        }
+        EventState state = events.computeIfAbsent(eventId, id -> new EventState());
+        switch (type) {
+            case PLACED -> {
+                if (state.attendees.putIfAbsent(userId, new Attendee(bookingId, tickets)) == null) {
+                    state.ticketsSold += tickets;
+                    state.waitlist.remove(userId);
+                }
+            }
+            case CANCELLED -> {
+                Attendee attendee = state.attendees.remove(userId);
+                if (attendee != null) {
+                    state.ticketsSold -= attendee.tickets();
+                    state.cancellations++;
+                }
+            }
+            case REJECTED -> {
+                if (!state.attendees.containsKey(userId)) {
+                    state.waitlist.add(userId);
+                }
+            }
+        }
+        lastSequence = seq;
+    }
+
+    public Optional<EventProjection> projection(long eventId) {
+        lock.readLock().lock();
+        try {
+            EventState state = events.get(eventId);
+            if (state == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new EventProjection(eventId, state.ticketsSold, state.cancellations,
+                    List.copyOf(state.attendees.keySet()), List.copyOf(state.waitlist), lastSequence));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The sequence of the last applied entry, or 0 if none.
+     */
+    public long lastSequence() {
+        lock.readLock().lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The ids of the events that have a projection.
+     */
+    public Set<Long> eventIds() {
+        lock.readLock().lock();
+        try {
+            return Set.copyOf(events.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the projections of the given events.
+     *
+     * @return The number of projections dropped.
+     */
+    public int evict(Collection<Long> eventIds) {
+        lock.writeLock().lock();
+        try {
+            int evicted = 0;
+            for (Long eventId : eventIds) {
+                if (events.remove(eventId) != null) {
+                    evicted++;
+                }
+            }
+            return evicted;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int eventCount() {
+        lock.readLock().lock();
+        try {
+            return events.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the full state. The format is private to this class and versioned by {@link LedgerSnapshots}.
+     *
+     * @return The last applied sequence included in the written state.
+     */
+    long writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeLong(lastSequence);
+            out.writeInt(events.size());
+            for (Map.Entry<Long, EventState> entry : events.entrySet()) {
+                EventState state = entry.getValue();
+                out.writeLong(entry.getKey());
+                out.writeInt(state.cancellations);
+                out.writeInt(state.attendees.size());
+                for (Map.Entry<Long, Attendee> attendee : state.attendees.entrySet()) {
+                    out.writeLong(attendee.getKey());
+                    out.writeLong(attendee.getValue().bookingId());
+                    out.writeInt(attendee.getValue().tickets());
+                }
+                out.writeInt(state.waitlist.size());
+                for (Long userId : state.waitlist) {
+                    out.writeLong(userId);
+                }
+            }
+            return lastSequence;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    static BookingLedger readFrom(DataInput in) throws IOException {
+        BookingLedger ledger = new BookingLedger();
+        ledger.lastSequence = in.readLong();
+        int eventCount = in.readInt();
+        for (int e = 0; e < eventCount; e++) {
+            long eventId = in.readLong();
+            EventState state = new EventState();
+            state.cancellations = in.readInt();
+            int attendeeCount = in.readInt();
+            for (int a = 0; a < attendeeCount; a++) {
+                long userId = in.readLong();
+                Attendee attendee = new Attendee(in.readLong(), in.readInt());
+                state.attendees.put(userId, attendee);
+                state.ticketsSold += attendee.tickets();
+            }
+            int waitlistSize = in.readInt();
+            for (int w = 0; w < waitlistSize; w++) {
+                state.waitlist.add(in.readLong());
+            }
+            ledger.events.put(eventId, state);
+        }
+        return ledger;
+    }
+
+    /**
+     * Users can book an event only once, so attendees are keyed by user.
+     */
+    private static final class EventState {
+        private final Map<Long, Attendee> attendees = new LinkedHashMap<>();
+        private final LinkedHashSet<Long> waitlist = new LinkedHashSet<>();
+        private int ticketsSold;
+        private int cancellations;
+    }
+
+    private record Attendee(long bookingId, int tickets) {}
+}
@@ -0,0 +1,130 @@
+package com.github.theoydr.eventmanagement.ledger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Reads and writes {@link BookingLedger} snapshots as files named {@code ledger-<last sequence, 20 digits>.snapshot}.
+ *
+ * A snapshot is a magic number and format version, the ledger state, and a trailing CRC32C of everything before it.
+ * It is written to a temporary file and atomically moved into place, so a crash never leaves a partial snapshot
+ * behind. Only the newest snapshots are kept; a damaged snapshot is skipped in favour of an older one.
+ */
+public final class LedgerSnapshots {
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerSnapshots.class);
+    private static final int MAGIC = 0x4C45444B; // "LEDK"
+    private static final int VERSION = 1;
+    private static final String PREFIX = "ledger-";
+    private static final String SUFFIX = ".snapshot";
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Path directory;
+    private final int keep;
+
+    public LedgerSnapshots(Path directory, int keep) {
+        this.directory = directory;
+        this.keep = Math.max(1, keep);
+    }
+
+    /**
+     * Writes a snapshot of the ledger and removes snapshots beyond the retained count.
+     *
+     * @return The written file.
+     */
+    public Path write(BookingLedger ledger) throws IOException {
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, PREFIX, ".tmp");
+        try {
+            long lastSequence;
+            CRC32C crc = new CRC32C();
+            try (OutputStream file = Files.newOutputStream(temporary);
+                 CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file, BUFFER_SIZE), crc);
+                 DataOutputStream out = new DataOutputStream(checked)) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                lastSequence = ledger.writeTo(out);
+                out.flush();
+                // Written past the checked stream, so the checksum does not cover itself.
+                DataOutputStream trailer = new DataOutputStream(file);
+                trailer.writeInt((int) crc.getValue());
+                trailer.flush();
+            }
+            Path target = directory.resolve(PREFIX + String.format("%020d", lastSequence) + SUFFIX);
+            Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            prune();
+            return target;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * @return The ledger restored from the newest readable snapshot, or empty if there is none.
+     */
+    public Optional<BookingLedger> readLatest() throws IOException {
+        for (Path snapshot : list().reversed()) {
+            try {
+                return Optional.of(read(snapshot));
+            } catch (IOException | RuntimeException e) {
+                log.warn("Skipping unreadable ledger snapshot {}: {}", snapshot, e.getMessage());
+            }
+        }
+        return Optional.empty();
+    }
+
+    static BookingLedger read(Path snapshot) throws IOException {
+        CRC32C crc = new CRC32C();
+        try (InputStream file = Files.newInputStream(snapshot);
+             CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(file, BUFFER_SIZE), crc);
+             DataInputStream in = new DataInputStream(checked)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a version " + VERSION + " ledger snapshot");
+            }
+            BookingLedger ledger = BookingLedger.readFrom(in);
+            // Taken before the trailer is read, as the trailer itself also passes through the checked stream.
+            int expected = (int) crc.getValue();
+            int stored = in.readInt();
+            if (expected != stored || in.read() != -1) {
+                throw new IOException("Checksum mismatch");
+            }
+            return ledger;
+        }
+    }
+
+    private List<Path> list() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                String name = path.getFileName().toString();
+                return name.startsWith(PREFIX) && name.endsWith(SUFFIX);
+            }).sorted().toList();
+        }
+    }
+
+    private void prune() throws IOException {
+        List<Path> snapshots = list();
+        for (int i = 0; i < snapshots.size() - keep; i++) {
+            Files.deleteIfExists(snapshots.get(i));
+        }
+    }
+}
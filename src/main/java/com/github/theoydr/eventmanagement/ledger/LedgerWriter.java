@@ -0,0 +1,53 @@
+package com.github.theoydr.eventmanagement.ledger;
+
+import com.github.theoydr.eventmanagement.domain.BookingChangedEvent;
+import com.github.theoydr.eventmanagement.domain.BookingRejectedEvent;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.LedgerEntryType;
+import com.github.theoydr.eventmanagement.model.LedgerEntry;
+import com.github.theoydr.eventmanagement.repository.LedgerEntryRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Appends the outcome of every booking command to the ledger.
+ *
+ * Placed and cancelled bookings are appended in the booking transaction, so the ledger never disagrees with the
+ * bookings table. A rejected booking rolls its transaction back, so the rejection is appended in a transaction
+ * of its own once the rollback has happened. That transaction runs on an {@code @Async} thread: at
+ * {@code AFTER_COMPLETION} the booking's connection is not released yet, and opening a second one from the same
+ * thread could wait forever on the {@link com.github.theoydr.eventmanagement.datasource.ConcurrencyLimitingDataSource}
+ * when every permit is held by a thread doing the same.
+ */
+@Component
+@ConditionalOnBooleanProperty("app.ledger.enabled")
+public class LedgerWriter {
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+
+    public LedgerWriter(LedgerEntryRepository ledgerEntryRepository) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBookingChanged(BookingChangedEvent event) {
+        LedgerEntryType type = event.status() == BookingStatus.CANCELLED ? LedgerEntryType.CANCELLED : LedgerEntryType.PLACED;
+        ledgerEntryRepository.save(new LedgerEntry(
+                type, event.eventId(), event.bookingId(), event.userId(), event.numberOfTickets(), event.occurredAt()));
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION)
+    @Transactional
+    public void onBookingRejected(BookingRejectedEvent event) {
+        ledgerEntryRepository.save(new LedgerEntry(
+                LedgerEntryType.REJECTED, event.eventId(), null, event.userId(), event.numberOfTickets(), event.occurredAt()));
+    }
+}
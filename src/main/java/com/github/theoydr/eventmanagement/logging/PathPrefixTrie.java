@@ -0,0 +1,72 @@
+package com.github.theoydr.eventmanagement.logging;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable map from path prefixes to values, answering longest-prefix lookups.
+ *
+ * Built once from the configured prefixes; a lookup walks the path character by character through sorted child
+ * arrays, so it costs one binary search per character of the matched prefix and allocates nothing.
+ */
+public final class PathPrefixTrie<V> {
+
+    private final Node<V> root;
+
+    private PathPrefixTrie(Node<V> root) {
+        this.root = root;
+    }
+
+    public static <V> PathPrefixTrie<V> of(Map<String, V> prefixes) {
+        Builder<V> root = new Builder<>();
+        prefixes.forEach((prefix, value) -> {
+            Builder<V> node = root;
+            for (int i = 0; i < prefix.length(); i++) {
+                node = node.children.computeIfAbsent(prefix.charAt(i), c -> new Builder<>());
+            }
+            node.value = value;
+        });
+        return new PathPrefixTrie<>(root.build());
+    }
+
+    /**
+     * @return The value of the longest prefix of {@code path}, or {@code fallback} if no prefix matches.
+     */
+    public V longestPrefixMatch(String path, V fallback) {
+        Node<V> node = root;
+        V match = node.value != null ? node.value : fallback;
+        for (int i = 0; i < path.length(); i++) {
+            int child = Arrays.binarySearch(node.labels, path.charAt(i));
+            if (child < 0) {
+                return match;
+            }
+            node = node.children[child];
+            if (node.value != null) {
+                match = node.value;
+            }
+        }
+        return match;
+    }
+
+    private record Node<V>(char[] labels, Node<V>[] children, V value) {}
+
+    private static final class Builder<V> {
+
+        final TreeMap<Character, Builder<V>> children = new TreeMap<>();
+        V value;
+
+        @SuppressWarnings("unchecked")
+        Node<V> build() {
+            char[] labels = new char[children.size()];
+            Node<V>[] nodes = new Node[children.size()];
+            int i = 0;
+            for (Map.Entry<Character, Builder<V>> child : children.entrySet()) {
+                labels[i] = child.getKey();
+                nodes[i] = child.getValue().build();
+                i++;
+            }
+            return new Node<>(labels, nodes, value);
+        }
+    }
+}
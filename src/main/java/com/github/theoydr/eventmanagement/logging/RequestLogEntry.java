@@ -0,0 +1,17 @@
+package com.github.theoydr.eventmanagement.logging;
+
+/**
+ * A completed request, as captured on the request thread. Formatting is left to the writer thread.
+ *
+ * @param payload The first bytes of the request body, or null when payloads are not logged.
+ */
+public record RequestLogEntry(
+        String method,
+        String uri,
+        String queryString,
+        String clientAddress,
+        int status,
+        long durationNanos,
+        byte[] payload,
+        String payloadEncoding
+) {}
@@ -0,0 +1,195 @@
+package com.github.theoydr.eventmanagement.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Writes request log entries on a background thread.
+ *
+ * Request threads put entries on a lock-free queue bounded by {@code logging.api.queue-capacity}; when it is full
+ * the entry is dropped and counted instead of making the request wait for the log. A single writer thread drains
+ * the queue into the {@code RequestLogPipeline} logger at INFO, parks while it is empty, and reports new drops at
+ * most every ten seconds. On shutdown, which comes after the web server has stopped, the queue is drained before the
+ * writer exits; entries offered after that are counted as dropped.
+ */
+@Component
+public class RequestLogPipeline implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestLogPipeline.class);
+    private static final long DROP_REPORT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final int capacity;
+    private final Queue<RequestLogEntry> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder dropped = new LongAdder();
+
+    private volatile boolean running;
+    private volatile boolean stopped;
+    private volatile boolean writerIdle;
+    private volatile Thread writerThread;
+
+    public RequestLogPipeline(@Value("${logging.api.queue-capacity:10000}") int capacity) {
+        this.capacity = Math.max(1, capacity);
+    }
+
+    /**
+     * @return Whether entries would be written at all; if not, requests need not be captured.
+     */
+    public boolean isEnabled() {
+        return log.isInfoEnabled();
+    }
+
+    /**
+     * Queues an entry for the writer thread. Never blocks.
+     *
+     * @return False if the queue was full or the writer has stopped, and the entry was dropped.
+     */
+    public boolean offer(RequestLogEntry entry) {
+        if (stopped) {
+            dropped.increment();
+            return false;
+        }
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+        queue.offer(entry);
+        if (writerIdle) {
+            writerIdle = false;
+            LockSupport.unpark(writerThread);
+        }
+        return true;
+    }
+
+    /**
+     * @return The number of entries dropped because the queue was full or the writer had stopped, since startup.
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    public int queuedCount() {
+        return size.get();
+    }
+
+    @Override
+    public void start() {
+        stopped = false;
+        running = true;
+        writerThread = Thread.ofPlatform().name("request-log-writer").daemon().start(this::drain);
+    }
+
+    @Override
+    public void stop() {
+        stopped = true;
+        running = false;
+        Thread thread = writerThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+        // Offered between the writer's last poll and its exit.
+        for (RequestLogEntry entry; (entry = queue.poll()) != null; ) {
+            size.decrementAndGet();
+            dropped.increment();
+        }
+        long drops = dropped.sum();
+        if (drops > 0) {
+            log.warn("Dropped {} request log entries in total", drops);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // Spring Boot stops the web server at DEFAULT_PHASE - 2048, after its graceful shutdown (DEFAULT_PHASE - 1024);
+        // stopping later lets requests finishing during the graceful shutdown still be logged.
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drain() {
+        long reportedDrops = 0;
+        long lastReport = System.nanoTime();
+        while (running || !queue.isEmpty()) {
+            RequestLogEntry entry = queue.poll();
+            if (entry != null) {
+                size.decrementAndGet();
+                try {
+                    write(entry);
+                } catch (RuntimeException e) {
+                    log.warn("Could not write request log entry for {} {}", entry.method(), entry.uri(), e);
+                }
+            } else {
+                // Wake up for the next drop report only if there is something to report.
+                awaitEntry(dropped.sum() > reportedDrops
+                        ? DROP_REPORT_INTERVAL_NANOS - (System.nanoTime() - lastReport)
+                        : Long.MAX_VALUE);
+            }
+            if (System.nanoTime() - lastReport >= DROP_REPORT_INTERVAL_NANOS) {
+                long drops = dropped.sum();
+                if (drops > reportedDrops) {
+                    log.warn("Dropped {} request log entries because the queue was full ({} in total)",
+                            drops - reportedDrops, drops);
+                    reportedDrops = drops;
+                }
+                lastReport = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Parks until an entry is offered, the pipeline is stopped or the timeout elapses. Setting {@code writerIdle}
+     * before re-checking the queue pairs with {@link #offer}, which queues before reading it.
+     */
+    private void awaitEntry(long timeoutNanos) {
+        writerIdle = true;
+        if (running && queue.isEmpty() && timeoutNanos > 0) {
+            LockSupport.parkNanos(this, timeoutNanos);
+        }
+        writerIdle = false;
+    }
+
+    private static void write(RequestLogEntry entry) {
+        String uri = entry.queryString() != null ? entry.uri() + '?' + entry.queryString() : entry.uri();
+        long micros = TimeUnit.NANOSECONDS.toMicros(entry.durationNanos());
+        if (entry.payload() == null) {
+            log.info("{} {} status={} client={} duration={}µs",
+                    entry.method(), uri, entry.status(), entry.clientAddress(), micros);
+        } else {
+            log.info("{} {} status={} client={} duration={}µs payload={}",
+                    entry.method(), uri, entry.status(), entry.clientAddress(), micros, decode(entry));
+        }
+    }
+
+    private static String decode(RequestLogEntry entry) {
+        Charset charset;
+        try {
+            charset = entry.payloadEncoding() != null ? Charset.forName(entry.payloadEncoding()) : StandardCharsets.UTF_8;
+        } catch (IllegalArgumentException e) {
+            charset = StandardCharsets.UTF_8;
+        }
+        return new String(entry.payload(), charset);
+    }
+}
@@ -0,0 +1,93 @@
+package com.github.theoydr.eventmanagement.logging;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Captures a sample of the completed requests for the {@link RequestLogPipeline}.
+ *
+ * The sampling rate of a request is that of the longest configured path prefix it starts with (0 to never log
+ * the path, 1 to log every request), otherwise the default rate. Only sampled requests are captured: the request
+ * thread records the method, path, status, client and duration and hands them to the pipeline; formatting and
+ * writing happen on the pipeline's thread. Asynchronous requests are captured when they complete.
+ */
+public class RequestLoggingFilter extends OncePerRequestFilter {
+
+    private final RequestLogPipeline pipeline;
+    private final PathPrefixTrie<Double> sampleRates;
+    private final double defaultSampleRate;
+    private final boolean includePayload;
+    private final int maxPayloadLength;
+
+    public RequestLoggingFilter(RequestLogPipeline pipeline, PathPrefixTrie<Double> sampleRates, double defaultSampleRate,
+                                boolean includePayload, int maxPayloadLength) {
+        this.pipeline = pipeline;
+        this.sampleRates = sampleRates;
+        this.defaultSampleRate = defaultSampleRate;
+        this.includePayload = includePayload;
+        this.maxPayloadLength = maxPayloadLength;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        double rate = sampleRates.longestPrefixMatch(request.getRequestURI(), defaultSampleRate);
+        if (!sampled(rate) || !pipeline.isEnabled()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        HttpServletRequest captured = includePayload ? new ContentCachingRequestWrapper(request, maxPayloadLength) : request;
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(captured, response);
+            failed = false;
+        } finally {
+            if (!failed && captured.isAsyncStarted()) {
+                captured.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        capture(captured, response.getStatus(), start);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {}
+
+                    @Override
+                    public void onError(AsyncEvent event) {}
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {}
+                });
+            } else {
+                // An exception escaping the chain becomes a server error.
+                capture(captured, failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus(), start);
+            }
+        }
+    }
+
+    private static boolean sampled(double rate) {
+        return rate >= 1 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private void capture(HttpServletRequest request, int status, long start) {
+        byte[] payload = null;
+        String payloadEncoding = null;
+        if (request instanceof ContentCachingRequestWrapper wrapper) {
+            payload = wrapper.getContentAsByteArray();
+            payloadEncoding = wrapper.getCharacterEncoding();
+        }
+        pipeline.offer(new RequestLogEntry(request.getMethod(), request.getRequestURI(), request.getQueryString(),
+                request.getRemoteAddr(), status, System.nanoTime() - start, payload, payloadEncoding));
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.theoydr.eventmanagement.mapper;
+
+import com.github.theoydr.eventmanagement.dto.ArchivedBookingResponse;
+import com.github.theoydr.eventmanagement.dto.ArchivedEventResponse;
+import com.github.theoydr.eventmanagement.model.ArchivedBooking;
+import com.github.theoydr.eventmanagement.model.ArchivedEvent;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ArchiveMapper {
+
+    public ArchivedEventResponse toResponse(ArchivedEvent event) {
+        return new ArchivedEventResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getDescription(),
+                event.getLocation(),
+                event.getStartDateTime(),
+                event.getEndDateTime(),
+                event.getCapacity(),
+                event.getTicketPrice(),
+                event.getCategory(),
+                event.getStatus(),
+                event.getOrganizerId(),
+                event.getConfirmedTickets(),
+                event.getBookingCount(),
+                event.getCancellationCount(),
+                event.getArchivedAt()
+        );
+    }
+
+    public ArchivedBookingResponse toResponse(ArchivedBooking booking) {
+        return new ArchivedBookingResponse(
+                booking.getId(),
+                booking.getEventId(),
+                booking.getUserId(),
+                booking.getNumberOfTickets(),
+                booking.getBookingDateTime(),
+                booking.getStatus(),
+                booking.getArchivedAt()
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package com.github.theoydr.eventmanagement.mapper;
 
+import com.github.theoydr.eventmanagement.domain.BookingIntent;
 import com.github.theoydr.eventmanagement.dto.AttendeeResponse;
+import com.github.theoydr.eventmanagement.dto.BookingIntentResponse;
 import com.github.theoydr.eventmanagement.dto.BookingResponse;
 import com.github.theoydr.eventmanagement.model.Booking;
 import org.springframework.stereotype.Component;
@@ -30,4 +32,20 @@ public class BookingMapper {
                 attendee
         );
     }
+
+    public BookingIntentResponse toResponse(BookingIntent intent) {
+        return new BookingIntentResponse(
+                intent.id(),
+                intent.userId(),
+                intent.eventId(),
+                intent.numberOfTickets(),
+                intent.status(),
+                intent.failureReason(),
+                intent.message(),
+                intent.retryable(),
+                intent.bookingId(),
+                intent.submittedAt(),
+                intent.completedAt()
+        );
+    }
 }
@@ -1,9 +1,12 @@
 package com.github.theoydr.eventmanagement.mapper;
 
+import com.github.theoydr.eventmanagement.dto.EventAvailabilityResponse;
 import com.github.theoydr.eventmanagement.dto.EventRequest;
 import com.github.theoydr.eventmanagement.dto.EventResponse;
+import com.github.theoydr.eventmanagement.dto.EventStatsResponse;
 import com.github.theoydr.eventmanagement.dto.OrganizerResponse;
 import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
 import org.springframework.stereotype.Component;
 
 
@@ -26,6 +29,14 @@ public class EventMapper {
     }
 
     public EventResponse toResponse(Event event) {
+        return toResponse(event, null);
+    }
+
+    /**
+     * Maps an event together with its attendance aggregate.
+     * The stats are omitted from the response when {@code stats} is null.
+     */
+    public EventResponse toResponse(Event event, EventStats stats) {
 
         OrganizerResponse organizerResponse = new OrganizerResponse(
                 event.getOrganizer().getId(),
@@ -42,7 +53,31 @@ public class EventMapper {
                 event.getTicketPrice(),
                 event.getCategory(),
                 event.getStatus(),
-                organizerResponse
+                organizerResponse,
+                stats != null ? toStatsResponse(event, stats) : null
+        );
+    }
+
+    /**
+     * Maps the seats of an event; an event without stats has sold nothing yet.
+     */
+    public EventAvailabilityResponse toAvailabilityResponse(Event event, EventStats stats) {
+        int ticketsSold = stats != null ? stats.getConfirmedTickets() : 0;
+        return new EventAvailabilityResponse(
+                event.getId(),
+                event.getStatus(),
+                event.getCapacity(),
+                ticketsSold,
+                Math.max(0, event.getCapacity() - ticketsSold)
+        );
+    }
+
+    private EventStatsResponse toStatsResponse(Event event, EventStats stats) {
+        return new EventStatsResponse(
+                stats.getConfirmedTickets(),
+                Math.max(0, event.getCapacity() - stats.getConfirmedTickets()),
+                stats.getBookingCount(),
+                stats.getCancellationCount()
         );
     }
 }
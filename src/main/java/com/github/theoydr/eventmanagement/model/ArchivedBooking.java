@@ -0,0 +1,73 @@
+package com.github.theoydr.eventmanagement.model;
+
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * A booking of an {@link ArchivedEvent}, moved out of the hot {@code bookings} table together with its event.
+ * Rows are written by SQL in the archiver and are read-only for the application.
+ */
+@Entity
+@Immutable
+@Table(name = "archived_bookings")
+public class ArchivedBooking {
+
+    @Id
+    private Long id;
+
+    private Long eventId;
+
+    private Long userId;
+
+    private Integer numberOfTickets;
+
+    private LocalDateTime bookingDateTime;
+
+    @Enumerated(EnumType.STRING)
+    private BookingStatus status;
+
+    private LocalDateTime archivedAt;
+
+    protected ArchivedBooking() {}
+
+    // Getters
+    public Long getId() { return id; }
+
+    public Long getEventId() { return eventId; }
+
+    public Long getUserId() { return userId; }
+
+    public Integer getNumberOfTickets() { return numberOfTickets; }
+
+    public LocalDateTime getBookingDateTime() { return bookingDateTime; }
+
+    public BookingStatus getStatus() { return status; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArchivedBooking that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedBooking{" +
+                "id=" + id +
+                ", eventId=" + eventId +
+                ", userId=" + userId +
+                ", status=" + status +
+                '}';
+    }
+}
@@ -0,0 +1,112 @@
+package com.github.theoydr.eventmanagement.model;
+
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A past event moved out of the hot {@code events} table by the archiver, with its final attendance counters.
+ * Rows are written by SQL in the archiver and are read-only for the application.
+ */
+@Entity
+@Immutable
+@Table(name = "archived_events")
+public class ArchivedEvent {
+
+    @Id
+    private Long id;
+
+    private UUID uuid;
+
+    private String title;
+
+    private String description;
+
+    private String location;
+
+    private LocalDateTime startDateTime;
+
+    private LocalDateTime endDateTime;
+
+    private Integer capacity;
+
+    private Double ticketPrice;
+
+    private Long organizerId;
+
+    @Enumerated(EnumType.STRING)
+    private EventCategory category;
+
+    @Enumerated(EnumType.STRING)
+    private EventStatus status;
+
+    private Integer confirmedTickets;
+
+    private Integer bookingCount;
+
+    private Integer cancellationCount;
+
+    private LocalDateTime archivedAt;
+
+    protected ArchivedEvent() {}
+
+    // Getters
+    public Long getId() { return id; }
+
+    public UUID getUuid() { return uuid; }
+
+    public String getTitle() { return title; }
+
+    public String getDescription() { return description; }
+
+    public String getLocation() { return location; }
+
+    public LocalDateTime getStartDateTime() { return startDateTime; }
+
+    public LocalDateTime getEndDateTime() { return endDateTime; }
+
+    public Integer getCapacity() { return capacity; }
+
+    public Double getTicketPrice() { return ticketPrice; }
+
+    public Long getOrganizerId() { return organizerId; }
+
+    public EventCategory getCategory() { return category; }
+
+    public EventStatus getStatus() { return status; }
+
+    public Integer getConfirmedTickets() { return confirmedTickets; }
+
+    public Integer getBookingCount() { return bookingCount; }
+
+    public Integer getCancellationCount() { return cancellationCount; }
+
+    public LocalDateTime getArchivedAt() { return archivedAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArchivedEvent that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    @Override
+    public String toString() {
+        return "ArchivedEvent{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", endDateTime=" + endDateTime +
+                ", archivedAt=" + archivedAt +
+                '}';
+    }
+}
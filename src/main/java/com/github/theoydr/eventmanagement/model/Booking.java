@@ -19,8 +19,10 @@ import java.util.Objects;
 })
 public class Booking {
 
+    // Pooled sequence: ids are reserved in blocks of 50, which lets Hibernate batch the inserts.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_id_seq")
+    @SequenceGenerator(name = "booking_id_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
 
     // Many bookings can belong to one event
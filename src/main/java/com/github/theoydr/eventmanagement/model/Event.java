@@ -6,6 +6,8 @@ import com.github.theoydr.eventmanagement.enums.EventStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Check;
 import org.hibernate.annotations.Checks;
 
@@ -14,6 +16,8 @@ import java.util.Objects;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "events")
 @Table(name = "events", uniqueConstraints = {
         // Adds a database-level constraint to prevent an organizer from creating duplicate events
         // based on the start time and location.
@@ -28,7 +32,8 @@ import java.util.UUID;
 public class Event {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_id_seq")
+    @SequenceGenerator(name = "event_id_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, updatable = false)
@@ -0,0 +1,93 @@
+package com.github.theoydr.eventmanagement.model;
+
+import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
+import java.util.Objects;
+
+/**
+ * Incrementally maintained attendance aggregate for a single event.
+ * A row is created together with its event and is updated in the same transaction as every
+ * booking creation and cancellation, so read paths never have to aggregate raw booking rows.
+ */
+@Entity
+@Table(name = "event_stats", check = {
+        @CheckConstraint(constraint = "confirmed_tickets >= 0", name = "event_stats_tickets_check"),
+        @CheckConstraint(constraint = "booking_count >= 0", name = "event_stats_booking_count_check"),
+        @CheckConstraint(constraint = "cancellation_count >= 0", name = "event_stats_cancellation_count_check")
+})
+public class EventStats implements Persistable<Long> {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(nullable = false)
+    private Integer confirmedTickets = 0;  // Tickets held by CONFIRMED bookings
+
+    @Column(nullable = false)
+    private Integer bookingCount = 0;  // Bookings ever created for the event
+
+    @Column(nullable = false)
+    private Integer cancellationCount = 0;  // Bookings that were cancelled
+
+    // The id is assigned from the event, so Spring Data cannot infer newness from it.
+    @Transient
+    private boolean isNew = true;
+
+    public EventStats() {}
+
+    public EventStats(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
+    public Long getId() { return eventId; }
+
+    @Override
+    public boolean isNew() { return isNew; }
+
+    // Getters and setters
+    public Long getEventId() { return eventId; }
+    public void setEventId(Long eventId) { this.eventId = eventId; }
+
+    public Integer getConfirmedTickets() { return confirmedTickets; }
+    public void setConfirmedTickets(Integer confirmedTickets) { this.confirmedTickets = confirmedTickets; }
+
+    public Integer getBookingCount() { return bookingCount; }
+    public void setBookingCount(Integer bookingCount) { this.bookingCount = bookingCount; }
+
+    public Integer getCancellationCount() { return cancellationCount; }
+    public void setCancellationCount(Integer cancellationCount) { this.cancellationCount = cancellationCount; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        EventStats that = (EventStats) o;
+
+        return eventId != null && eventId.equals(that.eventId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(eventId);
+    }
+
+    @Override
+    public String toString() {
+        return "EventStats{" +
+                "eventId=" + eventId +
+                ", confirmedTickets=" + confirmedTickets +
+                ", bookingCount=" + bookingCount +
+                ", cancellationCount=" + cancellationCount +
+                '}';
+    }
+}
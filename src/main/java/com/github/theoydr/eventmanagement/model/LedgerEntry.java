@@ -0,0 +1,91 @@
+package com.github.theoydr.eventmanagement.model;
+
+import com.github.theoydr.eventmanagement.enums.LedgerEntryType;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * An immutable entry of the booking ledger: the outcome of one booking command.
+ * A REJECTED entry has no booking id, since no booking was created.
+ */
+@Entity
+@Immutable
+@Table(name = "booking_ledger")
+public class LedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_ledger_seq_gen")
+    @SequenceGenerator(name = "booking_ledger_seq_gen", sequenceName = "booking_ledger_seq", allocationSize = 1)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private LedgerEntryType entryType;
+
+    @Column(nullable = false)
+    private Long eventId;
+
+    private Long bookingId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Integer tickets;
+
+    @Column(nullable = false)
+    private Instant recordedAt;
+
+    protected LedgerEntry() {}
+
+    public LedgerEntry(LedgerEntryType entryType, Long eventId, Long bookingId, Long userId, Integer tickets, Instant recordedAt) {
+        this.entryType = entryType;
+        this.eventId = eventId;
+        this.bookingId = bookingId;
+        this.userId = userId;
+        this.tickets = tickets;
+        this.recordedAt = recordedAt;
+    }
+
+    // Getters
+    public Long getSeq() { return seq; }
+
+    public LedgerEntryType getEntryType() { return entryType; }
+
+    public Long getEventId() { return eventId; }
+
+    public Long getBookingId() { return bookingId; }
+
+    public Long getUserId() { return userId; }
+
+    public Integer getTickets() { return tickets; }
+
+    public Instant getRecordedAt() { return recordedAt; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof LedgerEntry that)) return false;
+        return seq != null && Objects.equals(seq, that.seq);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "LedgerEntry{" +
+                "seq=" + seq +
+                ", entryType=" + entryType +
+                ", eventId=" + eventId +
+                ", bookingId=" + bookingId +
+                ", userId=" + userId +
+                ", tickets=" + tickets +
+                '}';
+    }
+}
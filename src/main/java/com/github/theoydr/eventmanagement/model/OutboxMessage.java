@@ -0,0 +1,121 @@
+package com.github.theoydr.eventmanagement.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A domain change waiting to be delivered to downstream systems.
+ * Written in the same transaction as the change it describes, so a message exists if and only if the change was committed.
+ */
+@Entity
+@Table(name = "outbox_messages")
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_message_id_seq")
+    @SequenceGenerator(name = "outbox_message_id_seq", sequenceName = "outbox_messages_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 50)
+    private String aggregateType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;  // JSON
+
+    @Column(nullable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt;
+
+    private Instant publishedAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    protected OutboxMessage() {}
+
+    public OutboxMessage(String aggregateType, Long aggregateId, String eventType, String payload, Instant occurredAt) {
+        this.aggregateType = aggregateType;
+        this.aggregateId = aggregateId;
+        this.eventType = eventType;
+        this.payload = payload;
+        this.occurredAt = occurredAt;
+        this.nextAttemptAt = occurredAt;
+    }
+
+    /**
+     * Leases the message to a relay: it is not due again before the lease ends, unless the relay records an outcome.
+     */
+    public void claim(Instant leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    public void markPublished(Instant publishedAt) {
+        this.attempts++;
+        this.publishedAt = publishedAt;
+        this.lastError = null;
+    }
+
+    public void markFailed(String error, Instant nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public String getAggregateType() { return aggregateType; }
+
+    public Long getAggregateId() { return aggregateId; }
+
+    public String getEventType() { return eventType; }
+
+    public String getPayload() { return payload; }
+
+    public Instant getOccurredAt() { return occurredAt; }
+
+    public Integer getAttempts() { return attempts; }
+
+    public Instant getNextAttemptAt() { return nextAttemptAt; }
+
+    public Instant getPublishedAt() { return publishedAt; }
+
+    public String getLastError() { return lastError; }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OutboxMessage that)) return false;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxMessage{" +
+                "id=" + id +
+                ", aggregateType='" + aggregateType + '\'' +
+                ", aggregateId=" + aggregateId +
+                ", eventType='" + eventType + '\'' +
+                ", attempts=" + attempts +
+                ", publishedAt=" + publishedAt +
+                '}';
+    }
+}
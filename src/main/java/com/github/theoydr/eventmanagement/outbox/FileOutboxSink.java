@@ -0,0 +1,46 @@
+package com.github.theoydr.eventmanagement.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends every message as one JSON line to a local file, e.g. for tailing by a log shipper.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.sinks.file.enabled", havingValue = "true", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path path;
+    private final JsonMapper jsonMapper;
+
+    public FileOutboxSink(@Value("${app.outbox.sinks.file.path:logs/outbox.jsonl}") Path path, JsonMapper jsonMapper) {
+        this.path = path;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public String name() {
+        return "file";
+    }
+
+    @Override
+    public synchronized void deliver(OutboxEnvelope envelope) {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            Files.writeString(path, jsonMapper.writeValueAsString(envelope) + System.lineSeparator(),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.github.theoydr.eventmanagement.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * POSTs every message as JSON to a webhook; a stand-in for a message broker.
+ * Any response other than 2xx counts as a failed delivery. The {@code Idempotency-Key} header lets the receiver
+ * drop redeliveries.
+ */
+@Component
+@ConditionalOnExpression("'${app.outbox.sinks.http.url:}' != ''")
+public class HttpOutboxSink implements OutboxSink {
+
+    private final URI url;
+    private final Duration timeout;
+    private final JsonMapper jsonMapper;
+    private final HttpClient httpClient;
+
+    public HttpOutboxSink(@Value("${app.outbox.sinks.http.url}") URI url,
+                          @Value("${app.outbox.sinks.http.timeout:PT5S}") Duration timeout,
+                          JsonMapper jsonMapper) {
+        this.url = url;
+        this.timeout = timeout;
+        this.jsonMapper = jsonMapper;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    @Override
+    public String name() {
+        return "http";
+    }
+
+    @Override
+    public void deliver(OutboxEnvelope envelope) {
+        HttpRequest request = HttpRequest.newBuilder(url)
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", "outbox-" + envelope.id())
+                .POST(HttpRequest.BodyPublishers.ofString(jsonMapper.writeValueAsString(envelope)))
+                .build();
+        HttpResponse<Void> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+        } catch (IOException e) {
+            throw new UncheckedIOException("POST to " + url + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while posting to " + url, e);
+        }
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("POST to " + url + " returned HTTP " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.theoydr.eventmanagement.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.github.theoydr.eventmanagement.model.OutboxMessage;
+
+import java.time.Instant;
+
+/**
+ * The wire format of an outbox message: its metadata plus the JSON payload, embedded as-is.
+ */
+public record OutboxEnvelope(
+        Long id,
+        String eventType,
+        String aggregateType,
+        Long aggregateId,
+        Instant occurredAt,
+        @JsonRawValue String payload
+) {
+
+    public static OutboxEnvelope of(OutboxMessage message) {
+        return new OutboxEnvelope(message.getId(), message.getEventType(), message.getAggregateType(),
+                message.getAggregateId(), message.getOccurredAt(), message.getPayload());
+    }
+}
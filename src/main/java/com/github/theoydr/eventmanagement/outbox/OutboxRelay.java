@@ -0,0 +1,204 @@
+package com.github.theoydr.eventmanagement.outbox;
+
+import com.github.theoydr.eventmanagement.model.OutboxMessage;
+import com.github.theoydr.eventmanagement.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Delivers outbox messages to every {@link OutboxSink}.
+ *
+ * Each poll claims a batch of due messages in a short transaction: it locks them (skipping rows locked by another
+ * instance) and leases them by moving their next attempt {@code lease} ahead. The messages are then delivered in id
+ * order outside of any transaction, so a slow sink holds neither a connection nor row locks, and the outcomes are
+ * recorded in a second transaction. Messages of a relay that dies mid-batch become due again when their lease ends,
+ * so the lease must outlast the delivery of a batch. A message that any sink rejects is rescheduled with exponential
+ * backoff and retried until it goes through; the other messages of the batch are not held back by it.
+ *
+ * Metrics:
+ * - {@code outbox.delivery.lag}: time from the change to its successful delivery.
+ * - {@code outbox.pending.age}: age of the oldest undelivered message, in seconds (0 when the outbox is drained).
+ * - {@code outbox.delivery.failures}: rejected deliveries, tagged by sink.
+ */
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+    private final Duration retention;
+
+    private final Timer deliveryLag;
+    private final Map<String, Counter> failures;
+    private volatile double oldestPendingAgeSeconds;
+
+    public OutboxRelay(OutboxMessageRepository outboxMessageRepository,
+                       List<OutboxSink> sinks,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${app.outbox.batch-size:100}") int batchSize,
+                       @Value("${app.outbox.max-batches-per-poll:10}") int maxBatchesPerPoll,
+                       @Value("${app.outbox.initial-backoff:PT1S}") Duration initialBackoff,
+                       @Value("${app.outbox.max-backoff:PT5M}") Duration maxBackoff,
+                       @Value("${app.outbox.lease:PT15M}") Duration lease,
+                       @Value("${app.outbox.retention:P7D}") Duration retention) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.sinks = List.copyOf(sinks);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatchesPerPoll = Math.max(1, maxBatchesPerPoll);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+        this.retention = retention;
+
+        this.deliveryLag = Timer.builder("outbox.delivery.lag")
+                .description("Time from a domain change to its delivery to all outbox sinks")
+                .register(meterRegistry);
+        this.failures = this.sinks.stream().collect(Collectors.toUnmodifiableMap(OutboxSink::name,
+                sink -> Counter.builder("outbox.delivery.failures")
+                        .description("Outbox deliveries rejected by a sink")
+                        .tag("sink", sink.name())
+                        .register(meterRegistry)));
+        Gauge.builder("outbox.pending.age", this, relay -> relay.oldestPendingAgeSeconds)
+                .description("Age of the oldest undelivered outbox message")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        if (this.sinks.isEmpty()) {
+            log.warn("No outbox sinks are configured; outbox messages will not be delivered");
+        } else {
+            log.info("Relaying outbox messages to sinks: {}", this.sinks.stream().map(OutboxSink::name).toList());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}")
+    public void relayScheduled() {
+        relay();
+    }
+
+    /**
+     * Delivers due messages until fewer than a full batch is left or the per-poll limit is reached.
+     *
+     * @return The number of messages delivered.
+     */
+    public int relay() {
+        if (sinks.isEmpty()) {
+            return 0;
+        }
+        int delivered = 0;
+        for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+            List<OutboxMessage> claimed = transactionTemplate.execute(status -> claimDue());
+            if (claimed == null || claimed.isEmpty()) {
+                break;
+            }
+            delivered += deliverClaimed(claimed);
+            if (claimed.size() < batchSize) {
+                break;
+            }
+        }
+        updatePendingAge();
+        return delivered;
+    }
+
+    @Scheduled(cron = "${app.outbox.purge-cron:0 15 * * * *}")
+    public void purgePublished() {
+        Instant cutoff = Instant.now().minus(retention);
+        Integer purged = transactionTemplate.execute(status -> outboxMessageRepository.deletePublishedBefore(cutoff));
+        log.info("Purged {} outbox messages published before {}", purged, cutoff);
+    }
+
+    double oldestPendingAgeSeconds() {
+        return oldestPendingAgeSeconds;
+    }
+
+    private List<OutboxMessage> claimDue() {
+        Instant now = Instant.now();
+        List<OutboxMessage> due = outboxMessageRepository.lockDue(now, Limit.of(batchSize));
+        due.forEach(message -> message.claim(now.plus(lease)));
+        return due;
+    }
+
+    /**
+     * Delivers claimed (now detached) messages and records the outcomes.
+     *
+     * @return The number of messages delivered to every sink.
+     */
+    private int deliverClaimed(List<OutboxMessage> claimed) {
+        List<Long> published = new ArrayList<>(claimed.size());
+        List<OutboxMessage> failed = new ArrayList<>();
+        for (OutboxMessage message : claimed) {
+            if (deliver(message)) {
+                published.add(message.getId());
+            } else {
+                failed.add(message);
+            }
+        }
+        Instant now = Instant.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!published.isEmpty()) {
+                outboxMessageRepository.markPublished(published, now);
+            }
+            for (OutboxMessage message : failed) {
+                outboxMessageRepository.markFailed(message.getId(), message.getLastError(), message.getNextAttemptAt());
+            }
+        });
+        return published.size();
+    }
+
+    private boolean deliver(OutboxMessage message) {
+        OutboxEnvelope envelope = OutboxEnvelope.of(message);
+        for (OutboxSink sink : sinks) {
+            try {
+                sink.deliver(envelope);
+            } catch (RuntimeException e) {
+                failures.get(sink.name()).increment();
+                Duration backoff = backoff(message.getAttempts() + 1);
+                message.markFailed(sink.name() + ": " + e.getMessage(), Instant.now().plus(backoff));
+                log.warn("Delivery of outbox message {} to sink '{}' failed (attempt {}), retrying in {}: {}",
+                        message.getId(), sink.name(), message.getAttempts(), backoff, e.getMessage());
+                return false;
+            }
+        }
+        Instant now = Instant.now();
+        message.markPublished(now);
+        deliveryLag.record(Duration.between(message.getOccurredAt(), now));
+        return true;
+    }
+
+    private Duration backoff(int attempt) {
+        // initial * 2^(attempt - 1), capped; the shift is bounded to avoid overflow.
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempt - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void updatePendingAge() {
+        // Read-write transaction: the age must come from the primary, not a lagging replica.
+        Instant oldest = transactionTemplate.execute(status -> outboxMessageRepository.findOldestUnpublishedOccurredAt());
+        oldestPendingAgeSeconds = oldest == null ? 0 : Math.max(0, Duration.between(oldest, Instant.now()).toMillis() / 1000.0);
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.theoydr.eventmanagement.outbox;
+
+/**
+ * A downstream destination of outbox messages. Every {@link OutboxSink} bean receives every message.
+ *
+ * Delivery is at-least-once: a message is redelivered to all sinks until every sink has accepted it in the
+ * same attempt, so sinks must tolerate duplicates (the envelope id is a stable idempotency key).
+ */
+public interface OutboxSink {
+
+    /**
+     * @return A short name used in logs and metric tags.
+     */
+    String name();
+
+    /**
+     * Delivers one message. Returning normally means the message was accepted.
+     *
+     * @param envelope The message to deliver.
+     * @throws RuntimeException if the message could not be delivered; it will be retried with backoff.
+     */
+    void deliver(OutboxEnvelope envelope);
+}
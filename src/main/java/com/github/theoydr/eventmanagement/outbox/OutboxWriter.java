@@ -0,0 +1,55 @@
+package com.github.theoydr.eventmanagement.outbox;
+
+import com.github.theoydr.eventmanagement.domain.BookingChangedEvent;
+import com.github.theoydr.eventmanagement.domain.EventChangedEvent;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.model.OutboxMessage;
+import com.github.theoydr.eventmanagement.repository.OutboxMessageRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Instant;
+
+/**
+ * Turns domain events into outbox messages.
+ *
+ * The listeners are synchronous and join the transaction that published the event, so the message is committed
+ * (or rolled back) together with the change. The only cost added to that transaction is one batched insert.
+ */
+@Component
+public class OutboxWriter {
+
+    public static final String BOOKING = "booking";
+    public static final String EVENT = "event";
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final JsonMapper jsonMapper;
+
+    public OutboxWriter(OutboxMessageRepository outboxMessageRepository, JsonMapper jsonMapper) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onBookingChanged(BookingChangedEvent event) {
+        String type = event.status() == BookingStatus.CANCELLED ? "BookingCancelled" : "BookingCreated";
+        append(BOOKING, event.bookingId(), type, event, event.occurredAt());
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onEventChanged(EventChangedEvent event) {
+        String type = event.status() == EventStatus.CANCELLED ? "EventCancelled" : "EventPublished";
+        append(EVENT, event.eventId(), type, event, event.occurredAt());
+    }
+
+    private void append(String aggregateType, Long aggregateId, String eventType, Object payload, Instant occurredAt) {
+        outboxMessageRepository.save(new OutboxMessage(
+                aggregateType, aggregateId, eventType, jsonMapper.writeValueAsString(payload), occurredAt));
+    }
+}
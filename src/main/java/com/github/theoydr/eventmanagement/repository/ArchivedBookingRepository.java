@@ -0,0 +1,41 @@
+package com.github.theoydr.eventmanagement.repository;
+
+import com.github.theoydr.eventmanagement.model.ArchivedBooking;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, Long> {
+
+    List<ArchivedBooking> findByEventIdOrderById(Long eventId);
+
+    List<ArchivedBooking> findByUserIdOrderByBookingDateTimeDesc(Long userId);
+
+    /**
+     * Reads archived bookings with an id greater than {@code afterId} as flat facts, in id order, taking the category
+     * and price from their archived event. Used for keyset-paginated loading of the analytics column store.
+     */
+    @Query("select new com.github.theoydr.eventmanagement.repository.BookingFact(" +
+            "b.id, e.id, e.category, b.numberOfTickets, e.ticketPrice, b.bookingDateTime, b.status) " +
+            "from ArchivedBooking b join ArchivedEvent e on e.id = b.eventId where b.id > :afterId order by b.id")
+    List<BookingFact> findFactsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Copies all bookings of the given events into the archive.
+     *
+     * @return The number of archived bookings.
+     */
+    @Modifying
+    @Query(value = "insert into archived_bookings (id, event_id, user_id, number_of_tickets, booking_date_time, status, archived_at) " +
+            "select b.id, b.event_id, b.user_id, b.number_of_tickets, b.booking_date_time, b.status, :archivedAt " +
+            "from bookings b where b.event_id in (:eventIds)", nativeQuery = true)
+    int archiveBookingsOfEvents(@Param("eventIds") Collection<Long> eventIds, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,35 @@
+package com.github.theoydr.eventmanagement.repository;
+
+import com.github.theoydr.eventmanagement.model.ArchivedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    List<ArchivedEvent> findByOrganizerIdOrderByStartDateTimeDesc(Long organizerId);
+
+    @Query("select a.id from ArchivedEvent a where a.id in :ids")
+    List<Long> findArchivedIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Copies the given events, with their final event_stats counters, into the archive.
+     *
+     * @return The number of archived events.
+     */
+    @Modifying
+    @Query(value = "insert into archived_events (id, uuid, title, description, location, start_date_time, end_date_time, " +
+            "capacity, ticket_price, organizer_id, category, status, confirmed_tickets, booking_count, cancellation_count, archived_at) " +
+            "select e.id, e.uuid, e.title, e.description, e.location, e.start_date_time, e.end_date_time, " +
+            "e.capacity, e.ticket_price, e.organizer_id, e.category, e.status, " +
+            "coalesce(s.confirmed_tickets, 0), coalesce(s.booking_count, 0), coalesce(s.cancellation_count, 0), :archivedAt " +
+            "from events e left join event_stats s on s.event_id = e.id where e.id in (:eventIds)", nativeQuery = true)
+    int archiveEvents(@Param("eventIds") Collection<Long> eventIds, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,19 @@
+package com.github.theoydr.eventmanagement.repository;
+
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+
+import java.time.LocalDateTime;
+
+/**
+ * Flat, entity-free view of a booking used to feed the analytics column store.
+ */
+public record BookingFact(
+        Long bookingId,
+        Long eventId,
+        EventCategory category,
+        Integer numberOfTickets,
+        Double ticketPrice,
+        LocalDateTime bookingDateTime,
+        BookingStatus status
+) {}
@@ -1,11 +1,21 @@
 package com.github.theoydr.eventmanagement.repository;
 
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
 import com.github.theoydr.eventmanagement.model.Booking;
 import com.github.theoydr.eventmanagement.model.Event;
 import com.github.theoydr.eventmanagement.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,5 +25,75 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     List<Booking> findByEvent(Event event);
 
+    /**
+     * Read-only listing: the returned bookings are not snapshotted for dirty checking and the query never
+     * triggers an auto-flush. Do not use it to load bookings that are going to be modified.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    List<Booking> findByUserId(Long userId);
+
+    /**
+     * Read-only listing; see {@link #findByUserId}.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    List<Booking> findByEventId(Long eventId);
+
     boolean existsByUserAndEvent(User user, Event event);
-}
\ No newline at end of file
+
+    /**
+     * Returns which of the given users already have a booking (in any status) for the event.
+     */
+    @Query("select b.user.id from Booking b where b.event.id = :eventId and b.user.id in :userIds")
+    List<Long> findUserIdsWithBooking(@Param("eventId") Long eventId, @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * Aggregates the raw booking rows of the given events.
+     * This is the expensive path and is reserved for reconciling the event_stats aggregate.
+     */
+    @Query("select b.event.id as eventId, " +
+            "sum(case when b.status = :confirmed then b.numberOfTickets else 0 end) as confirmedTickets, " +
+            "count(b) as bookingCount, " +
+            "sum(case when b.status = :cancelled then 1 else 0 end) as cancellationCount " +
+            "from Booking b where b.event.id in :eventIds group by b.event.id")
+    List<EventBookingTotals> aggregateByEventIds(@Param("eventIds") Collection<Long> eventIds,
+                                                 @Param("confirmed") BookingStatus confirmed,
+                                                 @Param("cancelled") BookingStatus cancelled);
+
+    /**
+     * Reads bookings with an id greater than {@code afterId} as flat facts, in id order.
+     * Used for keyset-paginated loading of the analytics column store.
+     */
+    @Query("select new com.github.theoydr.eventmanagement.repository.BookingFact(" +
+            "b.id, e.id, e.category, b.numberOfTickets, e.ticketPrice, b.bookingDateTime, b.status) " +
+            "from Booking b join b.event e where b.id > :afterId order by b.id")
+    List<BookingFact> findFactsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Reads bookings made after the given (booking time, id) position as flat facts, in that order.
+     * Used to re-read the recent bookings into the analytics column store.
+     */
+    @Query("select new com.github.theoydr.eventmanagement.repository.BookingFact(" +
+            "b.id, e.id, e.category, b.numberOfTickets, e.ticketPrice, b.bookingDateTime, b.status) " +
+            "from Booking b join b.event e " +
+            "where b.bookingDateTime > :afterTime or (b.bookingDateTime = :afterTime and b.id > :afterId) " +
+            "order by b.bookingDateTime, b.id")
+    List<BookingFact> findFactsBookedAfter(@Param("afterTime") LocalDateTime afterTime, @Param("afterId") Long afterId,
+                                           Limit limit);
+
+    /**
+     * Locks the bookings of the given events. Bookings are locked before their event_stats rows, the same order
+     * in which cancelling a booking locks them.
+     */
+    @Query(value = "select b.id from bookings b where b.event_id in (:eventIds) order by b.id for update", nativeQuery = true)
+    List<Long> lockIdsByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query("delete from Booking b where b.event.id in :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
+}
@@ -0,0 +1,16 @@
+package com.github.theoydr.eventmanagement.repository;
+
+/**
+ * Projection of booking totals aggregated from raw booking rows.
+ * Only used to (re)build the {@link com.github.theoydr.eventmanagement.model.EventStats} aggregate.
+ */
+public interface EventBookingTotals {
+
+    Long getEventId();
+
+    Long getConfirmedTickets();
+
+    Long getBookingCount();
+
+    Long getCancellationCount();
+}
@@ -3,11 +3,22 @@ package com.github.theoydr.eventmanagement.repository;
 import com.github.theoydr.eventmanagement.enums.EventStatus;
 import com.github.theoydr.eventmanagement.model.Event;
 import com.github.theoydr.eventmanagement.model.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
@@ -16,11 +27,67 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     List<Event> findByOrganizer(User organizer);
 
 
+    /**
+     * Read-only listing: the returned events are not snapshotted for dirty checking and the query never
+     * triggers an auto-flush. Do not use it to load events that are going to be modified.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.events-by-status"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
     List<Event> findByStatus(EventStatus status);
 
+    /**
+     * Read-only listing of all events; see {@link #findByStatus}.
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    List<Event> findAll();
+
 
     List<Event> findByStartDateTimeAfter(LocalDateTime dateTime);
 
     boolean existsByOrganizerAndStartDateTimeAndLocation(User organizer, LocalDateTime startDateTime, String location);
 
+    /**
+     * Set-based duplicate check for imports: returns the slots of existing events of the given organizers that
+     * start within the given range. Callers match the result against their candidate slots.
+     */
+    @Query("select new com.github.theoydr.eventmanagement.repository.EventSlot(e.organizer.id, e.startDateTime, e.location) " +
+            "from Event e where e.organizer.id in :organizerIds and e.startDateTime between :from and :to")
+    List<EventSlot> findSlots(@Param("organizerIds") Collection<Long> organizerIds,
+                              @Param("from") LocalDateTime from,
+                              @Param("to") LocalDateTime to);
+
+    @Query("select e.id from Event e order by e.id")
+    List<Long> findAllIds();
+
+    /**
+     * Locks the event row; serializes the creation of a missing event_stats row.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e from Event e where e.id = :eventId")
+    Optional<Event> lockById(@Param("eventId") Long eventId);
+
+    List<Event> findByOrganizerIdAndStatusNotAndStartDateTimeAfterOrderByStartDateTimeAsc(
+            Long organizerId, EventStatus status, LocalDateTime dateTime, Limit limit);
+
+    @Query("select e.id as eventId, e.capacity as capacity, e.ticketPrice as ticketPrice, " +
+            "coalesce(s.confirmedTickets, 0) as ticketsSold " +
+            "from Event e left join EventStats s on s.eventId = e.id " +
+            "where e.organizer.id = :organizerId order by e.id")
+    List<EventRevenue> findRevenueByOrganizerId(@Param("organizerId") Long organizerId);
+
+    @Query("select e.id from Event e where e.endDateTime < :cutoff order by e.endDateTime, e.id")
+    List<Long> findIdsEndedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    @Modifying
+    @Query("delete from Event e where e.id in :eventIds")
+    int deleteByIds(@Param("eventIds") Collection<Long> eventIds);
+
 }
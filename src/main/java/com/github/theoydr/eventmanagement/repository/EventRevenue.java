@@ -0,0 +1,15 @@
+package com.github.theoydr.eventmanagement.repository;
+
+/**
+ * Projection of the revenue figures of a single event.
+ */
+public interface EventRevenue {
+
+    Long getEventId();
+
+    Integer getCapacity();
+
+    Double getTicketPrice();
+
+    Integer getTicketsSold();
+}
@@ -0,0 +1,12 @@
+package com.github.theoydr.eventmanagement.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * The natural key of an event: an organizer cannot have two events starting at the same time and location.
+ */
+public record EventSlot(
+        Long organizerId,
+        LocalDateTime startDateTime,
+        String location
+) {}
@@ -0,0 +1,63 @@
+package com.github.theoydr.eventmanagement.repository;
+
+import com.github.theoydr.eventmanagement.model.EventStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EventStatsRepository extends JpaRepository<EventStats, Long> {
+
+    List<EventStats> findByEventIdIn(Collection<Long> eventIds);
+
+    @Query("select s from EventStats s where s.eventId in (select e.id from Event e where e.organizer.id = :organizerId)")
+    List<EventStats> findByOrganizerId(@Param("organizerId") Long organizerId);
+
+    /**
+     * Atomically reserves tickets for a new CONFIRMED booking.
+     * The capacity check and the increment happen in a single statement, so concurrent bookings cannot oversell.
+     *
+     * @return 1 if the tickets were reserved, 0 if the event does not have enough remaining capacity.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update EventStats s set s.confirmedTickets = s.confirmedTickets + :tickets, s.bookingCount = s.bookingCount + 1 " +
+            "where s.eventId = :eventId and s.confirmedTickets + :tickets <= :capacity")
+    int reserveTickets(@Param("eventId") Long eventId, @Param("tickets") int tickets, @Param("capacity") int capacity);
+
+    /**
+     * Atomically reserves tickets for several new CONFIRMED bookings of the same event: either all of them fit
+     * into the remaining capacity or none is reserved.
+     *
+     * @return 1 if the tickets were reserved, 0 if the event does not have enough remaining capacity.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update EventStats s set s.confirmedTickets = s.confirmedTickets + :tickets, s.bookingCount = s.bookingCount + :bookings " +
+            "where s.eventId = :eventId and s.confirmedTickets + :tickets <= :capacity")
+    int reserveTickets(@Param("eventId") Long eventId, @Param("tickets") int tickets, @Param("bookings") int bookings,
+                       @Param("capacity") int capacity);
+
+    /**
+     * Records a cancellation, releasing the tickets it held.
+     *
+     * @return The number of updated rows.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update EventStats s set s.confirmedTickets = s.confirmedTickets - :tickets, s.cancellationCount = s.cancellationCount + 1 " +
+            "where s.eventId = :eventId")
+    int releaseTickets(@Param("eventId") Long eventId, @Param("tickets") int tickets);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from EventStats s where s.eventId in :eventIds")
+    List<EventStats> lockByEventIds(@Param("eventIds") Collection<Long> eventIds);
+
+    @Modifying
+    @Query("delete from EventStats s where s.eventId in :eventIds")
+    int deleteByEventIds(@Param("eventIds") Collection<Long> eventIds);
+}
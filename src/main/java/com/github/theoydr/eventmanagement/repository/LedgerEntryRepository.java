@@ -0,0 +1,19 @@
+package com.github.theoydr.eventmanagement.repository;
+
+import com.github.theoydr.eventmanagement.model.LedgerEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    @Query("select new com.github.theoydr.eventmanagement.repository.LedgerFact(" +
+            "l.seq, l.entryType, l.eventId, l.bookingId, l.userId, l.tickets, l.recordedAt) " +
+            "from LedgerEntry l where l.seq > :afterSeq order by l.seq")
+    List<LedgerFact> findFactsAfter(@Param("afterSeq") Long afterSeq, Limit limit);
+}
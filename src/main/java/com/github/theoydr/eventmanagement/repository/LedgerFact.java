@@ -0,0 +1,18 @@
+package com.github.theoydr.eventmanagement.repository;
+
+import com.github.theoydr.eventmanagement.enums.LedgerEntryType;
+
+import java.time.Instant;
+
+/**
+ * Flat, entity-free view of a ledger entry used to replay the booking ledger projections.
+ */
+public record LedgerFact(
+        Long seq,
+        LedgerEntryType entryType,
+        Long eventId,
+        Long bookingId,
+        Long userId,
+        Integer tickets,
+        Instant recordedAt
+) {}
@@ -0,0 +1,47 @@
+package com.github.theoydr.eventmanagement.repository;
+
+import com.github.theoydr.eventmanagement.model.OutboxMessage;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Locks the next unpublished messages that are due for a delivery attempt, oldest first.
+     * Rows locked by another relay instance are skipped (lock timeout -2 is Hibernate's SKIP LOCKED).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select m from OutboxMessage m where m.publishedAt is null and m.nextAttemptAt <= :now order by m.id")
+    List<OutboxMessage> lockDue(@Param("now") Instant now, Limit limit);
+
+    @Modifying
+    @Query("update OutboxMessage m set m.publishedAt = :publishedAt, m.attempts = m.attempts + 1, m.lastError = null " +
+            "where m.id in :ids")
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("publishedAt") Instant publishedAt);
+
+    @Modifying
+    @Query("update OutboxMessage m set m.attempts = m.attempts + 1, m.lastError = :error, m.nextAttemptAt = :nextAttemptAt " +
+            "where m.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error, @Param("nextAttemptAt") Instant nextAttemptAt);
+
+    @Query("select min(m.occurredAt) from OutboxMessage m where m.publishedAt is null")
+    Instant findOldestUnpublishedOccurredAt();
+
+    @Modifying
+    @Query("delete from OutboxMessage m where m.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,6 @@
+package com.github.theoydr.eventmanagement.repository;
+
+/**
+ * The unique attributes of a user, as needed to check a bulk import for conflicts.
+ */
+public record UserIdentity(String username, String email) {}
@@ -1,14 +1,44 @@
 package com.github.theoydr.eventmanagement.repository;
 
 import com.github.theoydr.eventmanagement.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.users-by-email")
+    })
     Optional<User> findByEmail(String email);
 
+    /**
+     * Read-only listing: the returned users are not snapshotted for dirty checking and the query never
+     * triggers an auto-flush. Do not use it to load users that are going to be modified.
+     */
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "MANUAL")
+    })
+    List<User> findAll();
+
+    /**
+     * Set-based uniqueness check for imports: returns the users that already hold any of the given emails or
+     * usernames. Callers match the result against their candidates.
+     */
+    @Query("select new com.github.theoydr.eventmanagement.repository.UserIdentity(u.username, u.email) " +
+            "from User u where u.email in :emails or u.username in :usernames")
+    List<UserIdentity> findIdentities(@Param("emails") Collection<String> emails,
+                                      @Param("usernames") Collection<String> usernames);
 }
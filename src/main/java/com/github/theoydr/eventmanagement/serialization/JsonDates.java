@@ -0,0 +1,65 @@
+package com.github.theoydr.eventmanagement.serialization;
+
+import tools.jackson.core.JsonGenerator;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes dates in the same ISO-8601 form as Jackson's default serializer, straight from the date fields into a
+ * small character buffer, without a formatter, a print context or an intermediate string.
+ */
+final class JsonDates {
+
+    // yyyy-MM-ddTHH:mm:ss.nnnnnnnnn
+    private static final int MAX_LENGTH = 29;
+
+    private JsonDates() {}
+
+    static void write(JsonGenerator generator, LocalDateTime value) {
+        if (value == null) {
+            generator.writeNull();
+            return;
+        }
+        int year = value.getYear();
+        if (year < 0 || year > 9999) {
+            // Signed and expanded years are rare enough to leave to the formatter.
+            generator.writeString(value.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME));
+            return;
+        }
+
+        char[] buffer = new char[MAX_LENGTH];
+        int position = digits(buffer, 0, year, 4);
+        buffer[position++] = '-';
+        position = digits(buffer, position, value.getMonthValue(), 2);
+        buffer[position++] = '-';
+        position = digits(buffer, position, value.getDayOfMonth(), 2);
+        buffer[position++] = 'T';
+        position = digits(buffer, position, value.getHour(), 2);
+        buffer[position++] = ':';
+        position = digits(buffer, position, value.getMinute(), 2);
+        buffer[position++] = ':';
+        position = digits(buffer, position, value.getSecond(), 2);
+
+        int nano = value.getNano();
+        if (nano != 0) {
+            // Like ISO_LOCAL_DATE_TIME: as many fraction digits as needed, trailing zeros dropped.
+            int width = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                width--;
+            }
+            buffer[position++] = '.';
+            position = digits(buffer, position, nano, width);
+        }
+        generator.writeString(buffer, 0, position);
+    }
+
+    private static int digits(char[] buffer, int position, int value, int width) {
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + width;
+    }
+}
@@ -0,0 +1,240 @@
+package com.github.theoydr.eventmanagement.serialization;
+
+import com.github.theoydr.eventmanagement.dto.AttendeeResponse;
+import com.github.theoydr.eventmanagement.dto.BookingResponse;
+import com.github.theoydr.eventmanagement.dto.EventResponse;
+import com.github.theoydr.eventmanagement.dto.EventStatsResponse;
+import com.github.theoydr.eventmanagement.dto.OrganizerResponse;
+import com.github.theoydr.eventmanagement.dto.UserResponse;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Hand-written serializers for the response records most of the API returns.
+ *
+ * They write the fields in declaration order with pre-encoded property names and no reflective property lookup,
+ * and produce exactly the documents of Jackson's default record serialization (ISO dates, nulls written, event
+ * stats only when present). A mapper setting that changes those defaults, such as a global inclusion rule or a
+ * naming strategy, does not apply to these types.
+ */
+public class ResponseSerializers extends SimpleModule {
+
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString EMAIL = new SerializedString("email");
+    private static final SerializableString ROLE = new SerializedString("role");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString LOCATION = new SerializedString("location");
+    private static final SerializableString START_DATE_TIME = new SerializedString("startDateTime");
+    private static final SerializableString END_DATE_TIME = new SerializedString("endDateTime");
+    private static final SerializableString CAPACITY = new SerializedString("capacity");
+    private static final SerializableString TICKET_PRICE = new SerializedString("ticketPrice");
+    private static final SerializableString CATEGORY = new SerializedString("category");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString ORGANIZER = new SerializedString("organizer");
+    private static final SerializableString STATS = new SerializedString("stats");
+    private static final SerializableString TICKETS_SOLD = new SerializedString("ticketsSold");
+    private static final SerializableString REMAINING_CAPACITY = new SerializedString("remainingCapacity");
+    private static final SerializableString BOOKING_COUNT = new SerializedString("bookingCount");
+    private static final SerializableString CANCELLATION_COUNT = new SerializedString("cancellationCount");
+    private static final SerializableString NUMBER_OF_TICKETS = new SerializedString("numberOfTickets");
+    private static final SerializableString BOOKING_DATE_TIME = new SerializedString("bookingDateTime");
+    private static final SerializableString EVENT = new SerializedString("event");
+    private static final SerializableString USER = new SerializedString("user");
+
+    public ResponseSerializers() {
+        super("ResponseSerializers");
+        addSerializer(EventResponse.class, new Serializer<>(EventResponse.class) {
+            @Override
+            void write(EventResponse value, JsonGenerator generator) {
+                writeEvent(value, generator);
+            }
+        });
+        addSerializer(BookingResponse.class, new Serializer<>(BookingResponse.class) {
+            @Override
+            void write(BookingResponse value, JsonGenerator generator) {
+                writeBooking(value, generator);
+            }
+        });
+        addSerializer(UserResponse.class, new Serializer<>(UserResponse.class) {
+            @Override
+            void write(UserResponse value, JsonGenerator generator) {
+                writeUser(value, generator);
+            }
+        });
+        addSerializer(OrganizerResponse.class, new Serializer<>(OrganizerResponse.class) {
+            @Override
+            void write(OrganizerResponse value, JsonGenerator generator) {
+                writeOrganizer(value, generator);
+            }
+        });
+        addSerializer(AttendeeResponse.class, new Serializer<>(AttendeeResponse.class) {
+            @Override
+            void write(AttendeeResponse value, JsonGenerator generator) {
+                writeAttendee(value, generator);
+            }
+        });
+        addSerializer(EventStatsResponse.class, new Serializer<>(EventStatsResponse.class) {
+            @Override
+            void write(EventStatsResponse value, JsonGenerator generator) {
+                writeStats(value, generator);
+            }
+        });
+    }
+
+    /**
+     * Writes non-null values; nested records are written directly instead of through a serializer lookup.
+     */
+    private abstract static class Serializer<T> extends StdSerializer<T> {
+
+        Serializer(Class<T> type) {
+            super(type);
+        }
+
+        @Override
+        public void serialize(T value, JsonGenerator generator, SerializationContext context) {
+            write(value, generator);
+        }
+
+        abstract void write(T value, JsonGenerator generator);
+    }
+
+    private static void writeEvent(EventResponse event, JsonGenerator generator) {
+        generator.writeStartObject(event);
+        generator.writeName(ID);
+        writeNumber(generator, event.id());
+        generator.writeName(TITLE);
+        generator.writeString(event.title());
+        generator.writeName(DESCRIPTION);
+        generator.writeString(event.description());
+        generator.writeName(LOCATION);
+        generator.writeString(event.location());
+        generator.writeName(START_DATE_TIME);
+        JsonDates.write(generator, event.startDateTime());
+        generator.writeName(END_DATE_TIME);
+        JsonDates.write(generator, event.endDateTime());
+        generator.writeName(CAPACITY);
+        writeNumber(generator, event.capacity());
+        generator.writeName(TICKET_PRICE);
+        if (event.ticketPrice() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(event.ticketPrice().doubleValue());
+        }
+        generator.writeName(CATEGORY);
+        writeEnum(generator, event.category());
+        generator.writeName(STATUS);
+        writeEnum(generator, event.status());
+        generator.writeName(ORGANIZER);
+        if (event.organizer() == null) {
+            generator.writeNull();
+        } else {
+            writeOrganizer(event.organizer(), generator);
+        }
+        if (event.stats() != null) {
+            generator.writeName(STATS);
+            writeStats(event.stats(), generator);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeStats(EventStatsResponse stats, JsonGenerator generator) {
+        generator.writeStartObject(stats);
+        generator.writeName(TICKETS_SOLD);
+        writeNumber(generator, stats.ticketsSold());
+        generator.writeName(REMAINING_CAPACITY);
+        writeNumber(generator, stats.remainingCapacity());
+        generator.writeName(BOOKING_COUNT);
+        writeNumber(generator, stats.bookingCount());
+        generator.writeName(CANCELLATION_COUNT);
+        writeNumber(generator, stats.cancellationCount());
+        generator.writeEndObject();
+    }
+
+    private static void writeBooking(BookingResponse booking, JsonGenerator generator) {
+        generator.writeStartObject(booking);
+        generator.writeName(ID);
+        writeNumber(generator, booking.id());
+        generator.writeName(NUMBER_OF_TICKETS);
+        writeNumber(generator, booking.numberOfTickets());
+        generator.writeName(BOOKING_DATE_TIME);
+        JsonDates.write(generator, booking.bookingDateTime());
+        generator.writeName(STATUS);
+        writeEnum(generator, booking.status());
+        generator.writeName(EVENT);
+        if (booking.event() == null) {
+            generator.writeNull();
+        } else {
+            writeEvent(booking.event(), generator);
+        }
+        generator.writeName(USER);
+        if (booking.user() == null) {
+            generator.writeNull();
+        } else {
+            writeAttendee(booking.user(), generator);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeUser(UserResponse user, JsonGenerator generator) {
+        generator.writeStartObject(user);
+        generator.writeName(ID);
+        writeNumber(generator, user.id());
+        generator.writeName(NAME);
+        generator.writeString(user.name());
+        generator.writeName(EMAIL);
+        generator.writeString(user.email());
+        generator.writeName(ROLE);
+        writeEnum(generator, user.role());
+        generator.writeEndObject();
+    }
+
+    private static void writeOrganizer(OrganizerResponse organizer, JsonGenerator generator) {
+        generator.writeStartObject(organizer);
+        generator.writeName(ID);
+        writeNumber(generator, organizer.id());
+        generator.writeName(NAME);
+        generator.writeString(organizer.name());
+        generator.writeEndObject();
+    }
+
+    private static void writeAttendee(AttendeeResponse attendee, JsonGenerator generator) {
+        generator.writeStartObject(attendee);
+        generator.writeName(ID);
+        writeNumber(generator, attendee.id());
+        generator.writeName(NAME);
+        generator.writeString(attendee.name());
+        generator.writeName(EMAIL);
+        generator.writeString(attendee.email());
+        generator.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator generator, Long value) {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, Integer value) {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value.intValue());
+        }
+    }
+
+    private static void writeEnum(JsonGenerator generator, Enum<?> value) {
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value.name());
+        }
+    }
+}
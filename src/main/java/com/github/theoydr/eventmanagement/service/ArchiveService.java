@@ -0,0 +1,48 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.model.ArchivedBooking;
+import com.github.theoydr.eventmanagement.model.ArchivedEvent;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service interface for reading archived events and bookings.
+ * The archive is read-only; it is filled by the {@link EventArchiver}.
+ */
+public interface ArchiveService {
+
+    /**
+     * Finds an archived event by its ID.
+     *
+     * @param eventId The ID the event had in the hot table.
+     * @return An Optional containing the archived event if found.
+     */
+    Optional<ArchivedEvent> findArchivedEventById(Long eventId);
+
+    /**
+     * Finds the archived events of an organizer, most recent first.
+     *
+     * @param organizerId The ID of the organizer.
+     * @return A list of archived events.
+     */
+    List<ArchivedEvent> findArchivedEventsByOrganizer(Long organizerId);
+
+    /**
+     * Finds the archived bookings of an archived event.
+     *
+     * @param eventId The ID of the archived event.
+     * @return A list of archived bookings.
+     * @throws ResourceNotFoundException if no archived event is found with the given ID.
+     */
+    List<ArchivedBooking> findArchivedBookingsForEvent(Long eventId);
+
+    /**
+     * Finds the archived bookings of a user, most recent first.
+     *
+     * @param userId The ID of the user.
+     * @return A list of archived bookings.
+     */
+    List<ArchivedBooking> findArchivedBookingsByUser(Long userId);
+}
@@ -0,0 +1,55 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.model.ArchivedBooking;
+import com.github.theoydr.eventmanagement.model.ArchivedEvent;
+import com.github.theoydr.eventmanagement.repository.ArchivedBookingRepository;
+import com.github.theoydr.eventmanagement.repository.ArchivedEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@Transactional(readOnly = true)
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private static final Logger log = LoggerFactory.getLogger(ArchiveServiceImpl.class);
+
+    public ArchiveServiceImpl(ArchivedEventRepository archivedEventRepository, ArchivedBookingRepository archivedBookingRepository) {
+        this.archivedEventRepository = archivedEventRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+    }
+
+    @Override
+    public Optional<ArchivedEvent> findArchivedEventById(Long eventId) {
+        log.debug("Fetching archived event by ID: {}", eventId);
+        return archivedEventRepository.findById(eventId);
+    }
+
+    @Override
+    public List<ArchivedEvent> findArchivedEventsByOrganizer(Long organizerId) {
+        log.debug("Fetching archived events of organizer: {}", organizerId);
+        return archivedEventRepository.findByOrganizerIdOrderByStartDateTimeDesc(organizerId);
+    }
+
+    @Override
+    public List<ArchivedBooking> findArchivedBookingsForEvent(Long eventId) {
+        log.debug("Fetching archived bookings for event: {}", eventId);
+        if (!archivedEventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("archived event", "id", eventId);
+        }
+        return archivedBookingRepository.findByEventIdOrderById(eventId);
+    }
+
+    @Override
+    public List<ArchivedBooking> findArchivedBookingsByUser(Long userId) {
+        log.debug("Fetching archived bookings for user: {}", userId);
+        return archivedBookingRepository.findByUserIdOrderByBookingDateTimeDesc(userId);
+    }
+}
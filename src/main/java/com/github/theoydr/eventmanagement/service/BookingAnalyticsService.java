@@ -0,0 +1,43 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.RevenueReportRow;
+import com.github.theoydr.eventmanagement.dto.SalesVelocityResponse;
+import com.github.theoydr.eventmanagement.enums.ReportGrouping;
+import com.github.theoydr.eventmanagement.exception.InvalidRequestException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Service interface for booking analytics.
+ * Reports are computed from an in-memory copy of the bookings that trails the database by a few seconds.
+ */
+public interface BookingAnalyticsService {
+
+    /**
+     * Aggregates the CONFIRMED bookings made within {@code [from, to)} by the given grouping.
+     *
+     * @param grouping The attribute to group by.
+     * @param from The inclusive start of the booking time range.
+     * @param to The exclusive end of the booking time range.
+     * @return One row per group with at least one booking, ordered by revenue descending.
+     * @throws InvalidRequestException if the time range is empty.
+     * @throws ServiceUnavailableException if the analytics data has not been loaded yet.
+     */
+    List<RevenueReportRow> getRevenueReport(ReportGrouping grouping, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Buckets the CONFIRMED bookings made within {@code [from, to)} by booking time.
+     *
+     * @param eventId Restricts the report to a single event, or all events if null.
+     * @param from The inclusive start of the booking time range.
+     * @param to The exclusive end of the booking time range.
+     * @param bucket The width of each bucket.
+     * @return The sales per bucket, including empty buckets.
+     * @throws InvalidRequestException if the time range is empty or the report would produce too many buckets.
+     * @throws ServiceUnavailableException if the analytics data has not been loaded yet.
+     */
+    SalesVelocityResponse getSalesVelocity(Long eventId, LocalDateTime from, LocalDateTime to, Duration bucket);
+}
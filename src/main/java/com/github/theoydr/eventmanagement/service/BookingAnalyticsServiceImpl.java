@@ -0,0 +1,221 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.analytics.BookingColumnStore;
+import com.github.theoydr.eventmanagement.analytics.BookingColumnStore.GroupTotals;
+import com.github.theoydr.eventmanagement.domain.BookingChangedEvent;
+import com.github.theoydr.eventmanagement.dto.RevenueReportRow;
+import com.github.theoydr.eventmanagement.dto.SalesBucketResponse;
+import com.github.theoydr.eventmanagement.dto.SalesVelocityResponse;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.ReportGrouping;
+import com.github.theoydr.eventmanagement.exception.InvalidRequestException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+import com.github.theoydr.eventmanagement.repository.ArchivedBookingRepository;
+import com.github.theoydr.eventmanagement.repository.BookingFact;
+import com.github.theoydr.eventmanagement.repository.BookingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/**
+ * Serves booking reports from a {@link BookingColumnStore} instead of scanning the bookings table.
+ *
+ * The store is loaded in id-ordered chunks on startup, from the bookings table and from the archive (so that the
+ * bookings of archived events stay in the reports), and then refreshed by re-reading the bookings made since
+ * the previous load, and within the reload window before it. Ids come from pooled sequence blocks, so a booking
+ * of one instance can commit long after higher ids of another instance: a high-water mark on the id would skip
+ * it. Booking times follow commit order up to the transaction duration instead, so re-reading the window picks
+ * up any booking whose transaction commits within {@code reload-window} of its booking time. Cancellations are
+ * applied from {@link BookingChangedEvent}s after commit, and a periodic full rebuild repairs anything the
+ * incremental path could have missed.
+ */
+@Service
+public class BookingAnalyticsServiceImpl implements BookingAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingAnalyticsServiceImpl.class);
+    private static final EventCategory[] CATEGORIES = EventCategory.values();
+
+    private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final int chunkSize;
+    private final Duration reloadWindow;
+    private final int maxBuckets;
+
+    private volatile BookingColumnStore store;
+    private volatile BookingColumnStore rebuilding;
+
+    public BookingAnalyticsServiceImpl(BookingRepository bookingRepository,
+                                       ArchivedBookingRepository archivedBookingRepository,
+                                       @Value("${app.analytics.chunk-size:10000}") int chunkSize,
+                                       @Value("${app.analytics.reload-window:PT1M}") Duration reloadWindow,
+                                       @Value("${app.analytics.max-buckets:1000}") int maxBuckets) {
+        this.bookingRepository = bookingRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.reloadWindow = reloadWindow;
+        this.maxBuckets = maxBuckets;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(cron = "${app.analytics.rebuild-cron:0 0 4 * * *}")
+    public void rebuildScheduled() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-interval:PT10S}", initialDelayString = "${app.analytics.refresh-interval:PT10S}")
+    public void refresh() {
+        BookingColumnStore current = store;
+        if (current != null) {
+            loadRecent(current);
+        }
+    }
+
+    /**
+     * Loads a fresh store from the database and swaps it in once complete.
+     * Reports keep being served from the previous store in the meantime.
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        BookingColumnStore fresh = new BookingColumnStore();
+        rebuilding = fresh;
+        try {
+            loadAll(fresh);
+            store = fresh;
+        } finally {
+            rebuilding = null;
+        }
+        log.info("Booking analytics loaded {} bookings in {} ms", fresh.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        if (event.status() != BookingStatus.CANCELLED) {
+            return;
+        }
+        BookingColumnStore current = store;
+        if (current != null) {
+            current.markCancelled(event.bookingId());
+        }
+        BookingColumnStore pending = rebuilding;
+        if (pending != null) {
+            pending.markCancelled(event.bookingId());
+        }
+    }
+
+    @Override
+    public List<RevenueReportRow> getRevenueReport(ReportGrouping grouping, LocalDateTime from, LocalDateTime to) {
+        requireRange(from, to);
+        BookingColumnStore current = requireStore();
+
+        GroupTotals totals = grouping == ReportGrouping.CATEGORY
+                ? current.totalsByCategory(from, to)
+                : current.totalsByEvent(from, to);
+
+        List<RevenueReportRow> rows = new ArrayList<>();
+        for (int i = 0; i < totals.groupKeys().length; i++) {
+            if (totals.bookings()[i] == 0) {
+                continue;
+            }
+            long key = totals.groupKeys()[i];
+            String group = grouping == ReportGrouping.CATEGORY ? CATEGORIES[(int) key].name() : Long.toString(key);
+            rows.add(new RevenueReportRow(group, totals.bookings()[i], totals.tickets()[i], totals.revenue()[i]));
+        }
+        rows.sort(Comparator.comparing(RevenueReportRow::revenue).reversed());
+        return rows;
+    }
+
+    @Override
+    public SalesVelocityResponse getSalesVelocity(Long eventId, LocalDateTime from, LocalDateTime to, Duration bucket) {
+        requireRange(from, to);
+        long bucketSeconds = bucket.toSeconds();
+        if (bucketSeconds <= 0) {
+            throw new InvalidRequestException("bucket must be at least one second");
+        }
+        long bucketCount = (Duration.between(from, to).toSeconds() + bucketSeconds - 1) / bucketSeconds;
+        if (bucketCount > maxBuckets) {
+            throw new InvalidRequestException("the report would produce " + bucketCount + " buckets, the maximum is " + maxBuckets);
+        }
+        BookingColumnStore current = requireStore();
+
+        GroupTotals totals = current.totalsByTimeBucket(from, to, bucketSeconds, eventId);
+        List<SalesBucketResponse> buckets = new ArrayList<>(totals.groupKeys().length);
+        for (int i = 0; i < totals.groupKeys().length; i++) {
+            buckets.add(new SalesBucketResponse(
+                    from.plusSeconds(totals.groupKeys()[i] * bucketSeconds),
+                    totals.bookings()[i],
+                    totals.tickets()[i],
+                    totals.revenue()[i]));
+        }
+        return new SalesVelocityResponse(eventId, from, to, Duration.ofSeconds(bucketSeconds), buckets);
+    }
+
+    private synchronized void loadAll(BookingColumnStore target) {
+        LocalDateTime start = LocalDateTime.now();
+        loadChunked(target, bookingRepository::findFactsAfter);
+        // After the hot table: a booking archived in between is then read twice (which the store absorbs)
+        // instead of not at all.
+        loadChunked(target, archivedBookingRepository::findFactsAfter);
+        // Bookings committed behind the id keyset are re-read by the following refreshes.
+        target.markLoadedUntil(start);
+    }
+
+    private void loadChunked(BookingColumnStore target, BiFunction<Long, Limit, List<BookingFact>> findFactsAfter) {
+        long afterId = 0;
+        while (true) {
+            List<BookingFact> facts = findFactsAfter.apply(afterId, Limit.of(chunkSize));
+            target.append(facts);
+            if (facts.size() < chunkSize) {
+                break;
+            }
+            afterId = facts.getLast().bookingId();
+        }
+    }
+
+    private synchronized void loadRecent(BookingColumnStore target) {
+        LocalDateTime start = LocalDateTime.now();
+        LocalDateTime afterTime = target.loadedUntil().minus(reloadWindow);
+        long afterId = 0;
+        while (true) {
+            List<BookingFact> facts = bookingRepository.findFactsBookedAfter(afterTime, afterId, Limit.of(chunkSize));
+            target.append(facts);
+            if (facts.size() < chunkSize) {
+                break;
+            }
+            afterTime = facts.getLast().bookingDateTime();
+            afterId = facts.getLast().bookingId();
+        }
+        target.markLoadedUntil(start);
+    }
+
+    private BookingColumnStore requireStore() {
+        BookingColumnStore current = store;
+        if (current == null) {
+            throw new ServiceUnavailableException("booking analytics are still loading");
+        }
+        return current;
+    }
+
+    private static void requireRange(LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new InvalidRequestException("'from' must be before 'to'");
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.domain.BookingIntent;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Service interface for accepting bookings quickly and processing them in the background.
+ */
+public interface BookingIntentService {
+
+    /**
+     * Validates and enqueues a booking request. The booking rules themselves (capacity, duplicates, event state)
+     * are applied when the intent is processed, and reported in its outcome.
+     *
+     * @param userId The ID of the user making the booking.
+     * @param eventId The ID of the event being booked.
+     * @param numberOfTickets The number of tickets to book.
+     * @return The PENDING intent.
+     * @throws ResourceNotFoundException if the user or event is not found.
+     * @throws ServiceUnavailableException if the queue is full or the application is shutting down.
+     */
+    BookingIntent submit(Long userId, Long eventId, Integer numberOfTickets);
+
+    /**
+     * @return The current state of the intent, or empty if it is unknown or its outcome has expired.
+     */
+    Optional<BookingIntent> findIntent(String intentId);
+
+    /**
+     * @return A future completed with the outcome of the intent (immediately if it is already processed),
+     *         or empty if the intent is unknown.
+     */
+    Optional<CompletableFuture<BookingIntent>> awaitOutcome(String intentId);
+}
@@ -0,0 +1,280 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.cache.ExistenceCache;
+import com.github.theoydr.eventmanagement.domain.BookingIntent;
+import com.github.theoydr.eventmanagement.exception.EventBookingException;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+import com.github.theoydr.eventmanagement.model.Booking;
+import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processes booking intents on a fixed set of worker lanes.
+ *
+ * Every event is assigned to one lane (by its id), so the intents of an event are processed one after another by the
+ * same worker and never contend with each other for the event's capacity row; different events proceed in parallel.
+ * A worker drains up to {@code batch-size} queued intents at a time and processes them grouped by event, each through
+ * {@link BookingService#createBooking} in its own transaction. A booking that fails on a temporary outage (no
+ * connection or transaction, a lock or query timeout) is retried up to {@code max-attempts} times with a growing
+ * backoff; if it still fails, the intent is cancelled as {@code retryable} instead of as rejected.
+ *
+ * Intents and their outcomes are held in memory: they are not visible to other instances and are lost on restart.
+ * Outcomes are kept for {@code app.bookings.async.retention} after processing.
+ */
+@Service
+public class BookingIntentServiceImpl implements BookingIntentService, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingIntentServiceImpl.class);
+    private static final long POLL_INTERVAL_MILLIS = 200;
+
+    private final BookingService bookingService;
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final ExistenceCache existenceCache;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration retention;
+    private final Duration shutdownTimeout;
+
+    private final List<BlockingQueue<Tracked>> lanes;
+    private final ConcurrentMap<String, Tracked> intents = new ConcurrentHashMap<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    public BookingIntentServiceImpl(BookingService bookingService, UserRepository userRepository,
+                                    EventRepository eventRepository, ExistenceCache existenceCache,
+                                    @Value("${app.bookings.async.workers:4}") int workerCount,
+                                    @Value("${app.bookings.async.queue-capacity:10000}") int queueCapacity,
+                                    @Value("${app.bookings.async.batch-size:100}") int batchSize,
+                                    @Value("${app.bookings.async.max-attempts:3}") int maxAttempts,
+                                    @Value("${app.bookings.async.retry-backoff:PT0.2S}") Duration retryBackoff,
+                                    @Value("${app.bookings.async.retention:PT10M}") Duration retention,
+                                    @Value("${app.bookings.async.shutdown-timeout:PT10S}") Duration shutdownTimeout) {
+        this.bookingService = bookingService;
+        this.userRepository = userRepository;
+        this.eventRepository = eventRepository;
+        this.existenceCache = existenceCache;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoff = retryBackoff;
+        this.retention = retention;
+        this.shutdownTimeout = shutdownTimeout;
+
+        int laneCapacity = Math.max(1, queueCapacity / Math.max(1, workerCount));
+        List<BlockingQueue<Tracked>> queues = new ArrayList<>(workerCount);
+        for (int i = 0; i < Math.max(1, workerCount); i++) {
+            queues.add(new ArrayBlockingQueue<>(laneCapacity));
+        }
+        this.lanes = List.copyOf(queues);
+    }
+
+    @Override
+    public BookingIntent submit(Long userId, Long eventId, Integer numberOfTickets) {
+        if (!running) {
+            throw new ServiceUnavailableException("Booking intents are not being accepted right now");
+        }
+        if (!existenceCache.exists("user", userId, userRepository::existsById)) {
+            throw new ResourceNotFoundException("user", "id", userId);
+        }
+        if (!existenceCache.exists("event", eventId, eventRepository::existsById)) {
+            throw new ResourceNotFoundException("event", "id", eventId);
+        }
+
+        Tracked tracked = new Tracked(BookingIntent.pending(UUID.randomUUID().toString(), userId, eventId, numberOfTickets,
+                Instant.now()));
+        intents.put(tracked.intent.id(), tracked);
+        if (!laneOf(eventId).offer(tracked)) {
+            intents.remove(tracked.intent.id());
+            log.warn("Booking intent queue full, rejecting intent for Event ID: {}", eventId);
+            throw new ServiceUnavailableException("Too many bookings are waiting to be processed");
+        }
+        log.debug("Accepted booking intent {} for User ID: {} on Event ID: {}", tracked.intent.id(), userId, eventId);
+        return tracked.intent;
+    }
+
+    @Override
+    public Optional<BookingIntent> findIntent(String intentId) {
+        return Optional.ofNullable(intents.get(intentId)).map(tracked -> tracked.intent);
+    }
+
+    @Override
+    public Optional<CompletableFuture<BookingIntent>> awaitOutcome(String intentId) {
+        return Optional.ofNullable(intents.get(intentId)).map(tracked -> tracked.outcome);
+    }
+
+    /**
+     * Forgets the outcomes that have been kept for longer than the retention.
+     */
+    @Scheduled(fixedDelayString = "${app.bookings.async.purge-interval:PT1M}")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        intents.values().removeIf(tracked -> {
+            Instant completedAt = tracked.intent.completedAt();
+            return completedAt != null && completedAt.isBefore(cutoff);
+        });
+    }
+
+    public int queuedCount() {
+        return lanes.stream().mapToInt(BlockingQueue::size).sum();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        for (int i = 0; i < lanes.size(); i++) {
+            BlockingQueue<Tracked> lane = lanes.get(i);
+            workers.add(Thread.ofPlatform().name("booking-intent-" + i).daemon().start(() -> work(lane)));
+        }
+        log.info("Processing booking intents on {} lanes", lanes.size());
+    }
+
+    @Override
+    public void stop() {
+        // Stop accepting, then give the workers time to finish what was already accepted.
+        running = false;
+        long deadline = System.nanoTime() + shutdownTimeout.toNanos();
+        for (Thread worker : workers) {
+            try {
+                worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+        if (queuedCount() > 0) {
+            log.warn("{} booking intents were still queued at shutdown and are lost", queuedCount());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private BlockingQueue<Tracked> laneOf(Long eventId) {
+        return lanes.get(Math.floorMod(Long.hashCode(eventId), lanes.size()));
+    }
+
+    private void work(BlockingQueue<Tracked> lane) {
+        List<Tracked> batch = new ArrayList<>(batchSize);
+        while (true) {
+            Tracked first;
+            try {
+                first = lane.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                if (!running) {
+                    return; // Stopped and drained
+                }
+                continue;
+            }
+            batch.add(first);
+            lane.drainTo(batch, batchSize - 1);
+            processGroupedByEvent(batch);
+            batch.clear();
+        }
+    }
+
+    private void processGroupedByEvent(List<Tracked> batch) {
+        Map<Long, List<Tracked>> byEvent = new LinkedHashMap<>();
+        for (Tracked tracked : batch) {
+            byEvent.computeIfAbsent(tracked.intent.eventId(), eventId -> new ArrayList<>()).add(tracked);
+        }
+        byEvent.values().forEach(group -> group.forEach(this::process));
+    }
+
+    private void process(Tracked tracked) {
+        BookingIntent intent = tracked.intent;
+        BookingIntent outcome = null;
+        for (int attempt = 1; outcome == null; attempt++) {
+            try {
+                Booking booking = bookingService.createBooking(intent.userId(), intent.eventId(), intent.numberOfTickets());
+                outcome = intent.confirmed(booking.getId(), Instant.now());
+            } catch (EventBookingException e) {
+                outcome = intent.rejected(e.getReasonCode(), e.getMessage(), Instant.now());
+            } catch (ResourceNotFoundException e) {
+                outcome = intent.rejected(null, e.getMessage(), Instant.now());
+            } catch (RuntimeException e) {
+                if (!isTransient(e)) {
+                    log.error("Booking intent {} could not be processed", intent.id(), e);
+                    outcome = intent.rejected(null, "The booking could not be processed", Instant.now());
+                } else if (attempt < maxAttempts && backOff(attempt)) {
+                    log.warn("Booking intent {} failed on attempt {}, retrying: {}", intent.id(), attempt, e.toString());
+                } else {
+                    log.error("Booking intent {} failed after {} attempts", intent.id(), attempt, e);
+                    outcome = intent.failed("The booking could not be processed right now, please submit it again", Instant.now());
+                }
+            }
+        }
+        tracked.intent = outcome;
+        tracked.outcome.complete(outcome);
+    }
+
+    /**
+     * @return False if interrupted, in which case the caller should give up.
+     */
+    private boolean backOff(int attempt) {
+        try {
+            Thread.sleep(retryBackoff.multipliedBy(attempt));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Whether the failure is an outage rather than a problem with the request, so that trying again may succeed.
+     */
+    private static boolean isTransient(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException || cause instanceof ServiceUnavailableException
+                    || cause instanceof SQLTransientException || cause instanceof SQLRecoverableException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static final class Tracked {
+        private volatile BookingIntent intent;
+        private final CompletableFuture<BookingIntent> outcome = new CompletableFuture<>();
+
+        private Tracked(BookingIntent intent) {
+            this.intent = intent;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.EventLedgerResponse;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+
+/**
+ * Service interface for the in-memory projections of the event-sourced booking ledger.
+ */
+public interface BookingLedgerService {
+
+    /**
+     * Returns the ledger projection of an event: tickets sold, attendees and waitlist.
+     *
+     * @param eventId The ID of the event.
+     * @return The projection, lagging the ledger by at most the settle delay plus the poll interval.
+     * @throws ResourceNotFoundException if the ledger has no entries for the event.
+     * @throws ServiceUnavailableException if the projections are still being restored.
+     */
+    EventLedgerResponse getEventLedger(Long eventId);
+}
@@ -0,0 +1,188 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.EventLedgerResponse;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+import com.github.theoydr.eventmanagement.ledger.BookingLedger;
+import com.github.theoydr.eventmanagement.ledger.LedgerSnapshots;
+import com.github.theoydr.eventmanagement.repository.ArchivedEventRepository;
+import com.github.theoydr.eventmanagement.repository.LedgerEntryRepository;
+import com.github.theoydr.eventmanagement.repository.LedgerFact;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the {@link BookingLedger} projections in memory.
+ *
+ * On startup the newest snapshot is restored and only the ledger entries after it are replayed; without a snapshot
+ * the whole ledger is replayed. The projections are then kept current by keyset-polling for entries with a higher
+ * sequence. The ledger sequence is not pooled, so an entry committed late shows up as a gap in the sequences read:
+ * entries are applied up to the first gap and the rest waits for the next poll. A sequence can also be lost for
+ * good (rolled back transaction), so a gap is skipped once the entry after it was recorded more than
+ * {@code gap-timeout} ago, which must exceed twice the longest booking transaction. Snapshots are written
+ * periodically and on shutdown, and projections of archived events are evicted.
+ */
+@Service
+@ConditionalOnBooleanProperty("app.ledger.enabled")
+public class BookingLedgerServiceImpl implements BookingLedgerService {
+
+    private static final Logger log = LoggerFactory.getLogger(BookingLedgerServiceImpl.class);
+
+    private static final int EVICTION_CHUNK = 1000;
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final LedgerSnapshots snapshots;
+    private final int chunkSize;
+    private final Duration gapTimeout;
+
+    private volatile BookingLedger ledger;
+    private long lastSnapshotSequence;
+
+    public BookingLedgerServiceImpl(LedgerEntryRepository ledgerEntryRepository,
+                                    ArchivedEventRepository archivedEventRepository,
+                                    @Value("${app.ledger.snapshot-directory:ledger-snapshots}") Path snapshotDirectory,
+                                    @Value("${app.ledger.snapshots-to-keep:2}") int snapshotsToKeep,
+                                    @Value("${app.ledger.chunk-size:10000}") int chunkSize,
+                                    @Value("${app.ledger.gap-timeout:PT2M}") Duration gapTimeout) {
+        this.ledgerEntryRepository = ledgerEntryRepository;
+        this.archivedEventRepository = archivedEventRepository;
+        this.snapshots = new LedgerSnapshots(snapshotDirectory, snapshotsToKeep);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.gapTimeout = gapTimeout;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void restore() {
+        long start = System.nanoTime();
+        BookingLedger restored;
+        try {
+            restored = snapshots.readLatest().orElseGet(BookingLedger::new);
+        } catch (IOException e) {
+            log.warn("Could not read ledger snapshots, replaying the whole ledger", e);
+            restored = new BookingLedger();
+        }
+        long fromSequence = restored.lastSequence();
+        lastSnapshotSequence = fromSequence;
+        int replayed = catchUp(restored);
+        int evicted = evictArchived(restored);
+        ledger = restored;
+        log.info("Booking ledger restored from sequence {}, replayed {} entries and evicted {} archived events in {} ms",
+                fromSequence, replayed, evicted, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(fixedDelayString = "${app.ledger.poll-interval:PT1S}", initialDelayString = "${app.ledger.poll-interval:PT1S}")
+    public synchronized void refresh() {
+        BookingLedger current = ledger;
+        if (current != null) {
+            catchUp(current);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ledger.eviction-interval:PT1H}", initialDelayString = "${app.ledger.eviction-interval:PT1H}")
+    public synchronized void evictArchivedScheduled() {
+        BookingLedger current = ledger;
+        if (current != null) {
+            int evicted = evictArchived(current);
+            if (evicted > 0) {
+                log.info("Evicted the ledger projections of {} archived events", evicted);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.ledger.snapshot-interval:PT10M}", initialDelayString = "${app.ledger.snapshot-interval:PT10M}")
+    public void snapshotScheduled() {
+        snapshot();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    /**
+     * Writes a snapshot if entries were applied since the last one.
+     */
+    public synchronized void snapshot() {
+        BookingLedger current = ledger;
+        if (current == null || current.lastSequence() == lastSnapshotSequence) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            Path file = snapshots.write(current);
+            lastSnapshotSequence = current.lastSequence();
+            log.info("Wrote ledger snapshot {} in {} ms", file.getFileName(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            log.error("Could not write ledger snapshot", e);
+        }
+    }
+
+    @Override
+    public EventLedgerResponse getEventLedger(Long eventId) {
+        BookingLedger current = ledger;
+        if (current == null) {
+            throw new ServiceUnavailableException("the booking ledger is still being restored");
+        }
+        return current.projection(eventId)
+                .map(projection -> new EventLedgerResponse(projection.eventId(), projection.ticketsSold(),
+                        projection.cancellations(), projection.attendeeUserIds(), projection.waitlistUserIds(),
+                        projection.asOfSequence()))
+                .orElseThrow(() -> new ResourceNotFoundException("event ledger", "eventId", eventId));
+    }
+
+    private int catchUp(BookingLedger target) {
+        int applied = 0;
+        while (true) {
+            Instant abandonedBefore = Instant.now().minus(gapTimeout);
+            long expected = target.lastSequence() + 1;
+            List<LedgerFact> facts = ledgerEntryRepository.findFactsAfter(target.lastSequence(), Limit.of(chunkSize));
+
+            // Stop at the first gap: the missing entries may still be committed, unless the gap is old enough.
+            int contiguous = 0;
+            while (contiguous < facts.size()) {
+                LedgerFact fact = facts.get(contiguous);
+                if (fact.seq() != expected) {
+                    if (fact.recordedAt().isAfter(abandonedBefore)) {
+                        break;
+                    }
+                    log.warn("Skipping ledger sequences {} to {}, which were not committed within {}",
+                            expected, fact.seq() - 1, gapTimeout);
+                }
+                expected = fact.seq() + 1;
+                contiguous++;
+            }
+            target.apply(facts.subList(0, contiguous));
+            applied += contiguous;
+
+            if (contiguous < facts.size() || facts.size() < chunkSize) {
+                return applied;
+            }
+        }
+    }
+
+    private int evictArchived(BookingLedger target) {
+        List<Long> eventIds = new ArrayList<>(target.eventIds());
+        int evicted = 0;
+        for (int from = 0; from < eventIds.size(); from += EVICTION_CHUNK) {
+            List<Long> chunk = eventIds.subList(from, Math.min(from + EVICTION_CHUNK, eventIds.size()));
+            evicted += target.evict(archivedEventRepository.findArchivedIds(chunk));
+        }
+        return evicted;
+    }
+}
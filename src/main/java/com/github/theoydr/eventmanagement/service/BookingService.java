@@ -1,5 +1,6 @@
 package com.github.theoydr.eventmanagement.service;
 
+import com.github.theoydr.eventmanagement.domain.BookingAttempt;
 import com.github.theoydr.eventmanagement.exception.EventBookingException;
 import com.github.theoydr.eventmanagement.exception.OperationNotAllowedException;
 import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
@@ -29,6 +30,17 @@ public interface BookingService {
      */
     Booking createBooking(Long userId, Long eventId, Integer numberOfTickets);
 
+    /**
+     * Creates a group of bookings in a single transaction.
+     * Every attempt is validated with the same rules as {@link #createBooking}; the capacity of each event is
+     * reserved for all of its valid attempts at once, falling back to one attempt at a time (in order) when the
+     * event cannot take them all. A rejected attempt does not affect the others.
+     *
+     * @param attempts The booking requests, in arrival order.
+     * @return One result per attempt, in the same order.
+     */
+    List<BookingAttempt.Result> createBookings(List<BookingAttempt> attempts);
+
 
     /**
      * Cancels a booking by changing its status.
@@ -1,5 +1,10 @@
 package com.github.theoydr.eventmanagement.service;
 
+import com.github.theoydr.eventmanagement.cache.ExistenceCache;
+import com.github.theoydr.eventmanagement.datasource.ReadYourWritesTracker;
+import com.github.theoydr.eventmanagement.domain.BookingAttempt;
+import com.github.theoydr.eventmanagement.domain.BookingChangedEvent;
+import com.github.theoydr.eventmanagement.domain.BookingRejectedEvent;
 import com.github.theoydr.eventmanagement.enums.BookingFailureReason;
 import com.github.theoydr.eventmanagement.enums.BookingStatus;
 import com.github.theoydr.eventmanagement.enums.EventStatus;
@@ -8,18 +13,35 @@ import com.github.theoydr.eventmanagement.exception.OperationNotAllowedException
 import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
 import com.github.theoydr.eventmanagement.model.Booking;
 import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
 import com.github.theoydr.eventmanagement.model.User;
 import com.github.theoydr.eventmanagement.repository.BookingRepository;
 import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventStatsRepository;
 import com.github.theoydr.eventmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
 
 
 @Service
@@ -29,13 +51,31 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
+    private final ExistenceCache existenceCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Map<BookingFailureReason, Counter> rejections = new EnumMap<>(BookingFailureReason.class);
     private static final Logger log = LoggerFactory.getLogger(BookingServiceImpl.class);
 
 
-    public BookingServiceImpl(BookingRepository bookingRepository, UserRepository userRepository, EventRepository eventRepository) {
+    public BookingServiceImpl(BookingRepository bookingRepository, UserRepository userRepository, EventRepository eventRepository,
+                              EventStatsRepository eventStatsRepository, ExistenceCache existenceCache,
+                              ApplicationEventPublisher eventPublisher, ReadYourWritesTracker readYourWrites,
+                              MeterRegistry meterRegistry) {
         this.bookingRepository = bookingRepository;
         this.userRepository = userRepository;
         this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.existenceCache = existenceCache;
+        this.eventPublisher = eventPublisher;
+        this.readYourWrites = readYourWrites;
+        for (BookingFailureReason reason : BookingFailureReason.values()) {
+            rejections.put(reason, Counter.builder("app.bookings.rejected")
+                    .description("Booking attempts turned away by a booking rule")
+                    .tag("reason", reason.name())
+                    .register(meterRegistry));
+        }
     }
 
     @Override
@@ -49,38 +89,104 @@ public class BookingServiceImpl implements BookingService {
                 .orElseThrow(() -> new ResourceNotFoundException("event", "id", eventId));
 
 
-        if (event.getOrganizer().getId().equals(user.getId())) {
-            log.warn("Booking failed: Organizer (User ID {}) tried to book their own Event (ID {})", userId, eventId);
-            throw new EventBookingException(BookingFailureReason.CANNOT_BOOK_OWN_EVENT, "Organizers cannot book tickets for their own events.");
+        try {
+            checkBookable(user, event, () -> bookingRepository.existsByUserAndEvent(user, event));
+        } catch (EventBookingException e) {
+            throw counted(e);
         }
 
-        if (bookingRepository.existsByUserAndEvent(user, event)) {
-            throw new EventBookingException(BookingFailureReason.USER_ALREADY_BOOKED, "You have already booked this event.");
+        // Checks the remaining capacity and reserves the tickets in the event_stats aggregate in one statement.
+        if (!reserve(eventId, () -> eventStatsRepository.reserveTickets(eventId, numberOfTickets, event.getCapacity()))) {
+            eventPublisher.publishEvent(new BookingRejectedEvent(
+                    eventId, userId, numberOfTickets, BookingFailureReason.INSUFFICIENT_CAPACITY, Instant.now()));
+            throw counted(rejected(BookingFailureReason.INSUFFICIENT_CAPACITY, "Not enough tickets available for this event."));
         }
 
-        if (event.getStatus() != EventStatus.PUBLISHED) {
-            throw new EventBookingException(BookingFailureReason.EVENT_NOT_PUBLISHED, "Event is not published and cannot be booked.");
-        }
+        Booking newBooking = new Booking(event, user, numberOfTickets, BookingStatus.CONFIRMED);
+        Booking savedBooking = bookingRepository.save(newBooking);
+        publishChange(savedBooking, eventId, userId);
+        log.info("Booking created successfully. Booking ID: {}, User ID: {}, Event ID: {}", savedBooking.getId(), userId, eventId);
 
-        if (event.getStartDateTime().isBefore(LocalDateTime.now())) {
-            throw new EventBookingException(BookingFailureReason.EVENT_IN_PAST, "Cannot book an event that has already started.");
-        }
+        return savedBooking;
+    }
+
+    @Override
+    public List<BookingAttempt.Result> createBookings(List<BookingAttempt> attempts) {
+        log.debug("Attempting to create a group of {} bookings", attempts.size());
 
+        Map<Long, User> users = userRepository.findAllById(attempts.stream().map(BookingAttempt::userId).distinct().toList())
+                .stream().collect(Collectors.toMap(User::getId, Function.identity()));
+        Map<Long, Event> events = eventRepository.findAllById(attempts.stream().map(BookingAttempt::eventId).distinct().toList())
+                .stream().collect(Collectors.toMap(Event::getId, Function.identity()));
 
-        Integer confirmedBookings = bookingRepository.findByEvent(event).stream()
-                .filter(booking -> booking.getStatus() == BookingStatus.CONFIRMED)
-                .mapToInt(Booking::getNumberOfTickets)
-                .sum();
+        // One existence query per event for all of its users, instead of one per attempt.
+        Map<Long, Set<Long>> bookedUsers = new HashMap<>();
+        attempts.stream()
+                .filter(attempt -> events.containsKey(attempt.eventId()))
+                .collect(Collectors.groupingBy(BookingAttempt::eventId, Collectors.mapping(BookingAttempt::userId, Collectors.toSet())))
+                .forEach((eventId, userIds) -> bookedUsers.put(eventId, new HashSet<>(bookingRepository.findUserIdsWithBooking(eventId, userIds))));
 
-        if (confirmedBookings + numberOfTickets > event.getCapacity()) {
-            throw new EventBookingException(BookingFailureReason.INSUFFICIENT_CAPACITY, "Not enough tickets available for this event.");
+        BookingAttempt.Result[] results = new BookingAttempt.Result[attempts.size()];
+        // Reserved in event id order, so concurrent groups and single bookings lock event_stats rows in the same order.
+        Map<Long, List<Integer>> validByEvent = new TreeMap<>();
+        for (int i = 0; i < attempts.size(); i++) {
+            BookingAttempt attempt = attempts.get(i);
+            try {
+                User user = Optional.ofNullable(users.get(attempt.userId()))
+                        .orElseThrow(() -> new ResourceNotFoundException("user", "id", attempt.userId()));
+                Event event = Optional.ofNullable(events.get(attempt.eventId()))
+                        .orElseThrow(() -> new ResourceNotFoundException("event", "id", attempt.eventId()));
+                Set<Long> booked = bookedUsers.get(event.getId());
+                checkBookable(user, event, () -> booked.contains(user.getId()));
+                booked.add(user.getId()); // A second attempt of the same user in this group counts as already booked
+                validByEvent.computeIfAbsent(event.getId(), eventId -> new ArrayList<>()).add(i);
+            } catch (ResourceNotFoundException | EventBookingException e) {
+                results[i] = BookingAttempt.Result.failed(e);
+            }
         }
 
-        Booking newBooking = new Booking(event, user, numberOfTickets, BookingStatus.CONFIRMED);
-        Booking savedBooking = bookingRepository.save(newBooking);
-        log.info("Booking created successfully. Booking ID: {}, User ID: {}, Event ID: {}", savedBooking.getId(), userId, eventId);
+        List<Integer> reserved = new ArrayList<>();
+        List<BookingRejectedEvent> rejectedEvents = new ArrayList<>();
+        validByEvent.forEach((eventId, indexes) -> {
+            int capacity = events.get(eventId).getCapacity();
+            int totalTickets = indexes.stream().mapToInt(i -> attempts.get(i).numberOfTickets()).sum();
+            boolean allFit = reserve(eventId, () -> eventStatsRepository.reserveTickets(eventId, totalTickets, indexes.size(), capacity));
+            for (int i : indexes) {
+                BookingAttempt attempt = attempts.get(i);
+                if (allFit || eventStatsRepository.reserveTickets(eventId, attempt.numberOfTickets(), capacity) == 1) {
+                    reserved.add(i);
+                } else {
+                    rejectedEvents.add(new BookingRejectedEvent(
+                            eventId, attempt.userId(), attempt.numberOfTickets(), BookingFailureReason.INSUFFICIENT_CAPACITY, Instant.now()));
+                    results[i] = BookingAttempt.Result.failed(rejected(
+                            BookingFailureReason.INSUFFICIENT_CAPACITY, "Not enough tickets available for this event."));
+                }
+            }
+        });
 
-        return savedBooking;
+        List<Booking> newBookings = reserved.stream()
+                .map(i -> new Booking(events.get(attempts.get(i).eventId()), users.get(attempts.get(i).userId()),
+                        attempts.get(i).numberOfTickets(), BookingStatus.CONFIRMED))
+                .toList();
+        List<Booking> savedBookings = bookingRepository.saveAll(newBookings);
+        for (int k = 0; k < savedBookings.size(); k++) {
+            Booking savedBooking = savedBookings.get(k);
+            BookingAttempt attempt = attempts.get(reserved.get(k));
+            results[reserved.get(k)] = BookingAttempt.Result.created(savedBooking);
+            publishChange(savedBooking, attempt.eventId(), attempt.userId());
+        }
+        // Rejections are only announced and counted once everything else went through; if the group fails before
+        // that, every attempt is retried on its own and announces and counts its own rejection.
+        bookingRepository.flush();
+        rejectedEvents.forEach(eventPublisher::publishEvent);
+        for (BookingAttempt.Result result : results) {
+            if (result.failure() instanceof EventBookingException rejection) {
+                counted(rejection);
+            }
+        }
+
+        log.info("Booking group processed: {} created, {} rejected", savedBookings.size(), attempts.size() - savedBookings.size());
+        return List.of(results);
     }
 
     @Override
@@ -94,8 +200,11 @@ public class BookingServiceImpl implements BookingService {
         if (booking.getStatus() == BookingStatus.CANCELLED) {
             throw new OperationNotAllowedException("Booking is already cancelled.");
         }
+        int releasedTickets = booking.getStatus() == BookingStatus.CONFIRMED ? booking.getNumberOfTickets() : 0;
         booking.setStatus(BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+        eventStatsRepository.releaseTickets(booking.getEvent().getId(), releasedTickets);
+        publishChange(booking, booking.getEvent().getId(), booking.getUser().getId());
         log.info("Booking cancelled successfully with ID: {}", bookingId);
 
     }
@@ -104,6 +213,7 @@ public class BookingServiceImpl implements BookingService {
     @Transactional(readOnly = true)
     public Optional<Booking> findBookingById(Long bookingId) {
         log.debug("Fetching booking by ID: {}", bookingId);
+        readYourWrites.pinIfRecentlyWritten("booking", bookingId);
         return bookingRepository.findById(bookingId);
     }
 
@@ -111,18 +221,95 @@ public class BookingServiceImpl implements BookingService {
     @Transactional(readOnly = true)
     public List<Booking> findBookingsByUser(Long userId) {
         log.debug("Fetching bookings for user: {}", userId);
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ResourceNotFoundException("user", "id", userId));
-        return bookingRepository.findByUser(user);
+        readYourWrites.pinIfRecentlyWritten("user", userId);
+        if (!existenceCache.exists("user", userId, userRepository::existsById)) {
+            throw new ResourceNotFoundException("user", "id", userId);
+        }
+        return bookingRepository.findByUserId(userId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<Booking> findBookingsForEvent(Long eventId) {
         log.debug("Fetching bookings for event: {}", eventId);
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new ResourceNotFoundException("event", "id", eventId));
-        return bookingRepository.findByEvent(event);
+        readYourWrites.pinIfRecentlyWritten("event", eventId);
+        if (!existenceCache.exists("event", eventId, eventRepository::existsById)) {
+            throw new ResourceNotFoundException("event", "id", eventId);
+        }
+        return bookingRepository.findByEventId(eventId);
+    }
+
+    private void checkBookable(User user, Event event, BooleanSupplier alreadyBooked) {
+        if (event.getOrganizer().getId().equals(user.getId())) {
+            log.warn("Booking failed: Organizer (User ID {}) tried to book their own Event (ID {})", user.getId(), event.getId());
+            throw rejected(BookingFailureReason.CANNOT_BOOK_OWN_EVENT, "Organizers cannot book tickets for their own events.");
+        }
+
+        if (alreadyBooked.getAsBoolean()) {
+            throw rejected(BookingFailureReason.USER_ALREADY_BOOKED, "You have already booked this event.");
+        }
+
+        if (event.getStatus() != EventStatus.PUBLISHED) {
+            throw rejected(BookingFailureReason.EVENT_NOT_PUBLISHED, "Event is not published and cannot be booked.");
+        }
+
+        if (event.getStartDateTime().isBefore(LocalDateTime.now())) {
+            throw rejected(BookingFailureReason.EVENT_IN_PAST, "Cannot book an event that has already started.");
+        }
+    }
+
+    /**
+     * Runs a reservation against the event's event_stats row. When nothing was reserved because the event has no
+     * stats row yet (an event inserted outside the services), the row is created from the event's bookings and the
+     * reservation retried, instead of turning the booking away.
+     */
+    private boolean reserve(Long eventId, IntSupplier reservation) {
+        if (reservation.getAsInt() == 1) {
+            return true;
+        }
+        return createMissingStats(eventId) && reservation.getAsInt() == 1;
+    }
+
+    /**
+     * @return true if the stats row was missing and has been created.
+     */
+    private boolean createMissingStats(Long eventId) {
+        if (eventStatsRepository.existsById(eventId)) {
+            return false;
+        }
+        // Concurrent bookings of the event queue up on its row; the ones after the first see the created stats.
+        eventRepository.lockById(eventId);
+        if (eventStatsRepository.existsById(eventId)) {
+            return true;
+        }
+        EventStats stats = new EventStats(eventId);
+        bookingRepository.aggregateByEventIds(List.of(eventId), BookingStatus.CONFIRMED, BookingStatus.CANCELLED)
+                .forEach(totals -> {
+                    stats.setConfirmedTickets(totals.getConfirmedTickets().intValue());
+                    stats.setBookingCount(totals.getBookingCount().intValue());
+                    stats.setCancellationCount(totals.getCancellationCount().intValue());
+                });
+        eventStatsRepository.save(stats);
+        log.warn("Created the missing event_stats row of event {}", eventId);
+        return true;
+    }
+
+    private EventBookingException rejected(BookingFailureReason reason, String message) {
+        return new EventBookingException(reason, message);
+    }
+
+    /**
+     * Counts a rejection by its reason. Only called once the outcome of the attempt is final, so an attempt of a
+     * group that fails as a whole is counted once, by its retry on its own.
+     */
+    private EventBookingException counted(EventBookingException rejection) {
+        rejections.get(rejection.getReasonCode()).increment();
+        return rejection;
+    }
+
+    private void publishChange(Booking booking, Long eventId, Long userId) {
+        eventPublisher.publishEvent(new BookingChangedEvent(
+                booking.getId(), eventId, userId, booking.getNumberOfTickets(), booking.getStatus(), Instant.now()));
     }
 
 }
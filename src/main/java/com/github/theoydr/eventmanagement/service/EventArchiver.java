@@ -0,0 +1,124 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.cache.EventResponseCache;
+import com.github.theoydr.eventmanagement.repository.ArchivedBookingRepository;
+import com.github.theoydr.eventmanagement.repository.ArchivedEventRepository;
+import com.github.theoydr.eventmanagement.repository.BookingRepository;
+import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventStatsRepository;
+import com.github.theoydr.eventmanagement.stream.EventAvailabilityStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Moves events that ended before the retention window, together with their bookings and stats,
+ * from the hot tables into archived_events / archived_bookings.
+ *
+ * Work is done in bounded batches of events, each in its own short transaction, so the job never holds
+ * locks on a large part of the hot tables. Each batch first locks the bookings of its events and then their
+ * event_stats rows, the order in which a cancellation locks them, so a concurrent cancellation of one of their
+ * bookings either completes before the copy or fails, without deadlocking.
+ */
+@Component
+public class EventArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(EventArchiver.class);
+
+    private final EventRepository eventRepository;
+    private final BookingRepository bookingRepository;
+    private final EventStatsRepository eventStatsRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final EventResponseCache eventResponseCache;
+    private final EventAvailabilityStream availabilityStream;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public EventArchiver(EventRepository eventRepository,
+                         BookingRepository bookingRepository,
+                         EventStatsRepository eventStatsRepository,
+                         ArchivedEventRepository archivedEventRepository,
+                         ArchivedBookingRepository archivedBookingRepository,
+                         EventResponseCache eventResponseCache,
+                         EventAvailabilityStream availabilityStream,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${app.archive.retention:P180D}") Duration retention,
+                         @Value("${app.archive.batch-size:200}") int batchSize,
+                         @Value("${app.archive.max-batches-per-run:500}") int maxBatches) {
+        this.eventRepository = eventRepository;
+        this.bookingRepository = bookingRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.archivedEventRepository = archivedEventRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+        this.eventResponseCache = eventResponseCache;
+        this.availabilityStream = availabilityStream;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatches = Math.max(1, maxBatches);
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 0 2 * * *}")
+    public void archiveScheduled() {
+        archive();
+    }
+
+    /**
+     * Archives events that ended before now minus the retention window.
+     * Stops after the configured number of batches; the rest is picked up by the next run.
+     *
+     * @return The number of archived events.
+     */
+    public int archive() {
+        long start = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+
+        int archived = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            if (moved == null || moved == 0) {
+                break;
+            }
+            archived += moved;
+        }
+
+        log.info("Archived {} events that ended before {} in {} ms", archived, cutoff, (System.nanoTime() - start) / 1_000_000);
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> eventIds = eventRepository.findIdsEndedBefore(cutoff, Limit.of(batchSize));
+        if (eventIds.isEmpty()) {
+            return 0;
+        }
+
+        bookingRepository.lockIdsByEventIds(eventIds);
+        eventStatsRepository.lockByEventIds(eventIds);
+        LocalDateTime archivedAt = LocalDateTime.now();
+        archivedEventRepository.archiveEvents(eventIds, archivedAt);
+        int bookings = archivedBookingRepository.archiveBookingsOfEvents(eventIds, archivedAt);
+
+        // Children first: bookings reference events.
+        bookingRepository.deleteByEventIds(eventIds);
+        eventStatsRepository.deleteByEventIds(eventIds);
+        eventRepository.deleteByIds(eventIds);
+        eventResponseCache.evictAfterCommit(eventIds);
+        // Their availability streams find the event gone and end.
+        availabilityStream.changedAfterCommit(eventIds);
+
+        log.debug("Archived events {}..{} with {} bookings", eventIds.getFirst(), eventIds.getLast(), bookings);
+        return eventIds.size();
+    }
+}
@@ -0,0 +1,26 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.EventImportUpdate;
+import com.github.theoydr.eventmanagement.enums.ImportFormat;
+
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for importing large numbers of events at once.
+ */
+public interface EventImportService {
+
+    /**
+     * Imports the events of an upload as DRAFT events, applying the same rules as single event creation.
+     *
+     * Records are read incrementally and committed in batches, so the import is not atomic: a record that fails
+     * (parsing, validation, unknown organizer, duplicate) is reported and skipped, and the other records are imported.
+     *
+     * @param format The format of the upload.
+     * @param input  The upload; it is closed when the import ends.
+     * @param updates Receives an ERROR update per failed record and a PROGRESS update per committed batch.
+     * @return The SUMMARY update.
+     */
+    EventImportUpdate importEvents(ImportFormat format, InputStream input, Consumer<EventImportUpdate> updates);
+}
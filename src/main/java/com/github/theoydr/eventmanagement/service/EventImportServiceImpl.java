@@ -0,0 +1,295 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.EventImportUpdate;
+import com.github.theoydr.eventmanagement.dto.EventRequest;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.enums.ImportFormat;
+import com.github.theoydr.eventmanagement.enums.UserRole;
+import com.github.theoydr.eventmanagement.importer.ImportReader;
+import com.github.theoydr.eventmanagement.importer.ImportReaders;
+import com.github.theoydr.eventmanagement.importer.ImportRow;
+import com.github.theoydr.eventmanagement.mapper.EventMapper;
+import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
+import com.github.theoydr.eventmanagement.model.User;
+import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventSlot;
+import com.github.theoydr.eventmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Imports events in batches instead of calling {@link EventService#createEvent} per record.
+ *
+ * Per batch, organizers not seen earlier in the import are loaded with one query, duplicates are found with one
+ * set-based query over the (organizer, start, location) slots of the batch, and the events and their stats rows are
+ * inserted through a {@link StatelessSession} with JDBC batching: no persistence context, dirty checking or
+ * cascading, and a single transaction per batch. Earlier batches are committed, so the duplicate query also sees
+ * them; duplicates within a batch are caught in memory.
+ *
+ * If the insert violates the (organizer, start, location) unique constraint, an event was created concurrently in
+ * one of the slots: the duplicate check is repeated and the batch inserted again. Any other constraint violation,
+ * or a second slot conflict, makes the batch fall back to one insert per row, so only the offending rows fail.
+ */
+@Service
+public class EventImportServiceImpl implements EventImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventImportServiceImpl.class);
+    private static final String DUPLICATE = "A duplicate event (same organizer, start time, and location) already exists";
+    private static final String SLOT_CONSTRAINT = "unique_organizer_start_location";
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final SessionFactory sessionFactory;
+    private final int batchSize;
+
+    public EventImportServiceImpl(UserRepository userRepository, EventRepository eventRepository, EventMapper eventMapper,
+                                  Validator validator, JsonMapper jsonMapper, EntityManagerFactory entityManagerFactory,
+                                  @Value("${app.events.import.batch-size:500}") int batchSize) {
+        this.userRepository = userRepository;
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public EventImportUpdate importEvents(ImportFormat format, InputStream input, Consumer<EventImportUpdate> updates) {
+        long start = System.nanoTime();
+        ImportState state = new ImportState(updates);
+        String stoppedBecause = null;
+
+        List<ImportRow<EventRequest>> batch = new ArrayList<>(batchSize);
+        try (ImportReader<EventRequest> reader = ImportReaders.events(format, jsonMapper, input)) {
+            ImportRow<EventRequest> row;
+            while ((row = reader.next()) != null) {
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    importBatch(batch, state);
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            stoppedBecause = "Import stopped: " + e.getMessage();
+        } catch (BatchFailedException e) {
+            stoppedBecause = "Import stopped: " + e.getMessage();
+            batch.clear();
+        }
+        if (!batch.isEmpty()) {
+            try {
+                // Records read before a malformed part of the upload are still imported.
+                importBatch(batch, state);
+            } catch (BatchFailedException e) {
+                stoppedBecause = "Import stopped: " + e.getMessage();
+            }
+        }
+
+        long durationMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Event import finished: {} records, {} imported, {} failed in {} ms{}", state.processed, state.imported,
+                state.failed, durationMillis, stoppedBecause != null ? " (" + stoppedBecause + ")" : "");
+        return EventImportUpdate.summary(state.processed, state.imported, state.failed, durationMillis, stoppedBecause);
+    }
+
+    private void importBatch(List<ImportRow<EventRequest>> batch, ImportState state) {
+        List<ImportRow<EventRequest>> candidates = new ArrayList<>(batch.size());
+        for (ImportRow<EventRequest> row : batch) {
+            state.processed++;
+            if (row.error() != null) {
+                state.fail(row, row.error());
+                continue;
+            }
+            Set<ConstraintViolation<EventRequest>> violations = validator.validate(row.request());
+            if (!violations.isEmpty()) {
+                state.fail(row, describe(violations));
+                continue;
+            }
+            candidates.add(row);
+        }
+
+        candidates = withValidOrganizer(candidates, state);
+        for (int attempt = 1; !candidates.isEmpty(); attempt++) {
+            candidates = withoutDuplicates(candidates, state);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            try {
+                insert(candidates, state);
+                break;
+            } catch (ConstraintViolationException e) {
+                // An event was created concurrently in one of our slots; the next duplicate check will see it.
+                if (attempt == 1 && isSlotConflict(e)) {
+                    continue;
+                }
+                insertOneByOne(candidates, state);
+                break;
+            } catch (RuntimeException e) {
+                log.error("Event import batch failed", e);
+                candidates.forEach(row -> state.fail(row, "Not imported: the batch could not be saved"));
+                throw new BatchFailedException("a batch could not be saved", e);
+            }
+        }
+        state.updates.accept(EventImportUpdate.progress(state.processed, state.imported, state.failed));
+    }
+
+    private List<ImportRow<EventRequest>> withValidOrganizer(List<ImportRow<EventRequest>> candidates, ImportState state) {
+        Set<Long> unresolved = candidates.stream()
+                .map(row -> row.request().organizerId())
+                .filter(id -> !state.organizers.containsKey(id))
+                .collect(Collectors.toSet());
+        if (!unresolved.isEmpty()) {
+            Map<Long, User> found = userRepository.findAllById(unresolved).stream()
+                    .collect(Collectors.toMap(User::getId, user -> user));
+            // Remember misses too, so an unknown organizer is looked up only once per import.
+            unresolved.forEach(id -> state.organizers.put(id, found.get(id)));
+        }
+
+        List<ImportRow<EventRequest>> valid = new ArrayList<>(candidates.size());
+        for (ImportRow<EventRequest> row : candidates) {
+            Long organizerId = row.request().organizerId();
+            User organizer = state.organizers.get(organizerId);
+            if (organizer == null) {
+                state.fail(row, "Organizer not found with organizerId: " + organizerId);
+            } else if (organizer.getRole() != UserRole.ORGANIZER) {
+                state.fail(row, "User must have the ORGANIZER role to create events.");
+            } else {
+                valid.add(row);
+            }
+        }
+        return valid;
+    }
+
+    private List<ImportRow<EventRequest>> withoutDuplicates(List<ImportRow<EventRequest>> candidates, ImportState state) {
+        Set<Long> organizerIds = new HashSet<>();
+        LocalDateTime from = null;
+        LocalDateTime to = null;
+        for (ImportRow<EventRequest> row : candidates) {
+            organizerIds.add(row.request().organizerId());
+            LocalDateTime startDateTime = row.request().startDateTime();
+            from = from == null || startDateTime.isBefore(from) ? startDateTime : from;
+            to = to == null || startDateTime.isAfter(to) ? startDateTime : to;
+        }
+        Set<EventSlot> taken = new HashSet<>(eventRepository.findSlots(organizerIds, from, to));
+
+        List<ImportRow<EventRequest>> unique = new ArrayList<>(candidates.size());
+        for (ImportRow<EventRequest> row : candidates) {
+            EventRequest request = row.request();
+            if (taken.add(new EventSlot(request.organizerId(), request.startDateTime(), request.location()))) {
+                unique.add(row);
+            } else {
+                state.fail(row, DUPLICATE);
+            }
+        }
+        return unique;
+    }
+
+    private void insert(List<ImportRow<EventRequest>> rows, ImportState state) {
+        List<Event> events = new ArrayList<>(rows.size());
+        for (ImportRow<EventRequest> row : rows) {
+            Event event = eventMapper.toEntity(row.request());
+            event.setOrganizer(state.organizers.get(row.request().organizerId()));
+            event.setStatus(EventStatus.DRAFT);
+            events.add(event);
+        }
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.setJdbcBatchSize(batchSize);
+            Transaction transaction = session.beginTransaction();
+            try {
+                session.insertMultiple(events);
+                session.insertMultiple(events.stream().map(event -> new EventStats(event.getId())).toList());
+                transaction.commit();
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw e;
+            }
+        }
+        state.imported += events.size();
+    }
+
+    /**
+     * Inserts each row in its own transaction, failing only the rows that violate a constraint.
+     */
+    private void insertOneByOne(List<ImportRow<EventRequest>> rows, ImportState state) {
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow<EventRequest> row = rows.get(i);
+            try {
+                insert(List.of(row), state);
+            } catch (ConstraintViolationException e) {
+                state.fail(row, isSlotConflict(e) ? DUPLICATE : "Rejected by the database constraint " + e.getConstraintName());
+            } catch (RuntimeException e) {
+                log.error("Event import batch failed", e);
+                rows.subList(i, rows.size()).forEach(rest -> state.fail(rest, "Not imported: the batch could not be saved"));
+                throw new BatchFailedException("a batch could not be saved", e);
+            }
+        }
+    }
+
+    private static boolean isSlotConflict(ConstraintViolationException e) {
+        // Some databases report the name upper-cased or qualified with the schema or index.
+        String name = e.getConstraintName();
+        return name != null && name.toLowerCase(Locale.ROOT).contains(SLOT_CONSTRAINT);
+    }
+
+    private static String describe(Set<ConstraintViolation<EventRequest>> violations) {
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath().toString().isEmpty()
+                        ? violation.getMessage()
+                        : violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+    }
+
+    private static final class ImportState {
+        private final Consumer<EventImportUpdate> updates;
+        private final Map<Long, User> organizers = new HashMap<>();
+        private long processed;
+        private long imported;
+        private long failed;
+
+        private ImportState(Consumer<EventImportUpdate> updates) {
+            this.updates = updates;
+        }
+
+        private void fail(ImportRow<EventRequest> row, String message) {
+            failed++;
+            updates.accept(EventImportUpdate.error(row.row(), message));
+        }
+    }
+
+    private static final class BatchFailedException extends RuntimeException {
+        private BatchFailedException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+}
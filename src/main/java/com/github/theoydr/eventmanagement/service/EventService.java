@@ -5,6 +5,7 @@ import com.github.theoydr.eventmanagement.exception.DuplicateEventException;
 import com.github.theoydr.eventmanagement.exception.OperationNotAllowedException;
 import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
 import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
 
 import java.util.List;
 import java.util.Optional;
@@ -81,4 +82,14 @@ public interface EventService {
      * Retrieves a list of events with PUBLISHED status.
      */
     List<Event> findPublishedEvents();
+
+
+    /**
+     * Finds the attendance aggregate (tickets sold, bookings, cancellations) of an event.
+     * The aggregate is maintained incrementally, so this never scans the event's bookings.
+     *
+     * @param eventId The ID of the event.
+     * @return an {@link Optional} containing the stats, or {@link Optional#empty()} if the event has none.
+     */
+    Optional<EventStats> findEventStats(Long eventId);
 }
\ No newline at end of file
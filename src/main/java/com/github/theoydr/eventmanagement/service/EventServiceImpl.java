@@ -1,6 +1,8 @@
 package com.github.theoydr.eventmanagement.service;
 
 
+import com.github.theoydr.eventmanagement.cache.EventResponseCache;
+import com.github.theoydr.eventmanagement.domain.EventChangedEvent;
 import com.github.theoydr.eventmanagement.dto.EventRequest;
 import com.github.theoydr.eventmanagement.enums.EventStatus;
 import com.github.theoydr.eventmanagement.enums.UserRole;
@@ -9,14 +11,19 @@ import com.github.theoydr.eventmanagement.exception.OperationNotAllowedException
 import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
 import com.github.theoydr.eventmanagement.mapper.EventMapper;
 import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
 import com.github.theoydr.eventmanagement.model.User;
 import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventStatsRepository;
 import com.github.theoydr.eventmanagement.repository.UserRepository;
+import com.github.theoydr.eventmanagement.stream.EventAvailabilityStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,13 +34,24 @@ public class EventServiceImpl implements EventService {
 
     private final EventRepository eventRepository;
     private final UserRepository userRepository;
+    private final EventStatsRepository eventStatsRepository;
     private final EventMapper eventMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EventResponseCache eventResponseCache;
+    private final EventAvailabilityStream availabilityStream;
     private static final Logger log = LoggerFactory.getLogger(EventServiceImpl.class);
 
-    public EventServiceImpl(EventRepository eventRepository, UserRepository userRepository, EventMapper eventMapper) {
+    public EventServiceImpl(EventRepository eventRepository, UserRepository userRepository,
+                            EventStatsRepository eventStatsRepository, EventMapper eventMapper,
+                            ApplicationEventPublisher eventPublisher, EventResponseCache eventResponseCache,
+                            EventAvailabilityStream availabilityStream) {
         this.eventRepository = eventRepository;
         this.userRepository = userRepository;
+        this.eventStatsRepository = eventStatsRepository;
         this.eventMapper = eventMapper;
+        this.eventPublisher = eventPublisher;
+        this.eventResponseCache = eventResponseCache;
+        this.availabilityStream = availabilityStream;
     }
 
     @Override
@@ -55,6 +73,7 @@ public class EventServiceImpl implements EventService {
         event.setOrganizer(organizer);
         event.setStatus(EventStatus.DRAFT);
         Event savedEvent = eventRepository.save(event);
+        eventStatsRepository.save(new EventStats(savedEvent.getId()));
         log.info("New event created successfully with ID: {} and Title: {}", savedEvent.getId(), savedEvent.getTitle());
 
         return savedEvent;
@@ -76,6 +95,9 @@ public class EventServiceImpl implements EventService {
         Optional.ofNullable(eventRequest.ticketPrice()).ifPresent(existingEvent::setTicketPrice);
         Optional.ofNullable(eventRequest.category()).ifPresent(existingEvent::setCategory);
         Event updatedEvent = eventRepository.save(existingEvent);
+        eventResponseCache.evictAfterCommit(eventId);
+        // Capacity changes move the remaining seats; status changes are pushed through EventChangedEvent.
+        availabilityStream.changedAfterCommit(eventId);
         log.info("Event updated successfully with ID: {}", updatedEvent.getId());
 
         return updatedEvent;
@@ -92,6 +114,8 @@ public class EventServiceImpl implements EventService {
         }
         event.setStatus(EventStatus.CANCELLED);
         eventRepository.save(event);
+        eventResponseCache.evictAfterCommit(eventId);
+        publishChange(event);
         log.info("Event cancelled successfully with ID: {}", eventId);
     }
 
@@ -121,6 +145,8 @@ public class EventServiceImpl implements EventService {
 
         event.setStatus(EventStatus.PUBLISHED);
         Event publishedEvent = eventRepository.save(event);
+        eventResponseCache.evictAfterCommit(eventId);
+        publishChange(publishedEvent);
         log.info("Event published successfully with ID: {}", eventId);
         return publishedEvent;
     }
@@ -145,4 +171,16 @@ public class EventServiceImpl implements EventService {
         log.debug("Fetching all published events");
         return eventRepository.findByStatus(EventStatus.PUBLISHED);
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EventStats> findEventStats(Long eventId) {
+        log.debug("Fetching stats for event: {}", eventId);
+        return eventStatsRepository.findById(eventId);
+    }
+
+    private void publishChange(Event event) {
+        eventPublisher.publishEvent(new EventChangedEvent(
+                event.getId(), event.getOrganizer().getId(), event.getStatus(), Instant.now()));
+    }
 }
@@ -0,0 +1,157 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.cache.EventResponseCache;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.model.EventStats;
+import com.github.theoydr.eventmanagement.repository.BookingRepository;
+import com.github.theoydr.eventmanagement.repository.EventBookingTotals;
+import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Rebuilds the event_stats aggregate from the raw booking rows.
+ * The aggregate is maintained incrementally by {@link BookingServiceImpl}; this job exists to repair any drift.
+ * Rows of events created before the aggregate existed are backfilled by the V2 migration, and a row that is
+ * still missing is created by the first booking of its event. The job therefore runs nightly only; running it on
+ * startup as well ({@code app.stats.reconcile.on-startup}) re-aggregates every event while the instance already takes
+ * bookings, on every instance of a rolling deploy, and is meant for one-off repairs.
+ *
+ * Event ids are split into partitions that are rebuilt in parallel, each in small chunks with their own
+ * transaction. Every chunk locks its stats rows before aggregating, so a booking committed concurrently
+ * is either fully counted or waits for the chunk to finish.
+ */
+@Component
+public class EventStatsReconciler {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStatsReconciler.class);
+
+    private final EventRepository eventRepository;
+    private final BookingRepository bookingRepository;
+    private final EventStatsRepository eventStatsRepository;
+    private final EventResponseCache eventResponseCache;
+    private final TransactionTemplate transactionTemplate;
+    private final int partitions;
+    private final int chunkSize;
+    private final boolean onStartup;
+
+    public EventStatsReconciler(EventRepository eventRepository,
+                                BookingRepository bookingRepository,
+                                EventStatsRepository eventStatsRepository,
+                                EventResponseCache eventResponseCache,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.stats.reconcile.partitions:4}") int partitions,
+                                @Value("${app.stats.reconcile.chunk-size:500}") int chunkSize,
+                                @Value("${app.stats.reconcile.on-startup:false}") boolean onStartup) {
+        this.eventRepository = eventRepository;
+        this.bookingRepository = bookingRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.eventResponseCache = eventResponseCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitions = Math.max(1, partitions);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.onStartup = onStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        if (onStartup) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${app.stats.reconcile.cron:0 30 3 * * *}")
+    public void reconcileScheduled() {
+        reconcile();
+    }
+
+    /**
+     * Rebuilds the aggregate for every event.
+     *
+     * @return The number of events whose stats were rebuilt.
+     */
+    public int reconcile() {
+        long start = System.nanoTime();
+        List<Long> eventIds = eventRepository.findAllIds();
+
+        List<List<Long>> partitioned = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            partitioned.add(new ArrayList<>());
+        }
+        for (Long eventId : eventIds) {
+            partitioned.get((int) Math.floorMod(eventId, (long) partitions)).add(eventId);
+        }
+
+        AtomicInteger rebuilt = new AtomicInteger();
+        try (ExecutorService executor = Executors.newFixedThreadPool(partitions)) {
+            List<Future<?>> futures = new ArrayList<>(partitions);
+            for (List<Long> partition : partitioned) {
+                futures.add(executor.submit(() -> rebuildPartition(partition, rebuilt)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception ex) {
+                    log.error("Event stats reconciliation failed for a partition", ex);
+                }
+            }
+        }
+
+        log.info("Event stats reconciled for {} events in {} ms", rebuilt.get(), (System.nanoTime() - start) / 1_000_000);
+        return rebuilt.get();
+    }
+
+    private void rebuildPartition(List<Long> partition, AtomicInteger rebuilt) {
+        for (int from = 0; from < partition.size(); from += chunkSize) {
+            List<Long> chunk = partition.subList(from, Math.min(from + chunkSize, partition.size()));
+            try {
+                transactionTemplate.executeWithoutResult(status -> rebuildChunk(chunk));
+                rebuilt.addAndGet(chunk.size());
+            } catch (RuntimeException ex) {
+                log.error("Failed to reconcile event stats for events {}..{}", chunk.getFirst(), chunk.getLast(), ex);
+            }
+        }
+    }
+
+    private void rebuildChunk(List<Long> eventIds) {
+        // Lock first, aggregate second: the totals then include every booking committed before the lock was granted.
+        Map<Long, EventStats> existing = eventStatsRepository.lockByEventIds(eventIds).stream()
+                .collect(Collectors.toMap(EventStats::getEventId, Function.identity()));
+        Map<Long, EventBookingTotals> totals = bookingRepository
+                .aggregateByEventIds(eventIds, BookingStatus.CONFIRMED, BookingStatus.CANCELLED).stream()
+                .collect(Collectors.toMap(EventBookingTotals::getEventId, Function.identity()));
+
+        List<EventStats> created = new ArrayList<>();
+        for (Long eventId : eventIds) {
+            EventStats stats = existing.get(eventId);
+            if (stats == null) {
+                stats = new EventStats(eventId);
+                created.add(stats);
+            }
+            EventBookingTotals total = totals.get(eventId);
+            stats.setConfirmedTickets(total != null ? total.getConfirmedTickets().intValue() : 0);
+            stats.setBookingCount(total != null ? total.getBookingCount().intValue() : 0);
+            stats.setCancellationCount(total != null ? total.getCancellationCount().intValue() : 0);
+        }
+        eventStatsRepository.saveAll(created);
+        eventResponseCache.evictAfterCommit(eventIds);
+    }
+}
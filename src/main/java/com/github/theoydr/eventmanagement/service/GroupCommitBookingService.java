@@ -0,0 +1,254 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.domain.BookingAttempt;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+import com.github.theoydr.eventmanagement.model.Booking;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Commits concurrent bookings in groups.
+ *
+ * {@link #createBooking} hands the request to a committer thread and waits for its individual result. The committer
+ * collects requests for up to {@code max-wait} or {@code max-batch-size} requests, whichever comes first, and creates
+ * them through {@link BookingService#createBookings} in one transaction, so the database pays for one commit per
+ * group instead of one per booking. Under light load a group is a single request and only {@code max-wait} is added.
+ *
+ * If a group fails as a whole (e.g. a constraint violation at flush), its requests are retried one by one so that
+ * every caller still gets the result it would have had without grouping. When the committer is not running or its
+ * queue is full, the booking is made directly on the calling thread.
+ *
+ * A caller waits at most {@code result-timeout} for its result. If its request is still queued by then, it is taken
+ * back and booked directly; if the committer is already working on it, the caller gets a 503 and the booking may
+ * still be made. Should the committer thread die, it stops accepting requests and books the queued ones directly.
+ *
+ * All other operations are passed through unchanged.
+ */
+@Service
+@Primary
+@ConditionalOnBooleanProperty("app.bookings.group-commit.enabled")
+public class GroupCommitBookingService implements BookingService, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitBookingService.class);
+    private static final long POLL_INTERVAL_MILLIS = 200;
+
+    private final BookingServiceImpl delegate;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final Duration resultTimeout;
+    private final BlockingQueue<Pending> queue;
+    private volatile boolean running;
+    private Thread committer;
+
+    public GroupCommitBookingService(BookingServiceImpl delegate,
+                                     @Value("${app.bookings.group-commit.max-batch-size:64}") int maxBatchSize,
+                                     @Value("${app.bookings.group-commit.max-wait:2ms}") Duration maxWait,
+                                     @Value("${app.bookings.group-commit.queue-capacity:4096}") int queueCapacity,
+                                     @Value("${app.bookings.group-commit.result-timeout:PT10S}") Duration resultTimeout) {
+        this.delegate = delegate;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitNanos = maxWait.toNanos();
+        this.resultTimeout = resultTimeout;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+    }
+
+    @Override
+    public Booking createBooking(Long userId, Long eventId, Integer numberOfTickets) {
+        Pending pending = new Pending(new BookingAttempt(userId, eventId, numberOfTickets));
+        if (!running || !queue.offer(pending)) {
+            return delegate.createBooking(userId, eventId, numberOfTickets);
+        }
+        return awaitResult(pending).getOrThrow();
+    }
+
+    private BookingAttempt.Result awaitResult(Pending pending) {
+        try {
+            return pending.result.get(resultTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (queue.remove(pending)) {
+                log.warn("Booking group committer did not pick up a booking within {} ms, booking it directly", resultTimeout.toMillis());
+                return createOne(pending.attempt);
+            }
+            log.error("Booking group committer did not finish a booking within {} ms", resultTimeout.toMillis());
+            throw new ServiceUnavailableException("The booking is taking too long to process; check your bookings before retrying");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException failure) {
+                throw failure;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("Booking failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting for the booking to be processed");
+        }
+    }
+
+    @Override
+    public List<BookingAttempt.Result> createBookings(List<BookingAttempt> attempts) {
+        return delegate.createBookings(attempts);
+    }
+
+    @Override
+    public void cancelBooking(Long bookingId) {
+        delegate.cancelBooking(bookingId);
+    }
+
+    @Override
+    public Optional<Booking> findBookingById(Long bookingId) {
+        return delegate.findBookingById(bookingId);
+    }
+
+    @Override
+    public List<Booking> findBookingsByUser(Long userId) {
+        return delegate.findBookingsByUser(userId);
+    }
+
+    @Override
+    public List<Booking> findBookingsForEvent(Long eventId) {
+        return delegate.findBookingsForEvent(eventId);
+    }
+
+    public int queuedCount() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        committer = Thread.ofPlatform().name("booking-group-commit").daemon().start(this::commitLoop);
+        log.info("Group commit of bookings enabled: up to {} bookings or {} µs per commit",
+                maxBatchSize, TimeUnit.NANOSECONDS.toMicros(maxWaitNanos));
+    }
+
+    @Override
+    public void stop() {
+        // New bookings go straight to the delegate; the committer finishes what is queued and exits.
+        running = false;
+        try {
+            committer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Requests that slipped in while the committer was exiting.
+        Pending pending;
+        while ((pending = queue.poll()) != null) {
+            pending.result.complete(createOne(pending.attempt));
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void commitLoop() {
+        List<Pending> group = new ArrayList<>(maxBatchSize);
+        try {
+            groupAndCommit(group);
+        } catch (Throwable t) {
+            // New bookings go straight to the delegate; the collected and queued ones are booked here.
+            running = false;
+            log.error("Booking group committer failed, booking directly from now on", t);
+            group.forEach(pending -> pending.result.complete(createOne(pending.attempt)));
+            Pending pending;
+            while ((pending = queue.poll()) != null) {
+                pending.result.complete(createOne(pending.attempt));
+            }
+            throw t;
+        }
+    }
+
+    private void groupAndCommit(List<Pending> group) {
+        while (true) {
+            try {
+                Pending first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    if (!running) {
+                        return; // Stopped and drained
+                    }
+                    continue;
+                }
+                group.add(first);
+                collect(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                group.forEach(pending -> pending.result.complete(createOne(pending.attempt)));
+                return;
+            }
+            commit(group);
+            group.clear();
+        }
+    }
+
+    private void collect(List<Pending> group) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (group.size() < maxBatchSize) {
+            queue.drainTo(group, maxBatchSize - group.size());
+            long remaining = deadline - System.nanoTime();
+            if (group.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            group.add(next);
+        }
+    }
+
+    private void commit(List<Pending> group) {
+        try {
+            List<BookingAttempt.Result> results;
+            try {
+                results = delegate.createBookings(group.stream().map(Pending::attempt).toList());
+            } catch (RuntimeException e) {
+                log.warn("Booking group of {} failed, retrying its bookings one by one", group.size(), e);
+                group.forEach(pending -> pending.result.complete(createOne(pending.attempt)));
+                return;
+            }
+            for (int i = 0; i < group.size(); i++) {
+                group.get(i).result.complete(results.get(i));
+            }
+        } catch (Throwable t) {
+            // Stop taking requests before the callers see the failure, then never leave one without a result
+            // (completing an already completed future is a no-op).
+            running = false;
+            group.forEach(pending -> pending.result.completeExceptionally(t));
+            throw t;
+        }
+    }
+
+    private BookingAttempt.Result createOne(BookingAttempt attempt) {
+        try {
+            return BookingAttempt.Result.created(
+                    delegate.createBooking(attempt.userId(), attempt.eventId(), attempt.numberOfTickets()));
+        } catch (RuntimeException e) {
+            return BookingAttempt.Result.failed(e);
+        }
+    }
+
+    private record Pending(BookingAttempt attempt, CompletableFuture<BookingAttempt.Result> result) {
+
+        private Pending(BookingAttempt attempt) {
+            this(attempt, new CompletableFuture<>());
+        }
+    }
+}
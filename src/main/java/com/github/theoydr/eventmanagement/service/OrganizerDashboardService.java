@@ -0,0 +1,25 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.OrganizerDashboardResponse;
+import com.github.theoydr.eventmanagement.exception.OperationNotAllowedException;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+
+/**
+ * Service interface for the organizer dashboard.
+ * Defines the contract for assembling an organizer's sales overview.
+ */
+public interface OrganizerDashboardService {
+
+    /**
+     * Builds the dashboard of an organizer: their events with tickets sold, the revenue breakdown
+     * per event and the upcoming event starts.
+     *
+     * @param organizerId The ID of the organizer.
+     * @return The assembled dashboard.
+     * @throws ResourceNotFoundException if the organizer is not found.
+     * @throws OperationNotAllowedException if the user is not an ORGANIZER.
+     * @throws ServiceUnavailableException if the dashboard could not be assembled within its deadline.
+     */
+    OrganizerDashboardResponse getDashboard(Long organizerId);
+}
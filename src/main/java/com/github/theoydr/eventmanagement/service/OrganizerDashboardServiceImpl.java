@@ -0,0 +1,143 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.DashboardEventResponse;
+import com.github.theoydr.eventmanagement.dto.EventRevenueResponse;
+import com.github.theoydr.eventmanagement.dto.OrganizerDashboardResponse;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.enums.UserRole;
+import com.github.theoydr.eventmanagement.exception.OperationNotAllowedException;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
+import com.github.theoydr.eventmanagement.model.User;
+import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventRevenue;
+import com.github.theoydr.eventmanagement.repository.EventStatsRepository;
+import com.github.theoydr.eventmanagement.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.StructuredTaskScope;
+import java.util.concurrent.StructuredTaskScope.Joiner;
+import java.util.concurrent.StructuredTaskScope.Subtask;
+import java.util.stream.Collectors;
+
+/**
+ * Assembles the organizer dashboard by running its independent queries concurrently.
+ *
+ * The queries are forked into a {@link StructuredTaskScope} (one virtual thread each), so the latency is
+ * close to the slowest query rather than the sum. If any query fails the others are cancelled, and the
+ * whole scope is cancelled once the configured deadline passes.
+ *
+ * This method is deliberately not transactional: each query runs in its own read-only repository transaction
+ * on its own thread, and only basic attributes of the returned entities are read.
+ */
+@Service
+public class OrganizerDashboardServiceImpl implements OrganizerDashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrganizerDashboardServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
+    private final Duration timeout;
+    private final int upcomingLimit;
+
+    public OrganizerDashboardServiceImpl(UserRepository userRepository,
+                                         EventRepository eventRepository,
+                                         EventStatsRepository eventStatsRepository,
+                                         @Value("${app.dashboard.timeout:PT2S}") Duration timeout,
+                                         @Value("${app.dashboard.upcoming-limit:5}") int upcomingLimit) {
+        this.userRepository = userRepository;
+        this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.timeout = timeout;
+        this.upcomingLimit = upcomingLimit;
+    }
+
+    @Override
+    public OrganizerDashboardResponse getDashboard(Long organizerId) {
+        log.debug("Building dashboard for organizer: {}", organizerId);
+
+        User organizer = userRepository.findById(organizerId)
+                .orElseThrow(() -> new ResourceNotFoundException("organizer", "organizerId", organizerId));
+
+        if (organizer.getRole() != UserRole.ORGANIZER) {
+            log.warn("Dashboard request failed: User ID {} is not an ORGANIZER", organizerId);
+            throw new OperationNotAllowedException("User must have the ORGANIZER role to view a dashboard.");
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+
+        try (var scope = StructuredTaskScope.open(Joiner.<Object>awaitAllSuccessfulOrThrow(),
+                config -> config.withTimeout(timeout).withName("organizer-dashboard-" + organizerId))) {
+
+            Subtask<List<Event>> events = scope.fork(() -> eventRepository.findByOrganizer(organizer));
+            Subtask<List<EventStats>> stats = scope.fork(() -> eventStatsRepository.findByOrganizerId(organizerId));
+            Subtask<List<EventRevenue>> revenue = scope.fork(() -> eventRepository.findRevenueByOrganizerId(organizerId));
+            Subtask<List<Event>> upcoming = scope.fork(() -> eventRepository
+                    .findByOrganizerIdAndStatusNotAndStartDateTimeAfterOrderByStartDateTimeAsc(
+                            organizerId, EventStatus.CANCELLED, now, Limit.of(upcomingLimit)));
+
+            scope.join();
+
+            return assemble(organizerId, events.get(), stats.get(), revenue.get(), upcoming.get());
+
+        } catch (StructuredTaskScope.TimeoutException ex) {
+            log.warn("Dashboard for organizer {} exceeded its deadline of {}", organizerId, timeout);
+            throw new ServiceUnavailableException("The dashboard could not be assembled within " + timeout.toMillis() + " ms.");
+        } catch (StructuredTaskScope.FailedException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Dashboard query failed for organizer " + organizerId, ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("The dashboard request was interrupted.");
+        }
+    }
+
+    private OrganizerDashboardResponse assemble(Long organizerId, List<Event> events, List<EventStats> stats,
+                                                List<EventRevenue> revenue, List<Event> upcoming) {
+        Map<Long, Integer> ticketsSold = stats.stream()
+                .collect(Collectors.toMap(EventStats::getEventId, EventStats::getConfirmedTickets));
+
+        List<EventRevenueResponse> revenueByEvent = revenue.stream()
+                .map(row -> new EventRevenueResponse(
+                        row.getEventId(),
+                        row.getCapacity(),
+                        row.getTicketPrice(),
+                        row.getCapacity() * row.getTicketPrice(),
+                        row.getTicketsSold() * row.getTicketPrice()))
+                .toList();
+
+        return new OrganizerDashboardResponse(
+                organizerId,
+                events.stream().map(event -> toDashboardEvent(event, ticketsSold)).toList(),
+                revenueByEvent,
+                revenueByEvent.stream().mapToDouble(EventRevenueResponse::potentialRevenue).sum(),
+                revenueByEvent.stream().mapToDouble(EventRevenueResponse::earnedRevenue).sum(),
+                upcoming.stream().map(event -> toDashboardEvent(event, ticketsSold)).toList()
+        );
+    }
+
+    private DashboardEventResponse toDashboardEvent(Event event, Map<Long, Integer> ticketsSold) {
+        return new DashboardEventResponse(
+                event.getId(),
+                event.getTitle(),
+                event.getCategory(),
+                event.getStatus(),
+                event.getStartDateTime(),
+                event.getCapacity(),
+                ticketsSold.getOrDefault(event.getId(), 0)
+        );
+    }
+}
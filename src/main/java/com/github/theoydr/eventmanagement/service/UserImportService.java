@@ -0,0 +1,27 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.UserImportResult;
+import com.github.theoydr.eventmanagement.enums.ImportFormat;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Service interface for registering large numbers of users at once, e.g. when migrating a partner's user base.
+ */
+public interface UserImportService {
+
+    /**
+     * Registers the users of an upload, applying the same rules as single registration: ADMIN accounts cannot be
+     * registered, and emails and usernames must be unique.
+     *
+     * Records are read incrementally and committed in batches, so the import is not atomic: a record that fails
+     * (parsing, validation, forbidden role, taken email or username) is rejected and the other records are registered.
+     *
+     * @param format  The format of the upload.
+     * @param input   The upload; it is closed when the import ends.
+     * @param results Receives the result of every record of a batch, in upload order, once the batch is committed.
+     */
+    void importUsers(ImportFormat format, InputStream input, Consumer<List<UserImportResult>> results);
+}
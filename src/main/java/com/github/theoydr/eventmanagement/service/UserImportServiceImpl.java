@@ -0,0 +1,275 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.UserImportResult;
+import com.github.theoydr.eventmanagement.dto.UserRegistrationRequest;
+import com.github.theoydr.eventmanagement.enums.ImportFormat;
+import com.github.theoydr.eventmanagement.enums.UserRole;
+import com.github.theoydr.eventmanagement.importer.ImportReader;
+import com.github.theoydr.eventmanagement.importer.ImportReaders;
+import com.github.theoydr.eventmanagement.importer.ImportRow;
+import com.github.theoydr.eventmanagement.mapper.UserMapper;
+import com.github.theoydr.eventmanagement.model.User;
+import com.github.theoydr.eventmanagement.repository.UserIdentity;
+import com.github.theoydr.eventmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Registers users in batches instead of calling {@link UserService#registerUser} per record.
+ *
+ * Per batch, taken emails and usernames are found with one query over all emails and usernames of the batch, and
+ * duplicates within the batch are caught with in-memory sets. The users are then inserted through a
+ * {@link StatelessSession} with JDBC batching, in a single transaction per batch. When the insert hits the email or
+ * username constraint (a user registered concurrently), the check is repeated once; any other violation, or a second
+ * conflict, inserts the batch row by row so that only the offending rows are rejected.
+ */
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserImportServiceImpl.class);
+    private static final String USERS_BY_EMAIL_REGION = "query.users-by-email";
+    private static final String EMAIL_CONSTRAINT = "users_email_key";
+    private static final String USERNAME_CONSTRAINT = "users_username_key";
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final SessionFactory sessionFactory;
+    private final int batchSize;
+
+    public UserImportServiceImpl(UserRepository userRepository, UserMapper userMapper, Validator validator,
+                                 JsonMapper jsonMapper, EntityManagerFactory entityManagerFactory,
+                                 @Value("${app.users.import.batch-size:1000}") int batchSize) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    public void importUsers(ImportFormat format, InputStream input, Consumer<List<UserImportResult>> results) {
+        long start = System.nanoTime();
+        ImportTotals totals = new ImportTotals();
+        String stoppedBecause = null;
+
+        List<ImportRow<UserRegistrationRequest>> batch = new ArrayList<>(batchSize);
+        try (ImportReader<UserRegistrationRequest> reader = ImportReaders.users(format, jsonMapper, input)) {
+            ImportRow<UserRegistrationRequest> row;
+            while ((row = reader.next()) != null) {
+                batch.add(row);
+                if (batch.size() == batchSize) {
+                    results.accept(importBatch(batch, totals));
+                    batch.clear();
+                }
+            }
+        } catch (IOException e) {
+            stoppedBecause = "Import stopped: " + e.getMessage();
+        } catch (BatchFailedException e) {
+            stoppedBecause = "Import stopped: " + e.getMessage();
+            results.accept(e.results);
+            batch.clear();
+        }
+        if (!batch.isEmpty()) {
+            try {
+                // Records read before a malformed part of the upload are still imported.
+                results.accept(importBatch(batch, totals));
+            } catch (BatchFailedException e) {
+                stoppedBecause = "Import stopped: " + e.getMessage();
+                results.accept(e.results);
+            }
+        }
+        if (stoppedBecause != null) {
+            results.accept(List.of(UserImportResult.stopped(stoppedBecause)));
+        }
+
+        log.info("User import finished: {} records, {} registered, {} rejected in {} ms{}", totals.processed,
+                totals.created, totals.processed - totals.created, (System.nanoTime() - start) / 1_000_000,
+                stoppedBecause != null ? " (" + stoppedBecause + ")" : "");
+    }
+
+    private List<UserImportResult> importBatch(List<ImportRow<UserRegistrationRequest>> batch, ImportTotals totals) {
+        List<UserImportResult> results = new ArrayList<>(batch.size());
+        List<ImportRow<UserRegistrationRequest>> candidates = new ArrayList<>(batch.size());
+        for (ImportRow<UserRegistrationRequest> row : batch) {
+            totals.processed++;
+            UserRegistrationRequest request = row.request();
+            if (row.error() != null) {
+                results.add(UserImportResult.rejected(row.row(), null, row.error()));
+                continue;
+            }
+            Set<ConstraintViolation<UserRegistrationRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                results.add(UserImportResult.rejected(row.row(), request.email(), describe(violations)));
+                continue;
+            }
+            if (request.role() == UserRole.ADMIN) {
+                log.warn("Security Alert: Bulk import attempted to register an ADMIN with email: {}", request.email());
+                results.add(UserImportResult.rejected(row.row(), request.email(),
+                        "Registration not allowed for role: " + UserRole.ADMIN.name()));
+                continue;
+            }
+            candidates.add(row);
+        }
+
+        for (int attempt = 1; !candidates.isEmpty(); attempt++) {
+            candidates = withoutConflicts(candidates, results);
+            if (candidates.isEmpty()) {
+                break;
+            }
+            try {
+                insert(candidates, results);
+                totals.created += candidates.size();
+                break;
+            } catch (ConstraintViolationException e) {
+                // A user was registered concurrently with one of our emails or usernames; the next check will see it.
+                if (attempt == 1 && isIdentityConflict(e)) {
+                    continue;
+                }
+                insertOneByOne(candidates, results, totals);
+                break;
+            } catch (RuntimeException e) {
+                log.error("User import batch failed", e);
+                candidates.forEach(row -> results.add(UserImportResult.rejected(row.row(), row.request().email(),
+                        "Not imported: the batch could not be saved")));
+                results.sort(Comparator.comparing(UserImportResult::row));
+                throw new BatchFailedException("a batch could not be saved", results, e);
+            }
+        }
+        results.sort(Comparator.comparing(UserImportResult::row));
+        return results;
+    }
+
+    private List<ImportRow<UserRegistrationRequest>> withoutConflicts(List<ImportRow<UserRegistrationRequest>> candidates,
+                                                                      List<UserImportResult> results) {
+        Set<String> takenEmails = new HashSet<>();
+        Set<String> takenUsernames = new HashSet<>();
+        for (UserIdentity identity : userRepository.findIdentities(
+                candidates.stream().map(row -> row.request().email()).toList(),
+                candidates.stream().map(row -> row.request().username()).toList())) {
+            takenEmails.add(identity.email());
+            takenUsernames.add(identity.username());
+        }
+
+        List<ImportRow<UserRegistrationRequest>> unique = new ArrayList<>(candidates.size());
+        for (ImportRow<UserRegistrationRequest> row : candidates) {
+            UserRegistrationRequest request = row.request();
+            if (takenEmails.contains(request.email())) {
+                results.add(UserImportResult.rejected(row.row(), request.email(),
+                        String.format("User with email '%s' already exists.", request.email())));
+            } else if (takenUsernames.contains(request.username())) {
+                results.add(UserImportResult.rejected(row.row(), request.email(),
+                        String.format("User with username '%s' already exists.", request.username())));
+            } else {
+                takenEmails.add(request.email());
+                takenUsernames.add(request.username());
+                unique.add(row);
+            }
+        }
+        return unique;
+    }
+
+    private void insert(List<ImportRow<UserRegistrationRequest>> rows, List<UserImportResult> results) {
+        List<User> users = rows.stream().map(row -> userMapper.toEntity(row.request())).toList();
+
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            session.setJdbcBatchSize(batchSize);
+            Transaction transaction = session.beginTransaction();
+            try {
+                session.insertMultiple(users);
+                transaction.commit();
+            } catch (RuntimeException e) {
+                if (transaction.isActive()) {
+                    transaction.rollback();
+                }
+                throw e;
+            }
+        }
+        // findByEmail answers are query-cached; drop any cached "no such user" for the emails just registered.
+        sessionFactory.getCache().evictQueryRegion(USERS_BY_EMAIL_REGION);
+
+        for (int i = 0; i < rows.size(); i++) {
+            User user = users.get(i);
+            results.add(UserImportResult.created(rows.get(i).row(), user.getEmail(), user.getId()));
+        }
+    }
+
+    private void insertOneByOne(List<ImportRow<UserRegistrationRequest>> rows, List<UserImportResult> results,
+                                ImportTotals totals) {
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow<UserRegistrationRequest> row = rows.get(i);
+            UserRegistrationRequest request = row.request();
+            try {
+                insert(List.of(row), results);
+                totals.created++;
+            } catch (ConstraintViolationException e) {
+                String message = matches(e, EMAIL_CONSTRAINT)
+                        ? String.format("User with email '%s' already exists.", request.email())
+                        : matches(e, USERNAME_CONSTRAINT)
+                        ? String.format("User with username '%s' already exists.", request.username())
+                        : "Rejected by the database constraint " + e.getConstraintName();
+                results.add(UserImportResult.rejected(row.row(), request.email(), message));
+            } catch (RuntimeException e) {
+                log.error("User import batch failed", e);
+                rows.subList(i, rows.size()).forEach(rest -> results.add(UserImportResult.rejected(rest.row(),
+                        rest.request().email(), "Not imported: the batch could not be saved")));
+                results.sort(Comparator.comparing(UserImportResult::row));
+                throw new BatchFailedException("a batch could not be saved", results, e);
+            }
+        }
+    }
+
+    private static boolean isIdentityConflict(ConstraintViolationException e) {
+        return matches(e, EMAIL_CONSTRAINT) || matches(e, USERNAME_CONSTRAINT);
+    }
+
+    private static boolean matches(ConstraintViolationException e, String constraint) {
+        // Some databases report the name upper-cased or qualified with the schema or index.
+        String name = e.getConstraintName();
+        return name != null && name.toLowerCase(Locale.ROOT).contains(constraint);
+    }
+
+    private static String describe(Set<ConstraintViolation<UserRegistrationRequest>> violations) {
+        return violations.stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .collect(Collectors.joining("; "));
+    }
+
+    private static final class ImportTotals {
+        private long processed;
+        private long created;
+    }
+
+    private static final class BatchFailedException extends RuntimeException {
+        private final transient List<UserImportResult> results;
+
+        private BatchFailedException(String message, List<UserImportResult> results, Throwable cause) {
+            super(message, cause);
+            this.results = results;
+        }
+    }
+}
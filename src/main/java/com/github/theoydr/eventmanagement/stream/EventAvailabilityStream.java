@@ -0,0 +1,393 @@
+package com.github.theoydr.eventmanagement.stream;
+
+import com.github.theoydr.eventmanagement.domain.BookingChangedEvent;
+import com.github.theoydr.eventmanagement.domain.EventChangedEvent;
+import com.github.theoydr.eventmanagement.dto.EventAvailabilityResponse;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+import com.github.theoydr.eventmanagement.mapper.EventMapper;
+import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventStatsRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Pushes the availability of events to Server-Sent Events subscribers.
+ *
+ * Booking and event changes only mark their event as changed, once their transaction has committed. Every
+ * {@code min-interval} a publisher thread renders each changed event that has subscribers once, into one shared
+ * frame, and hands it to each subscriber. A burst of bookings therefore costs one query and one serialization per
+ * interval, however many bookings and subscribers there are.
+ *
+ * Every subscriber is written to on its own virtual thread, so a client that does not read (a full TCP window) only
+ * delays itself: while its write is blocked, newer frames replace the one it has pending, and once a write has been
+ * blocked for longer than {@code send-timeout} the subscriber is dropped.
+ *
+ * Subscribers are limited in total ({@code max-subscribers}) and per event ({@code max-subscribers-per-event});
+ * beyond that, subscribing fails with 503. Idle streams get a comment line every {@code heartbeat-interval}, which
+ * also detects clients that went away. The streams of a cancelled, removed or archived event end after its last frame.
+ */
+@Component
+public class EventAvailabilityStream implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(EventAvailabilityStream.class);
+    private static final Frame HEARTBEAT = new Frame(SseEmitter.event().comment("keep-alive").build(), 0, false);
+    // The event is gone: ends the streams without a frame.
+    private static final Frame END = new Frame(null, Long.MAX_VALUE, true);
+
+    private final EventRepository eventRepository;
+    private final EventStatsRepository eventStatsRepository;
+    private final EventMapper eventMapper;
+    // Frames are single "data:" lines, so never indented.
+    private final ObjectWriter writer;
+    private final int maxSubscribers;
+    private final int maxSubscribersPerEvent;
+    private final Duration minInterval;
+    private final long heartbeatNanos;
+    private final Duration timeout;
+    private final long sendTimeoutNanos;
+
+    private final ConcurrentMap<Long, Topic> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+    private final ExecutorService fanOut = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile boolean running;
+    private Thread publisher;
+
+    public EventAvailabilityStream(EventRepository eventRepository, EventStatsRepository eventStatsRepository,
+                                   EventMapper eventMapper, JsonMapper jsonMapper,
+                                   @Value("${app.events.availability-stream.max-subscribers:10000}") int maxSubscribers,
+                                   @Value("${app.events.availability-stream.max-subscribers-per-event:5000}") int maxSubscribersPerEvent,
+                                   @Value("${app.events.availability-stream.min-interval:250ms}") Duration minInterval,
+                                   @Value("${app.events.availability-stream.heartbeat-interval:PT15S}") Duration heartbeatInterval,
+                                   @Value("${app.events.availability-stream.timeout:PT30M}") Duration timeout,
+                                   @Value("${app.events.availability-stream.send-timeout:PT10S}") Duration sendTimeout) {
+        this.eventRepository = eventRepository;
+        this.eventStatsRepository = eventStatsRepository;
+        this.eventMapper = eventMapper;
+        this.writer = jsonMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        this.maxSubscribers = maxSubscribers;
+        this.maxSubscribersPerEvent = maxSubscribersPerEvent;
+        this.minInterval = minInterval;
+        this.heartbeatNanos = heartbeatInterval.toNanos();
+        this.timeout = timeout;
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+    }
+
+    /**
+     * Opens a stream that starts with the current availability of the event and then receives its changes.
+     *
+     * @throws ServiceUnavailableException If the subscriber limit (in total or for the event) is reached.
+     * @throws ResourceNotFoundException If the event does not exist.
+     */
+    public SseEmitter subscribe(Long eventId) {
+        if (subscribers.incrementAndGet() > maxSubscribers) {
+            subscribers.decrementAndGet();
+            throw new ServiceUnavailableException("Too many availability subscribers, please retry later");
+        }
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout.toMillis()));
+        Topic topic;
+        try {
+            topic = topics.compute(eventId, (id, existing) -> {
+                Topic joined = existing != null ? existing : new Topic(id);
+                if (joined.members.size() >= maxSubscribersPerEvent) {
+                    throw new ServiceUnavailableException("Too many subscribers for this event, please retry later");
+                }
+                joined.members.add(subscriber);
+                return joined;
+            });
+        } catch (RuntimeException e) {
+            subscribers.decrementAndGet();
+            throw e;
+        }
+        subscriber.emitter.onCompletion(() -> unsubscribe(topic, subscriber));
+        subscriber.emitter.onError(error -> unsubscribe(topic, subscriber));
+
+        Frame frame = topic.frame.get();
+        if (frame == null) {
+            frame = render(topic);
+            if (frame == null) {
+                unsubscribe(topic, subscriber);
+                throw new ResourceNotFoundException("event", "id", eventId);
+            }
+            topic.frame.compareAndSet(null, frame);
+        }
+        // Spring MVC writes it as soon as the stream is set up; a newer frame fanned out meanwhile takes precedence.
+        if (subscriber.pending.compareAndSet(null, frame)) {
+            schedule(topic, subscriber);
+        }
+        return subscriber.emitter;
+    }
+
+    /**
+     * Marks an event as changed once the current transaction commits (or at once without one).
+     */
+    public void changedAfterCommit(Long eventId) {
+        changedAfterCommit(List.of(eventId));
+    }
+
+    /**
+     * Marks the given events as changed once the current transaction commits (or at once without one).
+     */
+    public void changedAfterCommit(Collection<Long> eventIds) {
+        List<Long> ids = List.copyOf(eventIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(this::changed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(EventAvailabilityStream.this::changed);
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onBookingChanged(BookingChangedEvent event) {
+        changed(event.eventId());
+    }
+
+    @TransactionalEventListener
+    public void onEventChanged(EventChangedEvent event) {
+        changed(event.eventId());
+    }
+
+    public int subscriberCount() {
+        return subscribers.get();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        publisher = Thread.ofPlatform().name("event-availability-stream").daemon().start(this::publishLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        publisher.interrupt();
+        try {
+            publisher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Let clients reconnect to another instance instead of waiting for the timeout.
+        topics.values().forEach(topic -> topic.members.forEach(subscriber -> subscriber.emitter.complete()));
+        fanOut.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void publishLoop() {
+        while (running) {
+            try {
+                Thread.sleep(minInterval);
+                publishPending();
+            } catch (InterruptedException e) {
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Publishing event availability failed", e);
+            }
+        }
+    }
+
+    /**
+     * Renders one frame per changed event and hands it to its subscribers; sends heartbeats to events that were quiet
+     * for too long, and drops subscribers whose write has been blocked for longer than the send timeout.
+     */
+    void publishPending() {
+        long now = System.nanoTime();
+        for (Topic topic : topics.values()) {
+            dropStalled(topic, now);
+            if (topic.changed.getAndSet(false)) {
+                Frame frame;
+                try {
+                    frame = render(topic);
+                } catch (RuntimeException e) {
+                    // Try again next round.
+                    topic.changed.set(true);
+                    throw e;
+                }
+                if (frame == null) {
+                    frame = END;
+                }
+                topic.frame.set(frame);
+                if (frame.last()) {
+                    topics.remove(topic.eventId, topic);
+                }
+                topic.lastSentNanos.set(now);
+                for (Subscriber subscriber : topic.members) {
+                    subscriber.pending.set(frame);
+                    schedule(topic, subscriber);
+                }
+            } else if (now - topic.lastSentNanos.get() >= heartbeatNanos) {
+                topic.lastSentNanos.set(now);
+                for (Subscriber subscriber : topic.members) {
+                    // Anything pending keeps the stream alive just as well.
+                    if (subscriber.pending.compareAndSet(null, HEARTBEAT)) {
+                        schedule(topic, subscriber);
+                    }
+                }
+            }
+        }
+    }
+
+    private void changed(Long eventId) {
+        Topic topic = topics.get(eventId);
+        if (topic != null) {
+            topic.changed.set(true);
+        }
+    }
+
+    private Frame render(Topic topic) {
+        Optional<Event> event = eventRepository.findById(topic.eventId);
+        if (event.isEmpty()) {
+            return null;
+        }
+        EventAvailabilityResponse availability = eventMapper.toAvailabilityResponse(
+                event.get(), eventStatsRepository.findById(topic.eventId).orElse(null));
+        long sequence = topic.sequence.incrementAndGet();
+        Set<DataWithMediaType> data = SseEmitter.event()
+                .id(Long.toString(sequence))
+                .name("availability")
+                .data(writer.writeValueAsBytes(availability), MediaType.APPLICATION_JSON)
+                .build();
+        return new Frame(data, sequence, availability.status() == EventStatus.CANCELLED);
+    }
+
+    /**
+     * Starts writing the subscriber's pending frame, unless a write to it is already under way (which picks it up).
+     */
+    private void schedule(Topic topic, Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            subscriber.sendStartedNanos = System.nanoTime();
+            fanOut.execute(() -> drain(topic, subscriber));
+        }
+    }
+
+    private void drain(Topic topic, Subscriber subscriber) {
+        while (true) {
+            Frame frame = subscriber.pending.getAndSet(null);
+            if (frame == null) {
+                subscriber.sending.set(false);
+                // A frame offered while this write was finishing would otherwise wait for the next one.
+                if (subscriber.pending.get() == null || !subscriber.sending.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            if (frame != HEARTBEAT && frame.sequence() <= subscriber.sentSequence) {
+                // Older than what the subscriber already has (its first frame, raced by a fan-out).
+                continue;
+            }
+            subscriber.sendStartedNanos = System.nanoTime();
+            send(topic, subscriber, frame);
+            subscriber.sentSequence = Math.max(subscriber.sentSequence, frame.sequence());
+        }
+    }
+
+    private void send(Topic topic, Subscriber subscriber, Frame frame) {
+        try {
+            if (frame.data() != null) {
+                subscriber.emitter.send(frame.data());
+            }
+            if (frame.last()) {
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away (or the stream already ended); the container reports the error as well.
+            unsubscribe(topic, subscriber);
+        }
+    }
+
+    private void dropStalled(Topic topic, long now) {
+        for (Subscriber subscriber : topic.members) {
+            if (subscriber.sending.get() && now - subscriber.sendStartedNanos > sendTimeoutNanos) {
+                log.debug("Dropping an availability subscriber of event {} that stopped reading", topic.eventId);
+                unsubscribe(topic, subscriber);
+                // Completing waits for the blocked write to give up, so never on the publisher thread.
+                fanOut.execute(subscriber.emitter::complete);
+            }
+        }
+    }
+
+    private void unsubscribe(Topic topic, Subscriber subscriber) {
+        if (topic.members.remove(subscriber)) {
+            subscribers.decrementAndGet();
+            topics.computeIfPresent(topic.eventId, (id, current) ->
+                    current == topic && current.members.isEmpty() ? null : current);
+        }
+    }
+
+    /**
+     * An SSE frame; frames of an event are numbered in the order they were rendered.
+     */
+    private record Frame(Set<DataWithMediaType> data, long sequence, boolean last) {}
+
+    /**
+     * One stream. Only one thread writes to it at a time (the one that set {@code sending}), which also owns
+     * {@code sentSequence}; newer frames replace the pending one instead of queueing up behind a slow write.
+     */
+    private static final class Subscriber {
+
+        final SseEmitter emitter;
+        final AtomicReference<Frame> pending = new AtomicReference<>();
+        final AtomicBoolean sending = new AtomicBoolean();
+        volatile long sendStartedNanos;
+        long sentSequence;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+
+    /**
+     * The subscribers of one event. Subscribers are only added inside {@code topics.compute}, so the per-event
+     * limit and the removal of an empty topic cannot race with each other.
+     */
+    private static final class Topic {
+
+        final Long eventId;
+        final Set<Subscriber> members = ConcurrentHashMap.newKeySet();
+        final AtomicReference<Frame> frame = new AtomicReference<>();
+        final AtomicBoolean changed = new AtomicBoolean();
+        final AtomicLong sequence = new AtomicLong();
+        final AtomicLong lastSentNanos = new AtomicLong(System.nanoTime());
+
+        Topic(Long eventId) {
+            this.eventId = eventId;
+        }
+    }
+}
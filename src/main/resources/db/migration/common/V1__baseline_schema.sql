@@ -0,0 +1,61 @@
+-- Baseline schema, equivalent to what Hibernate generated from the entities with ddl-auto=update.
+-- Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate) and skip it.
+
+create sequence users_seq start with 1 increment by 50;
+create sequence events_seq start with 1 increment by 50;
+create sequence bookings_seq start with 1 increment by 50;
+
+create table users (
+    id       bigint       not null,
+    username varchar(255) not null,
+    email    varchar(255) not null,
+    password varchar(255) not null,
+    role     varchar(255) not null,
+    constraint users_pkey primary key (id),
+    constraint users_username_key unique (username),
+    constraint users_email_key unique (email),
+    constraint users_role_check check (role in ('USER', 'ADMIN', 'ORGANIZER')),
+    constraint users_username_not_blank_check check (trim(username) <> '')
+);
+
+create table events (
+    id              bigint        not null,
+    uuid            uuid          not null,
+    title           varchar(255)  not null,
+    description     varchar(2000),
+    location        varchar(255)  not null,
+    start_date_time timestamp(6)  not null,
+    end_date_time   timestamp(6)  not null,
+    capacity        integer       not null,
+    ticket_price    float(53)     not null,
+    organizer_id    bigint        not null,
+    category        varchar(255)  not null,
+    status          varchar(255)  not null,
+    constraint events_pkey primary key (id),
+    constraint events_uuid_key unique (uuid),
+    constraint unique_organizer_start_location unique (organizer_id, start_date_time, location),
+    constraint fk_events_organizer foreign key (organizer_id) references users (id),
+    constraint event_dates_check check (end_date_time > start_date_time),
+    constraint event_capacity_check check (capacity > 0),
+    constraint event_ticket_price_check check (ticket_price >= 0),
+    constraint event_title_not_blank_check check (trim(title) <> ''),
+    constraint event_location_not_blank_check check (trim(location) <> ''),
+    constraint events_category_check check (category in ('CONFERENCE', 'WORKSHOP', 'CONCERT', 'MEETUP', 'FESTIVAL', 'SPORTS')),
+    constraint events_status_check check (status in ('DRAFT', 'PUBLISHED', 'CANCELLED'))
+);
+
+create table bookings (
+    id                bigint       not null,
+    event_id          bigint       not null,
+    user_id           bigint       not null,
+    number_of_tickets integer      not null,
+    booking_date_time timestamp(6) not null,
+    status            varchar(255) not null,
+    constraint bookings_pkey primary key (id),
+    constraint unique_user_event_booking unique (user_id, event_id),
+    constraint fk_bookings_event foreign key (event_id) references events (id),
+    constraint fk_bookings_user foreign key (user_id) references users (id),
+    constraint booking_tickets_positive_check check (number_of_tickets > 0),
+    constraint booking_date_in_past_check check (booking_date_time <= current_timestamp),
+    constraint bookings_status_check check (status in ('PENDING', 'CONFIRMED', 'CANCELLED'))
+);
@@ -0,0 +1,23 @@
+-- Per-event attendance aggregate maintained by the booking service (see EventStats).
+-- Not part of the V1 baseline: databases baselined at V1 did not have it, so it is created and backfilled here
+-- from the existing bookings.
+
+create table event_stats (
+    event_id           bigint  not null,
+    confirmed_tickets  integer not null,
+    booking_count      integer not null,
+    cancellation_count integer not null,
+    constraint event_stats_pkey primary key (event_id),
+    constraint event_stats_tickets_check check (confirmed_tickets >= 0),
+    constraint event_stats_booking_count_check check (booking_count >= 0),
+    constraint event_stats_cancellation_count_check check (cancellation_count >= 0)
+);
+
+insert into event_stats (event_id, confirmed_tickets, booking_count, cancellation_count)
+select e.id,
+       coalesce(sum(case when b.status = 'CONFIRMED' then b.number_of_tickets else 0 end), 0),
+       count(b.id),
+       coalesce(sum(case when b.status = 'CANCELLED' then 1 else 0 end), 0)
+from events e
+left join bookings b on b.event_id = e.id
+group by e.id;
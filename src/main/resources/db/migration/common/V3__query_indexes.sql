@@ -0,0 +1,11 @@
+-- Indexes matched to the hot queries.
+--
+-- Already served by the unique constraints of V1, so no separate index is created for:
+--   bookings(user_id)     -> unique_user_event_booking (user_id, event_id)
+--   events(organizer_id)  -> unique_organizer_start_location (organizer_id, start_date_time, location)
+
+-- findByEventId, existsByUserAndEvent's event side and the per-event CONFIRMED/CANCELLED aggregation
+create index idx_bookings_event_status on bookings (event_id, status);
+
+-- findByStatus (published listing) and status filters ordered by start time
+create index idx_events_status_start on events (status, start_date_time);
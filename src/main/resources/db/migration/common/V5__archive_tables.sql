@@ -0,0 +1,41 @@
+-- Cold storage for events that ended before the retention window, together with their bookings.
+-- The final event_stats counters are folded into archived_events. No foreign keys: rows are written
+-- once by the archiver and never updated.
+
+create table archived_events (
+    id                 bigint        not null,
+    uuid               uuid          not null,
+    title              varchar(255)  not null,
+    description        varchar(2000),
+    location           varchar(255)  not null,
+    start_date_time    timestamp(6)  not null,
+    end_date_time      timestamp(6)  not null,
+    capacity           integer       not null,
+    ticket_price       float(53)     not null,
+    organizer_id       bigint        not null,
+    category           varchar(255)  not null,
+    status             varchar(255)  not null,
+    confirmed_tickets  integer       not null,
+    booking_count      integer       not null,
+    cancellation_count integer       not null,
+    archived_at        timestamp(6)  not null,
+    constraint archived_events_pkey primary key (id)
+);
+
+create table archived_bookings (
+    id                bigint       not null,
+    event_id          bigint       not null,
+    user_id           bigint       not null,
+    number_of_tickets integer      not null,
+    booking_date_time timestamp(6) not null,
+    status            varchar(255) not null,
+    archived_at       timestamp(6) not null,
+    constraint archived_bookings_pkey primary key (id)
+);
+
+create index idx_archived_events_organizer on archived_events (organizer_id);
+create index idx_archived_bookings_event on archived_bookings (event_id);
+create index idx_archived_bookings_user on archived_bookings (user_id);
+
+-- Lets the archiver find the events past the retention window without scanning the hot table.
+create index idx_events_end on events (end_date_time);
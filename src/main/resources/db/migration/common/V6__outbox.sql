@@ -0,0 +1,21 @@
+-- Transactional outbox: domain changes are written here in the same transaction as the change itself
+-- and delivered to downstream systems by the OutboxRelay.
+
+create sequence outbox_messages_seq start with 1 increment by 50;
+
+create table outbox_messages (
+    id              bigint                      not null,
+    aggregate_type  varchar(50)                 not null,
+    aggregate_id    bigint                      not null,
+    event_type      varchar(100)                not null,
+    payload         varchar(4000)               not null,
+    occurred_at     timestamp(6) with time zone not null,
+    attempts        integer                     not null,
+    next_attempt_at timestamp(6) with time zone not null,
+    published_at    timestamp(6) with time zone,
+    last_error      varchar(1000),
+    constraint outbox_messages_pkey primary key (id)
+);
+
+-- The relay polls unpublished messages in id order; published ones are purged by age.
+create index idx_outbox_messages_pending on outbox_messages (published_at, id);
@@ -0,0 +1,18 @@
+-- Event-sourced booking ledger: one immutable row per booking command outcome.
+-- Rows are never updated or deleted, and outlive archived events.
+
+-- Not pooled: every append takes the next value, so sequence order is allocation order across all instances,
+-- which the projection's settle-delay polling relies on.
+create sequence booking_ledger_seq start with 1 increment by 1;
+
+create table booking_ledger (
+    seq         bigint                      not null,
+    entry_type  varchar(20)                 not null,
+    event_id    bigint                      not null,
+    booking_id  bigint,
+    user_id     bigint                      not null,
+    tickets     integer                     not null,
+    recorded_at timestamp(6) with time zone not null,
+    constraint booking_ledger_pkey primary key (seq),
+    constraint booking_ledger_entry_type_check check (entry_type in ('PLACED', 'CANCELLED', 'REJECTED'))
+);
@@ -0,0 +1,2 @@
+-- The analytics refresh re-reads the recently made bookings in (booking time, id) order.
+create index idx_bookings_booked_at on bookings (booking_date_time, id);
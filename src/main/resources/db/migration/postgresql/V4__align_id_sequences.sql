@@ -0,0 +1,13 @@
+-- Databases created while ids were generated by IDENTITY columns have no id sequences yet.
+--
+-- Hibernate's pooled optimizer treats each value returned by nextval as the upper bound of a block of
+-- 50 ids, so every sequence is positioned at MAX(id): the next block starts right after the existing rows.
+-- Existing ids are left untouched. On a fresh database this is a no-op.
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS events_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS bookings_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('users_seq', (SELECT MAX(id) FROM users)) WHERE EXISTS (SELECT 1 FROM users);
+SELECT setval('events_seq', (SELECT MAX(id) FROM events)) WHERE EXISTS (SELECT 1 FROM events);
+SELECT setval('bookings_seq', (SELECT MAX(id) FROM bookings)) WHERE EXISTS (SELECT 1 FROM bookings);
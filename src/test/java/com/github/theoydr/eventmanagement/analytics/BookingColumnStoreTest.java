@@ -0,0 +1,149 @@
+package com.github.theoydr.eventmanagement.analytics;
+
+import com.github.theoydr.eventmanagement.analytics.BookingColumnStore.GroupTotals;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.repository.BookingFact;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingColumnStoreTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private static BookingFact fact(long bookingId, long eventId, EventCategory category, int tickets, double price,
+                                    LocalDateTime bookedAt, BookingStatus status) {
+        return new BookingFact(bookingId, eventId, category, tickets, price, bookedAt, status);
+    }
+
+    @Test
+    @DisplayName("Should sum confirmed bookings per category within the time range")
+    void totalsByCategory_CountsOnlyConfirmedInRange() {
+        // Arrange
+        BookingColumnStore store = new BookingColumnStore();
+        store.append(List.of(
+                fact(1, 10, EventCategory.CONCERT, 2, 50.0, START.plusHours(1), BookingStatus.CONFIRMED),
+                fact(2, 11, EventCategory.CONCERT, 1, 80.0, START.plusHours(2), BookingStatus.CONFIRMED),
+                fact(3, 12, EventCategory.WORKSHOP, 4, 10.0, START.plusHours(3), BookingStatus.CANCELLED),
+                fact(4, 12, EventCategory.WORKSHOP, 3, 10.0, START.plusDays(2), BookingStatus.CONFIRMED)));
+
+        // Act
+        GroupTotals totals = store.totalsByCategory(START, START.plusDays(1));
+
+        // Assert
+        int concert = EventCategory.CONCERT.ordinal();
+        int workshop = EventCategory.WORKSHOP.ordinal();
+        assertThat(totals.bookings()[concert]).isEqualTo(2);
+        assertThat(totals.tickets()[concert]).isEqualTo(3);
+        assertThat(totals.revenue()[concert]).isEqualTo(180.0);
+        assertThat(totals.bookings()[workshop]).isZero();
+    }
+
+    @Test
+    @DisplayName("Should key event totals by event id")
+    void totalsByEvent_KeysAreEventIds() {
+        // Arrange
+        BookingColumnStore store = new BookingColumnStore();
+        store.append(List.of(
+                fact(1, 42, EventCategory.MEETUP, 1, 5.0, START, BookingStatus.CONFIRMED),
+                fact(2, 7, EventCategory.MEETUP, 2, 5.0, START, BookingStatus.CONFIRMED),
+                fact(3, 42, EventCategory.MEETUP, 3, 5.0, START, BookingStatus.CONFIRMED)));
+
+        // Act
+        GroupTotals totals = store.totalsByEvent(START, START.plusHours(1));
+
+        // Assert
+        assertThat(totals.groupKeys()).containsExactly(42L, 7L);
+        assertThat(totals.tickets()).containsExactly(4L, 2L);
+    }
+
+    @Test
+    @DisplayName("Should bucket bookings by time with a shorter last bucket")
+    void totalsByTimeBucket_BucketsByBookingTime() {
+        // Arrange
+        BookingColumnStore store = new BookingColumnStore();
+        store.append(List.of(
+                fact(1, 10, EventCategory.SPORTS, 1, 20.0, START.plusMinutes(10), BookingStatus.CONFIRMED),
+                fact(2, 10, EventCategory.SPORTS, 2, 20.0, START.plusMinutes(70), BookingStatus.CONFIRMED),
+                fact(3, 11, EventCategory.SPORTS, 5, 20.0, START.plusMinutes(75), BookingStatus.CONFIRMED),
+                fact(4, 10, EventCategory.SPORTS, 1, 20.0, START.plusMinutes(130), BookingStatus.CONFIRMED)));
+
+        // Act
+        GroupTotals totals = store.totalsByTimeBucket(START, START.plusMinutes(150), 3600, 10L);
+
+        // Assert
+        assertThat(totals.groupKeys()).containsExactly(0L, 1L, 2L);
+        assertThat(totals.tickets()).containsExactly(1L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("Should apply cancellations to loaded and not yet loaded bookings")
+    void markCancelled_AppliesToLoadedAndPendingBookings() {
+        // Arrange
+        BookingColumnStore store = new BookingColumnStore();
+        store.append(List.of(fact(1, 10, EventCategory.FESTIVAL, 2, 30.0, START, BookingStatus.CONFIRMED)));
+
+        // Act
+        store.markCancelled(1);
+        store.markCancelled(2);
+        store.append(List.of(
+                fact(1, 10, EventCategory.FESTIVAL, 2, 30.0, START, BookingStatus.CONFIRMED),
+                fact(2, 10, EventCategory.FESTIVAL, 1, 30.0, START, BookingStatus.CONFIRMED),
+                fact(3, 10, EventCategory.FESTIVAL, 4, 30.0, START, BookingStatus.CONFIRMED)));
+
+        // Assert
+        GroupTotals totals = store.totalsByEvent(START, START.plusHours(1));
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.highWaterMark()).isEqualTo(3);
+        assertThat(totals.tickets()).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Should keep bookings appended out of id order and update re-read ones")
+    void append_OutOfOrderAndReRead_KeepsEachBookingOnce() {
+        // Arrange
+        BookingColumnStore store = new BookingColumnStore();
+        store.append(List.of(
+                fact(51, 10, EventCategory.FESTIVAL, 1, 10.0, START, BookingStatus.CONFIRMED),
+                fact(60, 10, EventCategory.FESTIVAL, 2, 10.0, START, BookingStatus.CONFIRMED)));
+
+        // Act: id 10 of another instance's block commits later; 60 is re-read after it was cancelled
+        store.append(List.of(
+                fact(10, 20, EventCategory.CONCERT, 4, 10.0, START, BookingStatus.CONFIRMED),
+                fact(60, 10, EventCategory.FESTIVAL, 2, 10.0, START, BookingStatus.CANCELLED)));
+        store.markCancelled(10);
+        store.append(List.of(fact(10, 20, EventCategory.CONCERT, 4, 10.0, START, BookingStatus.CONFIRMED)));
+
+        // Assert
+        GroupTotals totals = store.totalsByCategory(START, START.plusHours(1));
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.highWaterMark()).isEqualTo(60);
+        assertThat(totals.tickets()[EventCategory.FESTIVAL.ordinal()]).isEqualTo(1);
+        assertThat(totals.tickets()[EventCategory.CONCERT.ordinal()]).isZero();
+    }
+
+    @Test
+    @DisplayName("Should grow its columns beyond the initial capacity")
+    void append_GrowsBeyondInitialCapacity() {
+        // Arrange
+        List<BookingFact> facts = new ArrayList<>();
+        for (int i = 1; i <= 50_000; i++) {
+            facts.add(fact(i, i % 100, EventCategory.CONFERENCE, 1, 1.0, START, BookingStatus.CONFIRMED));
+        }
+
+        // Act
+        BookingColumnStore store = new BookingColumnStore();
+        store.append(facts);
+
+        // Assert
+        assertThat(store.size()).isEqualTo(50_000);
+        assertThat(store.totalsByCategory(START, START.plusSeconds(1)).revenue()[EventCategory.CONFERENCE.ordinal()])
+                .isEqualTo(50_000.0);
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.theoydr.eventmanagement.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditLogWriterTest {
+
+    // Room for 4 records per segment.
+    private static final long SEGMENT_BYTES = AuditSegmentFormat.HEADER_SIZE + 4L * AuditSegmentFormat.RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    private List<AuditRecord> readAll(AuditFilter filter) throws IOException {
+        List<AuditRecord> records = new ArrayList<>();
+        new AuditLogReader(directory).scan(filter, records::add);
+        return records;
+    }
+
+    @Test
+    @DisplayName("Should rotate segments and read every record back in order")
+    void appendAndScan_RotatesSegments() throws IOException {
+        // Arrange
+        try (AuditLogWriter writer = new AuditLogWriter(directory, SEGMENT_BYTES)) {
+            for (int i = 1; i <= 10; i++) {
+                writer.append(AuditAction.BOOKING_CREATED, i, 100 + i % 2, 7, i);
+            }
+        }
+
+        // Act
+        List<AuditRecord> records = readAll(AuditFilter.all());
+
+        // Assert
+        assertThat(AuditLogReader.listSegments(directory)).hasSize(3);
+        assertThat(records).extracting(AuditRecord::sequence).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L);
+        assertThat(records.get(4).entityId()).isEqualTo(5);
+        assertThat(records.get(4).tickets()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should continue the sequence after reopening the log")
+    void reopen_ContinuesSequence() throws IOException {
+        // Arrange
+        try (AuditLogWriter writer = new AuditLogWriter(directory, SEGMENT_BYTES)) {
+            writer.append(AuditAction.EVENT_PUBLISHED, 1, 1, 2, 0);
+            writer.append(AuditAction.EVENT_CANCELLED, 1, 1, 2, 0);
+        }
+
+        // Act
+        AuditRecord record;
+        try (AuditLogWriter writer = new AuditLogWriter(directory, SEGMENT_BYTES)) {
+            record = writer.append(AuditAction.BOOKING_CANCELLED, 3, 1, 4, 2);
+        }
+
+        // Assert
+        assertThat(record.sequence()).isEqualTo(3);
+        assertThat(readAll(AuditFilter.all())).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should refuse a second writer on a directory that is already open")
+    void open_DirectoryInUse_Fails() throws IOException {
+        // Arrange
+        try (AuditLogWriter writer = new AuditLogWriter(directory, SEGMENT_BYTES)) {
+            writer.append(AuditAction.BOOKING_CREATED, 1, 1, 2, 1);
+
+            // Act & Assert
+            assertThatThrownBy(() -> new AuditLogWriter(directory, SEGMENT_BYTES))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("already open");
+        }
+
+        // Released on close.
+        try (AuditLogWriter writer = new AuditLogWriter(directory, SEGMENT_BYTES)) {
+            assertThat(writer.nextSequence()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    @DisplayName("Should filter by action, event and time range")
+    void scan_AppliesFilter() throws IOException {
+        // Arrange
+        Instant start = Instant.now().minusSeconds(1);
+        try (AuditLogWriter writer = new AuditLogWriter(directory, SEGMENT_BYTES)) {
+            writer.append(AuditAction.BOOKING_CREATED, 1, 10, 5, 2);
+            writer.append(AuditAction.BOOKING_CREATED, 2, 20, 5, 1);
+            writer.append(AuditAction.BOOKING_CANCELLED, 1, 10, 5, 2);
+            writer.append(AuditAction.EVENT_CANCELLED, 10, 10, 9, 0);
+            writer.append(AuditAction.BOOKING_CANCELLED, 2, 20, 5, 1);
+        }
+
+        // Act
+        List<AuditRecord> cancellationsOfEvent10 = readAll(new AuditFilter(
+                start, null, EnumSet.of(AuditAction.BOOKING_CANCELLED, AuditAction.EVENT_CANCELLED), null, 10L, null));
+        List<AuditRecord> future = readAll(new AuditFilter(Instant.now().plusSeconds(60), null, null, null, null, null));
+
+        // Assert
+        assertThat(cancellationsOfEvent10).extracting(AuditRecord::sequence).containsExactly(3L, 4L);
+        assertThat(future).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should skip and count a record whose CRC does not match")
+    void scan_CorruptRecord_IsSkipped() throws IOException {
+        // Arrange
+        try (AuditLogWriter writer = new AuditLogWriter(directory, SEGMENT_BYTES)) {
+            writer.append(AuditAction.BOOKING_CREATED, 1, 10, 5, 2);
+            writer.append(AuditAction.BOOKING_CREATED, 2, 10, 6, 3);
+            writer.append(AuditAction.BOOKING_CREATED, 3, 10, 7, 4);
+        }
+        Path segment = AuditLogReader.listSegments(directory).getFirst();
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            // Flip the tickets of the second record.
+            channel.write(ByteBuffer.wrap(new byte[] {99}), AuditSegmentFormat.offset(1) + 48);
+        }
+
+        // Act
+        List<AuditRecord> records = new ArrayList<>();
+        AuditLogReader.ScanResult result = new AuditLogReader(directory).scan(AuditFilter.all(), records::add);
+
+        // Assert
+        assertThat(records).extracting(AuditRecord::sequence).containsExactly(1L, 3L);
+        assertThat(result.invalid()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,137 @@
+package com.github.theoydr.eventmanagement.benchmark;
+
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import jakarta.persistence.*;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Compares the insert throughput of IDENTITY ids (one round trip per row, no JDBC batching)
+ * with pooled SEQUENCE ids (batched inserts), using booking-shaped rows.
+ *
+ * Run with {@code mvn test -Pbenchmark}. The PostgreSQL run is skipped unless
+ * {@code -Dbenchmark.postgres.url=jdbc:postgresql://...} (and optionally {@code .user} / {@code .password}) is given.
+ */
+@Tag("benchmark")
+class BookingInsertBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int WARM_UP_ROWS = 5_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Test
+    @DisplayName("Insert 100k bookings on H2: IDENTITY vs pooled SEQUENCE")
+    void insertThroughput_H2() {
+        Map<String, String> connection = new LinkedHashMap<>();
+        connection.put("jakarta.persistence.jdbc.url", "jdbc:h2:mem:insert-benchmark;DB_CLOSE_DELAY=-1");
+        connection.put("jakarta.persistence.jdbc.user", "sa");
+        connection.put("jakarta.persistence.jdbc.password", "");
+        connection.put("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+
+        compare("H2", connection);
+    }
+
+    @Test
+    @DisplayName("Insert 100k bookings on PostgreSQL: IDENTITY vs pooled SEQUENCE")
+    void insertThroughput_PostgreSQL() {
+        String url = System.getProperty("benchmark.postgres.url");
+        assumeTrue(url != null, "Set -Dbenchmark.postgres.url to run the PostgreSQL benchmark");
+
+        Map<String, String> connection = new LinkedHashMap<>();
+        connection.put("jakarta.persistence.jdbc.url", url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true");
+        connection.put("jakarta.persistence.jdbc.user", System.getProperty("benchmark.postgres.user", "postgres"));
+        connection.put("jakarta.persistence.jdbc.password", System.getProperty("benchmark.postgres.password", ""));
+        connection.put("hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect");
+
+        compare("PostgreSQL", connection);
+    }
+
+    private void compare(String database, Map<String, String> connection) {
+        double identity = measure(connection, IdentityBooking.class, IdentityBooking::new);
+        double sequence = measure(connection, SequenceBooking.class, SequenceBooking::new);
+
+        System.out.printf("%s, %,d bookings: IDENTITY %,.0f rows/s, SEQUENCE (pooled, batch %d) %,.0f rows/s, speed-up x%.1f%n",
+                database, ROWS, identity, BATCH_SIZE, sequence, sequence / identity);
+    }
+
+    private double measure(Map<String, String> connection, Class<? extends BenchmarkBooking> entity,
+                           Supplier<? extends BenchmarkBooking> factory) {
+        Configuration configuration = new Configuration().addAnnotatedClass(entity);
+        connection.forEach(configuration::setProperty);
+        configuration.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+        configuration.setProperty("hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE));
+        configuration.setProperty("hibernate.order_inserts", "true");
+
+        try (SessionFactory sessionFactory = configuration.buildSessionFactory()) {
+            insert(sessionFactory, factory, WARM_UP_ROWS);
+            sessionFactory.getSchemaManager().truncateMappedObjects();
+
+            long start = System.nanoTime();
+            insert(sessionFactory, factory, ROWS);
+            long elapsed = System.nanoTime() - start;
+
+            Long count = sessionFactory.fromTransaction(session -> session
+                    .createSelectionQuery("select count(*) from " + entity.getSimpleName(), Long.class)
+                    .getSingleResult());
+            assertThat(count).isEqualTo(ROWS);
+            return ROWS / (elapsed / 1_000_000_000.0);
+        }
+    }
+
+    private void insert(SessionFactory sessionFactory, Supplier<? extends BenchmarkBooking> factory, int rows) {
+        LocalDateTime bookedAt = LocalDateTime.now().minusDays(1);
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < rows; i++) {
+                BenchmarkBooking booking = factory.get();
+                booking.eventId = (long) (i % 1_000);
+                booking.userId = (long) i;
+                booking.numberOfTickets = 1 + i % 4;
+                booking.status = BookingStatus.CONFIRMED;
+                booking.bookingDateTime = bookedAt;
+                session.persist(booking);
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+
+    @MappedSuperclass
+    abstract static class BenchmarkBooking {
+        Long eventId;
+        Long userId;
+        Integer numberOfTickets;
+        @Enumerated(EnumType.STRING)
+        BookingStatus status;
+        LocalDateTime bookingDateTime;
+    }
+
+    @Entity(name = "IdentityBooking")
+    @Table(name = "benchmark_identity_bookings")
+    static class IdentityBooking extends BenchmarkBooking {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        Long id;
+    }
+
+    @Entity(name = "SequenceBooking")
+    @Table(name = "benchmark_sequence_bookings")
+    static class SequenceBooking extends BenchmarkBooking {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_booking_seq")
+        @SequenceGenerator(name = "benchmark_booking_seq", sequenceName = "benchmark_bookings_seq", allocationSize = 50)
+        Long id;
+    }
+}
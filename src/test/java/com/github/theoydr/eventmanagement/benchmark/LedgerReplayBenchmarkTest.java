@@ -0,0 +1,117 @@
+package com.github.theoydr.eventmanagement.benchmark;
+
+import com.github.theoydr.eventmanagement.enums.LedgerEntryType;
+import com.github.theoydr.eventmanagement.ledger.BookingLedger;
+import com.github.theoydr.eventmanagement.ledger.LedgerSnapshots;
+import com.github.theoydr.eventmanagement.repository.LedgerFact;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures how long it takes to rebuild the booking ledger projections from 10M entries, and compares that with
+ * restoring a snapshot and replaying only the 1% of entries written after it.
+ *
+ * Entries are fed in chunks of the size the service reads from the database, so the numbers cover the in-memory
+ * part of a restart; the database read comes on top. Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class LedgerReplayBenchmarkTest {
+
+    private static final int ENTRIES = 10_000_000;
+    private static final int CHUNK_SIZE = 10_000;
+    private static final int EVENTS = 20_000;
+    private static final int USERS = 2_000_000;
+
+    @TempDir
+    Path snapshotDirectory;
+
+    @Test
+    @DisplayName("Replay 10M ledger entries: full replay vs snapshot + tail")
+    void replay10M() throws IOException {
+        // Warm up the apply path before measuring.
+        replay(new BookingLedger(), 1, ENTRIES / 10);
+
+        long start = System.nanoTime();
+        BookingLedger full = replay(new BookingLedger(), 1, ENTRIES);
+        long fullNanos = System.nanoTime() - start;
+
+        int snapshotAt = ENTRIES - ENTRIES / 100;
+        BookingLedger base = replay(new BookingLedger(), 1, snapshotAt);
+        LedgerSnapshots snapshots = new LedgerSnapshots(snapshotDirectory, 1);
+        start = System.nanoTime();
+        Path file = snapshots.write(base);
+        long writeNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        BookingLedger restored = snapshots.readLatest().orElseThrow();
+        long readNanos = System.nanoTime() - start;
+        start = System.nanoTime();
+        replay(restored, snapshotAt + 1, ENTRIES);
+        long tailNanos = System.nanoTime() - start;
+
+        System.out.printf("Full replay of %,d entries: %,d ms (%,.0f entries/s), %,d events%n",
+                ENTRIES, fullNanos / 1_000_000, ENTRIES / (fullNanos / 1e9), full.eventCount());
+        System.out.printf("Snapshot at %,d: %,d bytes, written in %,d ms, read in %,d ms; tail of %,d entries replayed in %,d ms%n",
+                snapshotAt, Files.size(file), writeNanos / 1_000_000, readNanos / 1_000_000,
+                ENTRIES - snapshotAt, tailNanos / 1_000_000);
+        System.out.printf("Restart: full replay %,d ms vs snapshot + tail %,d ms%n",
+                fullNanos / 1_000_000, (readNanos + tailNanos) / 1_000_000);
+
+        assertThat(restored.lastSequence()).isEqualTo(full.lastSequence()).isEqualTo(ENTRIES);
+        long probe = 1 + (long) (EVENTS / 2);
+        assertThat(restored.projection(probe)).isEqualTo(full.projection(probe));
+    }
+
+    /**
+     * Applies the deterministic synthetic entries {@code [fromSeq, toSeq]}: roughly 75% placed bookings, 15%
+     * cancellations of earlier bookings and 10% sold-out rejections. The entry for a sequence number does not depend on
+     * where the replay started, so partial replays produce the same state as full ones.
+     */
+    private static BookingLedger replay(BookingLedger ledger, long fromSeq, long toSeq) {
+        List<LedgerFact> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (long seq = fromSeq; seq <= toSeq; seq++) {
+            chunk.add(entry(seq));
+            if (chunk.size() == CHUNK_SIZE) {
+                ledger.apply(chunk);
+                chunk.clear();
+            }
+        }
+        ledger.apply(chunk);
+        return ledger;
+    }
+
+    private static LedgerFact entry(long seq) {
+        SplittableRandom random = new SplittableRandom(seq);
+        int kind = random.nextInt(100);
+        if (kind < 75) {
+            return booking(seq, seq, LedgerEntryType.PLACED);
+        }
+        if (kind < 90 && seq > 1) {
+            // Cancels the booking placed at an earlier sequence (a no-op if that entry was not a placement).
+            return booking(seq, 1 + random.nextLong(seq - 1), LedgerEntryType.CANCELLED);
+        }
+        return new LedgerFact(seq, LedgerEntryType.REJECTED, 1 + random.nextLong(EVENTS), null,
+                1 + random.nextLong(USERS), 1 + random.nextInt(4), Instant.EPOCH);
+    }
+
+    /**
+     * The booking placed at {@code placedSeq}; its event, user and tickets are derived from that sequence.
+     */
+    private static LedgerFact booking(long seq, long placedSeq, LedgerEntryType type) {
+        SplittableRandom random = new SplittableRandom(placedSeq ^ 0x5DEECE66DL);
+        return new LedgerFact(seq, type, 1 + random.nextLong(EVENTS), placedSeq,
+                1 + random.nextLong(USERS), 1 + random.nextInt(4), Instant.EPOCH);
+    }
+}
@@ -0,0 +1,140 @@
+package com.github.theoydr.eventmanagement.benchmark;
+
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import jakarta.persistence.*;
+import org.hibernate.FlushMode;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares reading a large list of event-shaped entities in a default session (snapshots for dirty checking, AUTO
+ * flush, dirty check at commit) with a read-only session (no snapshots, MANUAL flush), as the read-only service
+ * methods now do. Reports latency and the heap allocated by the reading thread.
+ *
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ReadOnlyListBenchmarkTest {
+
+    private static final int ROWS = 100_000;
+    private static final int WARM_UP_ROUNDS = 3;
+    private static final int ROUNDS = 10;
+    private static final int BATCH_SIZE = 50;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("List 100k events on H2: read-write vs read-only session")
+    void listEvents_H2() {
+        Configuration configuration = new Configuration().addAnnotatedClass(BenchmarkEvent.class);
+        configuration.setProperty("jakarta.persistence.jdbc.url", "jdbc:h2:mem:read-only-benchmark;DB_CLOSE_DELAY=-1");
+        configuration.setProperty("jakarta.persistence.jdbc.user", "sa");
+        configuration.setProperty("jakarta.persistence.jdbc.password", "");
+        configuration.setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        configuration.setProperty("hibernate.hbm2ddl.auto", "create-drop");
+        configuration.setProperty("hibernate.jdbc.batch_size", String.valueOf(BATCH_SIZE));
+
+        try (SessionFactory sessionFactory = configuration.buildSessionFactory()) {
+            insert(sessionFactory);
+
+            for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+                read(sessionFactory, false);
+                read(sessionFactory, true);
+            }
+            Measurement readWrite = measure(sessionFactory, false);
+            Measurement readOnly = measure(sessionFactory, true);
+
+            System.out.printf("H2, %,d events per list, %d rounds:%n", ROWS, ROUNDS);
+            System.out.printf("  read-write: %,.1f ms, %,.1f MB allocated per list%n", readWrite.millis(), readWrite.megabytes());
+            System.out.printf("  read-only:  %,.1f ms, %,.1f MB allocated per list%n", readOnly.millis(), readOnly.megabytes());
+            System.out.printf("  latency -%.0f%%, allocation -%.0f%%%n",
+                    100 * (1 - readOnly.millis() / readWrite.millis()),
+                    100 * (1 - readOnly.megabytes() / readWrite.megabytes()));
+        }
+    }
+
+    private record Measurement(double millis, double megabytes) {}
+
+    private Measurement measure(SessionFactory sessionFactory, boolean readOnly) {
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            assertThat(read(sessionFactory, readOnly)).isEqualTo(ROWS);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Measurement(elapsed / 1_000_000.0 / ROUNDS, allocated / (1024.0 * 1024.0) / ROUNDS);
+    }
+
+    private int read(SessionFactory sessionFactory, boolean readOnly) {
+        return sessionFactory.fromTransaction(session -> {
+            if (readOnly) {
+                // What Spring applies to a @Transactional(readOnly = true) method.
+                session.setDefaultReadOnly(true);
+                session.setHibernateFlushMode(FlushMode.MANUAL);
+            }
+            List<BenchmarkEvent> events = session
+                    .createSelectionQuery("from BenchmarkEvent", BenchmarkEvent.class)
+                    .setReadOnly(readOnly)
+                    .getResultList();
+            return events.size();
+        });
+    }
+
+    private void insert(SessionFactory sessionFactory) {
+        LocalDateTime start = LocalDateTime.now().plusDays(30);
+        EventCategory[] categories = EventCategory.values();
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < ROWS; i++) {
+                BenchmarkEvent event = new BenchmarkEvent();
+                event.title = "Event " + i;
+                event.description = "Description of event " + i;
+                event.location = "Venue " + (i % 500);
+                event.startDateTime = start.plusHours(i);
+                event.endDateTime = start.plusHours(i + 3);
+                event.capacity = 100 + i % 900;
+                event.ticketPrice = 10.0 + i % 90;
+                event.category = categories[i % categories.length];
+                event.status = EventStatus.PUBLISHED;
+                event.organizerId = (long) (i % 1_000);
+                session.persist(event);
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+        });
+    }
+
+    @Entity(name = "BenchmarkEvent")
+    @Table(name = "benchmark_events")
+    static class BenchmarkEvent {
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_event_seq")
+        @SequenceGenerator(name = "benchmark_event_seq", sequenceName = "benchmark_events_seq", allocationSize = 50)
+        Long id;
+        String title;
+        String description;
+        String location;
+        LocalDateTime startDateTime;
+        LocalDateTime endDateTime;
+        Integer capacity;
+        Double ticketPrice;
+        @Enumerated(EnumType.STRING)
+        EventCategory category;
+        @Enumerated(EnumType.STRING)
+        EventStatus status;
+        Long organizerId;
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.theoydr.eventmanagement.benchmark;
+
+import com.github.theoydr.eventmanagement.dto.AttendeeResponse;
+import com.github.theoydr.eventmanagement.dto.BookingResponse;
+import com.github.theoydr.eventmanagement.dto.EventResponse;
+import com.github.theoydr.eventmanagement.dto.EventStatsResponse;
+import com.github.theoydr.eventmanagement.dto.OrganizerResponse;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.serialization.ResponseSerializers;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares Jackson's reflective record serialization with the hand-written {@link ResponseSerializers} on a list
+ * of 10k bookings (each with its event, organizer, stats and attendee): time and heap allocated per list.
+ *
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ResponseSerializerBenchmarkTest {
+
+    private static final int BOOKINGS = 10_000;
+    private static final int WARM_UP_ROUNDS = 30;
+    private static final int ROUNDS = 100;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    @DisplayName("Serialize 10k bookings: reflective vs hand-written serializers")
+    void bookingList_Serializers() {
+        List<BookingResponse> bookings = bookings();
+        JsonMapper reflective = JsonMapper.builder().build();
+        JsonMapper handWritten = JsonMapper.builder().addModule(new ResponseSerializers()).build();
+        assertThat(handWritten.writeValueAsBytes(bookings)).isEqualTo(reflective.writeValueAsBytes(bookings));
+
+        Measurement before = measure(reflective, bookings);
+        Measurement after = measure(handWritten, bookings);
+
+        System.out.printf("%,d bookings per list, %d rounds:%n", BOOKINGS, ROUNDS);
+        System.out.printf("  reflective:   %6.2f ms, %,.1f MB allocated per list%n", before.millis(), before.megabytes());
+        System.out.printf("  hand-written: %6.2f ms, %,.1f MB allocated per list%n", after.millis(), after.megabytes());
+        System.out.printf("  latency -%.0f%%, allocation -%.0f%%%n",
+                100 * (1 - after.millis() / before.millis()),
+                100 * (1 - after.megabytes() / before.megabytes()));
+    }
+
+    private record Measurement(double millis, double megabytes) {}
+
+    private static Measurement measure(ObjectMapper mapper, List<BookingResponse> bookings) {
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            mapper.writeValueAsBytes(bookings);
+        }
+
+        long allocatedBefore = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            mapper.writeValueAsBytes(bookings);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Measurement(elapsed / 1_000_000.0 / ROUNDS, allocated / (1024.0 * 1024.0) / ROUNDS);
+    }
+
+    private static List<BookingResponse> bookings() {
+        EventCategory[] categories = EventCategory.values();
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 18, 0);
+        List<BookingResponse> bookings = new ArrayList<>(BOOKINGS);
+        for (int i = 0; i < BOOKINGS; i++) {
+            LocalDateTime start = base.plusHours(i % 500);
+            EventResponse event = new EventResponse(
+                    (long) (i % 500) + 1,
+                    "Event " + (i % 500),
+                    "An evening of live music and talks, part " + i + " of the season programme.",
+                    "Venue " + (i % 200) + ", Athens",
+                    start,
+                    start.plusHours(3),
+                    100 + i % 900,
+                    10.0 + i % 50,
+                    categories[i % categories.length],
+                    EventStatus.PUBLISHED,
+                    new OrganizerResponse((long) (i % 100) + 1, "organizer" + (i % 100)),
+                    new EventStatsResponse(i % 100, 100 + i % 900 - i % 100, i % 40, i % 5));
+            bookings.add(new BookingResponse(
+                    (long) i + 1,
+                    1 + i % 4,
+                    start.minusDays(1 + i % 30).withNano((i % 1000) * 1_000_000),
+                    BookingStatus.CONFIRMED,
+                    event,
+                    new AttendeeResponse((long) i + 1000, "attendee" + i, "attendee" + i + "@example.com")));
+        }
+        return bookings;
+    }
+}
@@ -0,0 +1,118 @@
+package com.github.theoydr.eventmanagement.benchmark;
+
+import com.github.theoydr.eventmanagement.datasource.ConcurrencyLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of the request shape the {@code virtual-threads} profile is meant for: every request blocks on a
+ * downstream call and then on a short database query, through a pool of {@value #POOL_SIZE} connections.
+ *
+ * The platform run uses a fixed pool of {@value #PLATFORM_THREADS} threads (Tomcat's default maximum); the virtual
+ * run starts one virtual thread per request and relies on the {@link ConcurrencyLimitingDataSource} to keep the
+ * connection pool from being stampeded. The database latency is simulated with an H2 function alias that sleeps.
+ *
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int REQUESTS = 20_000;
+    private static final int WARM_UP_REQUESTS = 2_000;
+    private static final int POOL_SIZE = 20;
+    private static final int PLATFORM_THREADS = 200;
+    private static final long DOWNSTREAM_MILLIS = 50;
+    private static final long QUERY_MILLIS = 2;
+
+    private HikariDataSource pool;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:virtual-thread-benchmark;DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setMaximumPoolSize(POOL_SIZE);
+        pool.setConnectionTimeout(30_000);
+        try (Connection connection = pool.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create alias if not exists SLEEP for 'java.lang.Thread.sleep(long)'");
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    @DisplayName("20k blocking requests: platform thread pool vs virtual threads with a database semaphore")
+    void throughput() throws Exception {
+        DataSource limited = new ConcurrencyLimitingDataSource(pool, POOL_SIZE, REQUESTS, Duration.ofSeconds(30));
+
+        try (ExecutorService platform = Executors.newFixedThreadPool(PLATFORM_THREADS)) {
+            run(platform, pool, WARM_UP_REQUESTS);
+            Result result = run(platform, pool, REQUESTS);
+            print("platform (" + PLATFORM_THREADS + " threads)", result);
+        }
+        try (ExecutorService virtual = Executors.newVirtualThreadPerTaskExecutor()) {
+            run(virtual, limited, WARM_UP_REQUESTS);
+            Result result = run(virtual, limited, REQUESTS);
+            print("virtual (semaphore " + POOL_SIZE + ")", result);
+        }
+    }
+
+    private record Result(double requestsPerSecond, int failures) {}
+
+    private Result run(ExecutorService executor, DataSource dataSource, int requests) throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>(requests);
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                try {
+                    handleRequest(dataSource);
+                } catch (SQLException | InterruptedException e) {
+                    failures.incrementAndGet();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return new Result(requests / seconds, failures.get());
+    }
+
+    private void handleRequest(DataSource dataSource) throws SQLException, InterruptedException {
+        Thread.sleep(DOWNSTREAM_MILLIS);
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("call SLEEP(?)")) {
+            statement.setLong(1, QUERY_MILLIS);
+            statement.execute();
+        }
+    }
+
+    private void print(String label, Result result) {
+        System.out.printf("%-28s %,8.0f requests/s, %d failed (%,d requests, %d ms downstream + %d ms query, pool %d)%n",
+                label, result.requestsPerSecond(), result.failures(), REQUESTS, DOWNSTREAM_MILLIS, QUERY_MILLIS, POOL_SIZE);
+        assertThat(result.failures()).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package com.github.theoydr.eventmanagement.benchmark;
+
+import com.github.theoydr.eventmanagement.dto.EventResponse;
+import com.github.theoydr.eventmanagement.dto.EventStatsResponse;
+import com.github.theoydr.eventmanagement.dto.OrganizerResponse;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the wire formats offered by content negotiation on a list of 10k events, as served by
+ * {@code GET /api/events}: encoded size, encode time and decode time per list.
+ *
+ * Run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class WireFormatBenchmarkTest {
+
+    private static final int EVENTS = 10_000;
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final int ROUNDS = 50;
+
+    @Test
+    @DisplayName("Encode and decode 10k events: JSON vs CBOR vs Smile")
+    void eventList_WireFormats() {
+        List<EventResponse> events = events();
+
+        Measurement json = measure(JsonMapper.builder().build(), events);
+        Measurement cbor = measure(CBORMapper.builder().build(), events);
+        Measurement smile = measure(SmileMapper.builder().build(), events);
+
+        System.out.printf("%,d events per list, %d rounds:%n", EVENTS, ROUNDS);
+        print("JSON ", json, json);
+        print("CBOR ", cbor, json);
+        print("Smile", smile, json);
+    }
+
+    private record Measurement(int bytes, double encodeMillis, double decodeMillis) {}
+
+    private static void print(String name, Measurement measurement, Measurement baseline) {
+        System.out.printf("  %s: %,9d bytes (%3.0f%%), encode %6.2f ms, decode %6.2f ms (%3.0f%% of JSON)%n",
+                name, measurement.bytes(), 100.0 * measurement.bytes() / baseline.bytes(),
+                measurement.encodeMillis(), measurement.decodeMillis(),
+                100 * measurement.decodeMillis() / baseline.decodeMillis());
+    }
+
+    private static Measurement measure(ObjectMapper mapper, List<EventResponse> events) {
+        byte[] encoded = mapper.writeValueAsBytes(events);
+        for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+            mapper.writeValueAsBytes(events);
+            mapper.readValue(encoded, EventResponse[].class);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            encoded = mapper.writeValueAsBytes(events);
+        }
+        double encodeMillis = (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+
+        EventResponse[] decoded = null;
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            decoded = mapper.readValue(encoded, EventResponse[].class);
+        }
+        double decodeMillis = (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+
+        assertThat(decoded).containsExactlyElementsOf(events);
+        return new Measurement(encoded.length, encodeMillis, decodeMillis);
+    }
+
+    private static List<EventResponse> events() {
+        EventCategory[] categories = EventCategory.values();
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 18, 0);
+        List<EventResponse> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            LocalDateTime start = base.plusHours(i);
+            events.add(new EventResponse(
+                    (long) i + 1,
+                    "Event " + i,
+                    "An evening of live music and talks, part " + i + " of the season programme.",
+                    "Venue " + (i % 200) + ", Athens",
+                    start,
+                    start.plusHours(3),
+                    100 + i % 900,
+                    10.0 + i % 50,
+                    categories[i % categories.length],
+                    EventStatus.PUBLISHED,
+                    new OrganizerResponse((long) (i % 100) + 1, "organizer" + (i % 100)),
+                    new EventStatsResponse(i % 100, 100 + i % 900 - i % 100, i % 40, i % 5)));
+        }
+        return events;
+    }
+}
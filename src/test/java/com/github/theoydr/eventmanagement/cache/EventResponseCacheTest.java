@@ -0,0 +1,225 @@
+package com.github.theoydr.eventmanagement.cache;
+
+import com.github.theoydr.eventmanagement.compression.ContentCoding;
+import com.github.theoydr.eventmanagement.domain.BookingChangedEvent;
+import com.github.theoydr.eventmanagement.dto.EventResponse;
+import com.github.theoydr.eventmanagement.dto.OrganizerResponse;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.enums.WireFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventResponseCacheTest {
+
+    private final EventResponseCache cache = cache(Duration.ofMinutes(10), Duration.ofMinutes(10));
+
+    private static EventResponseCache cache(Duration maxAge, Duration bookingDelay) {
+        return new EventResponseCache(JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build(),
+                CBORMapper.builder().build(), SmileMapper.builder().build(), 100, maxAge, bookingDelay);
+    }
+
+    private static EventResponse response(long id, String title) {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 18, 0);
+        return new EventResponse(id, title, null, "Athens", start, start.plusHours(2), 100, 10.0,
+                EventCategory.CONCERT, EventStatus.PUBLISHED, new OrganizerResponse(1L, "organizer"), null);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the cached bytes without calling the loader")
+    void event_SecondRead_IsServedFromCache() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        byte[] first = cache.event(10L, WireFormat.JSON, () -> {
+            loads.incrementAndGet();
+            return Optional.of(response(10L, "Jazz Night"));
+        }).orElseThrow().bytes();
+        byte[] second = cache.event(10L, WireFormat.JSON, () -> {
+            loads.incrementAndGet();
+            return Optional.of(response(10L, "Jazz Night"));
+        }).orElseThrow().bytes();
+
+        // Assert
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8)).contains("\"title\":\"Jazz Night\"").doesNotContain("\n");
+    }
+
+    @Test
+    @DisplayName("Should not cache a missing event")
+    void event_Missing_IsNotCached() {
+        // Act
+        Optional<EventResponseCache.Body> result = cache.event(99L, WireFormat.JSON, Optional::empty);
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should render again after an eviction and reject a response rendered before it")
+    void event_EvictedWhileRendering_DoesNotStoreStaleBytes() {
+        // Arrange
+        cache.event(10L, WireFormat.JSON, () -> Optional.of(response(10L, "Old title")));
+        cache.evictAfterCommit(10L);
+
+        // Act: the eviction happens while this read is rendering from the old data
+        cache.event(10L, WireFormat.JSON, () -> {
+            cache.evictAfterCommit(10L);
+            return Optional.of(response(10L, "Old title"));
+        });
+        byte[] fresh = cache.event(10L, WireFormat.JSON, () -> Optional.of(response(10L, "New title"))).orElseThrow().bytes();
+
+        // Assert
+        assertThat(new String(fresh, StandardCharsets.UTF_8)).contains("New title");
+    }
+
+    @Test
+    @DisplayName("Should evict the published list on event changes but not on bookings")
+    void publishedEvents_EvictedByEventChangesOnly() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+        cache.publishedEvents(WireFormat.JSON, () -> {
+            loads.incrementAndGet();
+            return List.of(response(10L, "Jazz Night"));
+        });
+
+        // Act
+        cache.onBookingChanged(new BookingChangedEvent(1L, 10L, 2L, 2, BookingStatus.CONFIRMED, Instant.now()));
+        cache.publishedEvents(WireFormat.JSON, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        });
+        cache.evictAfterCommit(10L);
+        byte[] afterChange = cache.publishedEvents(WireFormat.JSON, () -> {
+            loads.incrementAndGet();
+            return List.of();
+        }).bytes();
+
+        // Assert
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(new String(afterChange, StandardCharsets.UTF_8)).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("Should render again once an entry is older than the max age")
+    void event_Expired_IsRenderedAgain() {
+        // Arrange
+        EventResponseCache expiring = cache(Duration.ZERO, Duration.ofMinutes(10));
+        expiring.event(10L, WireFormat.JSON, () -> Optional.of(response(10L, "Old title")));
+
+        // Act
+        byte[] fresh = expiring.event(10L, WireFormat.JSON, () -> Optional.of(response(10L, "New title")))
+                .orElseThrow().bytes();
+
+        // Assert
+        assertThat(new String(fresh, StandardCharsets.UTF_8)).contains("New title");
+    }
+
+    @Test
+    @DisplayName("Should keep serving an event for the booking delay and render again after it")
+    void event_Booked_IsServedUntilBookingDelay() {
+        // Arrange
+        EventResponseCache immediate = cache(Duration.ofMinutes(10), Duration.ZERO);
+        cache.event(10L, WireFormat.JSON, () -> Optional.of(response(10L, "Jazz Night")));
+        immediate.event(10L, WireFormat.JSON, () -> Optional.of(response(10L, "Jazz Night")));
+        BookingChangedEvent booking = new BookingChangedEvent(1L, 10L, 2L, 2, BookingStatus.CONFIRMED, Instant.now());
+
+        // Act
+        cache.onBookingChanged(booking);
+        cache.onBookingChanged(booking);
+        immediate.onBookingChanged(booking);
+        Optional<EventResponseCache.Body> withinDelay = cache.event(10L, WireFormat.JSON, Optional::empty);
+        Optional<EventResponseCache.Body> afterDelay = immediate.event(10L, WireFormat.JSON, Optional::empty);
+
+        // Assert
+        assertThat(withinDelay).isPresent();
+        assertThat(afterDelay).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not store a response rendered before a booking")
+    void event_BookedWhileRendering_DoesNotStoreStaleBytes() {
+        // Arrange
+        BookingChangedEvent booking = new BookingChangedEvent(1L, 10L, 2L, 2, BookingStatus.CONFIRMED, Instant.now());
+
+        // Act
+        cache.event(10L, WireFormat.JSON, () -> {
+            cache.onBookingChanged(booking);
+            return Optional.of(response(10L, "Jazz Night"));
+        });
+        Optional<EventResponseCache.Body> next = cache.event(10L, WireFormat.JSON, Optional::empty);
+
+        // Assert
+        assertThat(next).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep one encoding per wire format in the same entry")
+    void event_DifferentFormats_AreCachedSeparately() {
+        // Arrange
+        AtomicInteger loads = new AtomicInteger();
+
+        // Act
+        byte[] json = cache.event(10L, WireFormat.JSON, () -> {
+            loads.incrementAndGet();
+            return Optional.of(response(10L, "Jazz Night"));
+        }).orElseThrow().bytes();
+        byte[] cbor = cache.event(10L, WireFormat.CBOR, () -> {
+            loads.incrementAndGet();
+            return Optional.of(response(10L, "Jazz Night"));
+        }).orElseThrow().bytes();
+        byte[] cachedJson = cache.event(10L, WireFormat.JSON, Optional::empty).orElseThrow().bytes();
+        byte[] cachedCbor = cache.event(10L, WireFormat.CBOR, Optional::empty).orElseThrow().bytes();
+
+        // Assert
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cachedJson).isSameAs(json);
+        assertThat(cachedCbor).isSameAs(cbor);
+        assertThat(cbor.length).isLessThan(json.length);
+        assertThat(CBORMapper.builder().build().readValue(cbor, EventResponse.class)).isEqualTo(response(10L, "Jazz Night"));
+    }
+
+    @Test
+    @DisplayName("Should compress a cached body once per version and recompress after an eviction")
+    void event_CompressedVariant_IsCachedUntilEvicted() throws IOException {
+        // Arrange
+        byte[] json = cache.event(10L, WireFormat.JSON, () -> Optional.of(response(10L, "Jazz Night"))).orElseThrow().bytes();
+
+        // Act
+        byte[] first = cache.event(10L, WireFormat.JSON, Optional::empty).orElseThrow().compressed(ContentCoding.GZIP);
+        byte[] second = cache.event(10L, WireFormat.JSON, Optional::empty).orElseThrow().compressed(ContentCoding.GZIP);
+        cache.evictAfterCommit(10L);
+        byte[] afterEviction = cache.event(10L, WireFormat.JSON, () -> Optional.of(response(10L, "New title")))
+                .orElseThrow().compressed(ContentCoding.GZIP);
+
+        // Assert
+        assertThat(second).isSameAs(first);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(json);
+        }
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(afterEviction))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).contains("New title");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.theoydr.eventmanagement.compression;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompressionPolicyTest {
+
+    private final CompressionPolicy policy = new CompressionPolicy(true, List.of("zstd", "gzip"), DataSize.ofKilobytes(1),
+            List.of("application/json", "application/cbor"),
+            List.of("/api/events/import", "/api/bookings/intents/**"),
+            List.of("/api/events/published=256B", "/api/users/**=off"));
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip, zstd");
+        return request;
+    }
+
+    @Test
+    @DisplayName("Should not compress excluded paths or endpoints switched off")
+    void select_ExcludedOrOff_ReturnsEmpty() {
+        assertThat(policy.select(request("/api/events/import"))).isEmpty();
+        assertThat(policy.select(request("/api/bookings/intents/abc"))).isEmpty();
+        assertThat(policy.select(request("/api/users/1"))).isEmpty();
+        assertThat(policy.select(request("/api/events/1"))).contains(ContentCoding.ZSTD);
+    }
+
+    @Test
+    @DisplayName("Should apply the endpoint minimum size before the default one")
+    void worthCompressing_UsesEndpointMinimum() {
+        MockHttpServletRequest published = request("/api/events/published");
+        MockHttpServletRequest single = request("/api/events/1");
+
+        assertThat(policy.worthCompressing(published, "application/json", 300)).isTrue();
+        assertThat(policy.worthCompressing(single, "application/json", 300)).isFalse();
+        assertThat(policy.worthCompressing(single, "application/json;charset=UTF-8", 2048)).isTrue();
+        assertThat(policy.worthCompressing(single, "image/png", 2048)).isFalse();
+        assertThat(policy.worthCompressing(single, null, 2048)).isFalse();
+    }
+}
@@ -0,0 +1,53 @@
+package com.github.theoydr.eventmanagement.compression;
+
+import com.github.luben.zstd.Zstd;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ContentCodingTest {
+
+    private static final List<ContentCoding> PREFERRED = List.of(ContentCoding.ZSTD, ContentCoding.GZIP);
+
+    @Test
+    @DisplayName("Should prefer the server order among equally acceptable codings")
+    void negotiate_EqualQuality_UsesServerPreference() {
+        assertThat(ContentCoding.negotiate("gzip, deflate, br, zstd", PREFERRED)).contains(ContentCoding.ZSTD);
+        assertThat(ContentCoding.negotiate("gzip, deflate, br", PREFERRED)).contains(ContentCoding.GZIP);
+    }
+
+    @Test
+    @DisplayName("Should honour quality values, exclusions and the wildcard")
+    void negotiate_QualityValues() {
+        assertThat(ContentCoding.negotiate("zstd;q=0.5, gzip", PREFERRED)).contains(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("zstd;q=0, *", PREFERRED)).contains(ContentCoding.GZIP);
+        assertThat(ContentCoding.negotiate("*;q=0", PREFERRED)).isEmpty();
+        assertThat(ContentCoding.negotiate("identity", PREFERRED)).isEmpty();
+        assertThat(ContentCoding.negotiate(null, PREFERRED)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should produce bodies that decompress to the original content")
+    void encode_RoundTrip() throws IOException {
+        // Arrange
+        byte[] content = "{\"title\":\"Jazz Night\"}".repeat(100).getBytes(StandardCharsets.UTF_8);
+
+        // Act
+        byte[] gzipped = ContentCoding.GZIP.encode(content);
+        byte[] zstd = ContentCoding.ZSTD.encode(content);
+
+        // Assert
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(gzip.readAllBytes()).isEqualTo(content);
+        }
+        assertThat(Zstd.decompress(zstd, content.length)).isEqualTo(content);
+        assertThat(zstd.length).isLessThan(content.length / 10);
+    }
+}
@@ -0,0 +1,67 @@
+package com.github.theoydr.eventmanagement.config;
+
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MetricsConfigTest {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private UserService timed(UserService target) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", registry);
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.addAdvisor(MetricsConfig.serviceTimingAdvisor(beanFactory.getBeanProvider(MeterRegistry.class)));
+        return (UserService) factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("Should time service calls per method, tagging the exception of failed calls")
+    void serviceTimingAdvisor_RecordsCallsAndFailures() {
+        // Arrange
+        UserService target = mock(UserService.class);
+        when(target.findAllUsers()).thenReturn(List.of());
+        when(target.findUserById(1L)).thenThrow(new ResourceNotFoundException("user", "id", 1L));
+        UserService userService = timed(target);
+
+        // Act
+        userService.findAllUsers();
+        userService.findAllUsers();
+        assertThatThrownBy(() -> userService.findUserById(1L)).isInstanceOf(ResourceNotFoundException.class);
+
+        // Assert
+        assertThat(registry.get("app.service").tags("method", "findAllUsers", "exception", "none").timer().count())
+                .isEqualTo(2);
+        assertThat(registry.get("app.service").tags("method", "findUserById", "exception", "ResourceNotFoundException")
+                .timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not time methods outside the service interfaces")
+    void serviceTimingAdvisor_IgnoresOtherMethods() {
+        // Arrange
+        UserService userService = timed(mock(UserService.class));
+
+        // Act
+        userService.toString();
+        Optional<?> ignored = userService.findUserByEmail("user@example.com");
+
+        // Assert
+        assertThat(registry.find("app.service").tag("method", "toString").timer()).isNull();
+        assertThat(registry.find("app.service").tag("method", "findUserByEmail").timer()).isNotNull();
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.theoydr.eventmanagement.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingControllerTest {
+
+    @Test
+    @DisplayName("Should recognise respond-async among other RFC 7240 preferences")
+    void prefersRespondAsync_ParsesPreferenceList() {
+        assertThat(BookingController.prefersRespondAsync(List.of("respond-async"))).isTrue();
+        assertThat(BookingController.prefersRespondAsync(List.of("respond-async, wait=10"))).isTrue();
+        assertThat(BookingController.prefersRespondAsync(List.of("wait=10", " Respond-Async "))).isTrue();
+        assertThat(BookingController.prefersRespondAsync(List.of("handling=lenient; foo=bar, respond-async;x=1"))).isTrue();
+
+        assertThat(BookingController.prefersRespondAsync(List.of("wait=10"))).isFalse();
+        assertThat(BookingController.prefersRespondAsync(List.of("return=respond-async"))).isFalse();
+        assertThat(BookingController.prefersRespondAsync(List.of())).isFalse();
+    }
+}
@@ -6,10 +6,13 @@ import com.github.theoydr.eventmanagement.exception.*;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.context.NoSuchMessageException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import java.sql.SQLTransientConnectionException;
+
 @RestController
 @RequestMapping("/test")
 public class TestController {
@@ -52,6 +55,22 @@ public class TestController {
         throw new EventBookingException(BookingFailureReason.EVENT_IN_PAST, "test");
     }
 
+    @GetMapping("/throw/service-unavailable")
+    void throwServiceUnavailable() {
+        throw new ServiceUnavailableException("deadline exceeded");
+    }
+
+    @GetMapping("/throw/cannot-create-transaction")
+    void throwCannotCreateTransaction() {
+        throw new CannotCreateTransactionException("Could not open JPA EntityManager for transaction",
+                new SQLTransientConnectionException("Database concurrency limit reached"));
+    }
+
+    @GetMapping("/throw/invalid-request")
+    void throwInvalidRequest() {
+        throw new InvalidRequestException("'from' must be before 'to'");
+    }
+
     @GetMapping("/throw/runtime-exception")
     void throwRuntimeException() {
         throw new RuntimeException("Something went wrong internally!");
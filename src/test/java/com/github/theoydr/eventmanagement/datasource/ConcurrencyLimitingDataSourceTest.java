@@ -0,0 +1,144 @@
+package com.github.theoydr.eventmanagement.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimitingDataSourceTest {
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1", "sa", "");
+        dataSource = new ConcurrencyLimitingDataSource(h2, 2, 1, Duration.ofMillis(200));
+    }
+
+    @Test
+    @DisplayName("Should hold a permit until the connection is closed, releasing it only once")
+    void getConnection_ReleasesPermitOnClose() throws Exception {
+        // Act
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        int activeWhileOpen = dataSource.getActive();
+        first.close();
+        first.close();
+
+        // Assert
+        assertThat(activeWhileOpen).isEqualTo(2);
+        assertThat(dataSource.getActive()).isEqualTo(1);
+        second.close();
+        assertThat(dataSource.getActive()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should reject a caller after the acquire timeout when all permits are held")
+    void getConnection_LimitReached_TimesOut() throws Exception {
+        // Arrange
+        try (Connection ignored1 = dataSource.getConnection(); Connection ignored2 = dataSource.getConnection()) {
+
+            // Act & Assert
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(dataSource.getRejected()).isEqualTo(1);
+        }
+        assertThat(dataSource.getActive()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand a released permit to a waiting caller and reject callers beyond the queue at once")
+    void getConnection_QueueFull_RejectsImmediately() throws Exception {
+        // Arrange
+        Connection first = dataSource.getConnection();
+        Connection second = dataSource.getConnection();
+        CountDownLatch waiting = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Connection> queued = executor.submit(() -> {
+                waiting.countDown();
+                return dataSource.getConnection();
+            });
+            waiting.await();
+            while (dataSource.getWaiting() == 0) {
+                Thread.onSpinWait();
+            }
+
+            // Act & Assert
+            long start = System.nanoTime();
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(System.nanoTime() - start).isLessThan(TimeUnit.MILLISECONDS.toNanos(100));
+
+            first.close();
+            try (Connection connection = queued.get(1, TimeUnit.SECONDS)) {
+                assertThat(connection.isValid(1)).isTrue();
+            }
+        }
+        second.close();
+        assertThat(dataSource.getActive()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should time out nested acquires when every permit is held by a caller waiting for a second one")
+    void getConnection_NestedAcquire_TimesOutUnlessHandedOff() throws Exception {
+        // Arrange
+        DriverManagerDataSource h2 = new DriverManagerDataSource("jdbc:h2:mem:limiter;DB_CLOSE_DELAY=-1", "sa", "");
+        ConcurrencyLimitingDataSource limiter = new ConcurrencyLimitingDataSource(h2, 2, 10, Duration.ofMillis(200));
+        CyclicBarrier allHolding = new CyclicBarrier(2);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // Act: each caller holds a connection and opens a second one from the same thread.
+            List<Future<Boolean>> nested = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                nested.add(executor.submit(() -> {
+                    try (Connection outer = limiter.getConnection()) {
+                        allHolding.await();
+                        try (Connection inner = limiter.getConnection()) {
+                            return true;
+                        } catch (SQLTransientConnectionException e) {
+                            return false;
+                        }
+                    }
+                }));
+            }
+            List<Boolean> nestedResults = new ArrayList<>();
+            for (Future<Boolean> result : nested) {
+                nestedResults.add(result.get(5, TimeUnit.SECONDS));
+            }
+
+            // Act: each caller hands the second connection to another thread and releases its own.
+            List<Future<Boolean>> handedOff = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                Connection outer = limiter.getConnection();
+                handedOff.add(executor.submit(() -> {
+                    try (Connection inner = limiter.getConnection()) {
+                        return inner.isValid(1);
+                    }
+                }));
+                outer.close();
+            }
+
+            // Assert: whichever nested caller times out first frees a permit for the other.
+            assertThat(nestedResults).contains(false);
+            assertThat(limiter.getRejected()).isPositive();
+            for (Future<Boolean> result : handedOff) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isTrue();
+            }
+        }
+        assertThat(limiter.getActive()).isZero();
+    }
+}
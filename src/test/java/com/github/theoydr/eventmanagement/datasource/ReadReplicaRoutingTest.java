@@ -0,0 +1,149 @@
+package com.github.theoydr.eventmanagement.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Exercises the routing against two local H2 instances, each holding a marker row with its own name,
+ * wired the same way as {@code ReadReplicaConfig}.
+ */
+class ReadReplicaRoutingTest {
+
+    private static final String QUERY = "select name from node";
+
+    private ReplicaDataSource replicaDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists node (name varchar(20))");
+        jdbc.execute("delete from node");
+        jdbc.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        DataSource unreachable = new DriverManagerDataSource("jdbc:h2:mem:replica-down;IFEXISTS=TRUE", "sa", "");
+
+        replicaDataSource = new ReplicaDataSource(primary, List.of(
+                new ReplicaDataSource.Replica("replica", replica),
+                new ReplicaDataSource.Replica("replica-down", unreachable)), 1);
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(replicaDataSource);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("Should send read-write transactions to the primary")
+    void readWriteTransaction_UsesPrimary() {
+        // Act
+        String node = readWrite.execute(status -> jdbcTemplate.queryForObject(QUERY, String.class));
+
+        // Assert
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should send read-only transactions to a healthy replica and skip a failing one")
+    void readOnlyTransaction_UsesHealthyReplica() {
+        // Act
+        List<String> nodes = IntStream.range(0, 4)
+                .mapToObj(i -> readOnly.execute(status -> jdbcTemplate.queryForObject(QUERY, String.class)))
+                .toList();
+
+        // Assert
+        assertThat(nodes).containsOnly("replica");
+        assertThat(replicaDataSource.getReplicas())
+                .filteredOn(replica -> replica.name().equals("replica-down"))
+                .allMatch(replica -> !replica.isHealthy());
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when no replica is healthy")
+    void readOnlyTransaction_NoHealthyReplica_UsesPrimary() {
+        // Arrange
+        replicaDataSource.getReplicas().forEach(replica -> replica.setHealthy(false));
+
+        // Act
+        String node = readOnly.execute(status -> jdbcTemplate.queryForObject(QUERY, String.class));
+
+        // Assert
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Should bring a replica back into rotation after a successful health check")
+    void checkHealth_RecoveredReplica_ReturnsToRotation() {
+        // Arrange
+        replicaDataSource.getReplicas().forEach(replica -> replica.setHealthy(false));
+
+        // Act
+        replicaDataSource.checkHealth();
+
+        // Assert
+        assertThat(replicaDataSource.getReplicas())
+                .extracting(ReplicaDataSource.Replica::name, ReplicaDataSource.Replica::isHealthy)
+                .containsExactly(
+                        tuple("replica", true),
+                        tuple("replica-down", false));
+    }
+
+    @Test
+    @DisplayName("Should read from the primary right after a write when read-your-writes applies")
+    void readOnlyTransaction_RecentlyWritten_PinnedToPrimary() {
+        // Arrange
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(Duration.ofMinutes(1));
+        tracker.recordWrite("user", 2L);
+
+        // Act
+        String pinned = readOnly.execute(status -> {
+            tracker.pinIfRecentlyWritten("user", 2L);
+            return jdbcTemplate.queryForObject(QUERY, String.class);
+        });
+        String other = readOnly.execute(status -> {
+            tracker.pinIfRecentlyWritten("user", 3L);
+            return jdbcTemplate.queryForObject(QUERY, String.class);
+        });
+
+        // Assert
+        assertThat(pinned).isEqualTo("primary");
+        assertThat(other).isEqualTo("replica");
+        assertThat(ReadRoutingContext.isPinnedToPrimary()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject connections with other credentials as an unsupported feature")
+    void getConnectionWithCredentials_IsNotSupported() {
+        // Act & Assert
+        assertThatThrownBy(() -> replicaDataSource.getConnection("other", "secret"))
+                .isInstanceOf(SQLFeatureNotSupportedException.class);
+    }
+}
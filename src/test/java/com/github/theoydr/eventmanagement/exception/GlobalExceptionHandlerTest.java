@@ -120,6 +120,44 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.error.arguments.reasonCode").value("EVENT_IN_PAST"));
     }
 
+    @Test
+    @DisplayName("Should handle ServiceUnavailableException (503) correctly")
+    void test_handleServiceUnavailableException() throws Exception {
+        // Arrange
+        String key = MessageKeys.Error.SERVICE_UNAVAILABLE.replaceAll("[{}]", "");
+        // Act & Assert
+        mockMvc.perform(get("/test/throw/service-unavailable").locale(Locale.ROOT))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error.key").value(key))
+                .andExpect(jsonPath("$.error.defaultMessage").value("The service is temporarily unavailable. Reason: deadline exceeded"))
+                .andExpect(jsonPath("$.error.arguments.reason").value("deadline exceeded"));
+    }
+
+    @Test
+    @DisplayName("Should map a transaction that cannot get a connection to 503")
+    void test_handleCannotCreateTransactionException() throws Exception {
+        // Arrange
+        String key = MessageKeys.Error.SERVICE_UNAVAILABLE.replaceAll("[{}]", "");
+        // Act & Assert
+        mockMvc.perform(get("/test/throw/cannot-create-transaction").locale(Locale.ROOT))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error.key").value(key))
+                .andExpect(jsonPath("$.error.arguments.reason").value("The database is busy, please retry"));
+    }
+
+    @Test
+    @DisplayName("Should handle InvalidRequestException (400) correctly")
+    void test_handleInvalidRequestException() throws Exception {
+        // Arrange
+        String key = MessageKeys.Error.INVALID_REQUEST.replaceAll("[{}]", "");
+        // Act & Assert
+        mockMvc.perform(get("/test/throw/invalid-request").locale(Locale.ROOT))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error.key").value(key))
+                .andExpect(jsonPath("$.error.defaultMessage").value("The request is invalid. Reason: 'from' must be before 'to'"))
+                .andExpect(jsonPath("$.error.arguments.reason").value("'from' must be before 'to'"));
+    }
+
     @Test
     @DisplayName("Should handle NoResourceFoundException (404) correctly")
     void test_handleNoResourceFoundException() throws Exception {
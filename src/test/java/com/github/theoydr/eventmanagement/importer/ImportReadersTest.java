@@ -0,0 +1,163 @@
+package com.github.theoydr.eventmanagement.importer;
+
+import com.github.theoydr.eventmanagement.dto.EventRequest;
+import com.github.theoydr.eventmanagement.dto.UserRegistrationRequest;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.ImportFormat;
+import com.github.theoydr.eventmanagement.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImportReadersTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private static <T> List<ImportRow<T>> readAll(ImportReader<T> reader) throws IOException {
+        List<ImportRow<T>> rows = new ArrayList<>();
+        try (reader) {
+            ImportRow<T> row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private ImportReader<EventRequest> events(ImportFormat format, String content) {
+        return ImportReaders.events(format, jsonMapper, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Should read CSV records with quoted fields and columns in any order")
+    void csv_ParsesRecords() throws IOException {
+        // Arrange
+        String csv = """
+                organizerId,Title,description,location,startDateTime,endDateTime,capacity,ticketPrice,category
+                1,Jazz Night,"Live music, food ""and"" drinks",Athens,2030-06-01T20:00,2030-06-01T23:00,150,25.5,concert
+                2,Open Air,"Two
+                lines",Patras,2030-07-01T18:00,2030-07-01T22:00,80,0,FESTIVAL
+                """;
+
+        // Act
+        List<ImportRow<EventRequest>> rows = readAll(events(ImportFormat.CSV, csv));
+
+        // Assert
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).request().title()).isEqualTo("Jazz Night");
+        assertThat(rows.get(0).request().description()).isEqualTo("Live music, food \"and\" drinks");
+        assertThat(rows.get(0).request().startDateTime()).isEqualTo(LocalDateTime.of(2030, 6, 1, 20, 0));
+        assertThat(rows.get(0).request().category()).isEqualTo(EventCategory.CONCERT);
+        assertThat(rows.get(1).request().description()).isEqualTo("Two\nlines");
+        assertThat(rows.get(1).row()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should report a CSV record with an unparsable cell and continue with the next one")
+    void csv_BadCell_FailsOnlyThatRecord() throws IOException {
+        // Arrange
+        String csv = """
+                title,description,location,startDateTime,endDateTime,capacity,ticketPrice,category,organizerId
+                A,d,l,2030-06-01T20:00,2030-06-01T23:00,many,1,CONCERT,1
+                B,d,l,2030-06-01T20:00,2030-06-01T23:00,10,1,CONCERT,1
+                """;
+
+        // Act
+        List<ImportRow<EventRequest>> rows = readAll(events(ImportFormat.CSV, csv));
+
+        // Assert
+        assertThat(rows.get(0).error()).contains("capacity");
+        assertThat(rows.get(1).request().capacity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Should reject a CSV upload whose header misses columns")
+    void csv_MissingColumns_Throws() {
+        // Arrange
+        ImportReader<EventRequest> reader = events(ImportFormat.CSV, "title,location\nA,B\n");
+
+        // Act & Assert
+        assertThatThrownBy(reader::next).isInstanceOf(IOException.class).hasMessageContaining("organizerId");
+    }
+
+    @Test
+    @DisplayName("Should stream a JSON array and fail only the records with bad values")
+    void json_Array_FailsBadRecordOnly() throws IOException {
+        // Arrange
+        String content = """
+                [
+                  {"title": "Jazz Night", "location": "Athens", "category": "CONCERT", "capacity": 150, "organizerId": 1},
+                  {"title": "Bad", "category": "NOT_A_CATEGORY"},
+                  {"title": "Open Air", "startDateTime": "2030-07-01T18:00:00", "organizerId": 2}
+                ]
+                """;
+
+        // Act
+        List<ImportRow<EventRequest>> rows = readAll(events(ImportFormat.JSON, content));
+
+        // Assert
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).request().capacity()).isEqualTo(150);
+        assertThat(rows.get(1).error()).isNotNull();
+        assertThat(rows.get(2).request().startDateTime()).isEqualTo(LocalDateTime.of(2030, 7, 1, 18, 0));
+        assertThat(rows.get(2).row()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should read newline-delimited JSON objects")
+    void json_Ndjson_ParsesRecords() throws IOException {
+        // Arrange
+        String content = "{\"title\": \"A\", \"organizerId\": 1}\n{\"title\": \"B\", \"organizerId\": 2}\n";
+
+        // Act
+        List<ImportRow<EventRequest>> rows = readAll(events(ImportFormat.NDJSON, content));
+
+        // Assert
+        assertThat(rows).extracting(row -> row.request().title()).containsExactly("A", "B");
+    }
+
+    @Test
+    @DisplayName("Should read user CSV records without the optional role column")
+    void csv_Users_RoleColumnOptional() throws IOException {
+        // Arrange
+        String csv = """
+                Email,username,password
+                anna@example.com,anna,secret123
+                """;
+
+        // Act
+        List<ImportRow<UserRegistrationRequest>> rows = readAll(ImportReaders.users(ImportFormat.CSV, jsonMapper,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+
+        // Assert
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.request().email()).isEqualTo("anna@example.com");
+            assertThat(row.request().username()).isEqualTo("anna");
+            assertThat(row.request().role()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Should read the role of user records case-insensitively")
+    void csv_Users_ParsesRole() throws IOException {
+        // Arrange
+        String csv = "username,email,password,role\nbob,bob@example.com,secret123,organizer\n";
+
+        // Act
+        List<ImportRow<UserRegistrationRequest>> rows = readAll(ImportReaders.users(ImportFormat.CSV, jsonMapper,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+
+        // Assert
+        assertThat(rows.getFirst().request().role()).isEqualTo(UserRole.ORGANIZER);
+    }
+}
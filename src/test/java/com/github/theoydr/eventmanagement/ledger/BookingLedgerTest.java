@@ -0,0 +1,107 @@
+package com.github.theoydr.eventmanagement.ledger;
+
+import com.github.theoydr.eventmanagement.enums.LedgerEntryType;
+import com.github.theoydr.eventmanagement.ledger.BookingLedger.EventProjection;
+import com.github.theoydr.eventmanagement.repository.LedgerFact;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookingLedgerTest {
+
+    private static final long EVENT = 10L;
+
+    @TempDir
+    Path snapshotDirectory;
+
+    private static LedgerFact fact(long seq, LedgerEntryType type, Long bookingId, long userId, int tickets) {
+        return new LedgerFact(seq, type, EVENT, bookingId, userId, tickets, Instant.EPOCH);
+    }
+
+    private static List<LedgerFact> history() {
+        return List.of(
+                fact(1, LedgerEntryType.PLACED, 100L, 1, 2),
+                fact(2, LedgerEntryType.PLACED, 101L, 2, 3),
+                fact(3, LedgerEntryType.REJECTED, null, 3, 4),
+                fact(4, LedgerEntryType.REJECTED, null, 4, 1),
+                fact(5, LedgerEntryType.CANCELLED, 100L, 1, 2),
+                fact(6, LedgerEntryType.PLACED, 102L, 4, 1));
+    }
+
+    @Test
+    @DisplayName("Should project tickets sold, attendees and waitlist from the ledger entries")
+    void apply_ProjectsEventState() {
+        // Arrange
+        BookingLedger ledger = new BookingLedger();
+
+        // Act
+        ledger.apply(history());
+
+        // Assert
+        EventProjection projection = ledger.projection(EVENT).orElseThrow();
+        assertThat(projection.ticketsSold()).isEqualTo(4);
+        assertThat(projection.cancellations()).isEqualTo(1);
+        assertThat(projection.attendeeUserIds()).containsExactly(2L, 4L);
+        assertThat(projection.waitlistUserIds()).containsExactly(3L);
+        assertThat(projection.asOfSequence()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should skip entries that were already applied")
+    void apply_ReplayedEntries_AreIgnored() {
+        // Arrange
+        BookingLedger ledger = new BookingLedger();
+        ledger.apply(history());
+
+        // Act
+        ledger.apply(history());
+
+        // Assert
+        assertThat(ledger.projection(EVENT).orElseThrow().ticketsSold()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should restore the same projections from a snapshot and continue from it")
+    void snapshot_RoundTrip() throws IOException {
+        // Arrange
+        BookingLedger ledger = new BookingLedger();
+        ledger.apply(history());
+        LedgerSnapshots snapshots = new LedgerSnapshots(snapshotDirectory, 2);
+
+        // Act
+        snapshots.write(ledger);
+        BookingLedger restored = snapshots.readLatest().orElseThrow();
+        restored.apply(List.of(fact(7, LedgerEntryType.CANCELLED, 101L, 2, 3)));
+
+        // Assert
+        EventProjection projection = restored.projection(EVENT).orElseThrow();
+        assertThat(projection.ticketsSold()).isEqualTo(1);
+        assertThat(projection.attendeeUserIds()).containsExactly(4L);
+        assertThat(projection.waitlistUserIds()).containsExactly(3L);
+        assertThat(projection.asOfSequence()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should ignore a damaged snapshot")
+    void snapshot_Damaged_IsSkipped() throws IOException {
+        // Arrange
+        BookingLedger ledger = new BookingLedger();
+        ledger.apply(history());
+        LedgerSnapshots snapshots = new LedgerSnapshots(snapshotDirectory, 2);
+        Path file = snapshots.write(ledger);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[20] ^= 1;
+        Files.write(file, bytes);
+
+        // Act & Assert
+        assertThat(snapshots.readLatest()).isEmpty();
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.theoydr.eventmanagement.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PathPrefixTrieTest {
+
+    private final PathPrefixTrie<Double> trie = PathPrefixTrie.of(Map.of(
+            "/actuator", 0.0,
+            "/actuator/metrics", 0.5,
+            "/api/events", 0.1));
+
+    @Test
+    @DisplayName("Should return the value of the longest matching prefix")
+    void longestPrefixMatch_NestedPrefixes_LongestWins() {
+        assertThat(trie.longestPrefixMatch("/actuator/health", 1.0)).isEqualTo(0.0);
+        assertThat(trie.longestPrefixMatch("/actuator/metrics/jvm.memory.used", 1.0)).isEqualTo(0.5);
+        assertThat(trie.longestPrefixMatch("/api/events/10", 1.0)).isEqualTo(0.1);
+        assertThat(trie.longestPrefixMatch("/api/events", 1.0)).isEqualTo(0.1);
+    }
+
+    @Test
+    @DisplayName("Should return the fallback when no prefix matches")
+    void longestPrefixMatch_NoMatch_ReturnsFallback() {
+        assertThat(trie.longestPrefixMatch("/api/bookings", 1.0)).isEqualTo(1.0);
+        assertThat(trie.longestPrefixMatch("/api/event", 1.0)).isEqualTo(1.0);
+        assertThat(trie.longestPrefixMatch("", 1.0)).isEqualTo(1.0);
+        assertThat(PathPrefixTrie.<Double>of(Map.of()).longestPrefixMatch("/api", 0.3)).isEqualTo(0.3);
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.theoydr.eventmanagement.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLogPipelineTest {
+
+    private static RequestLogEntry entry(String uri) {
+        return new RequestLogEntry("GET", uri, null, "127.0.0.1", 200, 1_000, null, null);
+    }
+
+    @Test
+    @DisplayName("Should write queued entries before stopping and count entries offered afterwards as dropped")
+    void stop_DrainsQueueAndDropsLateEntries() {
+        // Arrange
+        RequestLogPipeline pipeline = new RequestLogPipeline(100);
+        pipeline.start();
+        for (int i = 0; i < 10; i++) {
+            pipeline.offer(entry("/api/events/" + i));
+        }
+
+        // Act
+        pipeline.stop();
+        boolean accepted = pipeline.offer(entry("/api/events/late"));
+
+        // Assert
+        assertThat(pipeline.isRunning()).isFalse();
+        assertThat(pipeline.queuedCount()).isZero();
+        assertThat(accepted).isFalse();
+        assertThat(pipeline.droppedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should wake the parked writer when an entry is offered")
+    void offer_WakesIdleWriter() throws InterruptedException {
+        // Arrange
+        RequestLogPipeline pipeline = new RequestLogPipeline(100);
+        pipeline.start();
+        try {
+            Thread.sleep(50); // Let the writer park on the empty queue.
+
+            // Act
+            pipeline.offer(entry("/api/events/1"));
+
+            // Assert
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (pipeline.queuedCount() > 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertThat(pipeline.queuedCount()).isZero();
+        } finally {
+            pipeline.stop();
+        }
+    }
+}
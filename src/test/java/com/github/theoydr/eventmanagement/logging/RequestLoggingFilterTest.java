@@ -0,0 +1,51 @@
+package com.github.theoydr.eventmanagement.logging;
+
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestLoggingFilterTest {
+
+    // Not started: entries stay queued, so the test can count them.
+    private final RequestLogPipeline pipeline = new RequestLogPipeline(2);
+    private final RequestLoggingFilter filter = new RequestLoggingFilter(pipeline,
+            PathPrefixTrie.of(Map.of("/actuator/health", 0.0)), 1.0, false, 10000);
+
+    private void perform(String path) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+
+    @Test
+    @DisplayName("Should queue sampled requests and skip paths with a zero rate")
+    void doFilter_SamplesByPath() throws Exception {
+        // Act
+        perform("/actuator/health");
+        perform("/api/events/10");
+
+        // Assert
+        assertThat(pipeline.queuedCount()).isEqualTo(1);
+        assertThat(pipeline.droppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should drop and count entries when the queue is full instead of blocking")
+    void doFilter_QueueFull_DropsEntries() throws Exception {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            perform("/api/events/" + i);
+        }
+
+        // Assert
+        assertThat(pipeline.queuedCount()).isEqualTo(2);
+        assertThat(pipeline.droppedCount()).isEqualTo(3);
+    }
+}
@@ -5,6 +5,7 @@ import com.github.theoydr.eventmanagement.dto.EventResponse;
 import com.github.theoydr.eventmanagement.enums.EventCategory;
 import com.github.theoydr.eventmanagement.enums.EventStatus;
 import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
 import com.github.theoydr.eventmanagement.model.User;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -103,4 +104,49 @@ class EventMapperTest {
         assertThat(response.organizer().id()).isEqualTo(99L);
         assertThat(response.organizer().name()).isEqualTo("CoolOrganizer");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should include attendance stats and remaining capacity when stats are provided")
+    void toResponse_WithStats_MapsStats() {
+        // Arrange
+        User organizer = new User();
+        organizer.setId(99L);
+        organizer.setUsername("CoolOrganizer");
+
+        Event event = new Event();
+        event.setId(10L);
+        event.setCapacity(100);
+        event.setOrganizer(organizer);
+
+        EventStats stats = new EventStats(10L);
+        stats.setConfirmedTickets(40);
+        stats.setBookingCount(25);
+        stats.setCancellationCount(5);
+
+        // Act
+        EventResponse response = eventMapper.toResponse(event, stats);
+
+        // Assert
+        assertThat(response.stats()).isNotNull();
+        assertThat(response.stats().ticketsSold()).isEqualTo(40);
+        assertThat(response.stats().remainingCapacity()).isEqualTo(60);
+        assertThat(response.stats().bookingCount()).isEqualTo(25);
+        assertThat(response.stats().cancellationCount()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should omit stats when none are provided")
+    void toResponse_WithoutStats_StatsAreNull() {
+        // Arrange
+        User organizer = new User();
+        organizer.setId(99L);
+        Event event = new Event();
+        event.setOrganizer(organizer);
+
+        // Act
+        EventResponse response = eventMapper.toResponse(event);
+
+        // Assert
+        assertThat(response.stats()).isNull();
+    }
+}
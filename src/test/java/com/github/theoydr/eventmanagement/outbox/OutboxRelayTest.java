@@ -0,0 +1,122 @@
+package com.github.theoydr.eventmanagement.outbox;
+
+import com.github.theoydr.eventmanagement.model.OutboxMessage;
+import com.github.theoydr.eventmanagement.repository.OutboxMessageRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private OutboxSink sink;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(sink.name()).thenReturn("test");
+        relay = new OutboxRelay(outboxMessageRepository, List.of(sink), transactionManager, meterRegistry,
+                100, 10, Duration.ofSeconds(1), Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ofDays(7));
+    }
+
+    private OutboxMessage message(Instant occurredAt) {
+        OutboxMessage message = new OutboxMessage("booking", 1L, "BookingCreated", "{\"bookingId\":1}", occurredAt);
+        ReflectionTestUtils.setField(message, "id", 7L);
+        return message;
+    }
+
+    @Test
+    @DisplayName("Should mark delivered messages as published and record the delivery lag")
+    void relay_Success() {
+        // Arrange
+        OutboxMessage message = message(Instant.now().minusSeconds(2));
+        when(outboxMessageRepository.lockDue(any(), any())).thenReturn(List.of(message));
+
+        // Act
+        int delivered = relay.relay();
+
+        // Assert
+        assertThat(delivered).isEqualTo(1);
+        assertThat(message.getPublishedAt()).isNotNull();
+        assertThat(message.getAttempts()).isEqualTo(1);
+        verify(sink).deliver(any(OutboxEnvelope.class));
+        verify(outboxMessageRepository).markPublished(eq(List.of(7L)), any());
+        assertThat(meterRegistry.get("outbox.delivery.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should lease claimed messages and deliver them outside the claiming transaction")
+    void relay_ClaimsBeforeDelivering() {
+        // Arrange
+        OutboxMessage message = message(Instant.now());
+        when(outboxMessageRepository.lockDue(any(), any())).thenReturn(List.of(message));
+        TransactionStatus claiming = mock(TransactionStatus.class);
+        TransactionStatus recording = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(claiming, recording, mock(TransactionStatus.class));
+        doAnswer(invocation -> {
+            // The claiming transaction has committed before the sink is called.
+            verify(transactionManager).commit(claiming);
+            verify(transactionManager, never()).commit(recording);
+            assertThat(message.getNextAttemptAt()).isAfter(Instant.now().plus(Duration.ofMinutes(14)));
+            return null;
+        }).when(sink).deliver(any());
+
+        // Act
+        int delivered = relay.relay();
+
+        // Assert
+        assertThat(delivered).isEqualTo(1);
+        verify(transactionManager).commit(recording);
+    }
+
+    @Test
+    @DisplayName("Should reschedule a message with backoff when a sink rejects it")
+    void relay_SinkFails_ReschedulesMessage() {
+        // Arrange
+        Instant occurredAt = Instant.now().minusSeconds(30);
+        OutboxMessage message = message(occurredAt);
+        when(outboxMessageRepository.lockDue(any(), any())).thenReturn(List.of(message));
+        when(outboxMessageRepository.findOldestUnpublishedOccurredAt()).thenReturn(occurredAt);
+        doThrow(new IllegalStateException("HTTP 503")).when(sink).deliver(any());
+
+        // Act
+        int delivered = relay.relay();
+
+        // Assert
+        assertThat(delivered).isZero();
+        assertThat(message.getPublishedAt()).isNull();
+        assertThat(message.getAttempts()).isEqualTo(1);
+        assertThat(message.getLastError()).contains("HTTP 503");
+        assertThat(message.getNextAttemptAt()).isAfter(Instant.now());
+        verify(outboxMessageRepository).markFailed(7L, message.getLastError(), message.getNextAttemptAt());
+        verify(outboxMessageRepository, never()).markPublished(any(), any());
+        assertThat(meterRegistry.get("outbox.delivery.failures").tag("sink", "test").counter().count()).isEqualTo(1);
+        assertThat(relay.oldestPendingAgeSeconds()).isGreaterThanOrEqualTo(30);
+    }
+}
@@ -0,0 +1,78 @@
+package com.github.theoydr.eventmanagement.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on H2, against the schema built by the Flyway migrations, for the SQL shape of the hot
+ * repository queries and asserts that each is answered from an index instead of a table scan.
+ */
+@DataJpaTest
+class QueryIndexUsageTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    @Test
+    @DisplayName("findByStatus should use the (status, start_date_time) index")
+    void findEventsByStatus_UsesStatusIndex() {
+        String plan = explain("select e.id from events e where e.status = 'PUBLISHED'");
+
+        assertThat(plan).containsIgnoringCase("idx_events_status_start").doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("Events of an organizer should use the organizer-leading unique index")
+    void findEventsByOrganizer_UsesOrganizerIndex() {
+        String plan = explain("select e.id from events e where e.organizer_id = 1 and e.status <> 'CANCELLED' " +
+                "and e.start_date_time > current_timestamp order by e.start_date_time");
+
+        assertThat(plan).containsIgnoringCase("unique_organizer_start_location").doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("findByEventId should use an index on bookings.event_id")
+    void findBookingsByEvent_UsesIndex() {
+        String plan = explain("select b.id from bookings b where b.event_id = 1");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("The per-event status aggregation should use an index on bookings.event_id")
+    void aggregateBookingsByEvent_UsesIndex() {
+        String plan = explain("select b.event_id, " +
+                "sum(case when b.status = 'CONFIRMED' then b.number_of_tickets else 0 end), count(b.id), " +
+                "sum(case when b.status = 'CANCELLED' then 1 else 0 end) " +
+                "from bookings b where b.event_id in (1, 2, 3) group by b.event_id");
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("findByUserId should use the user-leading unique index")
+    void findBookingsByUser_UsesUserIndex() {
+        String plan = explain("select b.id from bookings b where b.user_id = 1");
+
+        assertThat(plan).containsIgnoringCase("unique_user_event_booking").doesNotContainIgnoringCase("tableScan");
+    }
+}
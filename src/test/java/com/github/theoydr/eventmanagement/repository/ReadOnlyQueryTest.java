@@ -0,0 +1,114 @@
+package com.github.theoydr.eventmanagement.repository;
+
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.enums.UserRole;
+import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that read paths do not pay for dirty checking: read-only transactions load entities read-only with
+ * flush mode MANUAL, and the read-only listing queries do so even inside a read-write transaction.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReadOnlyQueryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate readWriteTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        readWriteTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private Long saveDraftEvent() {
+        User organizer = userRepository.save(new User("organizer", "organizer@example.com", "password123", UserRole.ORGANIZER));
+        LocalDateTime start = LocalDateTime.now().plusDays(7);
+        return eventRepository.save(new Event("Read-only Conference", "Description", "Athens", start, start.plusHours(4),
+                100, 20.0, organizer, EventCategory.CONFERENCE, EventStatus.DRAFT)).getId();
+    }
+
+    @Test
+    @DisplayName("Should load entities read-only with MANUAL flush inside a read-only transaction")
+    void readOnlyTransaction_FindById_LoadsReadOnly() {
+        // Arrange
+        Long eventId = saveDraftEvent();
+
+        // Act
+        readOnlyTx.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            Event event = eventRepository.findById(eventId).orElseThrow();
+
+            // Assert
+            assertThat(session.getHibernateFlushMode()).isEqualTo(FlushMode.MANUAL);
+            assertThat(session.isReadOnly(event)).isTrue();
+            event.setTitle("Changed in a read-only transaction");
+        });
+
+        // Assert
+        assertThat(eventRepository.findById(eventId)).get()
+                .extracting(Event::getTitle)
+                .isEqualTo("Read-only Conference");
+    }
+
+    @Test
+    @DisplayName("Should load listed events read-only even inside a read-write transaction")
+    void readWriteTransaction_FindAll_LoadsReadOnly() {
+        // Arrange
+        Long eventId = saveDraftEvent();
+
+        // Act
+        readWriteTx.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            List<Event> events = eventRepository.findAll();
+
+            // Assert
+            assertThat(events).allSatisfy(event -> assertThat(session.isReadOnly(event)).isTrue());
+            events.forEach(event -> event.setTitle("Changed through a listing"));
+        });
+
+        // Assert
+        assertThat(eventRepository.findById(eventId)).get()
+                .extracting(Event::getTitle)
+                .isEqualTo("Read-only Conference");
+    }
+}
@@ -0,0 +1,141 @@
+package com.github.theoydr.eventmanagement.repository;
+
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.enums.UserRole;
+import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the second-level cache against real transactions: cached entities and query results
+ * must reflect updates made through the repositories once they are committed.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    private User saveOrganizer() {
+        return userRepository.save(new User("organizer", "organizer@example.com", "password123", UserRole.ORGANIZER));
+    }
+
+    private Event saveDraftEvent(User organizer) {
+        LocalDateTime start = LocalDateTime.now().plusDays(7);
+        return eventRepository.save(new Event("Cache Conference", "Description", "Athens", start, start.plusHours(4),
+                100, 20.0, organizer, EventCategory.CONFERENCE, EventStatus.DRAFT));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated findById calls from the second-level cache")
+    void findById_RepeatedLookup_HitsCache() {
+        // Arrange
+        Long userId = saveOrganizer().getId();
+        statistics.clear();
+
+        // Act
+        userRepository.findById(userId);
+        userRepository.findById(userId);
+
+        // Assert
+        assertThat(statistics.getDomainDataRegionStatistics("users").getHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should return the updated entity after an update is committed")
+    void findById_AfterUpdate_ReturnsUpdatedEvent() {
+        // Arrange
+        Long eventId = saveDraftEvent(saveOrganizer()).getId();
+        eventRepository.findById(eventId);
+
+        // Act
+        tx.executeWithoutResult(status -> {
+            Event event = eventRepository.findById(eventId).orElseThrow();
+            event.setTitle("Renamed Conference");
+            eventRepository.save(event);
+        });
+
+        // Assert
+        assertThat(eventRepository.findById(eventId)).get()
+                .extracting(Event::getTitle)
+                .isEqualTo("Renamed Conference");
+    }
+
+    @Test
+    @DisplayName("Should invalidate cached findByStatus results when an event changes status")
+    void findByStatus_AfterPublish_ReturnsFreshResults() {
+        // Arrange
+        Long eventId = saveDraftEvent(saveOrganizer()).getId();
+        assertThat(eventRepository.findByStatus(EventStatus.PUBLISHED)).isEmpty();
+        assertThat(eventRepository.findByStatus(EventStatus.PUBLISHED)).isEmpty();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        // Act
+        tx.executeWithoutResult(status -> {
+            Event event = eventRepository.findById(eventId).orElseThrow();
+            event.setStatus(EventStatus.PUBLISHED);
+            eventRepository.save(event);
+        });
+
+        // Assert
+        assertThat(eventRepository.findByStatus(EventStatus.PUBLISHED))
+                .extracting(Event::getId)
+                .containsExactly(eventId);
+    }
+
+    @Test
+    @DisplayName("Should find a newly registered email despite a cached empty result")
+    void findByEmail_AfterRegistration_FindsNewUser() {
+        // Arrange
+        assertThat(userRepository.findByEmail("organizer@example.com")).isEmpty();
+
+        // Act
+        saveOrganizer();
+
+        // Assert
+        assertThat(userRepository.findByEmail("organizer@example.com")).isPresent();
+    }
+}
@@ -0,0 +1,83 @@
+package com.github.theoydr.eventmanagement.serialization;
+
+import com.github.theoydr.eventmanagement.dto.AttendeeResponse;
+import com.github.theoydr.eventmanagement.dto.BookingResponse;
+import com.github.theoydr.eventmanagement.dto.EventResponse;
+import com.github.theoydr.eventmanagement.dto.EventStatsResponse;
+import com.github.theoydr.eventmanagement.dto.OrganizerResponse;
+import com.github.theoydr.eventmanagement.dto.UserResponse;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.enums.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseSerializersTest {
+
+    private final JsonMapper reflective = JsonMapper.builder().build();
+    private final JsonMapper handWritten = JsonMapper.builder().addModule(new ResponseSerializers()).build();
+
+    private static EventResponse event(LocalDateTime start, EventStatsResponse stats) {
+        return new EventResponse(10L, "Jazz \"Night\" é", "Line one\nline two", "Athens", start, start.plusHours(3),
+                100, 12.5, EventCategory.CONCERT, EventStatus.PUBLISHED, new OrganizerResponse(1L, "organizer"), stats);
+    }
+
+    @Test
+    @DisplayName("Should write the same JSON as the reflective serializers")
+    void serialize_MatchesReflectiveOutput() {
+        // Arrange
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 18, 0);
+        List<Object> values = List.of(
+                event(start, new EventStatsResponse(10, 90, 4, 1)),
+                event(start.withNano(120_000_000), null),
+                event(start.withSecond(7).withNano(123_456_789), null),
+                new EventResponse(11L, null, null, null, null, null, null, null, null, null, null, null),
+                new BookingResponse(5L, 2, start.minusDays(3).withNano(1_000), BookingStatus.CONFIRMED,
+                        event(start, null), new AttendeeResponse(2L, "attendee", "attendee@example.com")),
+                new BookingResponse(6L, null, null, null, null, null),
+                new UserResponse(2L, "attendee", "attendee@example.com", UserRole.USER));
+
+        for (Object value : values) {
+            // Act
+            String expected = reflective.writeValueAsString(value);
+            String actual = handWritten.writeValueAsString(value);
+
+            // Assert
+            assertThat(actual).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("Should fall back to the formatter for years outside 0000-9999")
+    void serialize_ExpandedYear_MatchesReflectiveOutput() {
+        // Arrange
+        EventResponse farFuture = event(LocalDateTime.of(12030, 1, 1, 18, 0), null);
+
+        // Act & Assert
+        assertThat(handWritten.writeValueAsString(farFuture)).isEqualTo(reflective.writeValueAsString(farFuture));
+    }
+
+    @Test
+    @DisplayName("Should write binary formats that read back to the same records")
+    void serialize_Cbor_RoundTrips() {
+        // Arrange
+        CBORMapper cbor = CBORMapper.builder().addModule(new ResponseSerializers()).build();
+        BookingResponse booking = new BookingResponse(5L, 2, LocalDateTime.of(2030, 1, 1, 18, 0, 5), BookingStatus.CONFIRMED,
+                event(LocalDateTime.of(2030, 2, 1, 20, 0), new EventStatsResponse(10, 90, 4, 1)),
+                new AttendeeResponse(2L, "attendee", "attendee@example.com"));
+
+        // Act
+        BookingResponse decoded = cbor.readValue(cbor.writeValueAsBytes(booking), BookingResponse.class);
+
+        // Assert
+        assertThat(decoded).isEqualTo(booking);
+    }
+}
@@ -0,0 +1,58 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.model.ArchivedBooking;
+import com.github.theoydr.eventmanagement.repository.ArchivedBookingRepository;
+import com.github.theoydr.eventmanagement.repository.ArchivedEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveServiceImplTest {
+
+    @Mock
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Mock
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @InjectMocks
+    private ArchiveServiceImpl archiveService;
+
+    @Test
+    @DisplayName("Should return the archived bookings of an archived event")
+    void findArchivedBookingsForEvent_Success() {
+        // Arrange
+        ArchivedBooking booking = mock(ArchivedBooking.class);
+        when(archivedEventRepository.existsById(7L)).thenReturn(true);
+        when(archivedBookingRepository.findByEventIdOrderById(7L)).thenReturn(List.of(booking));
+
+        // Act
+        List<ArchivedBooking> result = archiveService.findArchivedBookingsForEvent(7L);
+
+        // Assert
+        assertThat(result).containsExactly(booking);
+    }
+
+    @Test
+    @DisplayName("Should throw ResourceNotFoundException when the event is not archived")
+    void findArchivedBookingsForEvent_EventNotArchived_ThrowsException() {
+        // Arrange
+        when(archivedEventRepository.existsById(7L)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> archiveService.findArchivedBookingsForEvent(7L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(archivedBookingRepository);
+    }
+}
@@ -0,0 +1,198 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.cache.ExistenceCache;
+import com.github.theoydr.eventmanagement.domain.BookingIntent;
+import com.github.theoydr.eventmanagement.enums.BookingFailureReason;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.exception.EventBookingException;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+import com.github.theoydr.eventmanagement.model.Booking;
+import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class BookingIntentServiceImplTest {
+
+    @Mock
+    private BookingService bookingService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private BookingIntentServiceImpl intentService;
+
+    // --- Helper Methods ---
+
+    private BookingIntentServiceImpl createService(int queueCapacity) {
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(eventRepository.existsById(anyLong())).thenReturn(true);
+        intentService = new BookingIntentServiceImpl(bookingService, userRepository, eventRepository,
+                new ExistenceCache(Duration.ofMinutes(1)), 1, queueCapacity, 10, 3, Duration.ofMillis(1),
+                Duration.ofMinutes(10), Duration.ofSeconds(5));
+        return intentService;
+    }
+
+    private BookingIntent awaitOutcome(BookingIntent intent) throws Exception {
+        return intentService.awaitOutcome(intent.id()).orElseThrow().get(5, TimeUnit.SECONDS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (intentService != null && intentService.isRunning()) {
+            intentService.stop();
+        }
+    }
+
+    // --- Tests ---
+
+    @Test
+    @DisplayName("submit should return a PENDING intent that becomes CONFIRMED with the booking ID")
+    void submit_whenBookingSucceeds_shouldConfirmIntent() throws Exception {
+        // Arrange
+        createService(100).start();
+        Booking booking = new Booking();
+        booking.setId(42L);
+        when(bookingService.createBooking(1L, 10L, 2)).thenReturn(booking);
+
+        // Act
+        BookingIntent submitted = intentService.submit(1L, 10L, 2);
+        BookingIntent outcome = awaitOutcome(submitted);
+
+        // Assert
+        assertThat(submitted.status()).isEqualTo(BookingStatus.PENDING);
+        assertThat(outcome.status()).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(outcome.bookingId()).isEqualTo(42L);
+        assertThat(outcome.completedAt()).isNotNull();
+        assertThat(intentService.findIntent(submitted.id())).contains(outcome);
+    }
+
+    @Test
+    @DisplayName("submit should record the failure reason when the booking rules reject the intent")
+    void submit_whenBookingRejected_shouldCancelIntentWithReason() throws Exception {
+        // Arrange
+        createService(100).start();
+        when(bookingService.createBooking(1L, 10L, 5))
+                .thenThrow(new EventBookingException(BookingFailureReason.INSUFFICIENT_CAPACITY, "Not enough tickets available."));
+
+        // Act
+        BookingIntent outcome = awaitOutcome(intentService.submit(1L, 10L, 5));
+
+        // Assert
+        assertThat(outcome.status()).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(outcome.failureReason()).isEqualTo(BookingFailureReason.INSUFFICIENT_CAPACITY);
+        assertThat(outcome.message()).isEqualTo("Not enough tickets available.");
+        assertThat(outcome.bookingId()).isNull();
+    }
+
+    @Test
+    @DisplayName("submit should retry a booking that failed on a temporary outage")
+    void submit_whenTransientFailure_shouldRetry() throws Exception {
+        // Arrange
+        createService(100).start();
+        Booking booking = new Booking();
+        booking.setId(42L);
+        when(bookingService.createBooking(1L, 10L, 2))
+                .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"))
+                .thenReturn(booking);
+
+        // Act
+        BookingIntent outcome = awaitOutcome(intentService.submit(1L, 10L, 2));
+
+        // Assert
+        assertThat(outcome.status()).isEqualTo(BookingStatus.CONFIRMED);
+        assertThat(outcome.bookingId()).isEqualTo(42L);
+        verify(bookingService, times(2)).createBooking(1L, 10L, 2);
+    }
+
+    @Test
+    @DisplayName("submit should cancel the intent as retryable when a temporary outage outlasts the attempts")
+    void submit_whenOutagePersists_shouldCancelIntentAsRetryable() throws Exception {
+        // Arrange
+        createService(100).start();
+        when(bookingService.createBooking(1L, 10L, 2))
+                .thenThrow(new QueryTimeoutException("Lock wait timeout"));
+
+        // Act
+        BookingIntent outcome = awaitOutcome(intentService.submit(1L, 10L, 2));
+
+        // Assert
+        assertThat(outcome.status()).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(outcome.retryable()).isTrue();
+        assertThat(outcome.failureReason()).isNull();
+        verify(bookingService, times(3)).createBooking(1L, 10L, 2);
+    }
+
+    @Test
+    @DisplayName("submit should throw ResourceNotFoundException for an unknown user without queueing")
+    void submit_whenUserNotFound_shouldThrowResourceNotFoundException() {
+        // Arrange
+        createService(100).start();
+        when(userRepository.existsById(99L)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> intentService.submit(99L, 10L, 1))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(intentService.queuedCount()).isZero();
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    @DisplayName("submit should throw ServiceUnavailableException when the lane is full")
+    void submit_whenQueueFull_shouldThrowServiceUnavailableException() throws Exception {
+        // Arrange
+        createService(1).start();
+        CountDownLatch processing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(bookingService.createBooking(anyLong(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            processing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new Booking();
+        });
+        intentService.submit(1L, 10L, 1);
+        assertThat(processing.await(5, TimeUnit.SECONDS)).isTrue();
+        intentService.submit(1L, 10L, 1); // Fills the single queue slot while the worker is busy
+
+        // Act & Assert
+        try {
+            assertThatThrownBy(() -> intentService.submit(1L, 10L, 1))
+                    .isInstanceOf(ServiceUnavailableException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("submit should throw ServiceUnavailableException when the service is not running")
+    void submit_whenNotRunning_shouldThrowServiceUnavailableException() {
+        // Arrange
+        createService(100);
+
+        // Act & Assert
+        assertThatThrownBy(() -> intentService.submit(1L, 10L, 1))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+}
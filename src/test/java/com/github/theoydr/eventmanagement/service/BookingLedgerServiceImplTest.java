@@ -0,0 +1,111 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.EventLedgerResponse;
+import com.github.theoydr.eventmanagement.enums.LedgerEntryType;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.repository.ArchivedEventRepository;
+import com.github.theoydr.eventmanagement.repository.LedgerEntryRepository;
+import com.github.theoydr.eventmanagement.repository.LedgerFact;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingLedgerServiceImplTest {
+
+    private static final long EVENT = 10L;
+
+    @Mock
+    private LedgerEntryRepository ledgerEntryRepository;
+
+    @Mock
+    private ArchivedEventRepository archivedEventRepository;
+
+    @TempDir
+    Path snapshotDirectory;
+
+    private BookingLedgerServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new BookingLedgerServiceImpl(ledgerEntryRepository, archivedEventRepository, snapshotDirectory, 2,
+                100, Duration.ofMinutes(2));
+        when(archivedEventRepository.findArchivedIds(anyCollection())).thenReturn(List.of());
+    }
+
+    private static LedgerFact placed(long seq, long userId, Instant recordedAt) {
+        return new LedgerFact(seq, LedgerEntryType.PLACED, EVENT, 100 + seq, userId, 1, recordedAt);
+    }
+
+    @Test
+    @DisplayName("Should apply entries up to a recent gap and the rest once the missing entry is committed")
+    void refresh_RecentGap_WaitsForMissingEntry() {
+        // Arrange
+        Instant now = Instant.now();
+        when(ledgerEntryRepository.findFactsAfter(eq(0L), any()))
+                .thenReturn(List.of(placed(1, 1, now), placed(3, 3, now)));
+        service.restore();
+
+        when(ledgerEntryRepository.findFactsAfter(eq(1L), any()))
+                .thenReturn(List.of(placed(2, 2, now), placed(3, 3, now)));
+
+        // Act
+        EventLedgerResponse beforeCommit = service.getEventLedger(EVENT);
+        service.refresh();
+        EventLedgerResponse afterCommit = service.getEventLedger(EVENT);
+
+        // Assert
+        assertThat(beforeCommit.asOfSequence()).isEqualTo(1);
+        assertThat(beforeCommit.attendeeUserIds()).containsExactly(1L);
+        assertThat(afterCommit.asOfSequence()).isEqualTo(3);
+        assertThat(afterCommit.attendeeUserIds()).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should skip a gap once the entry after it is older than the gap timeout")
+    void restore_AbandonedGap_IsSkipped() {
+        // Arrange
+        Instant old = Instant.now().minus(Duration.ofMinutes(10));
+        when(ledgerEntryRepository.findFactsAfter(eq(0L), any()))
+                .thenReturn(List.of(placed(1, 1, old), placed(3, 3, old)));
+
+        // Act
+        service.restore();
+
+        // Assert
+        EventLedgerResponse response = service.getEventLedger(EVENT);
+        assertThat(response.asOfSequence()).isEqualTo(3);
+        assertThat(response.attendeeUserIds()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Should evict the projections of archived events")
+    void evictArchivedScheduled_DropsArchivedProjections() {
+        // Arrange
+        when(ledgerEntryRepository.findFactsAfter(eq(0L), any())).thenReturn(List.of(placed(1, 1, Instant.now())));
+        service.restore();
+        when(archivedEventRepository.findArchivedIds(anyCollection())).thenReturn(List.of(EVENT));
+
+        // Act
+        service.evictArchivedScheduled();
+
+        // Assert
+        assertThatThrownBy(() -> service.getEventLedger(EVENT)).isInstanceOf(ResourceNotFoundException.class);
+    }
+}
@@ -1,5 +1,10 @@
 package com.github.theoydr.eventmanagement.service;
 
+import com.github.theoydr.eventmanagement.cache.ExistenceCache;
+import com.github.theoydr.eventmanagement.datasource.ReadYourWritesTracker;
+import com.github.theoydr.eventmanagement.domain.BookingAttempt;
+import com.github.theoydr.eventmanagement.domain.BookingChangedEvent;
+import com.github.theoydr.eventmanagement.domain.BookingRejectedEvent;
 import com.github.theoydr.eventmanagement.enums.BookingFailureReason;
 import com.github.theoydr.eventmanagement.enums.BookingStatus;
 import com.github.theoydr.eventmanagement.enums.EventStatus;
@@ -9,17 +14,26 @@ import com.github.theoydr.eventmanagement.exception.OperationNotAllowedException
 import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
 import com.github.theoydr.eventmanagement.model.Booking;
 import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
 import com.github.theoydr.eventmanagement.model.User;
 import com.github.theoydr.eventmanagement.repository.BookingRepository;
 import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventStatsRepository;
 import com.github.theoydr.eventmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -28,6 +42,8 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 
@@ -43,6 +59,21 @@ class BookingServiceImplTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReadYourWritesTracker readYourWrites;
+
+    @Spy
+    private ExistenceCache existenceCache = new ExistenceCache(Duration.ofMinutes(1));
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private BookingServiceImpl bookingService;
 
@@ -94,7 +125,7 @@ class BookingServiceImplTest {
 
         // Mock business rule checks
         when(bookingRepository.existsByUserAndEvent(attendee, event)).thenReturn(false);
-        when(bookingRepository.findByEvent(event)).thenReturn(Collections.emptyList());
+        when(eventStatsRepository.reserveTickets(eventId, tickets, 100)).thenReturn(1);
 
         when(bookingRepository.save(any(Booking.class))).thenReturn(savedBooking);
 
@@ -107,6 +138,12 @@ class BookingServiceImplTest {
         assertThat(result.getStatus()).isEqualTo(BookingStatus.CONFIRMED);
 
         verify(bookingRepository).save(any(Booking.class));
+
+        ArgumentCaptor<BookingChangedEvent> published = ArgumentCaptor.forClass(BookingChangedEvent.class);
+        verify(eventPublisher).publishEvent(published.capture());
+        assertThat(published.getValue().bookingId()).isEqualTo(500L);
+        assertThat(published.getValue().eventId()).isEqualTo(eventId);
+        assertThat(published.getValue().status()).isEqualTo(BookingStatus.CONFIRMED);
     }
 
     @Test
@@ -233,16 +270,12 @@ class BookingServiceImplTest {
         Event event = createPublishedEvent(createOrganizer());
         event.setCapacity(10); // Capacity 10
 
-        // Create a list of 10 existing bookings (1 ticket each)
-        Booking b = new Booking();
-        b.setNumberOfTickets(10);
-        b.setStatus(BookingStatus.CONFIRMED);
-
         when(userRepository.findById(attendee.getId())).thenReturn(Optional.of(attendee));
         when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
         when(bookingRepository.existsByUserAndEvent(attendee, event)).thenReturn(false);
-        // Simulate existing confirmed bookings
-        when(bookingRepository.findByEvent(event)).thenReturn(List.of(b)); // 10 tickets sold
+        // Simulate a sold-out event: the atomic reservation does not update any row
+        when(eventStatsRepository.reserveTickets(event.getId(), 1, 10)).thenReturn(0);
+        when(eventStatsRepository.existsById(event.getId())).thenReturn(true);
 
         // Act & Assert (Try to buy 1 more ticket)
         assertThatThrownBy(() -> bookingService.createBooking(attendee.getId(), event.getId(), 1))
@@ -250,7 +283,157 @@ class BookingServiceImplTest {
                 .extracting("reasonCode")
                 .isEqualTo(BookingFailureReason.INSUFFICIENT_CAPACITY);
         verify(bookingRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(any(BookingRejectedEvent.class));
+        assertThat(meterRegistry.get("app.bookings.rejected").tag("reason", "INSUFFICIENT_CAPACITY").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should create a missing event_stats row and retry the reservation instead of rejecting")
+    void createBooking_MissingStats_CreatesRowAndRetries() {
+        // Arrange
+        User attendee = createAttendee();
+        Event event = createPublishedEvent(createOrganizer());
+        Booking savedBooking = new Booking(event, attendee, 2, BookingStatus.CONFIRMED);
+        savedBooking.setId(500L);
+
+        when(userRepository.findById(attendee.getId())).thenReturn(Optional.of(attendee));
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(bookingRepository.existsByUserAndEvent(attendee, event)).thenReturn(false);
+        // No stats row: the first reservation updates nothing, the one after the row was created succeeds.
+        when(eventStatsRepository.reserveTickets(event.getId(), 2, 100)).thenReturn(0, 1);
+        when(eventStatsRepository.existsById(event.getId())).thenReturn(false);
+        when(bookingRepository.save(any(Booking.class))).thenReturn(savedBooking);
+
+        // Act
+        Booking result = bookingService.createBooking(attendee.getId(), event.getId(), 2);
+
+        // Assert
+        assertThat(result.getId()).isEqualTo(500L);
+        verify(eventRepository).lockById(event.getId());
+        ArgumentCaptor<EventStats> created = ArgumentCaptor.forClass(EventStats.class);
+        verify(eventStatsRepository).save(created.capture());
+        assertThat(created.getValue().getEventId()).isEqualTo(event.getId());
+        verify(eventPublisher, never()).publishEvent(any(BookingRejectedEvent.class));
+    }
+
+
+    // --- CREATE BOOKINGS (GROUP) TESTS ---
+
+    @Test
+    @DisplayName("createBookings should reserve the capacity of an event once for all valid attempts")
+    void createBookings_AllFit_ReservesOnceAndSavesAll() {
+        // Arrange
+        User organizer = createOrganizer();
+        User attendee = createAttendee();
+        User other = new User();
+        other.setId(3L);
+        Event event = createPublishedEvent(organizer);
+
+        when(userRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(attendee, other));
+        when(eventRepository.findAllById(List.of(10L))).thenReturn(List.of(event));
+        when(bookingRepository.findUserIdsWithBooking(eq(10L), anyCollection())).thenReturn(List.of());
+        when(eventStatsRepository.reserveTickets(10L, 5, 2, 100)).thenReturn(1);
+        when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<BookingAttempt.Result> results = bookingService.createBookings(List.of(
+                new BookingAttempt(2L, 10L, 2),
+                new BookingAttempt(3L, 10L, 3)));
+
+        // Assert
+        assertThat(results).extracting(BookingAttempt.Result::failure).containsOnlyNulls();
+        assertThat(results).extracting(result -> result.booking().getNumberOfTickets()).containsExactly(2, 3);
+        verify(eventStatsRepository, never()).reserveTickets(anyLong(), anyInt(), anyInt());
+        verify(eventPublisher, times(2)).publishEvent(any(BookingChangedEvent.class));
+    }
+
+    @Test
+    @DisplayName("createBookings should reject individual attempts without failing the group")
+    void createBookings_MixedAttempts_ReturnsIndividualResults() {
+        // Arrange
+        User organizer = createOrganizer();
+        User attendee = createAttendee();
+        User other = new User();
+        other.setId(3L);
+        Event event = createPublishedEvent(organizer);
+        event.setCapacity(4);
+
+        when(userRepository.findAllById(List.of(2L, 1L, 3L))).thenReturn(List.of(attendee, organizer, other));
+        when(eventRepository.findAllById(List.of(10L))).thenReturn(List.of(event));
+        when(bookingRepository.findUserIdsWithBooking(eq(10L), anyCollection())).thenReturn(List.of());
+        // The valid attempts (2 + 3 tickets) do not fit together; only the first fits on its own.
+        when(eventStatsRepository.reserveTickets(10L, 5, 2, 4)).thenReturn(0);
+        when(eventStatsRepository.existsById(10L)).thenReturn(true);
+        when(eventStatsRepository.reserveTickets(10L, 2, 4)).thenReturn(1);
+        when(eventStatsRepository.reserveTickets(10L, 3, 4)).thenReturn(0);
+        when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<BookingAttempt.Result> results = bookingService.createBookings(List.of(
+                new BookingAttempt(2L, 10L, 2),
+                new BookingAttempt(2L, 10L, 1),
+                new BookingAttempt(1L, 10L, 1),
+                new BookingAttempt(3L, 10L, 3)));
+
+        // Assert
+        assertThat(results.get(0).booking()).isNotNull();
+        assertThat(results.get(1).failure()).extracting("reasonCode").isEqualTo(BookingFailureReason.USER_ALREADY_BOOKED);
+        assertThat(results.get(2).failure()).extracting("reasonCode").isEqualTo(BookingFailureReason.CANNOT_BOOK_OWN_EVENT);
+        assertThat(results.get(3).failure()).extracting("reasonCode").isEqualTo(BookingFailureReason.INSUFFICIENT_CAPACITY);
+        verify(eventPublisher).publishEvent(any(BookingRejectedEvent.class));
+        assertThat(meterRegistry.get("app.bookings.rejected").tag("reason", "USER_ALREADY_BOOKED").counter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("app.bookings.rejected").tag("reason", "INSUFFICIENT_CAPACITY").counter().count())
+                .isEqualTo(1);
+    }
 
+    @Test
+    @DisplayName("createBookings should not count the rejections of a group that fails as a whole")
+    void createBookings_GroupFails_CountsNoRejections() {
+        // Arrange
+        User organizer = createOrganizer();
+        User attendee = createAttendee();
+        Event event = createPublishedEvent(organizer);
+
+        when(userRepository.findAllById(List.of(2L, 1L))).thenReturn(List.of(attendee, organizer));
+        when(eventRepository.findAllById(List.of(10L))).thenReturn(List.of(event));
+        when(bookingRepository.findUserIdsWithBooking(eq(10L), anyCollection())).thenReturn(List.of());
+        when(eventStatsRepository.reserveTickets(10L, 1, 1, 100)).thenReturn(1);
+        when(bookingRepository.saveAll(anyList())).thenThrow(new IllegalStateException("connection lost"));
+
+        // Act & Assert: its attempts are retried one by one, which count their own rejections
+        assertThatThrownBy(() -> bookingService.createBookings(List.of(
+                new BookingAttempt(2L, 10L, 1),
+                new BookingAttempt(1L, 10L, 1))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("app.bookings.rejected").tag("reason", "CANNOT_BOOK_OWN_EVENT").counter().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("createBookings should reserve capacity in event id order, whatever the arrival order")
+    void createBookings_SeveralEvents_ReservesInEventIdOrder() {
+        // Arrange
+        User organizer = createOrganizer();
+        User attendee = createAttendee();
+        Event first = createPublishedEvent(organizer);
+        Event second = createPublishedEvent(organizer);
+        second.setId(20L);
+
+        when(userRepository.findAllById(List.of(2L))).thenReturn(List.of(attendee));
+        when(eventRepository.findAllById(List.of(20L, 10L))).thenReturn(List.of(second, first));
+        when(bookingRepository.findUserIdsWithBooking(anyLong(), anyCollection())).thenReturn(List.of());
+        when(eventStatsRepository.reserveTickets(anyLong(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+        when(bookingRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        bookingService.createBookings(List.of(new BookingAttempt(2L, 20L, 1), new BookingAttempt(2L, 10L, 1)));
+
+        // Assert
+        InOrder inOrder = inOrder(eventStatsRepository);
+        inOrder.verify(eventStatsRepository).reserveTickets(10L, 1, 1, 100);
+        inOrder.verify(eventStatsRepository).reserveTickets(20L, 1, 1, 100);
     }
 
 
@@ -261,9 +444,9 @@ class BookingServiceImplTest {
     void cancelBooking_Success() {
         // Arrange
         Long bookingId = 500L;
-        Booking booking = new Booking();
+        Event event = createPublishedEvent(createOrganizer());
+        Booking booking = new Booking(event, createAttendee(), 3, BookingStatus.CONFIRMED);
         booking.setId(bookingId);
-        booking.setStatus(BookingStatus.CONFIRMED);
 
         when(bookingRepository.findById(bookingId)).thenReturn(Optional.of(booking));
 
@@ -273,6 +456,8 @@ class BookingServiceImplTest {
         // Assert
         assertThat(booking.getStatus()).isEqualTo(BookingStatus.CANCELLED);
         verify(bookingRepository).save(booking);
+        verify(eventStatsRepository).releaseTickets(event.getId(), 3);
+        verify(eventPublisher).publishEvent(any(BookingChangedEvent.class));
     }
 
     @Test
@@ -312,7 +497,70 @@ class BookingServiceImplTest {
                 .isInstanceOf(OperationNotAllowedException.class);
 
         verify(bookingRepository, never()).save(any());
+        verify(eventStatsRepository, never()).releaseTickets(any(), anyInt());
+
 
+    }
+
+
+    // --- FIND BOOKINGS TESTS ---
+
+    @Test
+    @DisplayName("Should find bookings by user id without loading the User entity")
+    void findBookingsByUser_Success() {
+        // Arrange
+        Booking booking = new Booking();
+        booking.setId(500L);
 
+        when(userRepository.existsById(2L)).thenReturn(true);
+        when(bookingRepository.findByUserId(2L)).thenReturn(List.of(booking));
+
+        // Act
+        List<Booking> result = bookingService.findBookingsByUser(2L);
+
+        // Assert
+        assertThat(result).containsExactly(booking);
+        verify(userRepository, never()).findById(any());
+        verify(readYourWrites).pinIfRecentlyWritten("user", 2L);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when finding bookings of a non-existent user")
+    void findBookingsByUser_UserNotFound_ThrowsException() {
+        // Arrange
+        when(userRepository.existsById(99L)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> bookingService.findBookingsByUser(99L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(bookingRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    @DisplayName("Should reuse a cached existence check for repeated event lookups")
+    void findBookingsForEvent_RepeatedLookup_ChecksExistenceOnce() {
+        // Arrange
+        when(eventRepository.existsById(10L)).thenReturn(true);
+        when(bookingRepository.findByEventId(10L)).thenReturn(Collections.emptyList());
+
+        // Act
+        bookingService.findBookingsForEvent(10L);
+        bookingService.findBookingsForEvent(10L);
+
+        // Assert
+        verify(eventRepository, times(1)).existsById(10L);
+        verify(bookingRepository, times(2)).findByEventId(10L);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when finding bookings of a non-existent event")
+    void findBookingsForEvent_EventNotFound_ThrowsException() {
+        // Arrange
+        when(eventRepository.existsById(99L)).thenReturn(false);
+
+        // Act & Assert
+        assertThatThrownBy(() -> bookingService.findBookingsForEvent(99L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(bookingRepository, never()).findByEventId(any());
     }
-}
\ No newline at end of file
+}
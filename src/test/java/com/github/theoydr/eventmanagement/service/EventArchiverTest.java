@@ -0,0 +1,168 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.cache.EventResponseCache;
+import com.github.theoydr.eventmanagement.dto.EventResponse;
+import com.github.theoydr.eventmanagement.dto.OrganizerResponse;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.enums.UserRole;
+import com.github.theoydr.eventmanagement.enums.WireFormat;
+import com.github.theoydr.eventmanagement.mapper.EventMapper;
+import com.github.theoydr.eventmanagement.model.ArchivedEvent;
+import com.github.theoydr.eventmanagement.model.Booking;
+import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
+import com.github.theoydr.eventmanagement.model.User;
+import com.github.theoydr.eventmanagement.repository.ArchivedBookingRepository;
+import com.github.theoydr.eventmanagement.repository.ArchivedEventRepository;
+import com.github.theoydr.eventmanagement.repository.BookingFact;
+import com.github.theoydr.eventmanagement.repository.BookingRepository;
+import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventStatsRepository;
+import com.github.theoydr.eventmanagement.repository.UserRepository;
+import com.github.theoydr.eventmanagement.stream.EventAvailabilityStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Runs the archiver's native copy-and-delete batches against the migrated H2 schema.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EventArchiverTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private EventStatsRepository eventStatsRepository;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private EventResponseCache eventResponseCache;
+    private EventArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        eventResponseCache = new EventResponseCache(JsonMapper.builder().build(), CBORMapper.builder().build(),
+                SmileMapper.builder().build(), 100, Duration.ofMinutes(10), Duration.ofMillis(250));
+        EventAvailabilityStream availabilityStream = new EventAvailabilityStream(eventRepository, eventStatsRepository,
+                new EventMapper(), JsonMapper.builder().build(), 10, 10, Duration.ofMillis(250), Duration.ofSeconds(15),
+                Duration.ofMinutes(30), Duration.ofSeconds(10));
+        archiver = new EventArchiver(eventRepository, bookingRepository, eventStatsRepository, archivedEventRepository,
+                archivedBookingRepository, eventResponseCache, availabilityStream, transactionManager,
+                Duration.ofDays(180), 200, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        archivedBookingRepository.deleteAllInBatch();
+        archivedEventRepository.deleteAllInBatch();
+        bookingRepository.deleteAllInBatch();
+        eventStatsRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    private Event saveEvent(User organizer, String title, LocalDateTime start) {
+        Event event = eventRepository.save(new Event(title, "Description", "Athens", start, start.plusHours(4),
+                100, 20.0, organizer, EventCategory.CONCERT, EventStatus.PUBLISHED));
+        eventStatsRepository.save(new EventStats(event.getId()));
+        return event;
+    }
+
+    private static EventResponse response(Event event) {
+        return new EventResponse(event.getId(), event.getTitle(), null, event.getLocation(), event.getStartDateTime(),
+                event.getEndDateTime(), event.getCapacity(), event.getTicketPrice(), event.getCategory(),
+                event.getStatus(), new OrganizerResponse(1L, "organizer"), null);
+    }
+
+    @Test
+    @DisplayName("Should move past events with their bookings and stats into the archive and evict their cached responses")
+    void archive_PastEvent_MovesRowsDeletesStatsAndEvictsCache() {
+        // Arrange
+        User organizer = userRepository.save(new User("organizer", "organizer@example.com", "password123", UserRole.ORGANIZER));
+        User first = userRepository.save(new User("first", "first@example.com", "password123", UserRole.USER));
+        User second = userRepository.save(new User("second", "second@example.com", "password123", UserRole.USER));
+        Event past = saveEvent(organizer, "Last Year's Festival", LocalDateTime.now().minusDays(200));
+        Event upcoming = saveEvent(organizer, "Next Month's Concert", LocalDateTime.now().plusDays(30));
+
+        bookingRepository.save(new Booking(past, first, 3, BookingStatus.CONFIRMED));
+        bookingRepository.save(new Booking(past, second, 2, BookingStatus.CANCELLED));
+        bookingRepository.save(new Booking(upcoming, first, 1, BookingStatus.CONFIRMED));
+        EventStats stats = eventStatsRepository.findById(past.getId()).orElseThrow();
+        stats.setConfirmedTickets(3);
+        stats.setBookingCount(2);
+        stats.setCancellationCount(1);
+        eventStatsRepository.save(stats);
+
+        AtomicInteger loads = new AtomicInteger();
+        eventResponseCache.event(past.getId(), WireFormat.JSON, () -> {
+            loads.incrementAndGet();
+            return Optional.of(response(past));
+        });
+
+        // Act
+        int archived = archiver.archive();
+
+        // Assert
+        assertThat(archived).isEqualTo(1);
+
+        ArchivedEvent archivedEvent = archivedEventRepository.findById(past.getId()).orElseThrow();
+        assertThat(archivedEvent.getTitle()).isEqualTo("Last Year's Festival");
+        assertThat(archivedEvent.getConfirmedTickets()).isEqualTo(3);
+        assertThat(archivedEvent.getBookingCount()).isEqualTo(2);
+        assertThat(archivedEvent.getCancellationCount()).isEqualTo(1);
+        assertThat(archivedBookingRepository.findByEventIdOrderById(past.getId())).hasSize(2);
+        assertThat(archivedBookingRepository.findFactsAfter(0L, Limit.unlimited()))
+                .extracting(BookingFact::eventId, BookingFact::category, BookingFact::ticketPrice)
+                .containsOnly(tuple(past.getId(), EventCategory.CONCERT, 20.0));
+
+        assertThat(eventRepository.existsById(past.getId())).isFalse();
+        assertThat(bookingRepository.findByEventId(past.getId())).isEmpty();
+        assertThat(eventStatsRepository.existsById(past.getId())).isFalse();
+
+        assertThat(eventRepository.existsById(upcoming.getId())).isTrue();
+        assertThat(bookingRepository.findByEventId(upcoming.getId())).hasSize(1);
+        assertThat(eventStatsRepository.existsById(upcoming.getId())).isTrue();
+
+        eventResponseCache.event(past.getId(), WireFormat.JSON, () -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        });
+        assertThat(loads.get()).isEqualTo(2);
+    }
+}
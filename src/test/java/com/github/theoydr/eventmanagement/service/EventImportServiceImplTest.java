@@ -0,0 +1,164 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.EventImportUpdate;
+import com.github.theoydr.eventmanagement.enums.ImportFormat;
+import com.github.theoydr.eventmanagement.enums.UserRole;
+import com.github.theoydr.eventmanagement.mapper.EventMapper;
+import com.github.theoydr.eventmanagement.model.User;
+import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventSlot;
+import com.github.theoydr.eventmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventImportServiceImplTest {
+
+    private static final String START_A = "2030-05-01T20:00:00";
+    private static final String START_B = "2030-05-02T20:00:00";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private StatelessSession session;
+
+    @Mock
+    private Transaction transaction;
+
+    private EventImportServiceImpl eventImportService;
+    private final List<EventImportUpdate> updates = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        eventImportService = new EventImportServiceImpl(userRepository, eventRepository, new EventMapper(), validator,
+                JsonMapper.builder().build(), entityManagerFactory, 100);
+    }
+
+    private static String record(long organizerId, String start) {
+        return """
+                {"title": "Concert", "description": "Live music", "location": "Athens", "startDateTime": "%s", \
+                "endDateTime": "%s", "capacity": 100, "ticketPrice": 20.0, "category": "CONCERT", "organizerId": %d}
+                """.formatted(start, LocalDateTime.parse(start).plusHours(3), organizerId);
+    }
+
+    private EventImportUpdate importNdjson(String... records) {
+        String content = String.join("", records);
+        return eventImportService.importEvents(ImportFormat.NDJSON,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), updates::add);
+    }
+
+    private List<EventImportUpdate> errors() {
+        return updates.stream().filter(update -> update.type().equals("ERROR")).toList();
+    }
+
+    private void givenOrganizer(long id) {
+        User organizer = new User("organizer", "organizer@example.com", "password123", UserRole.ORGANIZER);
+        organizer.setId(id);
+        when(userRepository.findAllById(anyCollection())).thenReturn(List.of(organizer));
+        when(sessionFactory.openStatelessSession()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(transaction);
+    }
+
+    private static ConstraintViolationException violation(String constraintName) {
+        return new ConstraintViolationException("could not execute batch", new SQLException("violation"), "insert into events", constraintName);
+    }
+
+    @Test
+    @DisplayName("Should fail rows with an unknown organizer or a slot taken earlier in the batch and import the rest")
+    void importEvents_OrganizerMissesAndInBatchDuplicates() {
+        // Arrange
+        givenOrganizer(1L);
+        when(eventRepository.findSlots(anyCollection(), any(), any())).thenReturn(List.of());
+
+        // Act
+        EventImportUpdate summary = importNdjson(record(99, START_A), record(1, START_A), record(1, START_A), record(1, START_B));
+
+        // Assert
+        assertThat(summary.imported()).isEqualTo(2);
+        assertThat(summary.failed()).isEqualTo(2);
+        assertThat(errors()).extracting(EventImportUpdate::row).containsExactly(1L, 3L);
+        assertThat(errors().get(0).message()).contains("Organizer not found");
+        assertThat(errors().get(1).message()).contains("duplicate");
+        verify(userRepository, times(1)).findAllById(anyCollection());
+        verify(transaction).commit();
+    }
+
+    @Test
+    @DisplayName("Should repeat the duplicate check when a slot was taken concurrently and insert the remaining rows")
+    void importEvents_ConcurrentSlotConflict_Retries() {
+        // Arrange
+        givenOrganizer(1L);
+        when(eventRepository.findSlots(anyCollection(), any(), any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new EventSlot(1L, LocalDateTime.parse(START_A), "Athens")));
+        doThrow(violation("PUBLIC.UNIQUE_ORGANIZER_START_LOCATION")).doNothing().when(session).insertMultiple(anyList());
+
+        // Act
+        EventImportUpdate summary = importNdjson(record(1, START_A), record(1, START_B));
+
+        // Assert
+        assertThat(summary.imported()).isEqualTo(1);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(errors()).extracting(EventImportUpdate::row).containsExactly(1L);
+        assertThat(errors().getFirst().message()).contains("duplicate");
+        verify(eventRepository, times(2)).findSlots(anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should fail only the offending row when the batch violates a check constraint")
+    void importEvents_CheckViolation_FailsOnlyOffendingRow() {
+        // Arrange
+        givenOrganizer(1L);
+        when(eventRepository.findSlots(anyCollection(), any(), any())).thenReturn(List.of());
+        doThrow(violation("event_dates_check")).doThrow(violation("event_dates_check")).doNothing()
+                .when(session).insertMultiple(anyList());
+
+        // Act
+        EventImportUpdate summary = importNdjson(record(1, START_A), record(1, START_B));
+
+        // Assert
+        assertThat(summary.imported()).isEqualTo(1);
+        assertThat(summary.failed()).isEqualTo(1);
+        assertThat(errors()).extracting(EventImportUpdate::row).containsExactly(1L);
+        assertThat(errors().getFirst().message()).contains("event_dates_check").doesNotContain("duplicate");
+        verify(eventRepository, times(1)).findSlots(anyCollection(), any(), any());
+    }
+}
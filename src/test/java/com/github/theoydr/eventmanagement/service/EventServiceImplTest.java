@@ -1,5 +1,7 @@
 package com.github.theoydr.eventmanagement.service;
 
+import com.github.theoydr.eventmanagement.cache.EventResponseCache;
+import com.github.theoydr.eventmanagement.domain.EventChangedEvent;
 import com.github.theoydr.eventmanagement.dto.EventRequest;
 import com.github.theoydr.eventmanagement.enums.EventCategory;
 import com.github.theoydr.eventmanagement.enums.EventStatus;
@@ -9,15 +11,19 @@ import com.github.theoydr.eventmanagement.exception.OperationNotAllowedException
 import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
 import com.github.theoydr.eventmanagement.mapper.EventMapper;
 import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
 import com.github.theoydr.eventmanagement.model.User;
 import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventStatsRepository;
 import com.github.theoydr.eventmanagement.repository.UserRepository;
+import com.github.theoydr.eventmanagement.stream.EventAvailabilityStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -36,9 +42,21 @@ class EventServiceImplTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
     @Mock
     private EventMapper eventMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EventResponseCache eventResponseCache;
+
+    @Mock
+    private EventAvailabilityStream availabilityStream;
+
     @InjectMocks
     private EventServiceImpl eventService;
 
@@ -81,6 +99,7 @@ class EventServiceImplTest {
         assertThat(result.getOrganizer()).isEqualTo(organizer);
         assertThat(result.getStatus()).isEqualTo(EventStatus.DRAFT);
         verify(eventRepository).save(mappedEvent);
+        verify(eventStatsRepository).save(any(EventStats.class));
     }
 
     @Test
@@ -158,6 +177,7 @@ class EventServiceImplTest {
         // Assert
         assertThat(result.getTitle()).isEqualTo("Updated Title"); // Changed
         verify(eventRepository).save(existingEvent);
+        verify(availabilityStream).changedAfterCommit(eventId);
     }
 
     @Test
@@ -198,6 +218,9 @@ class EventServiceImplTest {
         // Assert
         assertThat(result.getStatus()).isEqualTo(EventStatus.PUBLISHED);
         verify(eventRepository).save(event);
+        verify(eventPublisher).publishEvent(argThat((Object published) -> published instanceof EventChangedEvent changed
+                && changed.eventId().equals(eventId) && changed.status() == EventStatus.PUBLISHED));
+        verify(eventResponseCache).evictAfterCommit(eventId);
     }
 
     @Test
@@ -279,6 +302,7 @@ class EventServiceImplTest {
         Long eventId = 10L;
         Event event = new Event();
         event.setId(eventId);
+        event.setOrganizer(createOrganizer());
         event.setStatus(EventStatus.PUBLISHED);
 
         when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
@@ -289,6 +313,8 @@ class EventServiceImplTest {
         // Assert
         assertThat(event.getStatus()).isEqualTo(EventStatus.CANCELLED);
         verify(eventRepository).save(event);
+        verify(eventPublisher).publishEvent(argThat((Object published) -> published instanceof EventChangedEvent changed
+                && changed.eventId().equals(eventId) && changed.status() == EventStatus.CANCELLED));
     }
 
 
@@ -0,0 +1,113 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.domain.BookingAttempt;
+import com.github.theoydr.eventmanagement.enums.BookingFailureReason;
+import com.github.theoydr.eventmanagement.exception.EventBookingException;
+import com.github.theoydr.eventmanagement.model.Booking;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupCommitBookingServiceTest {
+
+    @Mock
+    private BookingServiceImpl delegate;
+
+    private GroupCommitBookingService groupCommit;
+
+    @BeforeEach
+    void setUp() {
+        groupCommit = new GroupCommitBookingService(delegate, 16, Duration.ofMillis(200), 100, Duration.ofSeconds(5));
+        groupCommit.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        groupCommit.stop();
+    }
+
+    private static Booking booking(long id) {
+        Booking booking = new Booking();
+        booking.setId(id);
+        return booking;
+    }
+
+    @Test
+    @DisplayName("Concurrent bookings should be committed as one group and each caller should get its own result")
+    void createBooking_Concurrent_CommitsOneGroup() throws Exception {
+        // Arrange
+        when(delegate.createBookings(anyList())).thenAnswer(invocation -> {
+            List<BookingAttempt> attempts = invocation.getArgument(0);
+            List<BookingAttempt.Result> results = new ArrayList<>();
+            for (BookingAttempt attempt : attempts) {
+                results.add(attempt.userId() == 3L
+                        ? BookingAttempt.Result.failed(new EventBookingException(BookingFailureReason.USER_ALREADY_BOOKED, "You have already booked this event."))
+                        : BookingAttempt.Result.created(booking(100 + attempt.userId())));
+            }
+            return results;
+        });
+
+        // Act
+        List<CompletableFuture<Booking>> calls = new ArrayList<>();
+        try (ExecutorService callers = Executors.newFixedThreadPool(3)) {
+            for (long userId = 1; userId <= 3; userId++) {
+                long id = userId;
+                calls.add(CompletableFuture.supplyAsync(() -> groupCommit.createBooking(id, 10L, 1), callers));
+            }
+
+            // Assert
+            assertThat(calls.get(0).get(5, TimeUnit.SECONDS).getId()).isEqualTo(101L);
+            assertThat(calls.get(1).get(5, TimeUnit.SECONDS).getId()).isEqualTo(102L);
+            assertThatThrownBy(() -> calls.get(2).join())
+                    .hasCauseInstanceOf(EventBookingException.class);
+        }
+        verify(delegate, atMost(3)).createBookings(anyList());
+        verify(delegate, never()).createBooking(anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("A failed group should be retried booking by booking")
+    void createBooking_GroupFails_RetriesIndividually() {
+        // Arrange
+        when(delegate.createBookings(anyList())).thenThrow(new IllegalStateException("constraint violation"));
+        when(delegate.createBooking(2L, 10L, 1)).thenReturn(booking(7L));
+
+        // Act
+        Booking result = groupCommit.createBooking(2L, 10L, 1);
+
+        // Assert
+        assertThat(result.getId()).isEqualTo(7L);
+        verify(delegate).createBooking(2L, 10L, 1);
+    }
+
+    @Test
+    @DisplayName("An Error in the committer should fail its group and send later bookings to the delegate directly")
+    void createBooking_CommitterError_FallsBackToDirectBookings() {
+        // Arrange
+        when(delegate.createBookings(anyList())).thenThrow(new StackOverflowError());
+        when(delegate.createBooking(2L, 10L, 1)).thenReturn(booking(8L));
+
+        // Act & Assert
+        assertThatThrownBy(() -> groupCommit.createBooking(1L, 10L, 1)).isInstanceOf(StackOverflowError.class);
+        assertThat(groupCommit.isRunning()).isFalse();
+        assertThat(groupCommit.createBooking(2L, 10L, 1).getId()).isEqualTo(8L);
+    }
+}
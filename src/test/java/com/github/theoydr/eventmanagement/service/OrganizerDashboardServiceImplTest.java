@@ -0,0 +1,172 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.OrganizerDashboardResponse;
+import com.github.theoydr.eventmanagement.enums.EventCategory;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.enums.UserRole;
+import com.github.theoydr.eventmanagement.exception.OperationNotAllowedException;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
+import com.github.theoydr.eventmanagement.model.User;
+import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventRevenue;
+import com.github.theoydr.eventmanagement.repository.EventStatsRepository;
+import com.github.theoydr.eventmanagement.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrganizerDashboardServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
+    private OrganizerDashboardServiceImpl dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        dashboardService = new OrganizerDashboardServiceImpl(
+                userRepository, eventRepository, eventStatsRepository, Duration.ofMillis(500), 5);
+    }
+
+    // --- Helper Methods ---
+
+    private User createOrganizer() {
+        User user = new User();
+        user.setId(1L);
+        user.setRole(UserRole.ORGANIZER);
+        return user;
+    }
+
+    private Event createEvent(Long id, User organizer) {
+        Event event = new Event();
+        event.setId(id);
+        event.setTitle("Event " + id);
+        event.setOrganizer(organizer);
+        event.setCategory(EventCategory.CONCERT);
+        event.setStatus(EventStatus.PUBLISHED);
+        event.setCapacity(100);
+        event.setTicketPrice(20.0);
+        event.setStartDateTime(LocalDateTime.now().plusDays(id));
+        return event;
+    }
+
+    private EventRevenue revenue(Long eventId, int capacity, double price, int sold) {
+        return new EventRevenue() {
+            public Long getEventId() { return eventId; }
+            public Integer getCapacity() { return capacity; }
+            public Double getTicketPrice() { return price; }
+            public Integer getTicketsSold() { return sold; }
+        };
+    }
+
+    @Test
+    @DisplayName("Should assemble the dashboard from the concurrently executed queries")
+    void getDashboard_Success() {
+        // Arrange
+        User organizer = createOrganizer();
+        Event first = createEvent(10L, organizer);
+        Event second = createEvent(11L, organizer);
+        EventStats stats = new EventStats(10L);
+        stats.setConfirmedTickets(30);
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(organizer));
+        when(eventRepository.findByOrganizer(organizer)).thenReturn(List.of(first, second));
+        when(eventStatsRepository.findByOrganizerId(1L)).thenReturn(List.of(stats));
+        when(eventRepository.findRevenueByOrganizerId(1L))
+                .thenReturn(List.of(revenue(10L, 100, 20.0, 30), revenue(11L, 100, 20.0, 0)));
+        when(eventRepository.findByOrganizerIdAndStatusNotAndStartDateTimeAfterOrderByStartDateTimeAsc(
+                eq(1L), eq(EventStatus.CANCELLED), any(), any())).thenReturn(List.of(first));
+
+        // Act
+        OrganizerDashboardResponse result = dashboardService.getDashboard(1L);
+
+        // Assert
+        assertThat(result.organizerId()).isEqualTo(1L);
+        assertThat(result.events()).hasSize(2);
+        assertThat(result.events().get(0).ticketsSold()).isEqualTo(30);
+        assertThat(result.events().get(1).ticketsSold()).isZero();
+        assertThat(result.totalPotentialRevenue()).isEqualTo(4000.0);
+        assertThat(result.totalEarnedRevenue()).isEqualTo(600.0);
+        assertThat(result.upcoming()).extracting("id").containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("Should propagate a failing sub-query and cancel the others")
+    void getDashboard_SubQueryFails_ThrowsCause() {
+        // Arrange
+        User organizer = createOrganizer();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(organizer));
+        lenient().when(eventRepository.findByOrganizer(organizer)).thenThrow(new IllegalStateException("db down"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> dashboardService.getDashboard(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("db down");
+    }
+
+    @Test
+    @DisplayName("Should fail with 503 when the deadline is exceeded")
+    void getDashboard_DeadlineExceeded_ThrowsServiceUnavailable() {
+        // Arrange
+        User organizer = createOrganizer();
+        when(userRepository.findById(1L)).thenReturn(Optional.of(organizer));
+        lenient().when(eventRepository.findByOrganizer(organizer)).thenAnswer(invocation -> {
+            Thread.sleep(5_000);
+            return List.of();
+        });
+
+        // Act & Assert
+        assertThatThrownBy(() -> dashboardService.getDashboard(1L))
+                .isInstanceOf(ServiceUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when Organizer not found")
+    void getDashboard_OrganizerNotFound_ThrowsException() {
+        // Arrange
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> dashboardService.getDashboard(99L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(eventRepository, eventStatsRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw exception when User is not ORGANIZER")
+    void getDashboard_UserNotOrganizer_ThrowsException() {
+        // Arrange
+        User user = createOrganizer();
+        user.setRole(UserRole.USER);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // Act & Assert
+        assertThatThrownBy(() -> dashboardService.getDashboard(1L))
+                .isInstanceOf(OperationNotAllowedException.class);
+        verifyNoInteractions(eventRepository, eventStatsRepository);
+    }
+}
@@ -0,0 +1,196 @@
+package com.github.theoydr.eventmanagement.service;
+
+import com.github.theoydr.eventmanagement.dto.UserImportResult;
+import com.github.theoydr.eventmanagement.enums.ImportFormat;
+import com.github.theoydr.eventmanagement.mapper.UserMapper;
+import com.github.theoydr.eventmanagement.model.User;
+import com.github.theoydr.eventmanagement.repository.UserIdentity;
+import com.github.theoydr.eventmanagement.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.Validator;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private Validator validator;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private StatelessSession session;
+
+    @Mock
+    private Transaction transaction;
+
+    @Mock
+    private Cache cache;
+
+    private UserImportServiceImpl userImportService;
+
+    @BeforeEach
+    void setUp() {
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        userImportService = new UserImportServiceImpl(userRepository, new UserMapper(), validator,
+                JsonMapper.builder().build(), entityManagerFactory, 100);
+    }
+
+    private static ConstraintViolationException violation(String constraintName) {
+        return new ConstraintViolationException("could not execute batch", new SQLException("violation"), "insert into users", constraintName);
+    }
+
+    private void givenSession() {
+        when(sessionFactory.openStatelessSession()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(transaction);
+        lenient().when(sessionFactory.getCache()).thenReturn(cache);
+    }
+
+    private List<UserImportResult> importNdjson(String content) {
+        List<UserImportResult> results = new ArrayList<>();
+        userImportService.importUsers(ImportFormat.NDJSON,
+                new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), results::addAll);
+        return results;
+    }
+
+    @Test
+    @DisplayName("Should reject ADMIN and taken emails or usernames and register the rest with one uniqueness query")
+    void importUsers_MixedBatch() {
+        // Arrange
+        String content = """
+                {"username": "root", "email": "root@example.com", "password": "secret123", "role": "ADMIN"}
+                {"username": "newname", "email": "taken@example.com", "password": "secret123"}
+                {"username": "alice", "email": "alice@example.com", "password": "secret123"}
+                {"username": "alice2", "email": "alice@example.com", "password": "secret123"}
+                {"username": "someone", "email": "other@example.com", "password": "secret123"}
+                {"username": "bob", "email": "bob@example.com", "password": "secret123", "role": "ORGANIZER"}
+                """;
+        when(userRepository.findIdentities(anyCollection(), anyCollection()))
+                .thenReturn(List.of(new UserIdentity("someone", "taken@example.com")));
+        when(sessionFactory.openStatelessSession()).thenReturn(session);
+        when(session.beginTransaction()).thenReturn(transaction);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        doAnswer(invocation -> {
+            List<?> users = invocation.getArgument(0);
+            for (int i = 0; i < users.size(); i++) {
+                ((User) users.get(i)).setId(100L + i);
+            }
+            return null;
+        }).when(session).insertMultiple(anyList());
+
+        // Act
+        List<UserImportResult> results = importNdjson(content);
+
+        // Assert
+        assertThat(results).extracting(UserImportResult::row).containsExactly(1L, 2L, 3L, 4L, 5L, 6L);
+        assertThat(results).extracting(UserImportResult::status)
+                .containsExactly("REJECTED", "REJECTED", "CREATED", "REJECTED", "REJECTED", "CREATED");
+        assertThat(results.get(0).message()).contains("ADMIN");
+        assertThat(results.get(1).message()).contains("taken@example.com");
+        assertThat(results.get(4).message()).contains("someone");
+        assertThat(results.get(2).userId()).isEqualTo(100L);
+        assertThat(results.get(5).userId()).isEqualTo(101L);
+
+        verify(userRepository, times(1)).findIdentities(anyCollection(), anyCollection());
+        verify(transaction).commit();
+        verify(cache).evictQueryRegion("query.users-by-email");
+    }
+
+    @Test
+    @DisplayName("Should report the records read so far and stop on a malformed upload")
+    void importUsers_MalformedUpload_Stops() {
+        // Arrange
+        String content = """
+                {"username": "root", "email": "root@example.com", "password": "secret123", "role": "ADMIN"}
+                {"username": "broken",
+                """;
+
+        // Act
+        List<UserImportResult> results = importNdjson(content);
+
+        // Assert
+        assertThat(results).extracting(UserImportResult::status).containsExactly("REJECTED", "STOPPED");
+        assertThat(results.get(1).message()).startsWith("Import stopped");
+        verify(userRepository, never()).findIdentities(any(), any());
+        verify(sessionFactory, never()).openStatelessSession();
+    }
+
+    @Test
+    @DisplayName("Should repeat the uniqueness check after a concurrent registration and reject only the taken row after a second conflict")
+    void importUsers_RepeatedConflict_RejectsOnlyOffendingRow() {
+        // Arrange
+        String content = """
+                {"username": "alice", "email": "alice@example.com", "password": "secret123"}
+                {"username": "bob", "email": "bob@example.com", "password": "secret123"}
+                """;
+        when(userRepository.findIdentities(anyCollection(), anyCollection())).thenReturn(List.of());
+        givenSession();
+        doThrow(violation("PUBLIC.USERS_EMAIL_KEY_INDEX_4"))
+                .doThrow(violation("users_email_key"))
+                .doThrow(violation("users_email_key"))
+                .doNothing()
+                .when(session).insertMultiple(anyList());
+
+        // Act
+        List<UserImportResult> results = importNdjson(content);
+
+        // Assert
+        assertThat(results).extracting(UserImportResult::status).containsExactly("REJECTED", "CREATED");
+        assertThat(results.get(0).message()).contains("alice@example.com").doesNotContain("someone else");
+        verify(userRepository, times(2)).findIdentities(anyCollection(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should fail only the offending row when the batch violates another constraint")
+    void importUsers_OtherViolation_FailsOnlyOffendingRow() {
+        // Arrange
+        String content = """
+                {"username": "alice", "email": "alice@example.com", "password": "secret123"}
+                {"username": "bob", "email": "bob@example.com", "password": "secret123"}
+                """;
+        when(userRepository.findIdentities(anyCollection(), anyCollection())).thenReturn(List.of());
+        givenSession();
+        doThrow(violation("users_role_check"))
+                .doNothing()
+                .doThrow(violation("users_role_check"))
+                .when(session).insertMultiple(anyList());
+
+        // Act
+        List<UserImportResult> results = importNdjson(content);
+
+        // Assert
+        assertThat(results).extracting(UserImportResult::status).containsExactly("CREATED", "REJECTED");
+        assertThat(results.get(1).message()).contains("users_role_check");
+        verify(userRepository, times(1)).findIdentities(anyCollection(), anyCollection());
+    }
+}
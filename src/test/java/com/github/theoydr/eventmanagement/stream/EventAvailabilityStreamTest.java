@@ -0,0 +1,141 @@
+package com.github.theoydr.eventmanagement.stream;
+
+import com.github.theoydr.eventmanagement.domain.BookingChangedEvent;
+import com.github.theoydr.eventmanagement.enums.BookingStatus;
+import com.github.theoydr.eventmanagement.enums.EventStatus;
+import com.github.theoydr.eventmanagement.exception.ResourceNotFoundException;
+import com.github.theoydr.eventmanagement.exception.ServiceUnavailableException;
+import com.github.theoydr.eventmanagement.mapper.EventMapper;
+import com.github.theoydr.eventmanagement.model.Event;
+import com.github.theoydr.eventmanagement.model.EventStats;
+import com.github.theoydr.eventmanagement.repository.EventRepository;
+import com.github.theoydr.eventmanagement.repository.EventStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventAvailabilityStreamTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventStatsRepository eventStatsRepository;
+
+    private EventAvailabilityStream stream;
+
+    @BeforeEach
+    void setUp() {
+        stream = new EventAvailabilityStream(eventRepository, eventStatsRepository, new EventMapper(),
+                JsonMapper.builder().build(), 3, 2, Duration.ofMillis(250), Duration.ofSeconds(15), Duration.ofMinutes(30),
+                Duration.ofSeconds(10));
+    }
+
+    private void givenEvent(long eventId) {
+        Event event = new Event();
+        event.setId(eventId);
+        event.setCapacity(100);
+        event.setStatus(EventStatus.PUBLISHED);
+        EventStats stats = new EventStats(eventId);
+        stats.setConfirmedTickets(40);
+        lenient().when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        lenient().when(eventStatsRepository.findById(eventId)).thenReturn(Optional.of(stats));
+    }
+
+    private static BookingChangedEvent booking(long eventId) {
+        return new BookingChangedEvent(1L, eventId, 2L, 1, BookingStatus.CONFIRMED, Instant.now());
+    }
+
+    @Test
+    @DisplayName("Should reject a subscription to an unknown event")
+    void subscribe_UnknownEvent_ThrowsNotFound() {
+        // Arrange
+        when(eventRepository.findById(99L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThatThrownBy(() -> stream.subscribe(99L)).isInstanceOf(ResourceNotFoundException.class);
+        assertThat(stream.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should enforce the per-event and the total subscriber limits")
+    void subscribe_OverLimits_ThrowsServiceUnavailable() {
+        // Arrange
+        givenEvent(10L);
+        givenEvent(20L);
+        stream.subscribe(10L);
+        stream.subscribe(10L);
+
+        // Act & Assert
+        assertThatThrownBy(() -> stream.subscribe(10L)).isInstanceOf(ServiceUnavailableException.class);
+        stream.subscribe(20L);
+        assertThatThrownBy(() -> stream.subscribe(20L)).isInstanceOf(ServiceUnavailableException.class);
+        assertThat(stream.subscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should render one frame for a burst of changes, shared by all subscribers")
+    void publishPending_BurstOfChanges_RendersOnce() {
+        // Arrange
+        givenEvent(10L);
+        stream.subscribe(10L);
+        stream.subscribe(10L); // Served from the frame of the first subscription
+        for (int i = 0; i < 5; i++) {
+            stream.onBookingChanged(booking(10L));
+        }
+
+        // Act
+        stream.publishPending();
+        stream.publishPending();
+
+        // Assert: once on the first subscription, once for the burst
+        verify(eventRepository, times(2)).findById(10L);
+    }
+
+    @Test
+    @DisplayName("Should end the streams of an archived event and stop following it")
+    void publishPending_ArchivedEvent_EndsStreams() {
+        // Arrange
+        givenEvent(10L);
+        stream.subscribe(10L);
+        when(eventRepository.findById(10L)).thenReturn(Optional.empty());
+        stream.changedAfterCommit(List.of(10L));
+
+        // Act
+        stream.publishPending();
+        stream.onBookingChanged(booking(10L));
+        stream.publishPending();
+
+        // Assert: once on subscription, once to find the event gone
+        verify(eventRepository, times(2)).findById(10L);
+    }
+
+    @Test
+    @DisplayName("Should ignore changes of events nobody follows")
+    void publishPending_NoSubscribers_RendersNothing() {
+        // Act
+        stream.onBookingChanged(booking(10L));
+        stream.publishPending();
+
+        // Assert
+        verify(eventRepository, never()).findById(10L);
+    }
+}